@@ -0,0 +1,113 @@
+package alchemy.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEventListener;
+
+/**
+ * Plays the battles of JSON fixtures, without any database nor Spring context. Exits with 1 when a battle does not
+ * end with the outcome expected by its fixture, and with 2 when a fixture cannot be read.
+ *
+ * java -jar alchemy-battle-core/target/alchemy-battle-core-0.0.1-SNAPSHOT-cli.jar [--events] fixture.json...
+ */
+public class BattleCli {
+
+	private static final String EVENTS_OPTION = "--events";
+
+	public static void main(String[] args) {
+		System.exit(run(args, System.out, System.err));
+	}
+
+	public static int run(String[] args, PrintStream out, PrintStream err) {
+		boolean events = false;
+		List<Path> fixtures = new ArrayList<>();
+
+		for (String arg : args) {
+			if (arg.equals(EVENTS_OPTION)) {
+				events = true;
+			} else {
+				fixtures.add(Path.of(arg));
+			}
+		}
+
+		if (fixtures.isEmpty()) {
+			err.println("Usage : BattleCli [" + EVENTS_OPTION + "] fixture.json...");
+			return 2;
+		}
+
+		int status = 0;
+
+		for (Path path : fixtures) {
+			BattleFixture fixture;
+
+			try (InputStream input = Files.newInputStream(path)) {
+				fixture = BattleFixture.read(input);
+			} catch (IOException | IllegalArgumentException e) {
+				err.println(path + " : " + e.getMessage());
+				return 2;
+			}
+
+			if (!play(path.getFileName().toString(), fixture, events, out)) {
+				status = 1;
+			}
+		}
+
+		return status;
+	}
+
+	/**
+	 * Plays the battles of the fixture, returning whether they all ended as expected.
+	 */
+	static boolean play(String name, BattleFixture fixture, boolean events, PrintStream out) {
+		BattleLimits limits = fixture.limits();
+		BattleEngine engine = new BattleEngine(limits);
+		ChampionSnapshot first = fixture.first().toSnapshot();
+		ChampionSnapshot second = fixture.second().toSnapshot();
+
+		BattleEventListener listener = events ? event -> out.println("  " + event.message()) : BattleEventListener.NONE;
+		Map<BattleOutcome, Integer> outcomes = new EnumMap<>(BattleOutcome.class);
+		int unexpected = 0;
+		long turns = 0;
+		long start = System.nanoTime();
+
+		for (int i = 0; i < fixture.battleCount(); i++) {
+			BattleResult result = engine.executeBattle(first, second, fixture.seed() + i, limits, listener);
+
+			outcomes.merge(result.outcome(), 1, Integer::sum);
+			turns += result.turns();
+
+			if (fixture.expectedOutcome() != null && result.outcome() != fixture.expectedOutcome()) {
+				unexpected++;
+			}
+		}
+
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		if (fixture.battleCount() == 1) {
+			out.println(name + " : " + outcomes.keySet().iterator().next() + " in " + turns + " turns (seed " + fixture.seed() + ")");
+		} else {
+			out.println(name + " : " + fixture.battleCount() + " battles " + outcomes + ", " + turns + " turns in " + elapsed + " ms");
+		}
+
+		if (unexpected > 0) {
+			out.println(name + " : " + unexpected + " battles did not end with " + fixture.expectedOutcome());
+		}
+
+		return unexpected == 0;
+	}
+
+}
@@ -0,0 +1,75 @@
+package alchemy.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.plans.AttributeModifierPlan;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.ShieldPlan;
+
+/**
+ * Battle described in JSON : two champions, the seed of the first battle, and optionally the number of battles to
+ * play on the following seeds, the turn limit, and the outcome every battle is expected to end with.
+ *
+ * Components are told apart by their "type" property, holding the name of their {@link alchemy.model.pets.moves.components.MoveComponentType}.
+ */
+public record BattleFixture (
+		ChampionFixture first,
+		ChampionFixture second,
+		long seed,
+		Integer battles,
+		Integer maxTurns,
+		BattleOutcome expectedOutcome
+		){
+
+	private static final ObjectMapper MAPPER = new ObjectMapper()
+			.addMixIn(ComponentPlan.class, ComponentPlanMixIn.class);
+
+	public static BattleFixture read(InputStream input) throws IOException {
+		BattleFixture fixture = MAPPER.readValue(input, BattleFixture.class);
+
+		if (fixture.first() == null || fixture.second() == null) {
+			throw new IllegalArgumentException("A fixture needs a first and a second champion.");
+		}
+
+		if (fixture.battleCount() <= 0) {
+			throw new IllegalArgumentException("Battles must be positive : " + fixture.battleCount());
+		}
+
+		fixture.limits();
+
+		return fixture;
+	}
+
+	public int battleCount() {
+		return battles == null ? 1 : battles;
+	}
+
+	/**
+	 * Fixtures are never bound by time, so that they play out the same on any machine.
+	 */
+	public BattleLimits limits() {
+		return maxTurns == null ? new BattleLimits(BattleLimits.DEFAULT.maxTurns(), null, true)
+				: new BattleLimits(maxTurns, null, true);
+	}
+
+	@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+	@JsonSubTypes({
+		@JsonSubTypes.Type(value = DamagePlan.class, name = "DAMAGE_COMPONENT"),
+		@JsonSubTypes.Type(value = DamageOverTimePlan.class, name = "DAMAGE_OVER_TIME_COMPONENT"),
+		@JsonSubTypes.Type(value = ShieldPlan.class, name = "SHIELD_COMPONENT"),
+		@JsonSubTypes.Type(value = AttributeModifierPlan.class, name = "ATTRIBUTE_MODIFIER_COMPONENT")
+	})
+	private interface ComponentPlanMixIn {
+
+	}
+
+}
@@ -0,0 +1,31 @@
+package alchemy.cli;
+
+import java.util.List;
+import java.util.Map;
+
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.pets.attributes.BaseAttribute;
+
+/**
+ * Champion of a fixture. Missing attributes are 0, missing moves leave the champion with the default move only.
+ */
+public record ChampionFixture (
+		String name,
+		int level,
+		Map<BaseAttribute, Integer> attributes,
+		List<MoveFixture> moves
+		){
+
+	public ChampionSnapshot toSnapshot() {
+		int[] baseAttributes = new int[BaseAttribute.values().length];
+
+		if (attributes != null) {
+			attributes.forEach((attribute, value) -> baseAttributes[attribute.ordinal()] = value);
+		}
+
+		List<MoveFixture> fixtures = moves == null ? List.of() : moves;
+
+		return new ChampionSnapshot(name, level, baseAttributes, fixtures.stream().map(MoveFixture::toPlan).toList());
+	}
+
+}
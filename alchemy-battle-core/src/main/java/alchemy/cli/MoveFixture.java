@@ -0,0 +1,18 @@
+package alchemy.cli;
+
+import java.util.List;
+
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.MovePlan;
+
+public record MoveFixture (
+		String name,
+		int cooldown,
+		List<ComponentPlan> components
+		){
+
+	public MovePlan toPlan() {
+		return MovePlan.of(name, cooldown, components == null ? List.of() : components);
+	}
+
+}
@@ -0,0 +1,215 @@
+package alchemy.model.battles;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import alchemy.model.battles.events.BattleEnded;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.events.BattleStarted;
+import alchemy.model.battles.events.ChampionFainted;
+import alchemy.model.battles.events.MoveUsed;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.replays.BattleReplay;
+import alchemy.model.battles.replays.ReplayRecorder;
+import alchemy.model.battles.scheduling.TurnScheduler;
+import lombok.Getter;
+
+/**
+ * Plays battles between champion snapshots. Stateless apart from its limits, shared by every thread.
+ */
+public class BattleEngine {
+
+	/**
+	 * Turns played between two checks of the time budget.
+	 */
+	private static final int TIME_CHECK_INTERVAL = 64;
+
+	@Getter
+	private final BattleLimits limits;
+
+	public BattleEngine() {
+		this(BattleLimits.DEFAULT);
+	}
+
+	public BattleEngine(BattleLimits limits) {
+		this.limits = limits;
+	}
+
+	public BattleReplay recordBattle(ChampionSnapshot first, ChampionSnapshot second, long seed) {
+		return recordBattle(first, second, seed, BattleEventListener.NONE);
+	}
+
+	/**
+	 * Records the battle while forwarding its events to the given listener.
+	 */
+	public BattleReplay recordBattle(ChampionSnapshot first, ChampionSnapshot second, long seed, BattleEventListener listener) {
+		return recordBattle(first, second, seed, limits, listener);
+	}
+
+	/**
+	 * Records the battle under the given limits rather than the ones of the engine.
+	 */
+	public BattleReplay recordBattle(ChampionSnapshot first, ChampionSnapshot second, long seed, BattleLimits limits,
+			BattleEventListener listener) {
+		ReplayRecorder recorder = new ReplayRecorder();
+		BattleResult result = executeBattle(first, second, seed, limits, recorder.andThen(listener));
+
+		return new BattleReplay(seed, first, second, result.outcome(), result.turns(), recorder.toByteArray());
+	}
+
+	/**
+	 * Replays are bound by their recorded turns rather than by time, so that they play out the same on any machine.
+	 */
+	public BattleResult replay(BattleReplay replay, BattleEventListener listener) {
+		return executeBattle(replay.first(), replay.second(), replay.seed(), BattleLimits.ofTurns(replay.turns()), listener);
+	}
+
+	/**
+	 * Re-simulates the replay and checks that it gives back the same outcome and the same turns.
+	 */
+	public boolean verify(BattleReplay replay) {
+		BattleReplay simulated = recordBattle(replay.first(), replay.second(), replay.seed(),
+				BattleLimits.ofTurns(replay.turns()), BattleEventListener.NONE);
+
+		return simulated.outcome() == replay.outcome()
+				&& simulated.turns() == replay.turns()
+				&& Arrays.equals(simulated.turnLog(), replay.turnLog());
+	}
+
+	public BattleResult executeBattle(ChampionSnapshot first, ChampionSnapshot second, long seed, BattleEventListener listener) {
+		return executeBattle(first, second, seed, limits, listener);
+	}
+
+	/**
+	 * Whether the first champion acts before the second one when both hold the same energy. This is the only effect
+	 * of the seed on a battle : two battles of the same champions with the same initiative order play out the same.
+	 */
+	public static boolean hasInitiative(long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+
+		return random.nextInt() <= random.nextInt();
+	}
+
+	/**
+	 * Plays the battle until a champion faints, or until one of the limits is reached, which ends in a stalemate.
+	 *
+	 * Stalls are detected per champion : each one counts its turns since the last health or shield change of either
+	 * champion, and the battle stops once both counts reached a full move cycle while no status effect is running.
+	 */
+	public BattleResult executeBattle(ChampionSnapshot first, ChampionSnapshot second, long seed, BattleLimits limits,
+			BattleEventListener listener) {
+		return executeBattle(first, second, seed, limits, listener, MovePolicy.PRIORITY, MovePolicy.PRIORITY);
+	}
+
+	/**
+	 * Same as {@link #executeBattle(ChampionSnapshot, ChampionSnapshot, long, BattleLimits, BattleEventListener)}, each
+	 * champion choosing its moves with the given policy rather than by priority. Replays re-simulate battles by
+	 * priority, so battles played with other policies are not recorded.
+	 */
+	public BattleResult executeBattle(ChampionSnapshot first, ChampionSnapshot second, long seed, BattleLimits limits,
+			BattleEventListener listener, MovePolicy policy1, MovePolicy policy2) {
+		Champion champion1 = new Champion(first);
+		Champion champion2 = new Champion(second);
+
+		// Initiatives are rolled in joining order, keep hasInitiative(long) in line.
+		TurnScheduler scheduler = new TurnScheduler(List.of(champion1, champion2), new SplittableRandom(seed));
+		int turns = 0;
+		boolean stalemate = false;
+
+		boolean timed = limits.timeBudget() != null;
+		long deadline = timed ? System.nanoTime() + limits.timeBudget().toNanos() : 0;
+		long durability1 = champion1.getDurability();
+		long durability2 = champion2.getDurability();
+		int idleTurns1 = 0;
+		int idleTurns2 = 0;
+
+		if (listener.isEnabled()) {
+			listener.onEvent(new BattleStarted(champion1.getName(), champion2.getName(), seed));
+		}
+
+		while(champion1.isAlive() && champion2.isAlive()) {
+			Champion active = scheduler.next();
+
+			if (active == null) {
+				break;
+			}
+
+			if (active == champion1) {
+				playTurn(0, champion1, champion2, policy1, listener);
+				idleTurns1++;
+			} else {
+				playTurn(1, champion2, champion1, policy2, listener);
+				idleTurns2++;
+			}
+
+			turns++;
+
+			if (champion1.getDurability() != durability1 || champion2.getDurability() != durability2) {
+				durability1 = champion1.getDurability();
+				durability2 = champion2.getDurability();
+				idleTurns1 = 0;
+				idleTurns2 = 0;
+			} else if (limits.stallDetection() && idleTurns1 >= champion1.getMoveCycle() && idleTurns2 >= champion2.getMoveCycle()
+					&& !champion1.hasStatusEffects() && !champion2.hasStatusEffects()) {
+				stalemate = true;
+				break;
+			}
+
+			if (turns >= limits.maxTurns()
+					|| (timed && turns % TIME_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0)) {
+				stalemate = champion1.isAlive() && champion2.isAlive();
+				break;
+			}
+		}
+
+		BattleOutcome outcome;
+
+		if (stalemate) {
+			outcome = BattleOutcome.STALEMATE;
+		} else if (champion1.isAlive() == champion2.isAlive()) {
+			outcome = BattleOutcome.DRAW;
+		} else if (!champion2.isAlive()) {
+			outcome = BattleOutcome.FIRST_CHAMPION_WON;
+		} else {
+			outcome = BattleOutcome.SECOND_CHAMPION_WON;
+		}
+
+		if (listener.isEnabled()) {
+			if (!champion1.isAlive()) {
+				listener.onEvent(new ChampionFainted(champion1.getName()));
+			}
+
+			if (!champion2.isAlive()) {
+				listener.onEvent(new ChampionFainted(champion2.getName()));
+			}
+
+			String winner = outcome == BattleOutcome.FIRST_CHAMPION_WON ? champion1.getName()
+					: outcome == BattleOutcome.SECOND_CHAMPION_WON ? champion2.getName() : null;
+			listener.onEvent(new BattleEnded(outcome, winner));
+		}
+
+		return new BattleResult(seed, outcome, turns, Collections.emptyList());
+	}
+
+	private void playTurn(int actor, Champion player, Champion opponent, MovePolicy policy, BattleEventListener listener) {
+		if (player.hasStatusEffects()) {
+			player.applyStatusEffects(actor, listener);
+
+			if (!player.isAlive()) {
+				return;
+			}
+		}
+
+		int slot = player.useMoveSlot(policy.chooseSlot(player, opponent));
+		MovePlan move = player.getMove(slot);
+
+		if (listener.isEnabled()) {
+			listener.onEvent(new MoveUsed(actor, player.getName(), slot, move.name()));
+		}
+
+		move.execute(player, opponent, listener);
+	}
+
+}
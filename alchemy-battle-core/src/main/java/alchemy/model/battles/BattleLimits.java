@@ -0,0 +1,39 @@
+package alchemy.model.battles;
+
+import java.time.Duration;
+
+/**
+ * Bounds of a single battle, so that no loadout can keep a battle thread busy forever. A battle reaching one of
+ * them ends in a {@link BattleOutcome#STALEMATE}.
+ *
+ * @param maxTurns		turns played at most
+ * @param timeBudget	wall-clock time spent at most, or null for no limit. Stopping on time is the only
+ * 						non-deterministic outcome, which is why replays are bound by their turns instead.
+ * @param stallDetection	stops once both champions played a full move cycle without any health or shield change
+ */
+public record BattleLimits(int maxTurns, Duration timeBudget, boolean stallDetection) {
+
+	public static final BattleLimits DEFAULT = new BattleLimits(10_000, Duration.ofSeconds(1), true);
+
+	public BattleLimits {
+		if (maxTurns <= 0) {
+			throw new IllegalArgumentException("Max turns must be positive : " + maxTurns);
+		}
+	}
+
+	/**
+	 * Same turn cap and stall detection, without time budget : for battles whose thread also waits on something else
+	 * than the battle, a client or a busy worker pool, and which must not end in a stalemate for it.
+	 */
+	public BattleLimits withoutTimeBudget() {
+		return new BattleLimits(maxTurns, null, stallDetection);
+	}
+
+	/**
+	 * Limits of a battle replayed from its record : the recorded number of turns, and no time budget.
+	 */
+	public static BattleLimits ofTurns(int turns) {
+		return new BattleLimits(Math.max(1, turns), null, true);
+	}
+
+}
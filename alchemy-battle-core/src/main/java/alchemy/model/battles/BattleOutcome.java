@@ -0,0 +1,17 @@
+package alchemy.model.battles;
+
+public enum BattleOutcome {
+
+	FIRST_CHAMPION_WON,
+	SECOND_CHAMPION_WON,
+	DRAW,
+	/**
+	 * Both champions still alive when the battle was stopped by its {@link BattleLimits}.
+	 */
+	STALEMATE;
+
+	public boolean hasWinner() {
+		return this == FIRST_CHAMPION_WON || this == SECOND_CHAMPION_WON;
+	}
+
+}
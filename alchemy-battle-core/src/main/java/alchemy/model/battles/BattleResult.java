@@ -0,0 +1,15 @@
+package alchemy.model.battles;
+
+import java.util.List;
+
+import alchemy.model.battles.events.BattleEvent;
+
+/**
+ * The seed is the one the battle was played with : replaying the same champions with it gives the same battle.
+ */
+public record BattleResult (
+		long seed,
+		BattleOutcome outcome,
+		int turns,
+		List<BattleEvent> events
+		){ }
@@ -0,0 +1,394 @@
+package alchemy.model.battles;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import alchemy.model.battles.effects.TimingWheel;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.events.DamageOverTime;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.plans.StatusEffectPlan;
+import alchemy.model.pets.attributes.BaseAttribute;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public class Champion {
+
+	private final String name;
+	private final int level;
+
+	@Getter(AccessLevel.NONE)
+	private final int[] baseAttributes = new int[BaseAttribute.values().length];
+	@Getter(AccessLevel.NONE)
+	private final int[] derivedAttributes = new int[DerivedAttribute.values().length];
+
+	private int energyGain;
+	private int momentumGain;
+	private int masteryGain;
+
+	private int maxHealth;
+	private int health;
+
+	private int energy;
+
+	private int physicalShield;
+	private int magicShield;
+
+	/**
+	 * Part of each shield granted by running shield effects. Damages drain it before the base magic shield, so that an
+	 * expiring effect only takes back what is left of it.
+	 */
+	private int grantedPhysicalShield;
+	private int grantedMagicShield;
+
+	private int criticalThreshold;
+	private int criticalStacks;
+
+	private int momentumStacks;
+	private int masteryStacks;
+
+	@Getter(AccessLevel.NONE)
+	private final MovePlan[] moves;
+	@Getter(AccessLevel.NONE)
+	private final int[] cooldowns;
+
+	private long readyMoves;
+	private long coolingMoves;
+
+	/**
+	 * Turns after which every move of the loadout was ready at least once, whatever the cooldowns.
+	 */
+	private final int moveCycle;
+
+	/**
+	 * Running status effects, keyed by the turns of the champion. Only created with the first effect, so that battles
+	 * without effects never pay for them.
+	 */
+	@Getter(AccessLevel.NONE)
+	private TimingWheel<StatusEffectPlan> statusEffects;
+	@Getter(AccessLevel.NONE)
+	private Consumer<StatusEffectPlan> expiration;
+	@Getter(AccessLevel.NONE)
+	private int[] damageOverTime;
+
+	public Champion(ChampionSnapshot snapshot) {
+		List<MovePlan> moves = snapshot.moves();
+
+		this.name = snapshot.name();
+		this.level = snapshot.level();
+
+		System.arraycopy(snapshot.baseAttributes(), 0, baseAttributes, 0, baseAttributes.length);
+
+		for (DerivedAttribute attribute : DerivedAttribute.values()) {
+			derivedAttributes[attribute.ordinal()] = baseAttributes[attribute.getBaseAttribute1().ordinal()]
+					+ baseAttributes[attribute.getBaseAttribute2().ordinal()];
+		}
+
+		this.energyGain = getDerivedAttribute(DerivedAttribute.INSTINCT);
+		updateStackGains();
+
+		this.maxHealth = level * 10 + getDerivedAttribute(DerivedAttribute.TOUGHNESS) * 2;
+		this.health = this.maxHealth;
+
+		this.energy = level + energyGain;
+
+		this.magicShield = getDerivedAttribute(DerivedAttribute.RESOLVE) * 2;
+
+		if (moves.size() > Long.SIZE) {
+			throw new IllegalArgumentException("A champion cannot hold more than " + Long.SIZE + " moves.");
+		}
+
+		this.moves = moves.toArray(new MovePlan[0]);
+		this.cooldowns = new int[this.moves.length];
+		this.readyMoves = this.moves.length == Long.SIZE ? -1L : (1L << this.moves.length) - 1;
+
+		int moveCycle = 1;
+
+		for (MovePlan move : this.moves) {
+			moveCycle += move.cooldown() + 1;
+		}
+
+		this.moveCycle = moveCycle;
+	}
+
+	public int getBaseAttribute(BaseAttribute attribute) {
+		return baseAttributes[attribute.ordinal()];
+	}
+
+	public int getDerivedAttribute(DerivedAttribute attribute) {
+		return derivedAttributes[attribute.ordinal()];
+	}
+
+	/**
+	 * Health and shields left : a battle makes no progress while it stays the same for both champions.
+	 */
+	public long getDurability() {
+		return (long) health + physicalShield + magicShield;
+	}
+
+	public boolean isAlive() {
+		return health > 0;
+	}
+
+	public boolean canAct() {
+		return energy >= level;
+	}
+
+	public void useEnergy() {
+		this.energy -= level;
+	}
+
+	public void gainEnergy() {
+		this.energy += energyGain;
+	}
+
+	public void gainEnergy(int ticks) {
+		this.energy += energyGain * ticks;
+	}
+
+	public void gainMomentumStacks() {
+		this.momentumStacks += momentumGain;
+	}
+
+	public void gainMasteryStacks() {
+		this.masteryStacks += masteryGain;
+	}
+
+	public boolean hasShield(DamageType type) {
+		switch (type) {
+			case MAGICAL:
+				return magicShield > 0;
+			case PHYSICAL:
+				return physicalShield > 0;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Applies the effect and schedules its expiration, unless it has no duration. Plans bound durations to
+	 * {@link StatusEffectPlan#MAX_DURATION}, so the expiration is never cut short by the wheel.
+	 */
+	public boolean addStatusEffect(StatusEffectPlan effect) {
+		if (effect.duration() <= 0) {
+			return false;
+		}
+
+		if (statusEffects == null) {
+			statusEffects = new TimingWheel<>();
+			expiration = expiring -> expiring.expire(this);
+			damageOverTime = new int[DamageType.values().length];
+		}
+
+		effect.apply(this);
+		statusEffects.schedule(effect, effect.duration() + 1);
+
+		return true;
+	}
+
+	public boolean hasStatusEffects() {
+		return statusEffects != null && !statusEffects.isEmpty();
+	}
+
+	/**
+	 * Starts a turn of the champion : reverts the effects which ran out, then deals the damages over time of the
+	 * remaining ones. Costs O(1) per expiring effect, whatever the number of running ones. The actor is the position
+	 * of the champion in the battle, reported with the damages over time.
+	 */
+	public void applyStatusEffects(int actor, BattleEventListener listener) {
+		statusEffects.advance(expiration);
+
+		for (DamageType type : DamageType.values()) {
+			int damage = damageOverTime[type.ordinal()];
+
+			if (damage > 0) {
+				applyDamages(type, damage);
+
+				if (listener.isEnabled()) {
+					listener.onEvent(new DamageOverTime(actor, name, type, damage));
+				}
+			}
+		}
+	}
+
+	public void addDamageOverTime(DamageType type, int amount) {
+		damageOverTime[type.ordinal()] += amount;
+	}
+
+	/**
+	 * Grants a shield of the type, on top of the base one.
+	 */
+	public void addShield(DamageType type, int amount) {
+		if (type == DamageType.MAGICAL) {
+			magicShield += amount;
+			grantedMagicShield += amount;
+		} else if (type == DamageType.PHYSICAL) {
+			physicalShield += amount;
+			grantedPhysicalShield += amount;
+		}
+	}
+
+	/**
+	 * Takes back up to the given amount from what is left of the granted shields of the type, never from the base one.
+	 */
+	public void removeShield(DamageType type, int amount) {
+		if (type == DamageType.MAGICAL) {
+			int removed = Math.min(grantedMagicShield, amount);
+			magicShield -= removed;
+			grantedMagicShield -= removed;
+		} else if (type == DamageType.PHYSICAL) {
+			int removed = Math.min(grantedPhysicalShield, amount);
+			physicalShield -= removed;
+			grantedPhysicalShield -= removed;
+		}
+	}
+
+	public void modifyAttribute(DerivedAttribute attribute, int amount) {
+		derivedAttributes[attribute.ordinal()] += amount;
+
+		switch (attribute) {
+			case INSTINCT -> {
+				// A slowed down champion keeps acting, so that its own effects keep running out.
+				int instinct = getDerivedAttribute(DerivedAttribute.INSTINCT);
+				int initial = baseAttributes[DerivedAttribute.INSTINCT.getBaseAttribute1().ordinal()]
+						+ baseAttributes[DerivedAttribute.INSTINCT.getBaseAttribute2().ordinal()];
+				this.energyGain = initial > 0 ? Math.max(1, instinct) : Math.max(0, instinct);
+			}
+			case MOMENTUM, MASTERY -> updateStackGains();
+			default -> { }
+		}
+	}
+
+	private void updateStackGains() {
+		this.momentumGain = Math.max(0, (getDerivedAttribute(DerivedAttribute.MOMENTUM) + 2) / 3);
+		this.masteryGain = Math.max(0, (getDerivedAttribute(DerivedAttribute.MASTERY) + 2) / 3);
+	}
+
+	public boolean isAboveCriticalThreshold() {
+		return criticalStacks >= criticalThreshold;
+	}
+
+	public void useCriticalStacks() {
+		this.criticalStacks -= this.criticalThreshold;
+	}
+
+	public int getMoveCount() {
+		return moves.length;
+	}
+
+	/**
+	 * Returns the move of the given loadout slot, or the default move for slot -1.
+	 */
+	public MovePlan getMove(int slot) {
+		return slot < 0 ? MovePlan.DEFAULT : moves[slot];
+	}
+
+	public int getCooldown(int slot) {
+		return cooldowns[slot];
+	}
+
+	/**
+	 * Picks the ready move with the best priority (lowest loadout slot), then spends one turn of every running cooldown.
+	 * A move with a cooldown of N is unavailable for the N following turns of its champion.
+	 */
+	public MovePlan getNextMove() {
+		return getMove(getNextMoveSlot());
+	}
+
+	/**
+	 * Same as {@link #getNextMove()}, returning the loadout slot of the move, or -1 for the default move.
+	 */
+	public int getNextMoveSlot() {
+		return useMoveSlot(getPrioritySlot());
+	}
+
+	/**
+	 * Ready move with the best priority, or -1 when none is ready.
+	 */
+	public int getPrioritySlot() {
+		int slot = Long.numberOfTrailingZeros(readyMoves);
+
+		return slot == Long.SIZE ? -1 : slot;
+	}
+
+	/**
+	 * Plays the ready move of the given slot, or the default move for -1 when none is ready : spends one turn of every
+	 * running cooldown, then starts the cooldown of the move. Returns the slot.
+	 */
+	public int useMoveSlot(int slot) {
+		if (slot < 0 ? readyMoves != 0 : slot >= moves.length || (readyMoves & (1L << slot)) == 0) {
+			throw new IllegalArgumentException("Move slot " + slot + " of " + name + " is not playable.");
+		}
+
+		tickCooldowns();
+
+		if (slot < 0) {
+			return -1;
+		}
+
+		MovePlan move = moves[slot];
+
+		if (move.cooldown() > 0) {
+			long bit = 1L << slot;
+			cooldowns[slot] = move.cooldown();
+			readyMoves &= ~bit;
+			coolingMoves |= bit;
+		}
+
+		return slot;
+	}
+
+	private void tickCooldowns() {
+		long cooling = coolingMoves;
+
+		while (cooling != 0) {
+			int slot = Long.numberOfTrailingZeros(cooling);
+			cooling &= cooling - 1;
+
+			if (--cooldowns[slot] == 0) {
+				long bit = 1L << slot;
+				coolingMoves &= ~bit;
+				readyMoves |= bit;
+			}
+		}
+	}
+
+	public void applyDamages(DamageType type, int amount) {
+		if (type == DamageType.MAGICAL) {
+			amount = applyMagicalShieldDamages(amount);
+			applyBypassDamages(amount);
+		} else if (type == DamageType.PHYSICAL) {
+			amount = applyPhysicalShieldDamages(amount);
+			applyBypassDamages(amount);
+		}
+	}
+
+	private int applyMagicalShieldDamages(int amount) {
+		int absorbed = Math.min(magicShield, amount);
+		magicShield -= absorbed;
+		grantedMagicShield -= Math.min(grantedMagicShield, absorbed);
+
+		return amount - absorbed;
+	}
+
+	private int applyPhysicalShieldDamages(int amount) {
+		int absorbed = Math.min(physicalShield, amount);
+		physicalShield -= absorbed;
+		grantedPhysicalShield -= Math.min(grantedPhysicalShield, absorbed);
+
+		return amount - absorbed;
+	}
+
+	public void applyBypassDamages(int amount) {
+		if (health >= amount) {
+			health -= amount;
+		} else {
+			amount -= health;
+			health = 0;
+		}
+	}
+
+}
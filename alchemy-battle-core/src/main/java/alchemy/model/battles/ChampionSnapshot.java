@@ -0,0 +1,39 @@
+package alchemy.model.battles;
+
+import java.util.List;
+
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.replays.SnapshotCodec;
+import alchemy.model.pets.attributes.BaseAttribute;
+import alchemy.model.pets.attributes.DerivedAttribute;
+
+/**
+ * Detached copy of everything a battle needs from a pet : a battle is fully reproducible from two snapshots and a seed.
+ * Base attributes are indexed by {@link BaseAttribute} ordinal. Snapshots are shared and must never be modified.
+ */
+public record ChampionSnapshot (
+		String name,
+		int level,
+		int[] baseAttributes,
+		List<MovePlan> moves
+		){
+
+	public int getBaseAttribute(BaseAttribute attribute) {
+		return baseAttributes[attribute.ordinal()];
+	}
+
+	/**
+	 * Derived attribute before any modifier, as the champion starts its battles with.
+	 */
+	public int getDerivedAttribute(DerivedAttribute attribute) {
+		return getBaseAttribute(attribute.getBaseAttribute1()) + getBaseAttribute(attribute.getBaseAttribute2());
+	}
+
+	/**
+	 * @see SnapshotCodec#fingerprint(ChampionSnapshot)
+	 */
+	public long fingerprint() {
+		return SnapshotCodec.fingerprint(this);
+	}
+
+}
@@ -0,0 +1,19 @@
+package alchemy.model.battles;
+
+/**
+ * Chooses the move a champion plays on its turn, among its ready ones. Policies may hold the state of a single battle.
+ */
+@FunctionalInterface
+public interface MovePolicy {
+
+	/**
+	 * Plays the ready move with the best priority, the lowest loadout slot.
+	 */
+	MovePolicy PRIORITY = (player, opponent) -> player.getPrioritySlot();
+
+	/**
+	 * Returns the loadout slot of a ready move of the player, or -1 for the default move when none is ready.
+	 */
+	int chooseSlot(Champion player, Champion opponent);
+
+}
@@ -0,0 +1,114 @@
+package alchemy.model.battles.effects;
+
+import java.util.function.Consumer;
+
+import lombok.Getter;
+
+/**
+ * Hierarchical timing wheel : 5 levels of 64 slots, level k holding the entries due within the next 64^(k+1) ticks.
+ *
+ * An entry is filed on the highest level where its due tick and the current tick differ, in the slot of its due tick
+ * at that level. When the current tick enters the window of a slot, the entries of that slot are cascaded to the lower
+ * levels, so every entry moves down at most 4 times. Advancing one tick only visits the entries due on that tick.
+ *
+ * Delays are capped to {@link #MAX_DELAY} ticks.
+ */
+public class TimingWheel<T> {
+
+	private static final int LEVELS = 5;
+	private static final int SLOT_BITS = 6;
+	private static final int SLOTS = 1 << SLOT_BITS;
+	private static final int SLOT_MASK = SLOTS - 1;
+
+	public static final int MAX_DELAY = (1 << (SLOT_BITS * (LEVELS - 1))) - 1;
+
+	@SuppressWarnings("unchecked")
+	private final Node<T>[][] slots = new Node[LEVELS][SLOTS];
+
+	@Getter
+	private long tick;
+	private int size;
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Files the value to be released after the given number of ticks, at least one.
+	 */
+	public void schedule(T value, int delay) {
+		insert(new Node<>(value, tick + Math.min(Math.max(delay, 1), MAX_DELAY)));
+		size++;
+	}
+
+	/**
+	 * Moves to the next tick and releases every value due on it, in no particular order.
+	 */
+	public void advance(Consumer<? super T> released) {
+		tick++;
+
+		for (int level = LEVELS - 1; level > 0; level--) {
+			if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+				cascade(level, (int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+			}
+		}
+
+		int slot = (int) tick & SLOT_MASK;
+		Node<T> node = slots[0][slot];
+
+		if (node == null) {
+			return;
+		}
+
+		slots[0][slot] = null;
+
+		while (node != null) {
+			size--;
+			released.accept(node.value);
+			node = node.next;
+		}
+	}
+
+	private void cascade(int level, int slot) {
+		Node<T> node = slots[level][slot];
+
+		if (node == null) {
+			return;
+		}
+
+		slots[level][slot] = null;
+
+		while (node != null) {
+			Node<T> next = node.next;
+			insert(node);
+			node = next;
+		}
+	}
+
+	private void insert(Node<T> node) {
+		long difference = node.due ^ tick;
+		int level = difference == 0 ? 0 : (63 - Long.numberOfLeadingZeros(difference)) / SLOT_BITS;
+		int slot = (int) (node.due >>> (SLOT_BITS * level)) & SLOT_MASK;
+
+		node.next = slots[level][slot];
+		slots[level][slot] = node;
+	}
+
+	private static final class Node<T> {
+
+		private final T value;
+		private final long due;
+		private Node<T> next;
+
+		private Node(T value, long due) {
+			this.value = value;
+			this.due = due;
+		}
+
+	}
+
+}
@@ -0,0 +1,45 @@
+package alchemy.model.battles.estimates;
+
+import alchemy.model.battles.BattleOutcome;
+
+/**
+ * Estimated times to kill of both champions of a battle, each against the other one.
+ */
+public record MatchupEstimate (
+		TimeToKill first,
+		TimeToKill second
+		){
+
+	/**
+	 * The champion killing the other one in fewer ticks wins. Equal times are a draw, as the initiative drawn by the
+	 * battle decides them, and champions which never kill each other a stalemate.
+	 */
+	public BattleOutcome getPredictedOutcome() {
+		if (first.isNever() && second.isNever()) {
+			return BattleOutcome.STALEMATE;
+		}
+
+		int comparison = Double.compare(first.ticks(), second.ticks());
+
+		if (comparison < 0) {
+			return BattleOutcome.FIRST_CHAMPION_WON;
+		} else if (comparison > 0) {
+			return BattleOutcome.SECOND_CHAMPION_WON;
+		}
+
+		return BattleOutcome.DRAW;
+	}
+
+	/**
+	 * Shortest time to kill over the longest one, from 0 for a one-sided battle to 1 for an even one. Champions which
+	 * never kill each other are even.
+	 */
+	public double getBalance() {
+		if (first.isNever() && second.isNever()) {
+			return 1;
+		}
+
+		return Math.min(first.ticks(), second.ticks()) / Math.max(first.ticks(), second.ticks());
+	}
+
+}
@@ -0,0 +1,18 @@
+package alchemy.model.battles.estimates;
+
+/**
+ * Estimated turns of the attacker up to the one defeating the defender, and the ticks elapsed by the end of it, both
+ * infinite when the attacker never defeats it.
+ */
+public record TimeToKill (
+		double turns,
+		double ticks
+		){
+
+	public static final TimeToKill NEVER = new TimeToKill(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+
+	public boolean isNever() {
+		return Double.isInfinite(ticks);
+	}
+
+}
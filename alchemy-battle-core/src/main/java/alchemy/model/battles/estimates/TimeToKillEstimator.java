@@ -0,0 +1,173 @@
+package alchemy.model.battles.estimates;
+
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.plans.ShieldPlan;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+
+/**
+ * Estimates in closed form the time a champion takes to defeat another one, without playing the battle : a pass over
+ * the moves of both champions, cheap enough to rank or reject pairings before simulating them.
+ *
+ * The attacker plays by priority, each move as often as its cooldown allows within the turns left by the moves of
+ * better priority. Its hits go through the reduction of the defender, DEFENCE or ADAPTATION, and its stacks grow by the
+ * same amount on every damaging turn : the damages of the first n turns are a quadratic of n, solved against the health
+ * and shields of the defender. Shields cast by the defender soak up a steady share of the damages of their type, at
+ * the pace of its own turns.
+ *
+ * Left out : attribute modifiers, clarity doubled against magic shields, stacks eating into a reduction larger than the
+ * damages, and damages over time or shields still running when the battle ends. Stateless, shared by every thread.
+ */
+public class TimeToKillEstimator {
+
+	private static final int DAMAGE_TYPES = DamageType.values().length;
+
+	public TimeToKill estimate(ChampionSnapshot attacker, ChampionSnapshot defender) {
+		int energyGain = attacker.getDerivedAttribute(DerivedAttribute.INSTINCT);
+
+		if (energyGain <= 0) {
+			return TimeToKill.NEVER;
+		}
+
+		// Per turn of the attacker : bypass taken by health, damages taken by shields first, and stacks gained.
+		double bypass = 0;
+		double[] damages = new double[DAMAGE_TYPES];
+		double[] hits = new double[DAMAGE_TYPES];
+		double damagingTurns = 0;
+		double left = 1;
+
+		for (MovePlan move : attacker.moves()) {
+			double frequency = getFrequency(move, left);
+			left -= frequency;
+
+			if (frequency == 0) {
+				break;
+			} else if (move.damaging()) {
+				damagingTurns += frequency;
+			}
+
+			for (ComponentPlan component : move.components()) {
+				if (component instanceof DamagePlan hit) {
+					// Every damaging move is a critical hit, the critical threshold of champions being 0.
+					int damage = hit.baseDamage() + (hit.baseDamage() + 1) / 2;
+					int hitBypass = hit.baseBypass() + (hit.baseBypass() + 1) / 2;
+					int reduction;
+
+					if (hit.damageType() == DamageType.PHYSICAL) {
+						reduction = defender.getDerivedAttribute(DerivedAttribute.DEFENCE);
+					} else {
+						hitBypass += attacker.getDerivedAttribute(DerivedAttribute.CLARITY);
+						reduction = defender.getDerivedAttribute(DerivedAttribute.ADAPTATION);
+					}
+
+					hits[hit.damageType().ordinal()] += frequency;
+
+					if (reduction <= damage) {
+						bypass += frequency * hitBypass;
+						damages[hit.damageType().ordinal()] += frequency * (damage - reduction);
+					} else {
+						bypass += frequency * Math.max(0, hitBypass - (reduction - damage));
+					}
+				} else if (component instanceof DamageOverTimePlan damageOverTime && damageOverTime.duration() > 0) {
+					damages[damageOverTime.damageType().ordinal()] += frequency * damageOverTime.damage() * damageOverTime.duration();
+				}
+			}
+		}
+
+		double physicalGrowth = damagingTurns * hits[DamageType.PHYSICAL.ordinal()]
+				* getStackGain(attacker.getDerivedAttribute(DerivedAttribute.MOMENTUM));
+		double magicalGrowth = damagingTurns * hits[DamageType.MAGICAL.ordinal()]
+				* getStackGain(attacker.getDerivedAttribute(DerivedAttribute.MASTERY));
+
+		// Shields of the defender, turned into turns of the attacker, never more than the damages they can soak up.
+		double[] shields = getShields(defender);
+		int defenderGain = defender.getDerivedAttribute(DerivedAttribute.INSTINCT);
+		double pace = defenderGain <= 0 ? 0 : (double) defenderGain * attacker.level() / (defender.level() * energyGain);
+		double total = bypass;
+
+		for (int type = 0; type < DAMAGE_TYPES; type++) {
+			total += damages[type] - Math.min(damages[type], shields[type] * pace);
+		}
+
+		// Same health and magic shield as the defender starts its battles with.
+		double health = defender.level() * 10 + defender.getDerivedAttribute(DerivedAttribute.TOUGHNESS) * 2;
+
+		if (damages[DamageType.MAGICAL.ordinal()] + magicalGrowth > 0) {
+			health += defender.getDerivedAttribute(DerivedAttribute.RESOLVE) * 2;
+		}
+
+		double turns = solve(total, physicalGrowth + magicalGrowth, health);
+
+		if (Double.isInfinite(turns)) {
+			return TimeToKill.NEVER;
+		}
+
+		return new TimeToKill(turns, turns * attacker.level() / energyGain);
+	}
+
+	public MatchupEstimate estimateMatchup(ChampionSnapshot first, ChampionSnapshot second) {
+		return new MatchupEstimate(estimate(first, second), estimate(second, first));
+	}
+
+	/**
+	 * Share of the turns of a champion playing the move by priority, out of the share its betters leave : a move with a
+	 * cooldown of N is played at most once every N + 1 turns.
+	 */
+	private static double getFrequency(MovePlan move, double left) {
+		return Math.max(0, Math.min(left, 1.0 / (Math.max(0, move.cooldown()) + 1)));
+	}
+
+	/**
+	 * Shields cast by the champion per turn of its own, by damage type.
+	 */
+	private static double[] getShields(ChampionSnapshot champion) {
+		double[] shields = new double[DAMAGE_TYPES];
+		double left = 1;
+
+		for (MovePlan move : champion.moves()) {
+			double frequency = getFrequency(move, left);
+			left -= frequency;
+
+			if (frequency == 0) {
+				break;
+			}
+
+			for (ComponentPlan component : move.components()) {
+				if (component instanceof ShieldPlan shield && shield.duration() > 0) {
+					shields[shield.damageType().ordinal()] += frequency * shield.amount();
+				}
+			}
+		}
+
+		return shields;
+	}
+
+	private static int getStackGain(int attribute) {
+		return Math.max(0, (attribute + 2) / 3);
+	}
+
+	/**
+	 * Turns n whose damages, the given damages per turn growing by the given growth every turn, reach the health :
+	 * the first whole n with d * n + g * n * (n - 1) / 2 >= h, or infinite when the damages never reach it.
+	 */
+	private static double solve(double damages, double growth, double health) {
+		if (health <= 0) {
+			return 1;
+		}
+
+		// Root of g / 2 * n² + (d - g / 2) * n - h, in the form which stays exact when g is small against d.
+		double linear = damages - growth / 2;
+		double denominator = linear + Math.sqrt(linear * linear + 2 * growth * health);
+
+		if (!(denominator > 0)) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		return Math.max(1, Math.ceil(2 * health / denominator - 1e-9));
+	}
+
+}
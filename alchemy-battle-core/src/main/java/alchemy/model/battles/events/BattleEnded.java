@@ -0,0 +1,24 @@
+package alchemy.model.battles.events;
+
+import alchemy.model.battles.BattleOutcome;
+
+public record BattleEnded (
+		BattleOutcome outcome,
+		String winner
+		) implements BattleEvent {
+
+	@Override
+	public BattleEventType type() {
+		return BattleEventType.BATTLE_ENDED;
+	}
+
+	@Override
+	public String message() {
+		return switch (outcome) {
+			case DRAW -> "It's a draw !";
+			case STALEMATE -> "Stalemate, nobody won !";
+			default -> winner + " won !";
+		};
+	}
+
+}
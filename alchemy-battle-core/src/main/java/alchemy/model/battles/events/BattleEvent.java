@@ -0,0 +1,11 @@
+package alchemy.model.battles.events;
+
+/**
+ * Structured battle event. The human-readable message is only rendered when requested.
+ */
+public interface BattleEvent {
+
+	BattleEventType type();
+	String message();
+
+}
@@ -0,0 +1,46 @@
+package alchemy.model.battles.events;
+
+public interface BattleEventListener {
+
+	/**
+	 * Listener for simulations : events are never built, nor rendered.
+	 */
+	BattleEventListener NONE = new BattleEventListener() {
+
+		@Override
+		public void onEvent(BattleEvent event) { }
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+	};
+
+	void onEvent(BattleEvent event);
+
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Returns a listener forwarding every event to this listener, then to the other one.
+	 */
+	default BattleEventListener andThen(BattleEventListener other) {
+		if (!other.isEnabled()) {
+			return this;
+		}
+
+		if (!isEnabled()) {
+			return other;
+		}
+
+		BattleEventListener self = this;
+
+		return event -> {
+			self.onEvent(event);
+			other.onEvent(event);
+		};
+	}
+
+}
@@ -2,7 +2,11 @@ package alchemy.model.battles.events;
 
 public enum BattleEventType {
 
+	BATTLE_STARTED,
+	MOVE_USED,
 	DAMAGE_MOVE,
+	STATUS_EFFECT_APPLIED,
+	DAMAGE_OVER_TIME,
 	CHAMPION_FAINTED,
 	BATTLE_ENDED;
 
@@ -0,0 +1,19 @@
+package alchemy.model.battles.events;
+
+public record BattleStarted (
+		String first,
+		String second,
+		long seed
+		) implements BattleEvent {
+
+	@Override
+	public BattleEventType type() {
+		return BattleEventType.BATTLE_STARTED;
+	}
+
+	@Override
+	public String message() {
+		return first + " and " + second + " enter the arena !";
+	}
+
+}
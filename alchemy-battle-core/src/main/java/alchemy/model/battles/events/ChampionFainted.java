@@ -0,0 +1,17 @@
+package alchemy.model.battles.events;
+
+public record ChampionFainted (
+		String champion
+		) implements BattleEvent {
+
+	@Override
+	public BattleEventType type() {
+		return BattleEventType.CHAMPION_FAINTED;
+	}
+
+	@Override
+	public String message() {
+		return champion + " fainted !";
+	}
+
+}
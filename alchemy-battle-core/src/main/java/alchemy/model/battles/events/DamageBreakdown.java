@@ -0,0 +1,102 @@
+package alchemy.model.battles.events;
+
+import alchemy.model.pets.moves.components.DamageType;
+
+public record DamageBreakdown (
+		String source,
+		String target,
+		DamageType damageType,
+		int base,
+		int critical,
+		int momentum,
+		int mastery,
+		int basePiercing,
+		int criticalPiercing,
+		int clarity,
+		int clarityBonus,
+		int defenceReduction,
+		int adaptationReduction,
+		int damageDealt,
+		int piercingDealt
+		) implements BattleEvent {
+
+	@Override
+	public BattleEventType type() {
+		return BattleEventType.DAMAGE_MOVE;
+	}
+
+	public int getDamage() {
+		return base + critical + momentum + mastery;
+	}
+
+	public int getPiercing() {
+		return basePiercing + criticalPiercing + clarity + clarityBonus;
+	}
+
+	public int getReduction() {
+		return defenceReduction + adaptationReduction;
+	}
+
+	public int getTotalDealt() {
+		return damageDealt + piercingDealt;
+	}
+
+	@Override
+	public String message() {
+		String kind = damageType == DamageType.MAGICAL ? "magical" : "physical";
+		StringBuilder result = new StringBuilder();
+
+		result.append(source).append(" dealt ").append(getDamage()).append(' ').append(kind).append(" damages to ").append(target);
+		result.append(" (").append(base).append(" (Base)");
+
+		if (critical > 0) {
+			result.append(" + ").append(critical).append(" (Critical Hit)");
+		}
+
+		if (momentum > 0) {
+			result.append(" + ").append(momentum).append(" (Momentum)");
+		}
+
+		if (mastery > 0) {
+			result.append(" + ").append(mastery).append(" (Mastery)");
+		}
+
+		result.append(")");
+
+		if (getPiercing() > 0) {
+			result.append(" + ").append(getPiercing()).append(' ').append(kind).append(" piercing damages (");
+			result.append(basePiercing).append(" (Base)");
+
+			if (criticalPiercing > 0) {
+				result.append(" + ").append(criticalPiercing).append(" (Critical Hit)");
+			}
+
+			if (clarity > 0) {
+				result.append(" + ").append(clarity).append(" (Clarity)");
+			}
+
+			if (clarityBonus > 0) {
+				result.append(" + ").append(clarityBonus).append(" (No Magic Shield)");
+			}
+
+			result.append(")");
+		}
+
+		result.append(".");
+
+		if (getReduction() > 0) {
+			result.append(" The damages were reduced by ").append(getReduction());
+
+			if (adaptationReduction > 0) {
+				result.append(" (Adaptation)");
+			} else {
+				result.append(" (Defence)");
+			}
+
+			result.append(", for a total of ").append(getTotalDealt()).append(" damages dealt.");
+		}
+
+		return result.toString();
+	}
+
+}
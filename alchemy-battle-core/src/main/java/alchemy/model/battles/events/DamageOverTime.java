@@ -0,0 +1,26 @@
+package alchemy.model.battles.events;
+
+import alchemy.model.pets.moves.components.DamageType;
+
+/**
+ * Damages of every running damage over time effect of a type, taken by a champion at the start of its turn.
+ * The actor is the position of the champion in the battle, as for {@link MoveUsed}.
+ */
+public record DamageOverTime (
+		int actor,
+		String champion,
+		DamageType damageType,
+		int damage
+		) implements BattleEvent {
+
+	@Override
+	public BattleEventType type() {
+		return BattleEventType.DAMAGE_OVER_TIME;
+	}
+
+	@Override
+	public String message() {
+		return champion + " suffered " + damage + (damageType == DamageType.MAGICAL ? " magical" : " physical") + " damages over time.";
+	}
+
+}
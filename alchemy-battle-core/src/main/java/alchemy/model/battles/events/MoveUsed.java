@@ -0,0 +1,24 @@
+package alchemy.model.battles.events;
+
+/**
+ * Opens every turn, unless the champion fainted from its damages over time at the start of it.
+ * The actor is the position of the champion in the battle, the slot is -1 for the default move.
+ */
+public record MoveUsed (
+		int actor,
+		String champion,
+		int slot,
+		String move
+		) implements BattleEvent {
+
+	@Override
+	public BattleEventType type() {
+		return BattleEventType.MOVE_USED;
+	}
+
+	@Override
+	public String message() {
+		return champion + " used " + move + " !";
+	}
+
+}
@@ -0,0 +1,20 @@
+package alchemy.model.battles.events;
+
+public record StatusEffectApplied (
+		String source,
+		String target,
+		String effect,
+		int duration
+		) implements BattleEvent {
+
+	@Override
+	public BattleEventType type() {
+		return BattleEventType.STATUS_EFFECT_APPLIED;
+	}
+
+	@Override
+	public String message() {
+		return source + " applied " + effect + " to " + target + " for " + duration + (duration == 1 ? " turn." : " turns.");
+	}
+
+}
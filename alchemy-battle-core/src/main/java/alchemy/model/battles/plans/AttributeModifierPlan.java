@@ -0,0 +1,55 @@
+package alchemy.model.battles.plans;
+
+import alchemy.model.battles.Champion;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.events.StatusEffectApplied;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.EffectTarget;
+import alchemy.model.pets.moves.components.MoveComponentType;
+
+/**
+ * Buff or debuff of a derived attribute. Toughness and resolve only set the starting health and magic shield, so
+ * modifying them has no effect on the battle.
+ */
+public record AttributeModifierPlan (
+		DerivedAttribute attribute,
+		int amount,
+		EffectTarget target,
+		int duration
+		) implements StatusEffectPlan {
+
+	public AttributeModifierPlan {
+		ComponentPlan.checkRange("attribute modifier amount", amount, -MAX_AMOUNT, MAX_AMOUNT);
+		ComponentPlan.checkRange("attribute modifier duration", duration, 0, MAX_DURATION);
+	}
+
+	@Override
+	public MoveComponentType type() {
+		return MoveComponentType.ATTRIBUTE_MODIFIER_COMPONENT;
+	}
+
+	@Override
+	public void execute(boolean criticalHit, Champion source, Champion opponent, BattleEventListener listener) {
+		Champion holder = target == EffectTarget.SELF ? source : opponent;
+
+		if (holder.addStatusEffect(this) && listener.isEnabled()) {
+			listener.onEvent(new StatusEffectApplied(source.getName(), holder.getName(), describe(), duration));
+		}
+	}
+
+	@Override
+	public void apply(Champion holder) {
+		holder.modifyAttribute(attribute, amount);
+	}
+
+	@Override
+	public void expire(Champion holder) {
+		holder.modifyAttribute(attribute, -amount);
+	}
+
+	@Override
+	public String describe() {
+		return (amount >= 0 ? "+" : "") + amount + " " + attribute;
+	}
+
+}
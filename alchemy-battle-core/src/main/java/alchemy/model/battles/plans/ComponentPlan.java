@@ -0,0 +1,30 @@
+package alchemy.model.battles.plans;
+
+import alchemy.model.battles.Champion;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.pets.moves.components.MoveComponentType;
+
+/**
+ * Immutable, executable form of a MoveComponent. Implementations must not hold any battle state,
+ * so that a single instance can be shared between concurrent battles.
+ */
+public interface ComponentPlan {
+
+	/**
+	 * Largest damage, bypass, shield or attribute change of a component, so that stacked effects can't overflow.
+	 */
+	int MAX_AMOUNT = 100_000;
+
+	MoveComponentType type();
+	void execute(boolean criticalHit, Champion source, Champion target, BattleEventListener listener);
+
+	/**
+	 * Rejects a value of a plan out of its bounds, whether it comes from the catalog or from a replay.
+	 */
+	static void checkRange(String name, int value, int min, int max) {
+		if (value < min || value > max) {
+			throw new IllegalArgumentException("Expected " + name + " between " + min + " and " + max + ", got " + value);
+		}
+	}
+
+}
@@ -0,0 +1,51 @@
+package alchemy.model.battles.plans;
+
+import alchemy.model.battles.Champion;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.events.StatusEffectApplied;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.MoveComponentType;
+
+/**
+ * Damages dealt to the opponent at the start of each of its turns. They go through shields, but are not affected by
+ * critical hits, stacks or reductions.
+ */
+public record DamageOverTimePlan (
+		int damage,
+		DamageType damageType,
+		int duration
+		) implements StatusEffectPlan {
+
+	public DamageOverTimePlan {
+		ComponentPlan.checkRange("damage over time", damage, 0, MAX_AMOUNT);
+		ComponentPlan.checkRange("damage over time duration", duration, 0, MAX_DURATION);
+	}
+
+	@Override
+	public MoveComponentType type() {
+		return MoveComponentType.DAMAGE_OVER_TIME_COMPONENT;
+	}
+
+	@Override
+	public void execute(boolean criticalHit, Champion source, Champion target, BattleEventListener listener) {
+		if (target.addStatusEffect(this) && listener.isEnabled()) {
+			listener.onEvent(new StatusEffectApplied(source.getName(), target.getName(), describe(), duration));
+		}
+	}
+
+	@Override
+	public void apply(Champion holder) {
+		holder.addDamageOverTime(damageType, damage);
+	}
+
+	@Override
+	public void expire(Champion holder) {
+		holder.addDamageOverTime(damageType, -damage);
+	}
+
+	@Override
+	public String describe() {
+		return damage + (damageType == DamageType.MAGICAL ? " magical" : " physical") + " damages per turn";
+	}
+
+}
@@ -0,0 +1,80 @@
+package alchemy.model.battles.plans;
+
+import alchemy.model.battles.Champion;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.events.DamageBreakdown;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.MoveComponentType;
+
+public record DamagePlan (
+		int baseDamage,
+		int baseBypass,
+		DamageType damageType
+		) implements ComponentPlan {
+
+	public DamagePlan {
+		ComponentPlan.checkRange("base damage", baseDamage, 0, MAX_AMOUNT);
+		ComponentPlan.checkRange("base bypass", baseBypass, 0, MAX_AMOUNT);
+	}
+
+	@Override
+	public MoveComponentType type() {
+		return MoveComponentType.DAMAGE_COMPONENT;
+	}
+
+	@Override
+	public void execute(boolean isCriticalHit, Champion source, Champion target, BattleEventListener listener) {
+		int criticalAmount = 0;
+		int criticalBypass = 0;
+
+		if (isCriticalHit) {
+			criticalAmount = (baseDamage + 1) / 2;
+			criticalBypass = (baseBypass + 1) / 2;
+		}
+
+		int momentumDamages = 0;
+		int masteryDamages = 0;
+		int clarityBypass = 0;
+		int clarityDoubled = 0;
+
+		int defenceReduction = 0;
+		int adaptationReduction = 0;
+
+		if (damageType == DamageType.PHYSICAL) {
+			momentumDamages = source.getMomentumStacks();
+			defenceReduction = target.getDerivedAttribute(DerivedAttribute.DEFENCE);
+		} else if (damageType == DamageType.MAGICAL) {
+			masteryDamages = source.getMasteryStacks();
+			clarityBypass = source.getDerivedAttribute(DerivedAttribute.CLARITY);
+			adaptationReduction = target.getDerivedAttribute(DerivedAttribute.ADAPTATION);
+
+			if (target.hasShield(damageType)) {
+				clarityDoubled = clarityBypass;
+			}
+		}
+
+		int damage = baseDamage + criticalAmount + momentumDamages + masteryDamages;
+		int bypass = baseBypass + criticalBypass + clarityBypass + clarityDoubled;
+
+		int reduction = defenceReduction + adaptationReduction;
+
+		if (reduction <= damage) {
+			damage -= reduction;
+		} else {
+			bypass = Math.max(0, bypass - (reduction - damage));
+			damage = 0;
+		}
+
+		target.applyBypassDamages(bypass);
+		target.applyDamages(damageType, damage);
+
+		if (listener.isEnabled()) {
+			listener.onEvent(new DamageBreakdown(source.getName(), target.getName(), damageType,
+					baseDamage, criticalAmount, momentumDamages, masteryDamages,
+					baseBypass, criticalBypass, clarityBypass, clarityDoubled,
+					defenceReduction, adaptationReduction, damage, bypass));
+		}
+	}
+
+}
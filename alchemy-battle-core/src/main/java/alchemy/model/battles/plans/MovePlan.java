@@ -0,0 +1,48 @@
+package alchemy.model.battles.plans;
+
+import java.util.List;
+
+import alchemy.model.battles.Champion;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.pets.moves.components.MoveComponentType;
+
+/**
+ * Immutable, executable form of a move.
+ */
+public record MovePlan (
+		String name,
+		int cooldown,
+		boolean damaging,
+		List<ComponentPlan> components
+		){
+
+	/**
+	 * Move played when none of the loadout is ready.
+	 */
+	public static final MovePlan DEFAULT = new MovePlan("Splash", 0, false, List.of());
+
+	public static MovePlan of(String name, int cooldown, List<ComponentPlan> components) {
+		boolean damaging = components.stream()
+				.anyMatch(component -> component.type() == MoveComponentType.DAMAGE_COMPONENT);
+
+		return new MovePlan(name, cooldown, damaging, List.copyOf(components));
+	}
+
+	public void execute(Champion source, Champion target, BattleEventListener listener) {
+		final boolean isCriticalHit = damaging && source.isAboveCriticalThreshold();
+
+		if (isCriticalHit) {
+			source.useCriticalStacks();
+		}
+
+		for (int i = 0; i < components.size(); i++) {
+			components.get(i).execute(isCriticalHit, source, target, listener);
+		}
+
+		if (damaging) {
+			source.gainMomentumStacks();
+			source.gainMasteryStacks();
+		}
+	}
+
+}
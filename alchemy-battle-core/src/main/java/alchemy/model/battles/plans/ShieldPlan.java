@@ -0,0 +1,51 @@
+package alchemy.model.battles.plans;
+
+import alchemy.model.battles.Champion;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.events.StatusEffectApplied;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.MoveComponentType;
+
+/**
+ * Shield granted to the user of the move. Damages drain granted shields before the base one : when it expires, the
+ * shield of its type loses what is left of the granted ones, up to its amount.
+ */
+public record ShieldPlan (
+		int amount,
+		DamageType damageType,
+		int duration
+		) implements StatusEffectPlan {
+
+	public ShieldPlan {
+		ComponentPlan.checkRange("shield amount", amount, 0, MAX_AMOUNT);
+		ComponentPlan.checkRange("shield duration", duration, 0, MAX_DURATION);
+	}
+
+	@Override
+	public MoveComponentType type() {
+		return MoveComponentType.SHIELD_COMPONENT;
+	}
+
+	@Override
+	public void execute(boolean criticalHit, Champion source, Champion target, BattleEventListener listener) {
+		if (source.addStatusEffect(this) && listener.isEnabled()) {
+			listener.onEvent(new StatusEffectApplied(source.getName(), source.getName(), describe(), duration));
+		}
+	}
+
+	@Override
+	public void apply(Champion holder) {
+		holder.addShield(damageType, amount);
+	}
+
+	@Override
+	public void expire(Champion holder) {
+		holder.removeShield(damageType, amount);
+	}
+
+	@Override
+	public String describe() {
+		return "a " + amount + (damageType == DamageType.MAGICAL ? " magical" : " physical") + " shield";
+	}
+
+}
@@ -0,0 +1,23 @@
+package alchemy.model.battles.plans;
+
+import alchemy.model.battles.Champion;
+
+/**
+ * Component leaving an effect on a champion for its next {@link #duration()} turns. The effect is applied when the
+ * move is used, and reverted at the start of the turn of its holder following the last one.
+ *
+ * Like every plan, an effect holds no battle state : reverting it must exactly undo what applying it did.
+ */
+public interface StatusEffectPlan extends ComponentPlan {
+
+	/**
+	 * Longest effect, in turns of its holder. Well below TimingWheel.MAX_DELAY, which would cut longer ones short.
+	 */
+	int MAX_DURATION = 10_000;
+
+	int duration();
+	void apply(Champion holder);
+	void expire(Champion holder);
+	String describe();
+
+}
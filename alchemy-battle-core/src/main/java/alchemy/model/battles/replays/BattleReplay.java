@@ -0,0 +1,85 @@
+package alchemy.model.battles.replays;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.ChampionSnapshot;
+
+/**
+ * Everything needed to re-simulate a battle (seed and champion snapshots) and to check it (outcome and turn log).
+ *
+ * The binary form starts with a format version, then only holds varints and length prefixed UTF-8 strings.
+ * Moves are stored compiled, so that a replay stays valid when the move catalog changes afterwards.
+ * Version 1 turn logs did not hold damages over time : they are read back with none suffered, so they no longer
+ * verify against battles that had some.
+ */
+public record BattleReplay (
+		long seed,
+		ChampionSnapshot first,
+		ChampionSnapshot second,
+		BattleOutcome outcome,
+		int turns,
+		byte[] turnLog
+		){
+
+	public static final int FORMAT_VERSION = 2;
+
+	public List<TurnRecord> getTurnRecords() {
+		List<TurnRecord> records = new ArrayList<>(turns);
+		ReplayInput input = new ReplayInput(turnLog);
+
+		while (input.hasRemaining()) {
+			records.add(new TurnRecord(input.readVarInt(), input.readVarInt() - 2, input.readVarInt(), input.readVarInt()));
+		}
+
+		return records;
+	}
+
+	public byte[] encode() {
+		ReplayOutput output = new ReplayOutput(turnLog.length + 128);
+
+		output.writeVarInt(FORMAT_VERSION);
+		output.writeSignedVarLong(seed);
+		SnapshotCodec.write(output, first);
+		SnapshotCodec.write(output, second);
+		output.writeVarInt(outcome.ordinal());
+		output.writeVarInt(turns);
+		output.writeBytes(turnLog);
+
+		return output.toByteArray();
+	}
+
+	public static BattleReplay decode(byte[] bytes) {
+		ReplayInput input = new ReplayInput(bytes);
+		int version = input.readVarInt();
+
+		if (version != FORMAT_VERSION && version != 1) {
+			throw new IllegalArgumentException("Unsupported replay format version " + version);
+		}
+
+		long seed = input.readSignedVarLong();
+		ChampionSnapshot first = SnapshotCodec.read(input);
+		ChampionSnapshot second = SnapshotCodec.read(input);
+		BattleOutcome outcome = SnapshotCodec.readEnum(BattleOutcome.values(), input.readVarInt());
+		int turns = input.readVarInt();
+		byte[] turnLog = version == 1 ? upgradeTurnLog(input.readBytes()) : input.readBytes();
+
+		return new BattleReplay(seed, first, second, outcome, turns, turnLog);
+	}
+
+	private static byte[] upgradeTurnLog(byte[] turnLog) {
+		ReplayInput input = new ReplayInput(turnLog);
+		ReplayOutput output = new ReplayOutput(turnLog.length + turnLog.length / 3 + 1);
+
+		while (input.hasRemaining()) {
+			output.writeVarInt(input.readVarInt());
+			output.writeVarInt(input.readVarInt() + 1);
+			output.writeVarInt(input.readVarInt());
+			output.writeVarInt(0);
+		}
+
+		return output.toByteArray();
+	}
+
+}
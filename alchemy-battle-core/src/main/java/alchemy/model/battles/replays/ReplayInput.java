@@ -0,0 +1,89 @@
+package alchemy.model.battles.replays;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads what a {@link ReplayOutput} wrote. Truncated or malformed input fails with an IllegalArgumentException.
+ */
+public class ReplayInput {
+
+	private final byte[] buffer;
+	private int position;
+
+	public ReplayInput(byte[] buffer) {
+		this.buffer = buffer;
+	}
+
+	public boolean hasRemaining() {
+		return position < buffer.length;
+	}
+
+	public int readByte() {
+		require(1);
+		return buffer[position++] & 0xFF;
+	}
+
+	public int readVarInt() {
+		int value = 0;
+
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = readByte();
+			value |= (b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+
+		throw new IllegalArgumentException("Malformed varint at position " + position);
+	}
+
+	public int readSignedVarInt() {
+		int value = readVarInt();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	public long readVarLong() {
+		long value = 0;
+
+		for (int shift = 0; shift < 70; shift += 7) {
+			int b = readByte();
+			value |= (long) (b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+
+		throw new IllegalArgumentException("Malformed varlong at position " + position);
+	}
+
+	public long readSignedVarLong() {
+		long value = readVarLong();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	public String readString() {
+		int length = readVarInt();
+		require(length);
+		String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+		position += length;
+		return value;
+	}
+
+	public byte[] readBytes() {
+		int length = readVarInt();
+		require(length);
+		byte[] value = Arrays.copyOfRange(buffer, position, position + length);
+		position += length;
+		return value;
+	}
+
+	private void require(int length) {
+		if (length < 0 || position + length > buffer.length) {
+			throw new IllegalArgumentException("Truncated replay at position " + position);
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+package alchemy.model.battles.replays;
+
+import alchemy.model.battles.events.BattleEvent;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.events.DamageBreakdown;
+import alchemy.model.battles.events.DamageOverTime;
+import alchemy.model.battles.events.MoveUsed;
+
+/**
+ * Listener turning battle events into varint encoded {@link TurnRecord}s : actor, slot + 2 (0 when the actor fainted
+ * from its damages over time before moving), dealt health and suffered damages over time, usually 4 bytes per turn.
+ *
+ * A turn opens with the damages over time of its actor, if any, then with its move.
+ */
+public class ReplayRecorder implements BattleEventListener {
+
+	private final ReplayOutput output = new ReplayOutput();
+
+	private boolean pending;
+	private boolean moved;
+	private int actor;
+	private int slot;
+	private int dealt;
+	private int suffered;
+
+	@Override
+	public void onEvent(BattleEvent event) {
+		if (event instanceof DamageOverTime damageOverTime) {
+			if (pending && (moved || actor != damageOverTime.actor())) {
+				flush();
+			}
+
+			open(damageOverTime.actor());
+			suffered += damageOverTime.damage();
+		} else if (event instanceof MoveUsed moveUsed) {
+			if (pending && (moved || actor != moveUsed.actor())) {
+				flush();
+			}
+
+			open(moveUsed.actor());
+			moved = true;
+			slot = moveUsed.slot();
+		} else if (event instanceof DamageBreakdown breakdown) {
+			dealt += breakdown.getTotalDealt();
+		}
+	}
+
+	public byte[] toByteArray() {
+		flush();
+		return output.toByteArray();
+	}
+
+	private void open(int turnActor) {
+		if (!pending) {
+			pending = true;
+			moved = false;
+			actor = turnActor;
+			dealt = 0;
+			suffered = 0;
+		}
+	}
+
+	private void flush() {
+		if (pending) {
+			output.writeVarInt(actor);
+			output.writeVarInt(moved ? slot + 2 : 0);
+			output.writeVarInt(dealt);
+			output.writeVarInt(suffered);
+			pending = false;
+		}
+	}
+
+}
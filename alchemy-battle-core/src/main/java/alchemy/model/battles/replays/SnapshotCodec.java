@@ -0,0 +1,176 @@
+package alchemy.model.battles.replays;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.plans.AttributeModifierPlan;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.plans.ShieldPlan;
+import alchemy.model.pets.attributes.BaseAttribute;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.EffectTarget;
+import alchemy.model.pets.moves.components.MoveComponentType;
+
+/**
+ * Binary form of champion snapshots, shared by replays and by loadout fingerprints.
+ *
+ * Replays may come from storage or from clients : counts are checked before anything is allocated, and malformed
+ * input fails with an IllegalArgumentException like the rest of {@link ReplayInput}.
+ */
+public final class SnapshotCodec {
+
+	public static final int MAX_MOVES = 64;
+	public static final int MAX_COMPONENTS = 64;
+
+	private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+	private static final long FNV_PRIME = 0x100000001B3L;
+
+	private SnapshotCodec() { }
+
+	public static void write(ReplayOutput output, ChampionSnapshot snapshot) {
+		output.writeString(snapshot.name());
+		writeLoadout(output, snapshot, true);
+	}
+
+	public static ChampionSnapshot read(ReplayInput input) {
+		String name = input.readString();
+		int level = input.readVarInt();
+		int[] attributes = new int[readCount(input, BaseAttribute.values().length, BaseAttribute.values().length, "attributes")];
+
+		for (int i = 0; i < attributes.length; i++) {
+			attributes[i] = input.readSignedVarInt();
+		}
+
+		int moveCount = readCount(input, 0, MAX_MOVES, "moves");
+		List<MovePlan> moves = new ArrayList<>(moveCount);
+
+		for (int i = 0; i < moveCount; i++) {
+			String moveName = input.readString();
+			int cooldown = input.readVarInt();
+			int componentCount = readCount(input, 0, MAX_COMPONENTS, "components");
+			List<ComponentPlan> components = new ArrayList<>(componentCount);
+
+			for (int j = 0; j < componentCount; j++) {
+				components.add(readComponent(input));
+			}
+
+			moves.add(MovePlan.of(moveName, cooldown, components));
+		}
+
+		return new ChampionSnapshot(name, level, attributes, List.copyOf(moves));
+	}
+
+	/**
+	 * 64 bits hash of everything that can change the course of a battle : level, attributes and compiled moves.
+	 * Names are left out, so that two identical loadouts share their fingerprint.
+	 */
+	public static long fingerprint(ChampionSnapshot snapshot) {
+		ReplayOutput output = new ReplayOutput();
+		writeLoadout(output, snapshot, false);
+
+		byte[] bytes = output.toByteArray();
+		long hash = FNV_OFFSET;
+
+		for (byte b : bytes) {
+			hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+		}
+
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+
+		return hash;
+	}
+
+	static <E extends Enum<E>> E readEnum(E[] values, int ordinal) {
+		if (ordinal < 0 || ordinal >= values.length) {
+			throw new IllegalArgumentException("Unknown constant " + ordinal + " in replay");
+		}
+
+		return values[ordinal];
+	}
+
+	private static int readCount(ReplayInput input, int min, int max, String what) {
+		int count = input.readVarInt();
+
+		if (count < min || count > max) {
+			throw new IllegalArgumentException("Expected " + min + " to " + max + " " + what + " in replay, got " + count);
+		}
+
+		return count;
+	}
+
+	private static void writeLoadout(ReplayOutput output, ChampionSnapshot snapshot, boolean withNames) {
+		output.writeVarInt(snapshot.level());
+		output.writeVarInt(snapshot.baseAttributes().length);
+
+		for (int attribute : snapshot.baseAttributes()) {
+			output.writeSignedVarInt(attribute);
+		}
+
+		output.writeVarInt(snapshot.moves().size());
+
+		for (MovePlan move : snapshot.moves()) {
+			output.writeString(withNames ? move.name() : "");
+			output.writeVarInt(move.cooldown());
+			output.writeVarInt(move.components().size());
+
+			for (ComponentPlan component : move.components()) {
+				writeComponent(output, component);
+			}
+		}
+	}
+
+	private static void writeComponent(ReplayOutput output, ComponentPlan component) {
+		output.writeVarInt(component.type().ordinal());
+
+		switch (component.type()) {
+		case DAMAGE_COMPONENT -> {
+			DamagePlan damage = (DamagePlan) component;
+			output.writeSignedVarInt(damage.baseDamage());
+			output.writeSignedVarInt(damage.baseBypass());
+			output.writeVarInt(damage.damageType().ordinal());
+		}
+		case DAMAGE_OVER_TIME_COMPONENT -> {
+			DamageOverTimePlan damageOverTime = (DamageOverTimePlan) component;
+			output.writeSignedVarInt(damageOverTime.damage());
+			output.writeVarInt(damageOverTime.damageType().ordinal());
+			output.writeSignedVarInt(damageOverTime.duration());
+		}
+		case SHIELD_COMPONENT -> {
+			ShieldPlan shield = (ShieldPlan) component;
+			output.writeSignedVarInt(shield.amount());
+			output.writeVarInt(shield.damageType().ordinal());
+			output.writeSignedVarInt(shield.duration());
+		}
+		case ATTRIBUTE_MODIFIER_COMPONENT -> {
+			AttributeModifierPlan modifier = (AttributeModifierPlan) component;
+			output.writeVarInt(modifier.attribute().ordinal());
+			output.writeSignedVarInt(modifier.amount());
+			output.writeVarInt(modifier.target().ordinal());
+			output.writeSignedVarInt(modifier.duration());
+		}
+		}
+	}
+
+	private static ComponentPlan readComponent(ReplayInput input) {
+		MoveComponentType type = readEnum(MoveComponentType.values(), input.readVarInt());
+
+		return switch (type) {
+		case DAMAGE_COMPONENT -> new DamagePlan(input.readSignedVarInt(), input.readSignedVarInt(),
+				readEnum(DamageType.values(), input.readVarInt()));
+		case DAMAGE_OVER_TIME_COMPONENT -> new DamageOverTimePlan(input.readSignedVarInt(),
+				readEnum(DamageType.values(), input.readVarInt()), input.readSignedVarInt());
+		case SHIELD_COMPONENT -> new ShieldPlan(input.readSignedVarInt(),
+				readEnum(DamageType.values(), input.readVarInt()), input.readSignedVarInt());
+		case ATTRIBUTE_MODIFIER_COMPONENT -> new AttributeModifierPlan(readEnum(DerivedAttribute.values(), input.readVarInt()),
+				input.readSignedVarInt(), readEnum(EffectTarget.values(), input.readVarInt()), input.readSignedVarInt());
+		};
+	}
+
+}
@@ -0,0 +1,17 @@
+package alchemy.model.battles.replays;
+
+/**
+ * One turn of a replay : who acted (position in the battle), with which loadout slot (-1 for the default move,
+ * {@link #FAINTED} when damages over time made it faint before moving), the total health the move removed and the
+ * damages over time taken at the start of the turn.
+ */
+public record TurnRecord (
+		int actor,
+		int slot,
+		int dealt,
+		int suffered
+		){
+
+	public static final int FAINTED = -2;
+
+}
@@ -0,0 +1,15 @@
+package alchemy.model.battles.scheduling;
+
+public enum SchedulingMode {
+
+	/**
+	 * Advance the timeline one tick at a time.
+	 */
+	TICK,
+
+	/**
+	 * Jump directly to the first tick at which a champion can act.
+	 */
+	FAST_FORWARD;
+
+}
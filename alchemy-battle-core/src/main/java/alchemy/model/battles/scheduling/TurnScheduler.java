@@ -0,0 +1,154 @@
+package alchemy.model.battles.scheduling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.random.RandomGenerator;
+
+import alchemy.model.battles.Champion;
+import lombok.Getter;
+
+/**
+ * Energy timeline shared by 2..N champions.
+ *
+ * Every tick, each champion gains its INSTINCT as energy. A champion holding at least its level in energy can act,
+ * which costs its level. Ready champions act by decreasing energy (then by initiative, then by joining order) until
+ * none can act anymore, then the timeline moves to the next tick. Picking the next actor costs O(log n).
+ *
+ * Initiatives are rolled once per champion from the given random generator, so that a seeded generator gives a
+ * reproducible turn order. Without generator, every champion has the same initiative.
+ *
+ * In {@link SchedulingMode#FAST_FORWARD} mode, ticks where nobody can act are skipped analytically : energy gains are
+ * linear, so the turn order is exactly the one of tick by tick stepping.
+ */
+public class TurnScheduler {
+
+	private static final Comparator<Entry> ORDER = Comparator
+			.comparingInt((Entry entry) -> entry.champion.getEnergy()).reversed()
+			.thenComparingInt(entry -> entry.initiative)
+			.thenComparingInt(entry -> entry.slot);
+
+	private final SchedulingMode mode;
+	private final RandomGenerator random;
+	private final List<Entry> entries = new ArrayList<>();
+	private final PriorityQueue<Entry> ready = new PriorityQueue<>(ORDER);
+
+	@Getter
+	private long tick;
+
+	public TurnScheduler(List<Champion> champions) {
+		this(champions, SchedulingMode.FAST_FORWARD);
+	}
+
+	public TurnScheduler(List<Champion> champions, SchedulingMode mode) {
+		this(champions, mode, null);
+	}
+
+	public TurnScheduler(List<Champion> champions, RandomGenerator random) {
+		this(champions, SchedulingMode.FAST_FORWARD, random);
+	}
+
+	public TurnScheduler(List<Champion> champions, SchedulingMode mode, RandomGenerator random) {
+		this.mode = mode;
+		this.random = random;
+		champions.forEach(this::add);
+	}
+
+	public void add(Champion champion) {
+		Entry entry = new Entry(champion, random == null ? 0 : random.nextInt(), entries.size());
+		entries.add(entry);
+
+		if (champion.isAlive() && champion.canAct()) {
+			ready.add(entry);
+		}
+	}
+
+	/**
+	 * Returns the next champion to act, after consuming the energy of its action,
+	 * or null when no living champion will ever be able to act.
+	 */
+	public Champion next() {
+		while (true) {
+			while (!ready.isEmpty()) {
+				Entry entry = ready.poll();
+				Champion champion = entry.champion;
+
+				if (!champion.isAlive()) {
+					continue;
+				}
+
+				champion.useEnergy();
+
+				if (champion.canAct()) {
+					ready.add(entry);
+				}
+
+				return champion;
+			}
+
+			if (!advance()) {
+				return null;
+			}
+		}
+	}
+
+	private boolean advance() {
+		int ticks = Integer.MAX_VALUE;
+
+		for (int i = 0; i < entries.size(); i++) {
+			Champion champion = entries.get(i).champion;
+
+			if (champion.isAlive() && champion.getEnergyGain() > 0) {
+				ticks = Math.min(ticks, ticksUntilReady(champion));
+			}
+		}
+
+		if (ticks == Integer.MAX_VALUE) {
+			return false;
+		}
+
+		tick += ticks;
+
+		for (int i = 0; i < entries.size(); i++) {
+			Entry entry = entries.get(i);
+			Champion champion = entry.champion;
+
+			if (champion.isAlive()) {
+				champion.gainEnergy(ticks);
+
+				if (champion.canAct()) {
+					ready.add(entry);
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private int ticksUntilReady(Champion champion) {
+		if (mode == SchedulingMode.TICK) {
+			return 1;
+		}
+
+		int missing = champion.getLevel() - champion.getEnergy();
+		int gain = champion.getEnergyGain();
+
+		return Math.max(1, (missing + gain - 1) / gain);
+	}
+
+	private static class Entry {
+
+		private final Champion champion;
+		private final int initiative;
+		private final int slot;
+
+		private Entry(Champion champion, int initiative, int slot) {
+			this.champion = champion;
+			this.initiative = initiative;
+			this.slot = slot;
+		}
+
+	}
+
+}
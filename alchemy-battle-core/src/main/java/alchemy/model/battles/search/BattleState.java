@@ -0,0 +1,751 @@
+package alchemy.model.battles.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.effects.TimingWheel;
+import alchemy.model.battles.plans.AttributeModifierPlan;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.plans.ShieldPlan;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.EffectTarget;
+
+/**
+ * State of a single battle as one flat int array, so that a search saves and restores it with one array copy rather
+ * than by copying champions, effect wheels and schedulers. Every rule here mirrors the one of Champion, TurnScheduler,
+ * BattleEngine or of a plan, and must be kept in line with it : the differential tests play it side by side with the
+ * reference engine.
+ *
+ * The state stops at every move choice : {@link #nextActor()} plays the scheduling and the status effects up to the
+ * next turn, then {@link #play(int)} plays the move chosen for it among the ready ones. Battles are bound by turns
+ * only, the time budget of the limits is ignored.
+ *
+ * Sides are 0 for the first champion and 1 for the second one. Loadouts are flattened once and shared by every copy.
+ * Status effects are held in the array too, as (holder, component, remaining turns) triples in no particular order :
+ * reverting effects commutes, so the order in which they run out doesn't matter.
+ */
+public final class BattleState {
+
+	private static final int ATTRIBUTES = DerivedAttribute.values().length;
+	private static final int DAMAGE_TYPES = DamageType.values().length;
+
+	private static final int MOMENTUM = DerivedAttribute.MOMENTUM.ordinal();
+	private static final int DEFENCE = DerivedAttribute.DEFENCE.ordinal();
+	private static final int ADAPTATION = DerivedAttribute.ADAPTATION.ordinal();
+	private static final int RESOLVE = DerivedAttribute.RESOLVE.ordinal();
+	private static final int CLARITY = DerivedAttribute.CLARITY.ordinal();
+	private static final int INSTINCT = DerivedAttribute.INSTINCT.ordinal();
+	private static final int MASTERY = DerivedAttribute.MASTERY.ordinal();
+
+	private static final int PHYSICAL = DamageType.PHYSICAL.ordinal();
+	private static final int MAGICAL = DamageType.MAGICAL.ordinal();
+
+	/**
+	 * Champions have no critical threshold yet : every damaging move is a critical hit, as in Champion.
+	 */
+	private static final int CRITICAL_THRESHOLD = 0;
+
+	private static final byte DAMAGE = 0;
+	private static final byte DAMAGE_OVER_TIME = 1;
+	private static final byte SHIELD = 2;
+	private static final byte ATTRIBUTE_MODIFIER = 3;
+
+	private static final BattleOutcome[] OUTCOMES = BattleOutcome.values();
+
+	// Battle, at the start of the array.
+	private static final int OUTCOME = 0;
+	private static final int TURNS = 1;
+	private static final int ACTOR = 2;
+	private static final int EFFECTS = 3;
+	private static final int HEADER = 4;
+
+	// Champions, from the offset of their side.
+	private static final int HEALTH = 0;
+	private static final int PHYSICAL_SHIELD = 1;
+	private static final int MAGIC_SHIELD = 2;
+	private static final int ENERGY = 3;
+	private static final int ENERGY_GAIN = 4;
+	private static final int MOMENTUM_GAIN = 5;
+	private static final int MASTERY_GAIN = 6;
+	private static final int MOMENTUM_STACKS = 7;
+	private static final int MASTERY_STACKS = 8;
+	private static final int CRITICAL_STACKS = 9;
+	private static final int READY = 10;
+	private static final int IDLE_TURNS = 11;
+	private static final int DURABILITY_HIGH = 12;
+	private static final int DURABILITY_LOW = 13;
+	private static final int EFFECT_COUNT = 14;
+	private static final int GRANTED_PHYSICAL_SHIELD = 15;
+	private static final int GRANTED_MAGIC_SHIELD = 16;
+	private static final int DERIVED = 17;
+	private static final int DAMAGE_OVER_TIME_AMOUNTS = DERIVED + ATTRIBUTES;
+	private static final int COOLDOWNS = DAMAGE_OVER_TIME_AMOUNTS + DAMAGE_TYPES;
+
+	// Status effects, from the end of the champions.
+	private static final int EFFECT_HOLDER = 0;
+	private static final int EFFECT_COMPONENT = 1;
+	private static final int EFFECT_REMAINING = 2;
+	private static final int EFFECT_SIZE = 3;
+
+	private static final int INITIAL_EFFECTS = 8;
+
+	private final Loadouts loadouts;
+	private int[] data;
+
+	public BattleState(ChampionSnapshot first, ChampionSnapshot second, long seed, BattleLimits limits) {
+		this.loadouts = new Loadouts(first, second, seed, limits);
+		this.data = new int[loadouts.effects + INITIAL_EFFECTS * EFFECT_SIZE];
+
+		data[OUTCOME] = -1;
+		data[ACTOR] = -1;
+
+		initChampion(0, first);
+		initChampion(1, second);
+	}
+
+	private BattleState(BattleState state) {
+		this.loadouts = state.loadouts;
+		this.data = Arrays.copyOf(state.data, state.data.length);
+	}
+
+	private void initChampion(int side, ChampionSnapshot snapshot) {
+		int base = loadouts.offset[side];
+		int[] attributes = snapshot.baseAttributes();
+
+		for (DerivedAttribute attribute : DerivedAttribute.values()) {
+			data[base + DERIVED + attribute.ordinal()] = attributes[attribute.getBaseAttribute1().ordinal()]
+					+ attributes[attribute.getBaseAttribute2().ordinal()];
+		}
+
+		data[base + ENERGY_GAIN] = loadouts.initialInstinct[side];
+		updateStackGains(base);
+
+		data[base + HEALTH] = loadouts.maxHealth[side];
+		data[base + ENERGY] = loadouts.level[side] + data[base + ENERGY_GAIN];
+		data[base + MAGIC_SHIELD] = data[base + DERIVED + RESOLVE] * 2;
+		data[base + READY] = data[base + HEALTH] > 0 && data[base + ENERGY] >= loadouts.level[side] ? 1 : 0;
+
+		setDurability(base, durability(base));
+	}
+
+	/**
+	 * Independent copy of the state, sharing the loadouts.
+	 */
+	public BattleState copy() {
+		return new BattleState(this);
+	}
+
+	/**
+	 * Overwrites this state with the given one, a copy of the same battle. Only allocates when the given state holds
+	 * more status effects than this one ever did.
+	 */
+	public void copyFrom(BattleState state) {
+		if (state.loadouts != loadouts) {
+			throw new IllegalArgumentException("States of different battles cannot be copied into each other.");
+		}
+
+		int length = state.length();
+
+		if (data.length < length) {
+			data = new int[state.data.length];
+		}
+
+		System.arraycopy(state.data, 0, data, 0, length);
+	}
+
+	private int length() {
+		return loadouts.effects + data[EFFECTS] * EFFECT_SIZE;
+	}
+
+	public boolean isOver() {
+		return data[OUTCOME] >= 0;
+	}
+
+	/**
+	 * Outcome of the battle, or null while it runs.
+	 */
+	public BattleOutcome getOutcome() {
+		return data[OUTCOME] < 0 ? null : OUTCOMES[data[OUTCOME]];
+	}
+
+	public int getTurns() {
+		return data[TURNS];
+	}
+
+	public int getHealth(int side) {
+		return data[loadouts.offset[side] + HEALTH];
+	}
+
+	public int getMaxHealth(int side) {
+		return loadouts.maxHealth[side];
+	}
+
+	public int getPhysicalShield(int side) {
+		return data[loadouts.offset[side] + PHYSICAL_SHIELD];
+	}
+
+	public int getMagicShield(int side) {
+		return data[loadouts.offset[side] + MAGIC_SHIELD];
+	}
+
+	public int getEnergy(int side) {
+		return data[loadouts.offset[side] + ENERGY];
+	}
+
+	public int getMoveCount(int side) {
+		return loadouts.moveCount[side];
+	}
+
+	/**
+	 * Loadout slots of the moves of the champion which are not cooling down, as a bit mask.
+	 */
+	public long getReadyMoves(int side) {
+		int cooldowns = loadouts.offset[side] + COOLDOWNS;
+		long ready = 0;
+
+		for (int slot = 0; slot < loadouts.moveCount[side]; slot++) {
+			if (data[cooldowns + slot] == 0) {
+				ready |= 1L << slot;
+			}
+		}
+
+		return ready;
+	}
+
+	/**
+	 * Ready move with the best priority, or -1 when none is ready, as Champion.
+	 */
+	public int getPrioritySlot(int side) {
+		int slot = Long.numberOfTrailingZeros(getReadyMoves(side));
+
+		return slot == Long.SIZE ? -1 : slot;
+	}
+
+	/**
+	 * Plays the battle up to the next move choice, returning the side choosing it, or -1 once the battle is over.
+	 * Returns the same side until its move is played.
+	 */
+	public int nextActor() {
+		if (data[ACTOR] >= 0) {
+			return data[ACTOR];
+		}
+
+		int first = loadouts.offset[0];
+		int second = loadouts.offset[1];
+
+		while (data[OUTCOME] < 0) {
+			if (data[first + HEALTH] <= 0 || data[second + HEALTH] <= 0) {
+				finish(false);
+				break;
+			}
+
+			int side = schedule(first, second);
+
+			if (side < 0) {
+				finish(false);
+				break;
+			}
+
+			int base = loadouts.offset[side];
+
+			if (data[base + EFFECT_COUNT] > 0) {
+				applyStatusEffects(side);
+
+				if (data[base + HEALTH] <= 0) {
+					endTurn(base);
+					continue;
+				}
+			}
+
+			data[ACTOR] = side;
+			return side;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Plays the move of the given ready slot for the side returned by {@link #nextActor()}, or the default move for -1
+	 * when none is ready.
+	 */
+	public void play(int slot) {
+		int side = data[ACTOR];
+
+		if (side < 0) {
+			throw new IllegalStateException("No champion is choosing a move.");
+		}
+
+		long ready = getReadyMoves(side);
+
+		if (slot < 0 ? ready != 0 : slot >= loadouts.moveCount[side] || (ready & (1L << slot)) == 0) {
+			throw new IllegalArgumentException("Move slot " + slot + " of side " + side + " is not playable.");
+		}
+
+		int player = loadouts.offset[side];
+		int opponent = loadouts.offset[side ^ 1];
+
+		tickCooldowns(side);
+
+		if (slot >= 0) {
+			int move = loadouts.firstMove[side] + slot;
+			int cooldown = loadouts.moveCooldown[move];
+
+			if (cooldown > 0) {
+				data[player + COOLDOWNS + slot] = cooldown;
+			}
+
+			playMove(move, player, opponent);
+		}
+
+		data[ACTOR] = -1;
+		endTurn(player);
+	}
+
+	private void endTurn(int player) {
+		int first = loadouts.offset[0];
+		int second = loadouts.offset[1];
+
+		data[player + IDLE_TURNS]++;
+		data[TURNS]++;
+
+		long durability1 = durability(first);
+		long durability2 = durability(second);
+
+		if (durability1 != getDurability(first) || durability2 != getDurability(second)) {
+			setDurability(first, durability1);
+			setDurability(second, durability2);
+			data[first + IDLE_TURNS] = 0;
+			data[second + IDLE_TURNS] = 0;
+		} else if (loadouts.stallDetection && data[first + IDLE_TURNS] >= loadouts.moveCycle[0]
+				&& data[second + IDLE_TURNS] >= loadouts.moveCycle[1]
+				&& data[first + EFFECT_COUNT] == 0 && data[second + EFFECT_COUNT] == 0) {
+			finish(true);
+			return;
+		}
+
+		if (data[TURNS] >= loadouts.maxTurns) {
+			finish(data[first + HEALTH] > 0 && data[second + HEALTH] > 0);
+		}
+	}
+
+	private void finish(boolean stalemate) {
+		boolean firstAlive = data[loadouts.offset[0] + HEALTH] > 0;
+		boolean secondAlive = data[loadouts.offset[1] + HEALTH] > 0;
+		BattleOutcome outcome;
+
+		if (stalemate) {
+			outcome = BattleOutcome.STALEMATE;
+		} else if (firstAlive == secondAlive) {
+			outcome = BattleOutcome.DRAW;
+		} else if (!secondAlive) {
+			outcome = BattleOutcome.FIRST_CHAMPION_WON;
+		} else {
+			outcome = BattleOutcome.SECOND_CHAMPION_WON;
+		}
+
+		data[OUTCOME] = outcome.ordinal();
+		data[ACTOR] = -1;
+	}
+
+	private long durability(int base) {
+		return (long) data[base + HEALTH] + data[base + PHYSICAL_SHIELD] + data[base + MAGIC_SHIELD];
+	}
+
+	private long getDurability(int base) {
+		return ((long) data[base + DURABILITY_HIGH] << Integer.SIZE) | (data[base + DURABILITY_LOW] & 0xFFFFFFFFL);
+	}
+
+	private void setDurability(int base, long durability) {
+		data[base + DURABILITY_HIGH] = (int) (durability >>> Integer.SIZE);
+		data[base + DURABILITY_LOW] = (int) durability;
+	}
+
+	// Scheduling, as TurnScheduler in fast forward mode.
+
+	private int schedule(int first, int second) {
+		while (true) {
+			while (data[first + READY] != 0 || data[second + READY] != 0) {
+				int side;
+
+				if (data[first + READY] != 0 && data[second + READY] != 0) {
+					side = actsFirst(first, second) ? 0 : 1;
+				} else {
+					side = data[first + READY] != 0 ? 0 : 1;
+				}
+
+				int base = loadouts.offset[side];
+				data[base + READY] = 0;
+
+				if (data[base + HEALTH] <= 0) {
+					continue;
+				}
+
+				data[base + ENERGY] -= loadouts.level[side];
+				data[base + READY] = data[base + ENERGY] >= loadouts.level[side] ? 1 : 0;
+
+				return side;
+			}
+
+			int ticks = Math.min(ticksUntilReady(0), ticksUntilReady(1));
+
+			if (ticks == Integer.MAX_VALUE) {
+				return -1;
+			}
+
+			gainEnergy(0, ticks);
+			gainEnergy(1, ticks);
+		}
+	}
+
+	private boolean actsFirst(int first, int second) {
+		if (data[first + ENERGY] != data[second + ENERGY]) {
+			return data[first + ENERGY] > data[second + ENERGY];
+		}
+
+		return loadouts.initiative[0] <= loadouts.initiative[1];
+	}
+
+	private int ticksUntilReady(int side) {
+		int base = loadouts.offset[side];
+		int gain = data[base + ENERGY_GAIN];
+
+		if (data[base + HEALTH] <= 0 || gain <= 0) {
+			return Integer.MAX_VALUE;
+		}
+
+		return Math.max(1, (loadouts.level[side] - data[base + ENERGY] + gain - 1) / gain);
+	}
+
+	private void gainEnergy(int side, int ticks) {
+		int base = loadouts.offset[side];
+
+		if (data[base + HEALTH] > 0) {
+			data[base + ENERGY] += data[base + ENERGY_GAIN] * ticks;
+			data[base + READY] = data[base + ENERGY] >= loadouts.level[side] ? 1 : 0;
+		}
+	}
+
+	// Turns, as BattleEngine, Champion and the plans.
+
+	private void tickCooldowns(int side) {
+		int cooldowns = loadouts.offset[side] + COOLDOWNS;
+
+		for (int slot = 0; slot < loadouts.moveCount[side]; slot++) {
+			if (data[cooldowns + slot] > 0) {
+				data[cooldowns + slot]--;
+			}
+		}
+	}
+
+	private void playMove(int move, int player, int opponent) {
+		boolean damaging = loadouts.moveDamaging[move];
+		boolean criticalHit = damaging && data[player + CRITICAL_STACKS] >= CRITICAL_THRESHOLD;
+
+		if (criticalHit) {
+			data[player + CRITICAL_STACKS] -= CRITICAL_THRESHOLD;
+		}
+
+		for (int component = loadouts.componentStart[move]; component < loadouts.componentStart[move + 1]; component++) {
+			switch (loadouts.componentKind[component]) {
+				case DAMAGE -> dealDamage(component, criticalHit, player, opponent);
+				case DAMAGE_OVER_TIME -> addStatusEffect(opponent, component);
+				case SHIELD -> addStatusEffect(player, component);
+				default -> addStatusEffect(loadouts.componentOnSelf[component] ? player : opponent, component);
+			}
+		}
+
+		if (damaging) {
+			data[player + MOMENTUM_STACKS] += data[player + MOMENTUM_GAIN];
+			data[player + MASTERY_STACKS] += data[player + MASTERY_GAIN];
+		}
+	}
+
+	private void dealDamage(int component, boolean criticalHit, int source, int target) {
+		int baseDamage = loadouts.componentAmount[component];
+		int baseBypass = loadouts.componentBypass[component];
+		int damageType = loadouts.componentDamageType[component];
+
+		int damage = baseDamage;
+		int bypass = baseBypass;
+
+		if (criticalHit) {
+			damage += (baseDamage + 1) / 2;
+			bypass += (baseBypass + 1) / 2;
+		}
+
+		int reduction;
+
+		if (damageType == PHYSICAL) {
+			damage += data[source + MOMENTUM_STACKS];
+			reduction = data[target + DERIVED + DEFENCE];
+		} else {
+			int clarity = data[source + DERIVED + CLARITY];
+
+			damage += data[source + MASTERY_STACKS];
+			bypass += data[target + MAGIC_SHIELD] > 0 ? 2 * clarity : clarity;
+			reduction = data[target + DERIVED + ADAPTATION];
+		}
+
+		if (reduction <= damage) {
+			damage -= reduction;
+		} else {
+			bypass = Math.max(0, bypass - (reduction - damage));
+			damage = 0;
+		}
+
+		applyBypassDamages(target, bypass);
+		applyDamages(target, damageType, damage);
+	}
+
+	private void applyDamages(int base, int damageType, int amount) {
+		int shield = base + (damageType == MAGICAL ? MAGIC_SHIELD : PHYSICAL_SHIELD);
+		int granted = base + (damageType == MAGICAL ? GRANTED_MAGIC_SHIELD : GRANTED_PHYSICAL_SHIELD);
+
+		int absorbed = Math.min(data[shield], amount);
+
+		data[shield] -= absorbed;
+		data[granted] -= Math.min(data[granted], absorbed);
+
+		applyBypassDamages(base, amount - absorbed);
+	}
+
+	private void applyBypassDamages(int base, int amount) {
+		data[base + HEALTH] = data[base + HEALTH] >= amount ? data[base + HEALTH] - amount : 0;
+	}
+
+	// Status effects, as Champion and the status effect plans.
+
+	private void addStatusEffect(int holder, int component) {
+		int duration = loadouts.componentDuration[component];
+
+		if (duration <= 0) {
+			return;
+		}
+
+		applyStatusEffect(holder, component, 1);
+
+		int effect = length();
+
+		if (effect + EFFECT_SIZE > data.length) {
+			data = Arrays.copyOf(data, data.length + Math.max(INITIAL_EFFECTS, data[EFFECTS]) * EFFECT_SIZE);
+		}
+
+		data[effect + EFFECT_HOLDER] = holder;
+		data[effect + EFFECT_COMPONENT] = component;
+		data[effect + EFFECT_REMAINING] = Math.min(duration + 1, TimingWheel.MAX_DELAY);
+		data[EFFECTS]++;
+		data[holder + EFFECT_COUNT]++;
+	}
+
+	private void applyStatusEffects(int side) {
+		int base = loadouts.offset[side];
+		int effect = loadouts.effects;
+
+		while (effect < length()) {
+			if (data[effect + EFFECT_HOLDER] == base && --data[effect + EFFECT_REMAINING] == 0) {
+				applyStatusEffect(base, data[effect + EFFECT_COMPONENT], -1);
+
+				// The last effect takes the place of the expired one, and is looked at next.
+				int last = length() - EFFECT_SIZE;
+				System.arraycopy(data, last, data, effect, EFFECT_SIZE);
+				data[EFFECTS]--;
+				data[base + EFFECT_COUNT]--;
+			} else {
+				effect += EFFECT_SIZE;
+			}
+		}
+
+		for (int damageType = 0; damageType < DAMAGE_TYPES; damageType++) {
+			int damage = data[base + DAMAGE_OVER_TIME_AMOUNTS + damageType];
+
+			if (damage > 0) {
+				applyDamages(base, damageType, damage);
+			}
+		}
+	}
+
+	/**
+	 * Applies the effect of the component to its holder with a sign of 1, or reverts it with a sign of -1.
+	 */
+	private void applyStatusEffect(int holder, int component, int sign) {
+		int amount = loadouts.componentAmount[component];
+		int damageType = loadouts.componentDamageType[component];
+
+		switch (loadouts.componentKind[component]) {
+			case DAMAGE_OVER_TIME -> data[holder + DAMAGE_OVER_TIME_AMOUNTS + damageType] += sign * amount;
+			case SHIELD -> {
+				int shield = holder + (damageType == MAGICAL ? MAGIC_SHIELD : PHYSICAL_SHIELD);
+				int granted = holder + (damageType == MAGICAL ? GRANTED_MAGIC_SHIELD : GRANTED_PHYSICAL_SHIELD);
+				int change = sign > 0 ? amount : -Math.min(data[granted], amount);
+
+				data[shield] += change;
+				data[granted] += change;
+			}
+			default -> modifyAttribute(holder, loadouts.componentAttribute[component], sign * amount);
+		}
+	}
+
+	private void modifyAttribute(int base, int attribute, int amount) {
+		data[base + DERIVED + attribute] += amount;
+
+		if (attribute == INSTINCT) {
+			int instinct = data[base + DERIVED + INSTINCT];
+			int side = base == loadouts.offset[0] ? 0 : 1;
+			data[base + ENERGY_GAIN] = loadouts.initialInstinct[side] > 0 ? Math.max(1, instinct) : Math.max(0, instinct);
+		} else if (attribute == MOMENTUM || attribute == MASTERY) {
+			updateStackGains(base);
+		}
+	}
+
+	private void updateStackGains(int base) {
+		data[base + MOMENTUM_GAIN] = Math.max(0, (data[base + DERIVED + MOMENTUM] + 2) / 3);
+		data[base + MASTERY_GAIN] = Math.max(0, (data[base + DERIVED + MASTERY] + 2) / 3);
+	}
+
+	/**
+	 * What never changes during a battle : the limits, the initiatives and the flattened moves of both champions, moves
+	 * of the first champion coming first. Also tells where each part of the state lies in the array.
+	 */
+	private static final class Loadouts {
+
+		private final int maxTurns;
+		private final boolean stallDetection;
+
+		private final int[] offset = new int[2];
+		private final int effects;
+
+		private final int[] level = new int[2];
+		private final int[] maxHealth = new int[2];
+		private final int[] initialInstinct = new int[2];
+		private final int[] initiative = new int[2];
+		private final int[] moveCycle = new int[2];
+		private final int[] moveCount = new int[2];
+		private final int[] firstMove = new int[2];
+
+		// Components of move m are componentStart[m] to componentStart[m + 1].
+		private final int[] moveCooldown;
+		private final boolean[] moveDamaging;
+		private final int[] componentStart;
+
+		private final byte[] componentKind;
+		private final int[] componentAmount;
+		private final int[] componentBypass;
+		private final int[] componentDamageType;
+		private final int[] componentDuration;
+		private final int[] componentAttribute;
+		private final boolean[] componentOnSelf;
+
+		private Loadouts(ChampionSnapshot first, ChampionSnapshot second, long seed, BattleLimits limits) {
+			this.maxTurns = limits.maxTurns();
+			this.stallDetection = limits.stallDetection();
+
+			List<ChampionSnapshot> champions = List.of(first, second);
+			int moves = 0;
+			int components = 0;
+			int position = HEADER;
+
+			for (int side = 0; side < 2; side++) {
+				ChampionSnapshot champion = champions.get(side);
+				int[] attributes = champion.baseAttributes();
+
+				if (champion.moves().size() > Long.SIZE) {
+					throw new IllegalArgumentException("A champion cannot hold more than " + Long.SIZE + " moves.");
+				}
+
+				level[side] = champion.level();
+				maxHealth[side] = champion.level() * 10 + 2 * (attributes[DerivedAttribute.TOUGHNESS.getBaseAttribute1().ordinal()]
+						+ attributes[DerivedAttribute.TOUGHNESS.getBaseAttribute2().ordinal()]);
+				initialInstinct[side] = attributes[DerivedAttribute.INSTINCT.getBaseAttribute1().ordinal()]
+						+ attributes[DerivedAttribute.INSTINCT.getBaseAttribute2().ordinal()];
+				moveCount[side] = champion.moves().size();
+				firstMove[side] = moves;
+				offset[side] = position;
+
+				int cycle = 1;
+
+				for (MovePlan move : champion.moves()) {
+					cycle += move.cooldown() + 1;
+					components += move.components().size();
+				}
+
+				moveCycle[side] = cycle;
+				moves += moveCount[side];
+				position += COOLDOWNS + moveCount[side];
+			}
+
+			this.effects = position;
+
+			// Initiatives are rolled in joining order, as in BattleEngine.
+			SplittableRandom random = new SplittableRandom(seed);
+			initiative[0] = random.nextInt();
+			initiative[1] = random.nextInt();
+
+			moveCooldown = new int[moves];
+			moveDamaging = new boolean[moves];
+			componentStart = new int[moves + 1];
+			componentKind = new byte[components];
+			componentAmount = new int[components];
+			componentBypass = new int[components];
+			componentDamageType = new int[components];
+			componentDuration = new int[components];
+			componentAttribute = new int[components];
+			componentOnSelf = new boolean[components];
+
+			int move = 0;
+			int component = 0;
+
+			for (ChampionSnapshot champion : champions) {
+				for (MovePlan plan : champion.moves()) {
+					moveCooldown[move] = plan.cooldown();
+					moveDamaging[move] = plan.damaging();
+					componentStart[move] = component;
+
+					for (ComponentPlan componentPlan : plan.components()) {
+						flattenComponent(component++, componentPlan);
+					}
+
+					move++;
+				}
+			}
+
+			componentStart[move] = component;
+		}
+
+		private void flattenComponent(int component, ComponentPlan plan) {
+			if (plan instanceof DamagePlan damage) {
+				componentKind[component] = DAMAGE;
+				componentAmount[component] = damage.baseDamage();
+				componentBypass[component] = damage.baseBypass();
+				componentDamageType[component] = damage.damageType().ordinal();
+			} else if (plan instanceof DamageOverTimePlan damageOverTime) {
+				componentKind[component] = DAMAGE_OVER_TIME;
+				componentAmount[component] = damageOverTime.damage();
+				componentDamageType[component] = damageOverTime.damageType().ordinal();
+				componentDuration[component] = damageOverTime.duration();
+			} else if (plan instanceof ShieldPlan shield) {
+				componentKind[component] = SHIELD;
+				componentAmount[component] = shield.amount();
+				componentDamageType[component] = shield.damageType().ordinal();
+				componentDuration[component] = shield.duration();
+			} else if (plan instanceof AttributeModifierPlan modifier) {
+				componentKind[component] = ATTRIBUTE_MODIFIER;
+				componentAmount[component] = modifier.amount();
+				componentAttribute[component] = modifier.attribute().ordinal();
+				componentOnSelf[component] = modifier.target() == EffectTarget.SELF;
+				componentDuration[component] = modifier.duration();
+			} else {
+				throw new IllegalArgumentException("Component not supported by battle states : " + plan.type());
+			}
+		}
+
+	}
+
+}
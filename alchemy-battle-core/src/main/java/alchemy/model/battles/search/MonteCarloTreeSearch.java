@@ -0,0 +1,327 @@
+package alchemy.model.battles.search;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.Champion;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.MovePolicy;
+import lombok.Getter;
+
+/**
+ * Chooses the moves of a champion by Monte Carlo tree search (UCT) over its ready moves, for opponents which should
+ * play better than by priority.
+ *
+ * Battles are deterministic once the seed is drawn, and the other champion plays by priority : only the moves of the
+ * searching champion branch the tree, and a node stands for exactly one battle state. Every rollout restores the state
+ * of the decision with one array copy (see {@link BattleState}), follows the tree by UCT, then plays random ready moves
+ * for the searching champion until the battle ends.
+ *
+ * A rollout won scores from 0.75 to 1 by the health left, a rollout lost from 0 to 0.25 by the health taken from the
+ * opponent, draws and stalemates 0.5 : battles decided either way still prefer the moves that win better or lose
+ * better. The most visited move is played.
+ *
+ * A decision stops after the given number of rollouts, or once its time budget is spent. Without budget, decisions only
+ * depend on the seed. Stateless, shared by every thread.
+ */
+public class MonteCarloTreeSearch {
+
+	/**
+	 * Rollouts played between two checks of the time budget.
+	 */
+	private static final int TIME_CHECK_INTERVAL = 8;
+	private static final double EXPLORATION = Math.sqrt(2);
+
+	private final Duration timeBudget;
+	@Getter
+	private final int maxRollouts;
+
+	/**
+	 * Searches within the time budget, or without time limit when null, and up to the given rollouts per decision.
+	 */
+	public MonteCarloTreeSearch(Duration timeBudget, int maxRollouts) {
+		if (maxRollouts <= 0) {
+			throw new IllegalArgumentException("Max rollouts must be positive : " + maxRollouts);
+		}
+
+		this.timeBudget = timeBudget;
+		this.maxRollouts = maxRollouts;
+	}
+
+	/**
+	 * Policy of the given side in the battle of the given champions, seed and limits, to be played by
+	 * {@link alchemy.model.battles.BattleEngine} with that same battle. The policy follows the battle in a state of its
+	 * own, and holds it for that battle only.
+	 */
+	public MovePolicy policy(ChampionSnapshot first, ChampionSnapshot second, long seed, BattleLimits limits, int side) {
+		return new SearchPolicy(new BattleState(first, second, seed, limits), side, new SplittableRandom(seed));
+	}
+
+	/**
+	 * Ready move of the champion choosing a move in the given state, or -1 when none is ready. The state is left as is.
+	 */
+	public int chooseSlot(BattleState state, SplittableRandom random) {
+		return search(state, random).slot();
+	}
+
+	/**
+	 * Searches the move of the champion choosing a move in the given state, telling the rollouts played.
+	 */
+	public Decision search(BattleState state, SplittableRandom random) {
+		int side = state.nextActor();
+
+		if (side < 0) {
+			throw new IllegalStateException("The battle is over.");
+		}
+
+		Node root = new Node(state.getReadyMoves(side));
+
+		if (root.slots.length == 1) {
+			return new Decision(root.slots[0], 0);
+		}
+
+		boolean timed = timeBudget != null;
+		long deadline = timed ? System.nanoTime() + timeBudget.toNanos() : 0;
+		BattleState scratch = state.copy();
+		int rollouts = 0;
+
+		while (rollouts < maxRollouts
+				&& (!timed || rollouts % TIME_CHECK_INTERVAL != 0 || System.nanoTime() - deadline < 0)) {
+			scratch.copyFrom(state);
+			iterate(root, scratch, side, random);
+			rollouts++;
+		}
+
+		return new Decision(root.slots[root.mostVisited()], rollouts);
+	}
+
+	/**
+	 * Follows the tree down to a new node or to the end of the battle, rolls out from there, and backs the score up.
+	 */
+	private static void iterate(Node root, BattleState state, int side, SplittableRandom random) {
+		Node node = root;
+		Node[] path = new Node[8];
+		int[] choices = new int[8];
+		int depth = 0;
+		double score;
+
+		while (true) {
+			int choice = node.select();
+
+			if (depth == path.length) {
+				path = Arrays.copyOf(path, depth * 2);
+				choices = Arrays.copyOf(choices, depth * 2);
+			}
+
+			path[depth] = node;
+			choices[depth++] = choice;
+
+			state.play(node.slots[choice]);
+
+			if (!advance(state, side)) {
+				score = score(state, side);
+				break;
+			}
+
+			Node child = node.children[choice];
+
+			if (child == null) {
+				node.children[choice] = new Node(state.getReadyMoves(side));
+				score = rollout(state, side, random);
+				break;
+			}
+
+			node = child;
+		}
+
+		while (depth > 0) {
+			depth--;
+			path[depth].update(choices[depth], score);
+		}
+	}
+
+	/**
+	 * Plays the turns of the other champion, by priority, up to the next choice of the side. Returns whether the battle
+	 * goes on.
+	 */
+	private static boolean advance(BattleState state, int side) {
+		int actor;
+
+		while ((actor = state.nextActor()) >= 0) {
+			if (actor == side) {
+				return true;
+			}
+
+			state.play(state.getPrioritySlot(actor));
+		}
+
+		return false;
+	}
+
+	private static double rollout(BattleState state, int side, SplittableRandom random) {
+		int actor;
+
+		while ((actor = state.nextActor()) >= 0) {
+			state.play(actor == side ? randomSlot(state.getReadyMoves(actor), random) : state.getPrioritySlot(actor));
+		}
+
+		return score(state, side);
+	}
+
+	private static int randomSlot(long ready, SplittableRandom random) {
+		if (ready == 0) {
+			return -1;
+		}
+
+		for (int skipped = random.nextInt(Long.bitCount(ready)); skipped > 0; skipped--) {
+			ready &= ready - 1;
+		}
+
+		return Long.numberOfTrailingZeros(ready);
+	}
+
+	private static double score(BattleState state, int side) {
+		BattleOutcome won = side == 0 ? BattleOutcome.FIRST_CHAMPION_WON : BattleOutcome.SECOND_CHAMPION_WON;
+		BattleOutcome lost = side == 0 ? BattleOutcome.SECOND_CHAMPION_WON : BattleOutcome.FIRST_CHAMPION_WON;
+		BattleOutcome outcome = state.getOutcome();
+
+		if (outcome == won) {
+			return 0.75 + 0.25 * state.getHealth(side) / Math.max(1, state.getMaxHealth(side));
+		} else if (outcome == lost) {
+			return 0.25 - 0.25 * state.getHealth(side ^ 1) / Math.max(1, state.getMaxHealth(side ^ 1));
+		}
+
+		return 0.5;
+	}
+
+	/**
+	 * Move played and rollouts spent choosing it, none when a single move was ready.
+	 */
+	public record Decision (
+			int slot,
+			int rollouts
+			){
+
+	}
+
+	/**
+	 * Choice of the searching champion, with the statistics of each of its ready moves. The default move is the only
+	 * one when none is ready.
+	 */
+	private static final class Node {
+
+		private final int[] slots;
+		private final Node[] children;
+		private final int[] visits;
+		private final double[] scores;
+		private int total;
+
+		private Node(long ready) {
+			if (ready == 0) {
+				slots = new int[] { -1 };
+			} else {
+				slots = new int[Long.bitCount(ready)];
+
+				for (int i = 0; i < slots.length; i++) {
+					slots[i] = Long.numberOfTrailingZeros(ready);
+					ready &= ready - 1;
+				}
+			}
+
+			children = new Node[slots.length];
+			visits = new int[slots.length];
+			scores = new double[slots.length];
+		}
+
+		/**
+		 * Tries every move once, by priority, then picks the move of best upper confidence bound.
+		 */
+		private int select() {
+			if (total < slots.length) {
+				return total;
+			}
+
+			double logTotal = Math.log(total);
+			int best = 0;
+			double bestBound = Double.NEGATIVE_INFINITY;
+
+			for (int i = 0; i < slots.length; i++) {
+				double bound = scores[i] / visits[i] + EXPLORATION * Math.sqrt(logTotal / visits[i]);
+
+				if (bound > bestBound) {
+					best = i;
+					bestBound = bound;
+				}
+			}
+
+			return best;
+		}
+
+		private void update(int choice, double score) {
+			visits[choice]++;
+			scores[choice] += score;
+			total++;
+		}
+
+		/**
+		 * Most visited move, the best scored one among ties, then the one of best priority.
+		 */
+		private int mostVisited() {
+			int best = 0;
+
+			for (int i = 1; i < slots.length; i++) {
+				if (visits[i] > visits[best] || (visits[i] == visits[best] && scores[i] > scores[best])) {
+					best = i;
+				}
+			}
+
+			return best;
+		}
+
+	}
+
+	/**
+	 * Follows the battle played by the engine in a state of its own, searching from it at every turn of its side.
+	 */
+	private final class SearchPolicy implements MovePolicy {
+
+		private final BattleState state;
+		private final int side;
+		private final SplittableRandom random;
+
+		private SearchPolicy(BattleState state, int side, SplittableRandom random) {
+			this.state = state;
+			this.side = side;
+			this.random = random;
+		}
+
+		@Override
+		public int chooseSlot(Champion player, Champion opponent) {
+			if (!advance(state, side) || !isInSync(player, opponent)) {
+				throw new IllegalStateException("The policy of " + player.getName() + " doesn't follow the battle it was made for.");
+			}
+
+			int slot = MonteCarloTreeSearch.this.chooseSlot(state, random);
+			state.play(slot);
+
+			return slot;
+		}
+
+		private boolean isInSync(Champion player, Champion opponent) {
+			return isInSync(player, side) && isInSync(opponent, side ^ 1);
+		}
+
+		private boolean isInSync(Champion champion, int side) {
+			return champion.getHealth() == state.getHealth(side)
+					&& champion.getEnergy() == state.getEnergy(side)
+					&& champion.getPhysicalShield() == state.getPhysicalShield(side)
+					&& champion.getMagicShield() == state.getMagicShield(side)
+					&& champion.getReadyMoves() == state.getReadyMoves(side);
+		}
+
+	}
+
+}
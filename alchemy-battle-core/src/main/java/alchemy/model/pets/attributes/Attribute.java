@@ -0,0 +1,8 @@
+package alchemy.model.pets.attributes;
+
+/**
+ * Common type of the base and derived attributes, as targeted by requirements and restrictions.
+ */
+public interface Attribute {
+
+}
@@ -0,0 +1,11 @@
+package alchemy.model.pets.attributes;
+
+public enum BaseAttribute implements Attribute {
+
+	STRENGTH,
+	CONSTITUTION,
+	AGILITY,
+	INTELLECT,
+	WIILPOWER;
+
+}
@@ -1,7 +1,5 @@
 package alchemy.model.pets.attributes;
 
-import alchemy.model.pets.Pet;
-import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -23,10 +21,4 @@ public enum DerivedAttribute implements Attribute {
 	private BaseAttribute baseAttribute1;
 	private BaseAttribute baseAttribute2;
 
-	@Override
-	@Transient
-	public int getAttributeFromPet(Pet pet) {
-		return pet.getAttributeLoadout().getDerivedAttribute(this);
-	}
-
 }
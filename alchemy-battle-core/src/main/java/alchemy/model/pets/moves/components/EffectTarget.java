@@ -0,0 +1,8 @@
+package alchemy.model.pets.moves.components;
+
+public enum EffectTarget {
+
+	SELF,
+	OPPONENT;
+
+}
@@ -0,0 +1,10 @@
+package alchemy.model.pets.moves.components;
+
+public enum MoveComponentType {
+
+	DAMAGE_COMPONENT,
+	DAMAGE_OVER_TIME_COMPONENT,
+	SHIELD_COMPONENT,
+	ATTRIBUTE_MODIFIER_COMPONENT;
+
+}
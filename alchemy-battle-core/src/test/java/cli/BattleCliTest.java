@@ -0,0 +1,87 @@
+package cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import alchemy.cli.BattleCli;
+
+public class BattleCliTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @TempDir
+    private Path directory;
+
+    private String fixture(String name) throws URISyntaxException {
+    	return Path.of(getClass().getResource("/fixtures/" + name).toURI()).toString();
+    }
+
+    private int run(String... args) {
+    	return BattleCli.run(args, new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    @Test
+    void runFixturesTest() throws URISyntaxException {
+    	assertEquals(0, run(fixture("mage-vs-brute.json"), fixture("idle.json")));
+
+    	String output = out.toString();
+
+    	assertTrue(output.contains("mage-vs-brute.json : FIRST_CHAMPION_WON in "));
+    	assertTrue(output.contains("idle.json : 20 battles {STALEMATE=20}"));
+    	assertTrue(err.toString().isEmpty());
+    }
+
+    @Test
+    void runFixtureEventsTest() throws URISyntaxException {
+    	assertEquals(0, run("--events", fixture("mage-vs-brute.json")));
+
+    	String output = out.toString();
+
+    	assertTrue(output.contains("  Mage used Fireball !"));
+    	assertTrue(output.contains("  Brute applied -1 DEFENCE to Mage for 2 turns."));
+    	assertTrue(output.contains("  Mage won !"));
+    }
+
+    @Test
+    void runFixtureUnexpectedOutcomeTest() throws IOException {
+    	Path fixture = directory.resolve("unexpected.json");
+    	Files.writeString(fixture, """
+    			{
+    				"seed": 3,
+    				"battles": 4,
+    				"expectedOutcome": "FIRST_CHAMPION_WON",
+    				"first": { "name": "Idle", "level": 5, "attributes": { "AGILITY": 1, "WIILPOWER": 2 } },
+    				"second": { "name": "Striker", "level": 5, "attributes": { "AGILITY": 1, "WIILPOWER": 2 }, "moves": [ { "name": "Strike", "components": [
+    					{ "type": "DAMAGE_COMPONENT", "baseDamage": 6, "baseBypass": 1, "damageType": "PHYSICAL" } ] } ] }
+    			}
+    			""");
+
+    	assertEquals(1, run(fixture.toString()));
+    	assertTrue(out.toString().contains("unexpected.json : 4 battles {SECOND_CHAMPION_WON=4}"));
+    	assertTrue(out.toString().contains("unexpected.json : 4 battles did not end with FIRST_CHAMPION_WON"));
+    }
+
+    @Test
+    void runInvalidFixtureTest() throws IOException {
+    	Path fixture = directory.resolve("invalid.json");
+    	Files.writeString(fixture, """
+    			{ "first": { "name": "Alone", "level": 5 } }
+    			""");
+
+    	assertEquals(2, run(fixture.toString()));
+    	assertTrue(err.toString().contains("A fixture needs a first and a second champion."));
+    	assertEquals(2, run());
+    }
+
+}
@@ -0,0 +1,182 @@
+package model.battles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import alchemy.model.battles.Champion;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEvent;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.events.DamageOverTime;
+import alchemy.model.battles.plans.AttributeModifierPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.plans.ShieldPlan;
+import alchemy.model.battles.plans.StatusEffectPlan;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.EffectTarget;
+
+public class ChampionTest {
+
+    // 54 health and 4 magic shield.
+    private static ChampionSnapshot snapshot(String name, MovePlan... moves) {
+    	return new ChampionSnapshot(name, 5, new int[] { 1, 1, 1, 1, 1 }, List.of(moves));
+    }
+
+    private static MovePlan createPlan(String name, int cooldown) {
+    	return MovePlan.of(name, cooldown, List.of(new DamagePlan(5, 0, DamageType.PHYSICAL)));
+    }
+
+    private List<String> nextMoves(Champion champion, int turns) {
+    	List<String> moves = new ArrayList<>();
+
+    	for (int turn = 0; turn < turns; turn++) {
+    		moves.add(champion.getNextMove().name());
+    	}
+
+    	return moves;
+    }
+
+    @Test
+    void getNextMoveFollowsPriorityAndCooldownsTest() {
+    	Champion champion = new Champion(snapshot("Pet",
+    			createPlan("Fireball", 2), createPlan("Horn Strike", 1), createPlan("Scratch", 0)));
+
+    	assertEquals(List.of("Fireball", "Horn Strike", "Scratch", "Fireball", "Horn Strike", "Scratch", "Fireball"),
+    			nextMoves(champion, 7));
+    }
+
+    @Test
+    void getNextMoveDefaultMoveTest() {
+    	Champion champion = new Champion(snapshot("Pet", createPlan("Fireball", 3), createPlan("Horn Strike", 1)));
+
+    	assertEquals(List.of("Fireball", "Horn Strike", "Splash", "Horn Strike", "Fireball", "Horn Strike", "Splash"),
+    			nextMoves(champion, 7));
+    	assertSame(MovePlan.DEFAULT, new Champion(snapshot("Empty")).getNextMove());
+    }
+
+    @Test
+    void getNextMoveCooldownStateTest() {
+    	Champion champion = new Champion(snapshot("Pet", createPlan("Fireball", 2), createPlan("Scratch", 0)));
+
+    	champion.getNextMove();
+
+    	assertEquals(2, champion.getCooldown(0));
+    	assertEquals(0b10, champion.getReadyMoves());
+
+    	champion.getNextMove();
+
+    	assertEquals(1, champion.getCooldown(0));
+    	assertEquals(0b10, champion.getReadyMoves());
+
+    	champion.getNextMove();
+
+    	assertEquals(0, champion.getCooldown(0));
+    	assertEquals(0b11, champion.getReadyMoves());
+    	assertEquals(0, champion.getCoolingMoves());
+    }
+
+    @Test
+    void outOfBoundsStatusEffectTest() {
+    	assertThrows(IllegalArgumentException.class, () -> new ShieldPlan(-10, DamageType.PHYSICAL, 2));
+    	assertThrows(IllegalArgumentException.class, () -> new DamageOverTimePlan(-3, DamageType.MAGICAL, 2));
+    	assertThrows(IllegalArgumentException.class,
+    			() -> new ShieldPlan(10, DamageType.PHYSICAL, StatusEffectPlan.MAX_DURATION + 1));
+    }
+
+    @Test
+    void expiredShieldKeepsBaseShieldTest() {
+    	Champion champion = new Champion(snapshot("Pet"));
+
+    	assertEquals(4, champion.getMagicShield());
+    	assertTrue(champion.addStatusEffect(new ShieldPlan(10, DamageType.MAGICAL, 1)));
+
+    	champion.applyDamages(DamageType.MAGICAL, 6);
+    	assertEquals(8, champion.getMagicShield());
+
+    	champion.applyStatusEffects(0, BattleEventListener.NONE);
+    	champion.applyStatusEffects(0, BattleEventListener.NONE);
+
+    	assertEquals(4, champion.getMagicShield());
+    	assertFalse(champion.hasStatusEffects());
+    }
+
+    @Test
+    void statusEffectsExpireTest() {
+    	Champion champion = new Champion(snapshot("Pet"));
+
+    	assertTrue(champion.addStatusEffect(new ShieldPlan(10, DamageType.PHYSICAL, 2)));
+    	assertTrue(champion.addStatusEffect(new AttributeModifierPlan(DerivedAttribute.DEFENCE, 3, EffectTarget.SELF, 1)));
+    	assertFalse(champion.addStatusEffect(new AttributeModifierPlan(DerivedAttribute.CLARITY, 3, EffectTarget.SELF, 0)));
+
+    	assertEquals(10, champion.getPhysicalShield());
+    	assertEquals(5, champion.getDerivedAttribute(DerivedAttribute.DEFENCE));
+    	assertEquals(2, champion.getDerivedAttribute(DerivedAttribute.CLARITY));
+
+    	champion.applyStatusEffects(0, BattleEventListener.NONE);
+
+    	assertEquals(5, champion.getDerivedAttribute(DerivedAttribute.DEFENCE));
+
+    	champion.applyStatusEffects(0, BattleEventListener.NONE);
+    	champion.applyDamages(DamageType.PHYSICAL, 4);
+
+    	assertEquals(2, champion.getDerivedAttribute(DerivedAttribute.DEFENCE));
+    	assertEquals(6, champion.getPhysicalShield());
+    	assertTrue(champion.hasStatusEffects());
+
+    	champion.applyStatusEffects(0, BattleEventListener.NONE);
+
+    	assertEquals(0, champion.getPhysicalShield());
+    	assertEquals(4, champion.getMagicShield());
+    	assertFalse(champion.hasStatusEffects());
+    }
+
+    @Test
+    void damageOverTimeStacksTest() {
+    	Champion champion = new Champion(snapshot("Pet"));
+    	List<BattleEvent> events = new ArrayList<>();
+
+    	champion.addStatusEffect(new DamageOverTimePlan(3, DamageType.MAGICAL, 2));
+    	champion.addStatusEffect(new DamageOverTimePlan(2, DamageType.MAGICAL, 1));
+
+    	champion.applyStatusEffects(0, events::add);
+
+    	assertEquals(0, champion.getMagicShield());
+    	assertEquals(53, champion.getHealth());
+
+    	champion.applyStatusEffects(0, events::add);
+
+    	assertEquals(50, champion.getHealth());
+
+    	champion.applyStatusEffects(0, events::add);
+
+    	assertEquals(50, champion.getHealth());
+    	assertFalse(champion.hasStatusEffects());
+    	assertEquals(List.of(new DamageOverTime(0, "Pet", DamageType.MAGICAL, 5), new DamageOverTime(0, "Pet", DamageType.MAGICAL, 3)), events);
+    }
+
+    @Test
+    void instinctDebuffKeepsChampionActingTest() {
+    	Champion champion = new Champion(snapshot("Pet"));
+
+    	champion.addStatusEffect(new AttributeModifierPlan(DerivedAttribute.INSTINCT, -10, EffectTarget.OPPONENT, 1));
+
+    	assertEquals(1, champion.getEnergyGain());
+
+    	champion.applyStatusEffects(0, BattleEventListener.NONE);
+    	champion.applyStatusEffects(0, BattleEventListener.NONE);
+
+    	assertEquals(2, champion.getEnergyGain());
+    }
+
+}
@@ -0,0 +1,72 @@
+package model.battles.effects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import alchemy.model.battles.effects.TimingWheel;
+
+public class TimingWheelTest {
+
+    @Test
+    void releasedOnDueTickTest() {
+    	TimingWheel<Long> wheel = new TimingWheel<>();
+    	Random random = new Random(11);
+    	int[] delays = { 1, 2, 63, 64, 65, 127, 128, 4095, 4096, 4097, 262143, 262144, 300000 };
+
+    	// Entries are filed while the wheel is not aligned on a level boundary.
+    	for (int i = 0; i < 37; i++) {
+    		wheel.advance(released -> { });
+    	}
+
+    	for (int delay : delays) {
+    		wheel.schedule(37L + delay, delay);
+    	}
+
+    	for (int i = 0; i < 2000; i++) {
+    		int delay = 1 + random.nextInt(random.nextBoolean() ? 100 : 20000);
+    		wheel.schedule(37L + delay, delay);
+    	}
+
+    	assertEquals(delays.length + 2000, wheel.size());
+
+    	int count = 0;
+
+    	while (!wheel.isEmpty()) {
+    		long tick = wheel.getTick() + 1;
+    		List<Long> released = new ArrayList<>();
+    		wheel.advance(released::add);
+
+    		for (long due : released) {
+    			assertEquals(tick, due);
+    		}
+
+    		count += released.size();
+    	}
+
+    	assertEquals(delays.length + 2000, count);
+    	assertEquals(37L + 300000, wheel.getTick());
+    }
+
+    @Test
+    void scheduleWhileReleasingTest() {
+    	TimingWheel<Integer> wheel = new TimingWheel<>();
+    	List<Long> ticks = new ArrayList<>();
+    	wheel.schedule(3, 3);
+
+    	for (int i = 0; i < 20; i++) {
+    		wheel.advance(period -> {
+    			ticks.add(wheel.getTick());
+    			wheel.schedule(period, period);
+    		});
+    	}
+
+    	assertEquals(List.of(3L, 6L, 9L, 12L, 15L, 18L), ticks);
+    	assertEquals(1, wheel.size());
+    }
+
+}
@@ -0,0 +1,126 @@
+package model.battles.estimates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.estimates.MatchupEstimate;
+import alchemy.model.battles.estimates.TimeToKill;
+import alchemy.model.battles.estimates.TimeToKillEstimator;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.plans.ShieldPlan;
+import alchemy.model.pets.moves.components.DamageType;
+
+public class TimeToKillEstimatorTest {
+
+    private final TimeToKillEstimator estimator = new TimeToKillEstimator();
+
+    private static ChampionSnapshot champion(String name, int level, int[] attributes, MovePlan... moves) {
+    	return new ChampionSnapshot(name, level, attributes, List.of(moves));
+    }
+
+    private static MovePlan move(String name, int cooldown, ComponentPlan... components) {
+    	return MovePlan.of(name, cooldown, List.of(components));
+    }
+
+    // 52 health, 1 DEFENCE, 2 magic shield, and never a turn after its first one.
+    private static final ChampionSnapshot DUMMY = champion("Dummy", 5, new int[] { 0, 1, 0, 0, 0 });
+
+    @Test
+    void estimateHitsTest() {
+    	// Critical hits of 6 damages and 2 bypass, 7 per turn once reduced : 8 turns, every 2.5 ticks.
+    	ChampionSnapshot scratcher = champion("Scratcher", 5, new int[] { 0, 0, 2, 0, 0 },
+    			move("Scratch", 0, new DamagePlan(4, 1, DamageType.PHYSICAL)));
+
+    	TimeToKill timeToKill = estimator.estimate(scratcher, DUMMY);
+
+    	assertEquals(8, timeToKill.turns());
+    	assertEquals(20, timeToKill.ticks());
+
+    	// With 1 momentum per hit : 7, 8, 9... and 57 damages after 6 turns.
+    	ChampionSnapshot brute = champion("Brute", 5, new int[] { 3, 0, 2, 0, 0 },
+    			move("Scratch", 0, new DamagePlan(4, 1, DamageType.PHYSICAL)));
+
+    	assertEquals(6, estimator.estimate(brute, DUMMY).turns());
+    }
+
+    @Test
+    void estimateShieldsTest() {
+    	// Magical hits of 6 damages and 4 bypass, through the magic shield : 9 per turn against 54, 6 turns.
+    	ChampionSnapshot mage = champion("Mage", 5, new int[] { 0, 0, 2, 0, 0 },
+    			move("Spark", 0, new DamagePlan(4, 1, DamageType.MAGICAL)));
+
+    	assertEquals(6, estimator.estimate(mage, DUMMY).turns());
+
+    	// A damage over time adds its whole amount every other turn : 9.5 per turn, 6 turns. A shield of 6 every other
+    	// turn of the defender takes 3 of them : 8 turns.
+    	ChampionSnapshot poisoner = champion("Poisoner", 5, new int[] { 0, 0, 2, 0, 0 },
+    			move("Poison", 1, new DamageOverTimePlan(3, DamageType.PHYSICAL, 4)),
+    			move("Scratch", 0, new DamagePlan(4, 1, DamageType.PHYSICAL)));
+    	ChampionSnapshot guardian = champion("Guardian", 5, new int[] { 0, 1, 0, 0, 2 },
+    			move("Guard", 1, new ShieldPlan(6, DamageType.PHYSICAL, 2)));
+
+    	assertEquals(6, estimator.estimate(poisoner, DUMMY).turns());
+    	assertEquals(8, estimator.estimate(poisoner, guardian).turns());
+    }
+
+    @Test
+    void estimateNeverTest() {
+    	ChampionSnapshot frozen = champion("Frozen", 5, new int[] { 4, 0, 0, 0, 0 },
+    			move("Horn Strike", 0, new DamagePlan(9, 2, DamageType.PHYSICAL)));
+
+    	assertTrue(estimator.estimate(frozen, DUMMY).isNever());
+    	assertTrue(estimator.estimate(DUMMY, frozen).isNever());
+
+    	MatchupEstimate matchup = estimator.estimateMatchup(frozen, DUMMY);
+
+    	assertEquals(BattleOutcome.STALEMATE, matchup.getPredictedOutcome());
+    	assertEquals(1, matchup.getBalance());
+    }
+
+    @Test
+    void predictedWinnerMatchesEngineTest() {
+    	BattleLimits limits = new BattleLimits(500, null, true);
+    	BattleEngine engine = new BattleEngine(limits);
+    	List<ChampionSnapshot> champions = List.of(
+    			champion("Brute", 5, new int[] { 4, 2, 1, 0, 2 },
+    					move("Horn Strike", 2, new DamagePlan(9, 2, DamageType.PHYSICAL)),
+    					move("Scratch", 0, new DamagePlan(3, 0, DamageType.PHYSICAL))),
+    			champion("Mage", 5, new int[] { 0, 1, 2, 4, 2 },
+    					move("Fireball", 2, new DamagePlan(10, 2, DamageType.MAGICAL), new DamageOverTimePlan(2, DamageType.MAGICAL, 3)),
+    					move("Spark", 0, new DamagePlan(4, 1, DamageType.MAGICAL))),
+    			champion("Guardian", 6, new int[] { 1, 4, 1, 1, 3 },
+    					move("Guard", 3, new ShieldPlan(6, DamageType.PHYSICAL, 2), new ShieldPlan(4, DamageType.MAGICAL, 2)),
+    					move("Bash", 0, new DamagePlan(5, 1, DamageType.PHYSICAL))),
+    			champion("Weakling", 3, new int[] { 1, 1, 1, 1, 1 },
+    					move("Jab", 0, new DamagePlan(2, 0, DamageType.PHYSICAL))));
+
+    	for (ChampionSnapshot first : champions) {
+    		for (ChampionSnapshot second : champions) {
+    			BattleOutcome predicted = estimator.estimateMatchup(first, second).getPredictedOutcome();
+
+    			if (first == second || !predicted.hasWinner()) {
+    				continue;
+    			}
+
+    			for (long seed = 0; seed < 4; seed++) {
+    				BattleOutcome outcome = engine.executeBattle(first, second, seed, BattleEventListener.NONE).outcome();
+
+    				assertEquals(predicted, outcome, first.name() + " against " + second.name() + ", seed " + seed);
+    			}
+    		}
+    	}
+    }
+
+}
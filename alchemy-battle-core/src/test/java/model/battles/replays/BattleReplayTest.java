@@ -0,0 +1,227 @@
+package model.battles.replays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.plans.AttributeModifierPlan;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.plans.ShieldPlan;
+import alchemy.model.battles.replays.BattleReplay;
+import alchemy.model.battles.replays.ReplayInput;
+import alchemy.model.battles.replays.ReplayOutput;
+import alchemy.model.battles.replays.SnapshotCodec;
+import alchemy.model.battles.replays.TurnRecord;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.EffectTarget;
+
+public class BattleReplayTest {
+
+    private final BattleEngine engine = new BattleEngine();
+
+    private static ChampionSnapshot champion(String name, int level, int[] attributes, MovePlan... moves) {
+    	return new ChampionSnapshot(name, level, attributes, List.of(moves));
+    }
+
+    private static MovePlan move(String name, int cooldown, ComponentPlan... components) {
+    	return MovePlan.of(name, cooldown, List.of(components));
+    }
+
+    private BattleReplay recordBattle() {
+    	ChampionSnapshot mage = champion("Mage", 5, new int[] { 0, 1, 2, 4, 2 },
+    			move("Fireball", 2, new DamagePlan(10, 2, DamageType.MAGICAL)),
+    			move("Spark", 0, new DamagePlan(3, 1, DamageType.MAGICAL)));
+    	ChampionSnapshot brute = champion("Brute", 5, new int[] { 5, 2, 1, 0, 1 },
+    			move("Horn Strike", 1, new DamagePlan(8, 0, DamageType.PHYSICAL)),
+    			move("Scratch", 0, new DamagePlan(2, 0, DamageType.PHYSICAL)));
+
+    	return engine.recordBattle(mage, brute, -7L);
+    }
+
+    @Test
+    void varIntRoundTripTest() {
+    	ReplayOutput output = new ReplayOutput(1);
+    	int[] ints = { 0, 1, 127, 128, 300, Integer.MAX_VALUE, -1, Integer.MIN_VALUE };
+    	long[] longs = { 0L, -1L, 1L, Long.MAX_VALUE, Long.MIN_VALUE };
+
+    	for (int value : ints) {
+    		output.writeVarInt(value);
+    		output.writeSignedVarInt(value);
+    	}
+
+    	for (long value : longs) {
+    		output.writeSignedVarLong(value);
+    	}
+
+    	output.writeString("Flamme éternelle");
+
+    	ReplayInput input = new ReplayInput(output.toByteArray());
+
+    	for (int value : ints) {
+    		assertEquals(value, input.readVarInt());
+    		assertEquals(value, input.readSignedVarInt());
+    	}
+
+    	for (long value : longs) {
+    		assertEquals(value, input.readSignedVarLong());
+    	}
+
+    	assertEquals("Flamme éternelle", input.readString());
+    	assertFalse(input.hasRemaining());
+    }
+
+    @Test
+    void recordBattleTest() {
+    	BattleReplay replay = recordBattle();
+    	List<TurnRecord> records = replay.getTurnRecords();
+
+    	assertEquals(replay.turns(), records.size());
+    	assertTrue(replay.turnLog().length <= 4 * replay.turns());
+    	assertTrue(records.stream().allMatch(record -> record.actor() == 0 || record.actor() == 1));
+    	assertTrue(records.stream().anyMatch(record -> record.actor() == 0 && record.slot() == 1));
+    	assertTrue(engine.verify(replay));
+    }
+
+    @Test
+    void encodeDecodeTest() {
+    	BattleReplay replay = recordBattle();
+    	BattleReplay decoded = BattleReplay.decode(replay.encode());
+
+    	assertEquals(replay.seed(), decoded.seed());
+    	assertEquals(replay.first().name(), decoded.first().name());
+    	assertArrayEquals(replay.second().baseAttributes(), decoded.second().baseAttributes());
+    	assertEquals(replay.first().moves(), decoded.first().moves());
+    	assertEquals(replay.outcome(), decoded.outcome());
+    	assertEquals(replay.turns(), decoded.turns());
+    	assertArrayEquals(replay.turnLog(), decoded.turnLog());
+    	assertTrue(engine.verify(decoded));
+    }
+
+    @Test
+    void encodeDecodeStatusEffectsTest() {
+    	ChampionSnapshot snapshot = champion("Warlock", 5, new int[] { 1, 1, 1, 1, 1 },
+    			move("Curse", 3, new DamageOverTimePlan(2, DamageType.MAGICAL, 4),
+    					new AttributeModifierPlan(DerivedAttribute.ADAPTATION, -2, EffectTarget.OPPONENT, 2)),
+    			move("Ward", 2, new ShieldPlan(8, DamageType.MAGICAL, 3)));
+
+    	ReplayOutput output = new ReplayOutput();
+    	SnapshotCodec.write(output, snapshot);
+    	ChampionSnapshot decoded = SnapshotCodec.read(new ReplayInput(output.toByteArray()));
+
+    	assertEquals(snapshot.moves(), decoded.moves());
+    	assertEquals(snapshot.fingerprint(), decoded.fingerprint());
+    }
+
+    @Test
+    void verifyTamperedReplayTest() {
+    	BattleReplay replay = recordBattle();
+    	byte[] tampered = replay.turnLog().clone();
+    	tampered[2] ^= 1;
+
+    	assertFalse(engine.verify(new BattleReplay(replay.seed(), replay.first(), replay.second(),
+    			replay.outcome(), replay.turns(), tampered)));
+    }
+
+    @Test
+    void verifyTamperedDamageOverTimeTest() {
+    	ChampionSnapshot warlock = champion("Warlock", 5, new int[] { 1, 1, 1, 1, 1 },
+    			move("Curse", 0, new DamageOverTimePlan(2, DamageType.MAGICAL, 3)));
+    	ChampionSnapshot brute = champion("Brute", 5, new int[] { 3, 1, 1, 1, 1 },
+    			move("Poison", 1, new DamageOverTimePlan(3, DamageType.PHYSICAL, 2)));
+    	BattleReplay replay = engine.recordBattle(warlock, brute, 3L);
+    	List<TurnRecord> records = replay.getTurnRecords();
+
+    	assertTrue(records.stream().anyMatch(record -> record.suffered() > 0));
+    	assertTrue(engine.verify(replay));
+
+    	ReplayOutput output = new ReplayOutput();
+    	boolean tampered = false;
+
+    	for (TurnRecord record : records) {
+    		int suffered = record.suffered();
+
+    		if (!tampered && suffered > 0) {
+    			suffered++;
+    			tampered = true;
+    		}
+
+    		output.writeVarInt(record.actor());
+    		output.writeVarInt(record.slot() + 2);
+    		output.writeVarInt(record.dealt());
+    		output.writeVarInt(suffered);
+    	}
+
+    	assertFalse(engine.verify(new BattleReplay(replay.seed(), replay.first(), replay.second(),
+    			replay.outcome(), replay.turns(), output.toByteArray())));
+    }
+
+    @Test
+    void decodeFormatVersion1Test() {
+    	BattleReplay replay = recordBattle();
+    	ReplayOutput turnLog = new ReplayOutput();
+
+    	for (TurnRecord record : replay.getTurnRecords()) {
+    		turnLog.writeVarInt(record.actor());
+    		turnLog.writeVarInt(record.slot() + 1);
+    		turnLog.writeVarInt(record.dealt());
+    	}
+
+    	ReplayOutput output = new ReplayOutput();
+    	output.writeVarInt(1);
+    	output.writeSignedVarLong(replay.seed());
+    	SnapshotCodec.write(output, replay.first());
+    	SnapshotCodec.write(output, replay.second());
+    	output.writeVarInt(replay.outcome().ordinal());
+    	output.writeVarInt(replay.turns());
+    	output.writeBytes(turnLog.toByteArray());
+
+    	BattleReplay decoded = BattleReplay.decode(output.toByteArray());
+
+    	assertArrayEquals(replay.turnLog(), decoded.turnLog());
+    	assertTrue(engine.verify(decoded));
+    }
+
+    @Test
+    void decodeCorruptSnapshotTest() {
+    	assertThrows(IllegalArgumentException.class, () -> SnapshotCodec.read(new ReplayInput(corruptSnapshot(4, 0))));
+    	assertThrows(IllegalArgumentException.class, () -> SnapshotCodec.read(new ReplayInput(corruptSnapshot(6, 0))));
+    	assertThrows(IllegalArgumentException.class, () -> SnapshotCodec.read(new ReplayInput(corruptSnapshot(5, -1))));
+    	assertThrows(IllegalArgumentException.class,
+    			() -> SnapshotCodec.read(new ReplayInput(corruptSnapshot(5, SnapshotCodec.MAX_MOVES + 1))));
+    }
+
+    private byte[] corruptSnapshot(int attributeCount, int moveCount) {
+    	ReplayOutput output = new ReplayOutput();
+    	output.writeString("Corrupt");
+    	output.writeVarInt(5);
+    	output.writeVarInt(attributeCount);
+
+    	for (int i = 0; i < attributeCount; i++) {
+    		output.writeSignedVarInt(1);
+    	}
+
+    	output.writeVarInt(moveCount);
+    	return output.toByteArray();
+    }
+
+    @Test
+    void decodeTruncatedReplayTest() {
+    	byte[] encoded = recordBattle().encode();
+
+    	assertThrows(IllegalArgumentException.class, () -> BattleReplay.decode(Arrays.copyOf(encoded, encoded.length - 2)));
+    }
+
+}
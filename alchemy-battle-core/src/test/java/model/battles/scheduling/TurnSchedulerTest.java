@@ -0,0 +1,163 @@
+package model.battles.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import alchemy.model.battles.Champion;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.scheduling.SchedulingMode;
+import alchemy.model.battles.scheduling.TurnScheduler;
+
+public class TurnSchedulerTest {
+
+    private Champion createChampion(String name, int level, int agility, int willpower) {
+    	return new Champion(new ChampionSnapshot(name, level, new int[] { 1, 1, agility, 1, willpower }, List.of()));
+    }
+
+    /**
+     * Straightforward O(n) per turn version of the timeline, used as a reference.
+     */
+    private List<Integer> referenceOrder(List<Champion> champions, int turns) {
+    	List<Integer> order = new ArrayList<>();
+
+    	while (order.size() < turns) {
+    		int actor = -1;
+
+    		for (int i = 0; i < champions.size(); i++) {
+    			Champion champion = champions.get(i);
+
+    			if (champion.canAct() && (actor < 0 || champion.getEnergy() > champions.get(actor).getEnergy())) {
+    				actor = i;
+    			}
+    		}
+
+    		if (actor < 0) {
+    			champions.forEach(Champion::gainEnergy);
+    		} else {
+    			champions.get(actor).useEnergy();
+    			order.add(actor);
+    		}
+    	}
+
+    	return order;
+    }
+
+    private List<Integer> schedulerOrder(List<Champion> champions, int turns, SchedulingMode mode) {
+    	TurnScheduler scheduler = new TurnScheduler(champions, mode);
+    	List<Integer> order = new ArrayList<>();
+
+    	while (order.size() < turns) {
+    		order.add(champions.indexOf(scheduler.next()));
+    	}
+
+    	return order;
+    }
+
+    @Test
+    void nextAlternatesEqualChampionsTest() {
+    	Champion first = createChampion("First", 5, 2, 3);
+    	Champion second = createChampion("Second", 5, 2, 3);
+
+    	TurnScheduler scheduler = new TurnScheduler(List.of(first, second));
+
+    	for (int turn = 0; turn < 10; turn++) {
+    		assertSame(turn % 2 == 0 ? first : second, scheduler.next());
+    	}
+    }
+
+    @Test
+    void nextFollowsEnergyRateTest() {
+    	Champion fast = createChampion("Fast", 5, 5, 5);
+    	Champion slow = createChampion("Slow", 5, 2, 3);
+
+    	TurnScheduler scheduler = new TurnScheduler(List.of(fast, slow));
+    	int fastTurns = 0;
+
+    	for (int turn = 0; turn < 300; turn++) {
+    		if (scheduler.next() == fast) {
+    			fastTurns++;
+    		}
+    	}
+
+    	assertEquals(200, fastTurns, 2);
+    }
+
+    @Test
+    void nextSkipsFaintedChampionsTest() {
+    	Champion first = createChampion("First", 5, 2, 3);
+    	Champion second = createChampion("Second", 5, 2, 3);
+    	Champion third = createChampion("Third", 5, 2, 3);
+
+    	TurnScheduler scheduler = new TurnScheduler(List.of(first, second, third));
+    	second.applyBypassDamages(second.getHealth());
+
+    	for (int turn = 0; turn < 10; turn++) {
+    		assertSame(turn % 2 == 0 ? first : third, scheduler.next());
+    	}
+    }
+
+    @Test
+    void nextWithoutEnergyGainTest() {
+    	Champion first = createChampion("First", 5, 0, 0);
+
+    	TurnScheduler scheduler = new TurnScheduler(List.of(first));
+
+    	assertSame(first, scheduler.next());
+    	assertNull(scheduler.next());
+    }
+
+    @Test
+    void fastForwardSkipsIdleTicksTest() {
+    	Champion slow = createChampion("Slow", 50, 1, 0);
+    	Champion slower = createChampion("Slower", 50, 0, 1);
+
+    	TurnScheduler ticked = new TurnScheduler(List.of(createChampion("Slow", 50, 1, 0), createChampion("Slower", 50, 0, 1)), SchedulingMode.TICK);
+    	TurnScheduler fastForwarded = new TurnScheduler(List.of(slow, slower), SchedulingMode.FAST_FORWARD);
+
+    	for (int turn = 0; turn < 20; turn++) {
+    		assertEquals(ticked.next().getName(), fastForwarded.next().getName());
+    		assertEquals(ticked.getTick(), fastForwarded.getTick());
+    	}
+
+    	assertEquals(449, fastForwarded.getTick());
+    }
+
+    @Test
+    void nextMatchesReferenceTimelineTest() {
+    	Random random = new Random(42);
+
+    	for (int battle = 0; battle < 200; battle++) {
+    		int size = 2 + random.nextInt(6);
+    		List<Champion> reference = new ArrayList<>();
+    		List<Champion> ticked = new ArrayList<>();
+    		List<Champion> fastForwarded = new ArrayList<>();
+
+    		for (int i = 0; i < size; i++) {
+    			int level = 1 + random.nextInt(20);
+    			int agility = 1 + random.nextInt(9);
+    			int willpower = random.nextInt(10);
+
+    			reference.add(createChampion("Champion " + i, level, agility, willpower));
+    			ticked.add(createChampion("Champion " + i, level, agility, willpower));
+    			fastForwarded.add(createChampion("Champion " + i, level, agility, willpower));
+    		}
+
+    		List<Integer> expected = referenceOrder(reference, 500);
+
+    		assertEquals(expected, schedulerOrder(ticked, 500, SchedulingMode.TICK));
+    		assertEquals(expected, schedulerOrder(fastForwarded, 500, SchedulingMode.FAST_FORWARD));
+
+    		for (int i = 0; i < size; i++) {
+    			assertEquals(reference.get(i).getEnergy(), fastForwarded.get(i).getEnergy());
+    		}
+    	}
+    }
+
+}
@@ -0,0 +1,147 @@
+package model.battles.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.plans.AttributeModifierPlan;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.plans.ShieldPlan;
+import alchemy.model.battles.search.BattleState;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.EffectTarget;
+
+public class BattleStateTest {
+
+    private static final BattleLimits LIMITS = new BattleLimits(500, null, true);
+
+    private final BattleEngine engine = new BattleEngine(LIMITS);
+
+    private static ChampionSnapshot champion(String name, int level, int[] attributes, MovePlan... moves) {
+    	return new ChampionSnapshot(name, level, attributes, List.of(moves));
+    }
+
+    private static MovePlan move(String name, int cooldown, ComponentPlan... components) {
+    	return MovePlan.of(name, cooldown, List.of(components));
+    }
+
+    private static final List<ChampionSnapshot> CHAMPIONS = List.of(
+    		champion("Brute", 5, new int[] { 4, 2, 1, 0, 2 },
+    				move("Horn Strike", 2, new DamagePlan(9, 2, DamageType.PHYSICAL)),
+    				move("Scratch", 0, new DamagePlan(3, 0, DamageType.PHYSICAL))),
+    		champion("Mage", 5, new int[] { 0, 1, 2, 4, 2 },
+    				move("Fireball", 2, new DamagePlan(10, 2, DamageType.MAGICAL), new DamageOverTimePlan(2, DamageType.MAGICAL, 3)),
+    				move("Spark", 0, new DamagePlan(4, 1, DamageType.MAGICAL))),
+    		champion("Guardian", 6, new int[] { 1, 4, 1, 1, 3 },
+    				move("Guard", 3, new ShieldPlan(6, DamageType.PHYSICAL, 2), new ShieldPlan(4, DamageType.MAGICAL, 2)),
+    				move("Sunder", 2, new AttributeModifierPlan(DerivedAttribute.DEFENCE, -3, EffectTarget.OPPONENT, 2)),
+    				move("Bash", 0, new DamagePlan(5, 1, DamageType.PHYSICAL))),
+    		champion("Trickster", 4, new int[] { 2, 1, 3, 2, 1 },
+    				move("Haste", 4, new AttributeModifierPlan(DerivedAttribute.INSTINCT, 3, EffectTarget.SELF, 3),
+    						new AttributeModifierPlan(DerivedAttribute.MOMENTUM, 2, EffectTarget.SELF, 3)),
+    				move("Slow", 3, new AttributeModifierPlan(DerivedAttribute.INSTINCT, -4, EffectTarget.OPPONENT, 2)),
+    				move("Poison", 1, new DamageOverTimePlan(3, DamageType.PHYSICAL, 4)),
+    				move("Jab", 0, new DamagePlan(2, 1, DamageType.PHYSICAL))),
+    		champion("Idle", 5, new int[] { 3, 0, 1, 0, 2 }));
+
+    private static void playByPriority(BattleState state) {
+    	int actor;
+
+    	while ((actor = state.nextActor()) >= 0) {
+    		state.play(state.getPrioritySlot(actor));
+    	}
+    }
+
+    @Test
+    void playByPriorityMatchesEngineTest() {
+    	for (long seed = 0; seed < 20; seed++) {
+    		for (ChampionSnapshot first : CHAMPIONS) {
+    			for (ChampionSnapshot second : CHAMPIONS) {
+    				BattleResult expected = engine.executeBattle(first, second, seed, BattleEventListener.NONE);
+    				BattleState state = new BattleState(first, second, seed, LIMITS);
+    				String description = first.name() + " against " + second.name() + ", seed " + seed;
+
+    				playByPriority(state);
+
+    				assertEquals(expected.outcome(), state.getOutcome(), description);
+    				assertEquals(expected.turns(), state.getTurns(), description);
+    			}
+    		}
+    	}
+    }
+
+    @Test
+    void copyFromRestoresStateTest() {
+    	ChampionSnapshot trickster = CHAMPIONS.get(3);
+    	ChampionSnapshot mage = CHAMPIONS.get(1);
+    	BattleState state = new BattleState(trickster, mage, 3L, LIMITS);
+
+    	for (int turn = 0; turn < 6; turn++) {
+    		state.play(state.getPrioritySlot(state.nextActor()));
+    	}
+
+    	BattleState saved = state.copy();
+
+    	playByPriority(state);
+    	BattleOutcome outcome = state.getOutcome();
+    	int turns = state.getTurns();
+    	int health1 = state.getHealth(0);
+    	int health2 = state.getHealth(1);
+
+    	state.copyFrom(saved);
+
+    	assertNull(state.getOutcome());
+    	assertEquals(6, state.getTurns());
+
+    	playByPriority(state);
+
+    	assertEquals(outcome, state.getOutcome());
+    	assertEquals(turns, state.getTurns());
+    	assertEquals(health1, state.getHealth(0));
+    	assertEquals(health2, state.getHealth(1));
+
+    	// The saved state is left untouched by the battles played from its copies.
+    	assertNull(saved.getOutcome());
+    	assertEquals(6, saved.getTurns());
+    }
+
+    @Test
+    void playUnreadyMoveTest() {
+    	BattleState state = new BattleState(CHAMPIONS.get(0), CHAMPIONS.get(1), 0L, LIMITS);
+    	int actor = state.nextActor();
+
+    	state.play(0);
+
+    	while (state.nextActor() != actor) {
+    		state.play(state.getPrioritySlot(state.nextActor()));
+    	}
+
+    	// The first move is still cooling down, and the loadouts have no third move.
+    	assertThrows(IllegalArgumentException.class, () -> state.play(0));
+    	assertThrows(IllegalArgumentException.class, () -> state.play(2));
+    	assertThrows(IllegalArgumentException.class, () -> state.play(-1));
+    }
+
+    @Test
+    void copyFromOtherBattleTest() {
+    	BattleState state = new BattleState(CHAMPIONS.get(0), CHAMPIONS.get(1), 0L, LIMITS);
+    	BattleState other = new BattleState(CHAMPIONS.get(0), CHAMPIONS.get(1), 0L, LIMITS);
+
+    	assertThrows(IllegalArgumentException.class, () -> state.copyFrom(other));
+    }
+
+}
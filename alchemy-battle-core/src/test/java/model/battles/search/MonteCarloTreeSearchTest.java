@@ -0,0 +1,140 @@
+package model.battles.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.MovePolicy;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.plans.AttributeModifierPlan;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.plans.ShieldPlan;
+import alchemy.model.battles.search.BattleState;
+import alchemy.model.battles.search.MonteCarloTreeSearch;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.EffectTarget;
+
+public class MonteCarloTreeSearchTest {
+
+    private static final BattleLimits LIMITS = new BattleLimits(500, null, true);
+
+    private final BattleEngine engine = new BattleEngine(LIMITS);
+    private final MonteCarloTreeSearch search = new MonteCarloTreeSearch(null, 500);
+
+    private static ChampionSnapshot champion(String name, int level, int[] attributes, MovePlan... moves) {
+    	return new ChampionSnapshot(name, level, attributes, List.of(moves));
+    }
+
+    private static MovePlan move(String name, int cooldown, ComponentPlan... components) {
+    	return MovePlan.of(name, cooldown, List.of(components));
+    }
+
+    // By priority, Tickle is always ready and shadows Smash.
+    private static final ChampionSnapshot TRICKSTER = champion("Trickster", 5, new int[] { 3, 2, 2, 1, 2 },
+    		move("Tickle", 0, new DamagePlan(1, 0, DamageType.PHYSICAL)),
+    		move("Smash", 1, new DamagePlan(12, 3, DamageType.PHYSICAL)),
+    		move("Haste", 3, new AttributeModifierPlan(DerivedAttribute.INSTINCT, 2, EffectTarget.SELF, 2)));
+
+    private static final ChampionSnapshot BRUTE = champion("Brute", 5, new int[] { 4, 3, 2, 0, 2 },
+    		move("Horn Strike", 2, new DamagePlan(9, 2, DamageType.PHYSICAL)),
+    		move("Guard", 3, new ShieldPlan(6, DamageType.PHYSICAL, 2)),
+    		move("Scratch", 0, new DamagePlan(4, 1, DamageType.PHYSICAL)));
+
+    private static final ChampionSnapshot MAGE = champion("Mage", 5, new int[] { 0, 2, 2, 4, 2 },
+    		move("Fireball", 2, new DamagePlan(10, 2, DamageType.MAGICAL), new DamageOverTimePlan(2, DamageType.MAGICAL, 3)),
+    		move("Spark", 0, new DamagePlan(4, 1, DamageType.MAGICAL)));
+
+    private BattleResult play(ChampionSnapshot first, ChampionSnapshot second, long seed, MovePolicy policy1, MovePolicy policy2) {
+    	return engine.executeBattle(first, second, seed, LIMITS, BattleEventListener.NONE, policy1, policy2);
+    }
+
+    @Test
+    void searchBeatsPriorityTest() {
+    	for (long seed = 0; seed < 4; seed++) {
+    		BattleResult byPriority = play(BRUTE, TRICKSTER, seed, MovePolicy.PRIORITY, MovePolicy.PRIORITY);
+    		BattleResult bySearch = play(BRUTE, TRICKSTER, seed, MovePolicy.PRIORITY, search.policy(BRUTE, TRICKSTER, seed, LIMITS, 1));
+
+    		assertEquals(BattleOutcome.FIRST_CHAMPION_WON, byPriority.outcome());
+    		assertEquals(BattleOutcome.SECOND_CHAMPION_WON, bySearch.outcome());
+    	}
+    }
+
+    @Test
+    void policyFollowsBattleTest() {
+    	List<ChampionSnapshot> champions = List.of(TRICKSTER, BRUTE, MAGE);
+
+    	for (long seed = 0; seed < 4; seed++) {
+    		for (ChampionSnapshot first : champions) {
+    			for (ChampionSnapshot second : champions) {
+    				MovePolicy policy = search.policy(first, second, seed, LIMITS, 0);
+    				BattleResult result = play(first, second, seed, policy, MovePolicy.PRIORITY);
+
+    				assertTrue(result.turns() > 0);
+    			}
+    		}
+    	}
+    }
+
+    @Test
+    void policyOfOtherBattleTest() {
+    	MovePolicy policy = search.policy(BRUTE, MAGE, 1L, LIMITS, 0);
+
+    	assertThrows(IllegalStateException.class, () -> play(BRUTE, TRICKSTER, 1L, policy, MovePolicy.PRIORITY));
+    }
+
+    @Test
+    void searchRolloutsTest() {
+    	BattleState state = new BattleState(BRUTE, TRICKSTER, 0L, LIMITS);
+
+    	while (state.nextActor() != 1) {
+    		state.play(state.getPrioritySlot(state.nextActor()));
+    	}
+
+    	int turns = state.getTurns();
+    	MonteCarloTreeSearch.Decision decision = search.search(state, new SplittableRandom(0L));
+
+    	assertEquals(500, decision.rollouts());
+    	assertEquals(1, state.nextActor());
+    	assertEquals(turns, state.getTurns());
+    	assertTrue((state.getReadyMoves(1) & (1L << decision.slot())) != 0);
+
+    	MonteCarloTreeSearch timed = new MonteCarloTreeSearch(Duration.ofMillis(20), Integer.MAX_VALUE);
+    	long start = System.nanoTime();
+    	MonteCarloTreeSearch.Decision timedDecision = timed.search(state, new SplittableRandom(0L));
+
+    	assertTrue(System.nanoTime() - start < Duration.ofSeconds(1).toNanos());
+    	assertTrue(timedDecision.rollouts() > 0);
+    }
+
+    @Test
+    void searchSingleMoveTest() {
+    	ChampionSnapshot single = champion("Single", 5, new int[] { 2, 2, 2, 2, 2 },
+    			move("Scratch", 0, new DamagePlan(4, 1, DamageType.PHYSICAL)));
+    	BattleState state = new BattleState(single, BRUTE, 0L, LIMITS);
+
+    	while (state.nextActor() != 0) {
+    		state.play(state.getPrioritySlot(state.nextActor()));
+    	}
+
+    	MonteCarloTreeSearch.Decision decision = search.search(state, new SplittableRandom(0L));
+
+    	assertEquals(0, decision.slot());
+    	assertEquals(0, decision.rollouts());
+    }
+
+}
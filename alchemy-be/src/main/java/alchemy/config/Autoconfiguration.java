@@ -39,7 +39,7 @@ import lombok.RequiredArgsConstructor;
 @EntityScan(basePackages = "alchemy.model")
 @EnableJpaRepositories(basePackages = "alchemy.repositories")
 @ComponentScan(basePackages = "alchemy")
-@EnableConfigurationProperties(AuthProperties.class)
+@EnableConfigurationProperties({ AuthProperties.class, BattleProperties.class })
 public class Autoconfiguration {
 
 	@Value("${cdn.endpoint}")
@@ -0,0 +1,240 @@
+package alchemy.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import alchemy.model.battles.BattleLimits;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "battle")
+public class BattleProperties {
+
+	private Limits limits = new Limits();
+	private Simulations simulations = new Simulations();
+	private Matrices matrices = new Matrices();
+	private OutcomeCache outcomeCache = new OutcomeCache();
+	private History history = new History();
+	private Tournaments tournaments = new Tournaments();
+	private Streams streams = new Streams();
+	private Jobs jobs = new Jobs();
+	private Matchmaking matchmaking = new Matchmaking();
+	private MoveOrders moveOrders = new MoveOrders();
+	private AttributeBuilds attributeBuilds = new AttributeBuilds();
+
+	@Data
+	public static class Limits {
+
+		private int maxTurns = BattleLimits.DEFAULT.maxTurns();
+
+		/**
+		 * Wall-clock time a single battle may take, unlimited when empty. Streamed battles and battle jobs have none.
+		 */
+		private Duration timeBudget = BattleLimits.DEFAULT.timeBudget();
+
+		/**
+		 * Stop battles once both champions played a full move cycle without any health or shield change.
+		 */
+		private boolean stallDetection = BattleLimits.DEFAULT.stallDetection();
+
+		public BattleLimits toBattleLimits() {
+			return new BattleLimits(maxTurns, timeBudget, stallDetection);
+		}
+
+	}
+
+	@Data
+	public static class Simulations {
+
+		/**
+		 * Largest roster of a simulation, a round robin playing every ordered pairing of it.
+		 */
+		private int maxPets = 2_000;
+
+	}
+
+	@Data
+	public static class Matrices {
+
+		/**
+		 * Pairs of champions whose results are kept in memory, 0 to disable the cache.
+		 */
+		private long cacheSize = 200_000;
+
+	}
+
+	@Data
+	public static class OutcomeCache {
+
+		/**
+		 * Battle outcomes kept in memory, 0 to disable the cache.
+		 */
+		private long maximumSize = 100_000;
+
+	}
+
+	@Data
+	public static class History {
+
+		/**
+		 * Battles waiting to be written. When the buffer is full, new battles are dropped rather than blocking.
+		 */
+		private int bufferCapacity = 10_000;
+
+		/**
+		 * Maximum number of battles per flush, aligned on hibernate.jdbc.batch_size.
+		 */
+		private int batchSize = 50;
+
+		/**
+		 * Maximum time a battle waits in the buffer before being flushed.
+		 */
+		private Duration flushInterval = Duration.ofSeconds(1);
+
+		/**
+		 * Maximum time given to the buffer to drain on shutdown.
+		 */
+		private Duration drainTimeout = Duration.ofSeconds(10);
+
+	}
+
+	@Data
+	public static class Streams {
+
+		/**
+		 * Battles streamed at once, each one holding a thread while its client reads.
+		 */
+		private int maxStreams = 32;
+
+		/**
+		 * Streams waiting for a thread. Requests beyond it are rejected with a Retry-After.
+		 */
+		private int maxPendingStreams = 64;
+
+		private Duration timeout = Duration.ofMinutes(5);
+
+		private Duration retryAfter = Duration.ofSeconds(5);
+
+	}
+
+	@Data
+	public static class Jobs {
+
+		/**
+		 * Battles waiting for a worker. Submissions beyond it are rejected with a Retry-After.
+		 */
+		private int queueCapacity = 1_000;
+
+		/**
+		 * Number of workers, one per processor when 0.
+		 */
+		private int workers = 0;
+
+		private Duration retryAfter = Duration.ofSeconds(2);
+
+		/**
+		 * How long finished jobs can still be polled.
+		 */
+		private Duration retention = Duration.ofMinutes(10);
+
+	}
+
+	@Data
+	public static class Matchmaking {
+
+		/**
+		 * Pets waiting for an opponent. Requests beyond it are rejected with a Retry-After.
+		 */
+		private int capacity = 50_000;
+
+		private int initialRating = 1_500;
+
+		/**
+		 * Maximum rating change of a single battle.
+		 */
+		private int eloFactor = 32;
+
+		/**
+		 * Rating granularity of the matchmaking index.
+		 */
+		private int bucketWidth = 10;
+
+		/**
+		 * Rating gap accepted right away, widened by windowGrowth each second spent waiting, up to maxWindow.
+		 */
+		private int initialWindow = 50;
+
+		private int windowGrowth = 10;
+
+		private int maxWindow = 400;
+
+		/**
+		 * Interval between two attempts to match the waiting pets with their widened windows.
+		 */
+		private Duration sweepInterval = Duration.ofSeconds(1);
+
+		/**
+		 * Lowest balance of the estimated times to kill of a pairing, from 0 to 1 : candidates below it are skipped
+		 * before any battle is played. 0 disables the prefilter.
+		 */
+		private double minBalance = 0;
+
+		/**
+		 * Candidates whose balance is estimated per lookup, closest rating first. A pet whose candidates are all
+		 * unbalanced waits until a pet enters or leaves matchmaking.
+		 */
+		private int maxCandidates = 64;
+
+		/**
+		 * Balances kept per pair of snapshot fingerprints.
+		 */
+		private long balanceCacheSize = 100_000;
+
+	}
+
+	@Data
+	public static class Tournaments {
+
+		private int maxEntrants = 65_536;
+
+		/**
+		 * Tournaments played at once, the following ones wait for their turn.
+		 */
+		private int concurrentTournaments = 2;
+
+		/**
+		 * Matches written per transaction, along with the progress of their tournament.
+		 */
+		private int batchSize = 500;
+
+		private Duration flushInterval = Duration.ofMillis(200);
+
+	}
+
+	@Data
+	public static class MoveOrders {
+
+		/**
+		 * Largest loadout whose orders can be searched, the number of orders growing with its factorial.
+		 */
+		private int maxMoves = 8;
+
+	}
+
+	@Data
+	public static class AttributeBuilds {
+
+		/**
+		 * Most undistributed points whose allocations can be searched, their number growing with its fourth power.
+		 */
+		private int maxPoints = 30;
+
+		/**
+		 * Searches kept in memory, 0 to disable the cache.
+		 */
+		private long cacheSize = 1_000;
+
+	}
+
+}
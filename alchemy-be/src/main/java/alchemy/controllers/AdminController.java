@@ -1,9 +1,11 @@
 package alchemy.controllers;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,19 +26,32 @@ import alchemy.model.GeneCreationRequestDTO;
 import alchemy.model.GeneDeletionRequestDTO;
 import alchemy.model.GeneListResponseDTO;
 import alchemy.model.GeneSynchronizationRequestDTO;
+import alchemy.model.MatchupMatrixRequestDTO;
+import alchemy.model.MatchupMatrixResponseDTO;
 import alchemy.model.MoveCreationRequestDTO;
 import alchemy.model.MoveDeletionRequestDTO;
 import alchemy.model.MoveListResponseDTO;
 import alchemy.model.MoveUpdateRequestDTO;
+import alchemy.model.TournamentFormatDTO;
+import alchemy.model.TournamentRequestDTO;
+import alchemy.model.TournamentResponseDTO;
+import alchemy.model.TournamentStatusDTO;
 import alchemy.model.WardrobeSuggestionListResponseDTO;
 import alchemy.model.WardrobeSuggestionRequestDTO;
 import alchemy.model.WardrobeSuggestionResponseDTO;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.simulations.MatchupMatrix;
+import alchemy.model.battles.tournaments.Tournament;
+import alchemy.model.battles.tournaments.TournamentFormat;
 import alchemy.model.pets.genes.Gene;
 import alchemy.model.pets.moves.Move;
 import alchemy.model.wardrobe.WardrobeItem;
 import alchemy.services.admin.GeneService;
+import alchemy.services.admin.MatchupMatrixService;
 import alchemy.services.admin.MoveService;
+import alchemy.services.admin.TournamentService;
 import alchemy.services.admin.WardrobeService;
+import alchemy.services.player.ChampionService;
 import alchemy.utils.WardrobeUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -49,8 +64,11 @@ public class AdminController implements AdminApi {
 
 	private final GeneMapper geneMapper;
 	private final GeneService geneService;
+	private final ChampionService championService;
+	private final MatchupMatrixService matchupMatrixService;
 	private final MoveMapper moveMapper;
 	private final MoveService moveService;
+	private final TournamentService tournamentService;
 	private final WardrobeUtils wardrobeUtils;
 	private final WardrobeMapper wardrobeMapper;
 	private final WardrobeService wardrobeService;
@@ -153,6 +171,69 @@ public class AdminController implements AdminApi {
 		return ResponseEntity.ok(response);
 	}
 
+	@Override
+	@PostMapping("/simulations/matrix")
+	public ResponseEntity<MatchupMatrixResponseDTO> computeMatchupMatrix(@Valid MatchupMatrixRequestDTO request) {
+		List<ChampionSnapshot> champions = championService.getSnapshots(request.getPetIds());
+		MatchupMatrix matrix = matchupMatrixService.computeMatrix(champions, request.getBattlesPerPair(), request.getSeed());
+
+		List<List<Double>> winRates = new ArrayList<>(matrix.size());
+		List<List<Double>> drawRates = new ArrayList<>(matrix.size());
+
+		for (int row = 0; row < matrix.size(); row++) {
+			List<Double> wins = new ArrayList<>(matrix.size());
+			List<Double> draws = new ArrayList<>(matrix.size());
+
+			for (int column = 0; column < matrix.size(); column++) {
+				wins.add(matrix.getWinRate(row, column));
+				draws.add(matrix.getDrawRate(row, column));
+			}
+
+			winRates.add(wins);
+			drawRates.add(draws);
+		}
+
+		MatchupMatrixResponseDTO response = MatchupMatrixResponseDTO.builder()
+				.pets(matrix.getNames())
+				.battlesPerPair(matrix.getBattlesPerPair())
+				.catalogVersion(matrix.getCatalogVersion())
+				.cachedPairs(matrix.getCachedPairs())
+				.winRates(winRates)
+				.drawRates(drawRates)
+				.build();
+
+		return ResponseEntity.ok(response);
+	}
+
+	@Override
+	@PostMapping("/tournaments")
+	public ResponseEntity<TournamentResponseDTO> startTournament(@Valid TournamentRequestDTO request) {
+		Tournament tournament = tournamentService.start(TournamentFormat.valueOf(request.getFormat().name()),
+				request.getPetIds(), request.getSeed(), request.getRounds());
+
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(toTournamentResponse(tournament));
+	}
+
+	@Override
+	@GetMapping("/tournaments/{tournamentId}")
+	public ResponseEntity<TournamentResponseDTO> getTournament(UUID tournamentId) {
+		return ResponseEntity.ok(toTournamentResponse(tournamentService.getTournament(tournamentId)));
+	}
+
+	private TournamentResponseDTO toTournamentResponse(Tournament tournament) {
+		return TournamentResponseDTO.builder()
+				.tournamentId(tournament.getId())
+				.format(TournamentFormatDTO.valueOf(tournament.getFormat().name()))
+				.status(TournamentStatusDTO.valueOf(tournament.getStatus().name()))
+				.entrants(tournament.getEntrants())
+				.rounds(tournament.getRounds())
+				.matchesPlayed(tournament.getMatchesPlayed())
+				.seed(tournament.getSeed())
+				.winnerPetId(tournament.getWinnerPetId())
+				.winner(tournament.getWinner())
+				.build();
+	}
+
 	@GetMapping("/wardrobe")
 	public ResponseEntity<WardrobeSuggestionListResponseDTO> getWardrobeSuggestion(@Valid UUID userId) {
 		// TODO Auto-generated method stub
@@ -0,0 +1,31 @@
+package alchemy.controllers;
+
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import alchemy.services.player.BattleStreamService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Not generated from the OpenAPI contract : the generator has no representation for an SSE stream.
+ * Each event is named after its BattleEventType and carries the event as JSON.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/battles")
+public class BattleController {
+
+	private final BattleStreamService battleStreamService;
+
+	@GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamBattle(@RequestParam UUID firstPetId, @RequestParam UUID secondPetId) {
+		return battleStreamService.stream(firstPetId, secondPetId);
+	}
+
+}
@@ -0,0 +1,117 @@
+package alchemy.controllers;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import alchemy.api.BattlesApi;
+import alchemy.model.BattleJobRequestDTO;
+import alchemy.model.BattleJobResponseDTO;
+import alchemy.model.BattleJobStatusDTO;
+import alchemy.model.battles.jobs.BattleJob;
+import alchemy.model.battles.replays.BattleReplay;
+import alchemy.services.player.BattleJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/battles")
+public class BattleJobController implements BattlesApi {
+
+	private static final long SUBSCRIPTION_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+
+	private final BattleJobService battleJobService;
+
+	@Override
+	@PostMapping("/jobs")
+	public ResponseEntity<BattleJobResponseDTO> submitBattleJob(@Valid BattleJobRequestDTO request) {
+		BattleJob job = battleJobService.submit(request.getFirstPetId(), request.getSecondPetId(), request.getSeed());
+
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(toResponse(job));
+	}
+
+	@Override
+	@GetMapping("/jobs/{jobId}")
+	public ResponseEntity<BattleJobResponseDTO> getBattleJob(UUID jobId) {
+		return ResponseEntity.ok(toResponse(battleJobService.getJob(jobId)));
+	}
+
+	/**
+	 * Not part of the OpenAPI contract, which cannot describe SSE : sends the current state of the job right away,
+	 * then its final state once finished, unless the first one already was. A closed, timed out or failed
+	 * subscription is not written to anymore.
+	 */
+	@GetMapping(path = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter subscribeBattleJob(@PathVariable UUID jobId) throws IOException {
+		BattleJob job = battleJobService.getJob(jobId);
+		SseEmitter emitter = new SseEmitter(SUBSCRIPTION_TIMEOUT);
+		AtomicBoolean open = new AtomicBoolean(true);
+
+		emitter.onCompletion(() -> open.set(false));
+		emitter.onTimeout(() -> {
+			open.set(false);
+			emitter.complete();
+		});
+		emitter.onError(error -> open.set(false));
+
+		BattleJobResponseDTO current = toResponse(job);
+		emitter.send(toEvent(current));
+
+		if (isFinished(current)) {
+			emitter.complete();
+			return emitter;
+		}
+
+		battleJobService.whenFinished(job).whenComplete((finished, error) -> {
+			if (finished == null || !open.get()) {
+				return;
+			}
+
+			try {
+				emitter.send(toEvent(toResponse(finished)));
+				emitter.complete();
+			} catch (IOException | IllegalStateException e) {
+				emitter.completeWithError(e);
+			}
+		});
+
+		return emitter;
+	}
+
+	private boolean isFinished(BattleJobResponseDTO response) {
+		return response.getStatus() == BattleJobStatusDTO.COMPLETED || response.getStatus() == BattleJobStatusDTO.FAILED;
+	}
+
+	private SseEmitter.SseEventBuilder toEvent(BattleJobResponseDTO response) {
+		return SseEmitter.event()
+				.name(response.getStatus().name())
+				.data(response, MediaType.APPLICATION_JSON);
+	}
+
+	private BattleJobResponseDTO toResponse(BattleJob job) {
+		BattleReplay replay = job.getReplay();
+
+		return BattleJobResponseDTO.builder()
+				.jobId(job.getId())
+				.status(BattleJobStatusDTO.valueOf(job.getStatus().name()))
+				.seed(job.getSeed())
+				.outcome(replay == null ? null : replay.outcome().name())
+				.winner(job.getWinner())
+				.turns(replay == null ? null : replay.turns())
+				.replay(replay == null ? null : replay.encode())
+				.build();
+	}
+
+}
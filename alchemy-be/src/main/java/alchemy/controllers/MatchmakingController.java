@@ -0,0 +1,61 @@
+package alchemy.controllers;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import alchemy.api.MatchmakingApi;
+import alchemy.model.MatchmakingRequestDTO;
+import alchemy.model.MatchmakingStatusDTO;
+import alchemy.model.MatchmakingTicketResponseDTO;
+import alchemy.model.battles.matchmaking.MatchmakingTicket;
+import alchemy.services.player.MatchmakingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/matchmaking")
+public class MatchmakingController implements MatchmakingApi {
+
+	private final MatchmakingService matchmakingService;
+
+	@Override
+	@PostMapping
+	public ResponseEntity<MatchmakingTicketResponseDTO> enqueueMatchmaking(@Valid MatchmakingRequestDTO request) {
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(toResponse(matchmakingService.enqueue(request.getPetId())));
+	}
+
+	@Override
+	@GetMapping("/{petId}")
+	public ResponseEntity<MatchmakingTicketResponseDTO> getMatchmakingTicket(UUID petId) {
+		return ResponseEntity.ok(toResponse(matchmakingService.getTicket(petId)));
+	}
+
+	@Override
+	@DeleteMapping("/{petId}")
+	public ResponseEntity<Void> cancelMatchmaking(UUID petId) {
+		matchmakingService.cancel(petId);
+
+		return ResponseEntity.noContent().build();
+	}
+
+	private MatchmakingTicketResponseDTO toResponse(MatchmakingTicket ticket) {
+		return MatchmakingTicketResponseDTO.builder()
+				.petId(ticket.getPetId())
+				.status(MatchmakingStatusDTO.valueOf(ticket.getStatus().name()))
+				.rating(ticket.getRating())
+				.window(matchmakingService.getWindow(ticket, Instant.now()))
+				.opponentPetId(ticket.getOpponentPetId())
+				.jobId(ticket.getJobId())
+				.build();
+	}
+
+}
@@ -0,0 +1,102 @@
+package alchemy.controllers;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import alchemy.api.PetsApi;
+import alchemy.model.AttributeBuildRequestDTO;
+import alchemy.model.AttributeBuildResponseDTO;
+import alchemy.model.AttributeBuildResultDTO;
+import alchemy.model.MoveOrderRequestDTO;
+import alchemy.model.MoveOrderResponseDTO;
+import alchemy.model.MoveOrderResultDTO;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.simulations.AttributeBuild;
+import alchemy.model.battles.simulations.AttributeBuildReport;
+import alchemy.model.battles.simulations.MoveOrder;
+import alchemy.model.battles.simulations.MoveOrderReport;
+import alchemy.model.pets.attributes.BaseAttribute;
+import alchemy.services.player.AttributeBuildService;
+import alchemy.services.player.ChampionService;
+import alchemy.services.player.MoveOrderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/pets")
+public class PetController implements PetsApi {
+
+	private final AttributeBuildService attributeBuildService;
+	private final ChampionService championService;
+	private final MoveOrderService moveOrderService;
+
+	@Override
+	@PostMapping("/{petId}/move-orders")
+	public ResponseEntity<MoveOrderResponseDTO> optimizeMoveOrder(UUID petId, @Valid MoveOrderRequestDTO request) {
+		ChampionSnapshot champion = championService.getSnapshot(petId);
+		List<ChampionSnapshot> opponents = championService.getSnapshots(request.getOpponentPetIds());
+		MoveOrderReport report = moveOrderService.optimize(champion, opponents, request.getBattlesPerOpponent(),
+				request.getResults(), request.getSeed());
+
+		MoveOrderResponseDTO response = MoveOrderResponseDTO.builder()
+				.petId(petId)
+				.permutations(report.permutations())
+				.candidates(report.candidates())
+				.pruned(report.pruned())
+				.current(toResult(champion, report.current()))
+				.best(report.best().stream().map(order -> toResult(champion, order)).toList())
+				.build();
+
+		return ResponseEntity.ok(response);
+	}
+
+	@Override
+	@PostMapping("/{petId}/attribute-builds")
+	public ResponseEntity<AttributeBuildResponseDTO> optimizeAttributeBuild(UUID petId, @Valid AttributeBuildRequestDTO request) {
+		ChampionSnapshot champion = championService.getSnapshot(petId);
+		int points = championService.getUndistributedPoints(petId);
+		List<ChampionSnapshot> opponents = championService.getSnapshots(request.getOpponentPetIds());
+		AttributeBuildReport report = attributeBuildService.optimize(champion, points, opponents,
+				request.getBattlesPerOpponent(), request.getResults(), request.getSeed());
+
+		AttributeBuildResponseDTO response = AttributeBuildResponseDTO.builder()
+				.petId(petId)
+				.points(report.points())
+				.allocations(report.allocations())
+				.candidates(report.candidates())
+				.pruned(report.pruned())
+				.best(report.best().stream().map(this::toResult).toList())
+				.build();
+
+		return ResponseEntity.ok(response);
+	}
+
+	private AttributeBuildResultDTO toResult(AttributeBuild build) {
+		return AttributeBuildResultDTO.builder()
+				.strength(build.getPoints(BaseAttribute.STRENGTH))
+				.constitution(build.getPoints(BaseAttribute.CONSTITUTION))
+				.agility(build.getPoints(BaseAttribute.AGILITY))
+				.intellect(build.getPoints(BaseAttribute.INTELLECT))
+				.willpower(build.getPoints(BaseAttribute.WIILPOWER))
+				.winRate(build.stats().getWinRate())
+				.drawRate(build.stats().getDrawRate())
+				.build();
+	}
+
+	private MoveOrderResultDTO toResult(ChampionSnapshot champion, MoveOrder order) {
+		return MoveOrderResultDTO.builder()
+				.moves(order.slots().stream().map(slot -> champion.moves().get(slot).name()).toList())
+				.slots(order.slots())
+				.reachableMoves(order.reachableMoves())
+				.winRate(order.stats().getWinRate())
+				.drawRate(order.stats().getDrawRate())
+				.build();
+	}
+
+}
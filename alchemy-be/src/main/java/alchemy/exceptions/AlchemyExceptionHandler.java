@@ -1,6 +1,7 @@
 package alchemy.exceptions;
 
 import org.slf4j.helpers.MessageFormatter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -37,6 +38,18 @@ public class AlchemyExceptionHandler {
 		return ResponseEntity.status(ex.getHttpStatus()).contentType(MediaType.APPLICATION_JSON).body(error);
     }
 
+	@ExceptionHandler(RetryLaterException.class)
+    public ResponseEntity<Object> handleRetryLater(RetryLaterException ex, HttpServletRequest request, HttpServletResponse response) {
+        ErrorResponseDTO error = new ErrorResponseDTO(
+        		ex.getError().getCode(),
+        		ex.getError().getDescription(),
+        		MessageFormatter.arrayFormat(ex.getError().getMessage(), ex.getParameters()).getMessage());
+		return ResponseEntity.status(ex.getHttpStatus())
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(error);
+    }
+
 	@ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ResponseEntity<Object> handleHttpRequestNotSupportedException(Exception ex, HttpServletRequest request, HttpServletResponse response) {
     	log.info("[HttpRequestMethodNotSupportedException] : " + ex.getMessage());
@@ -0,0 +1,23 @@
+package alchemy.exceptions;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+/**
+ * Rejection of a request the service is too busy to accept : answered with a Retry-After header.
+ */
+@SuppressWarnings("serial")
+@Getter
+public class RetryLaterException extends ProcessException {
+
+	private final Duration retryAfter;
+
+	public RetryLaterException(ProcessError error, Duration retryAfter, String... parameters) {
+		super(error, HttpStatus.SERVICE_UNAVAILABLE, parameters);
+		this.retryAfter = retryAfter;
+	}
+
+}
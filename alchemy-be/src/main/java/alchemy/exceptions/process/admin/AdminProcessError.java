@@ -20,7 +20,11 @@ public enum AdminProcessError implements ProcessError {
 	WARDROBE_UPLOAD_FAILED("ERR_ADM-F008", "Upload failed", "Upon uploading a file to the CDN, a technical error occured."),
 	WARDROBE_DELETION_DOES_NOT_EXIST("ERR_ADM-F009", "Wardrobe item does not exist", "Upon wardrobe deletion, the following key couldn't be found and deleted : {}"),
 	WARDROBE_DELETION_NOT_ALLOWED("ERR_ADM-F010", "Wardrobe unauthorized deletion", "Upon wardrobe deletion, the authenticated user doesn't have the right to delete this item."),
-	WARDROBE_DELETION_FAILED("ERR_ADM-F011", "Wardrobe deletion failed", "Upon wardrobe deletion, a technical error occured.");
+	WARDROBE_DELETION_FAILED("ERR_ADM-F011", "Wardrobe deletion failed", "Upon wardrobe deletion, a technical error occured."),
+	TOURNAMENT_INVALID_ENTRANTS("ERR_ADM-F012", "Invalid entrants", "Upon tournament creation, between 2 and {} distinct pets are expected."),
+	TOURNAMENT_DOES_NOT_EXIST("ERR_ADM-F013", "Tournament does not exist", "The following tournament couldn't be found : {}"),
+	SIMULATION_TOO_MANY_PETS("ERR_ADM-F014", "Too many pets", "Upon simulation, at most {} pets are expected."),
+	MOVE_UPDATE_INVALID_COMPONENT("ERR_ADM-F015", "Invalid component", "Upon move update, a component is out of bounds : {}");
 
 	public String code;
 	public String description;
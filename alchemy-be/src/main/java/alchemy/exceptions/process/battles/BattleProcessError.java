@@ -0,0 +1,26 @@
+package alchemy.exceptions.process.battles;
+
+import alchemy.exceptions.ProcessError;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public enum BattleProcessError implements ProcessError {
+
+	BATTLE_PET_DOES_NOT_EXIST("ERR_BAT-F001", "Pet does not exist", "Upon battle start, the following pet couldn't be found : {}"),
+	BATTLE_STREAM_CAPACITY_REACHED("ERR_BAT-F002", "Too many battles", "Upon battle start, all {} battle streams were busy. Please retry later."),
+	BATTLE_JOB_QUEUE_FULL("ERR_BAT-F003", "Too many battles", "Upon battle submission, the queue of {} battles was full. Please retry later."),
+	BATTLE_JOB_DOES_NOT_EXIST("ERR_BAT-F004", "Battle does not exist", "The following battle job couldn't be found, or expired : {}"),
+	MATCHMAKING_ALREADY_QUEUED("ERR_BAT-F005", "Pet already in matchmaking", "Upon matchmaking, the following pet was already waiting or battling : {}"),
+	MATCHMAKING_TICKET_DOES_NOT_EXIST("ERR_BAT-F006", "Pet not in matchmaking", "The following pet isn't in the matchmaking queue : {}"),
+	MATCHMAKING_QUEUE_FULL("ERR_BAT-F007", "Too many pets in matchmaking", "Upon matchmaking, all {} places of the queue were taken. Please retry later."),
+	MATCHMAKING_ALREADY_MATCHED("ERR_BAT-F008", "Pet already matched", "Upon matchmaking cancellation, the following pet was already matched : {}");
+
+	public String code;
+	public String description;
+	public String message;
+
+}
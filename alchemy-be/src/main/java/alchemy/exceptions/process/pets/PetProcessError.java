@@ -10,7 +10,9 @@ import lombok.ToString;
 @AllArgsConstructor
 public enum PetProcessError implements ProcessError {
 
-	ATTRIBUTE_INCREASE_NO_UNDISTRIBUTED_POINT("ERR_PET-F001", "No undistributed points", "When trying to increase the {} attribute, there was no available undistributed attribute point.");
+	ATTRIBUTE_INCREASE_NO_UNDISTRIBUTED_POINT("ERR_PET-F001", "No undistributed points", "When trying to increase the {} attribute, there was no available undistributed attribute point."),
+	MOVE_ORDER_TOO_MANY_MOVES("ERR_PET-F002", "Too many moves", "Upon move order optimization, the loadout had more than {} moves."),
+	ATTRIBUTE_BUILD_TOO_MANY_POINTS("ERR_PET-F003", "Too many points", "Upon attribute build optimization, the pet had more than {} undistributed points.");
 
 	public String code;
 	public String description;
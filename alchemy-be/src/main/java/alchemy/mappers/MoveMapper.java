@@ -5,14 +5,24 @@ import org.mapstruct.Mapping;
 import org.mapstruct.SubclassExhaustiveStrategy;
 import org.mapstruct.SubclassMapping;
 
+import alchemy.model.AttributeModifierComponentDTO;
 import alchemy.model.DamageComponentDTO;
+import alchemy.model.DamageOverTimeComponentDTO;
 import alchemy.model.DamageTypeDTO;
+import alchemy.model.DerivedAttributeDTO;
+import alchemy.model.EffectTargetDTO;
 import alchemy.model.MoveComponentDTO;
 import alchemy.model.MoveDTO;
+import alchemy.model.ShieldComponentDTO;
+import alchemy.model.pets.attributes.DerivedAttribute;
 import alchemy.model.pets.moves.Move;
+import alchemy.model.pets.moves.components.AttributeModifierComponent;
 import alchemy.model.pets.moves.components.DamageComponent;
+import alchemy.model.pets.moves.components.DamageOverTimeComponent;
 import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.EffectTarget;
 import alchemy.model.pets.moves.components.MoveComponent;
+import alchemy.model.pets.moves.components.ShieldComponent;
 
 @Mapper(componentModel = "spring", uses = { ConstraintMapper.class }, subclassExhaustiveStrategy = SubclassExhaustiveStrategy.RUNTIME_EXCEPTION)
 public interface MoveMapper {
@@ -43,13 +53,43 @@ public interface MoveMapper {
 	@Mapping(target = "damageType", source = "damageType")
 	DamageComponent toDamageComponentEntity(DamageComponentDTO dto);
 
+	@Mapping(target = "type", constant = "DAMAGE_OVER_TIME_COMPONENT")
+	DamageOverTimeComponentDTO toDamageOverTimeComponentDTO(DamageOverTimeComponent component);
+
+	@Mapping(target = "id", ignore = true)
+	DamageOverTimeComponent toDamageOverTimeComponentEntity(DamageOverTimeComponentDTO dto);
+
+	@Mapping(target = "type", constant = "SHIELD_COMPONENT")
+	ShieldComponentDTO toShieldComponentDTO(ShieldComponent component);
+
+	@Mapping(target = "id", ignore = true)
+	ShieldComponent toShieldComponentEntity(ShieldComponentDTO dto);
+
+	@Mapping(target = "type", constant = "ATTRIBUTE_MODIFIER_COMPONENT")
+	AttributeModifierComponentDTO toAttributeModifierComponentDTO(AttributeModifierComponent component);
+
+	@Mapping(target = "id", ignore = true)
+	AttributeModifierComponent toAttributeModifierComponentEntity(AttributeModifierComponentDTO dto);
+
 	@SubclassMapping(source = DamageComponentDTO.class, target = DamageComponent.class)
+	@SubclassMapping(source = DamageOverTimeComponentDTO.class, target = DamageOverTimeComponent.class)
+	@SubclassMapping(source = ShieldComponentDTO.class, target = ShieldComponent.class)
+	@SubclassMapping(source = AttributeModifierComponentDTO.class, target = AttributeModifierComponent.class)
 	MoveComponent toMoveComponentEntity(MoveComponentDTO dto);
 
 	@SubclassMapping(source = DamageComponent.class, target = DamageComponentDTO.class)
+	@SubclassMapping(source = DamageOverTimeComponent.class, target = DamageOverTimeComponentDTO.class)
+	@SubclassMapping(source = ShieldComponent.class, target = ShieldComponentDTO.class)
+	@SubclassMapping(source = AttributeModifierComponent.class, target = AttributeModifierComponentDTO.class)
 	MoveComponentDTO toMoveComponentDTO(MoveComponent dto);
 
 	DamageTypeDTO toDamageTypeDTO(DamageType source);
 	DamageType toDamageTypeEntity(DamageTypeDTO source);
 
+	DerivedAttributeDTO toDerivedAttributeDTO(DerivedAttribute source);
+	DerivedAttribute toDerivedAttributeEntity(DerivedAttributeDTO source);
+
+	EffectTargetDTO toEffectTargetDTO(EffectTarget source);
+	EffectTarget toEffectTargetEntity(EffectTargetDTO source);
+
 }
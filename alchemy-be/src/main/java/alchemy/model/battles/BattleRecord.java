@@ -0,0 +1,89 @@
+package alchemy.model.battles;
+
+import java.time.LocalDateTime;
+
+import alchemy.model.battles.replays.BattleReplay;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Append-only battle history. The event stream is kept as the encoded {@link BattleReplay}.
+ *
+ * Identifiers come from a pooled sequence rather than UUIDs : Hibernate reserves 50 of them per sequence call,
+ * and inserts stay batchable and append at the end of the primary key index.
+ */
+@Data
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "BattleRecord")
+public class BattleRecord {
+
+	public static final int ID_ALLOCATION_SIZE = 50;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "battle_record_sequence")
+	@SequenceGenerator(name = "battle_record_sequence", sequenceName = "battle_record_sequence", allocationSize = ID_ALLOCATION_SIZE)
+	@Column(name = "id")
+	private Long id;
+
+	@Column(name = "timestamp")
+	private LocalDateTime timestamp;
+
+	@Column(name = "first_champion")
+	private String firstChampion;
+
+	@Column(name = "second_champion")
+	private String secondChampion;
+
+	@Column(name = "first_fingerprint")
+	private long firstFingerprint;
+
+	@Column(name = "second_fingerprint")
+	private long secondFingerprint;
+
+	@Column(name = "seed")
+	private long seed;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "outcome")
+	private BattleOutcome outcome;
+
+	@Column(name = "turns")
+	private int turns;
+
+	@Column(name = "replay", length = 1_000_000)
+	private byte[] replay;
+
+	public static BattleRecord of(BattleReplay replay) {
+		return BattleRecord.builder()
+				.timestamp(LocalDateTime.now())
+				.firstChampion(replay.first().name())
+				.secondChampion(replay.second().name())
+				.firstFingerprint(replay.first().fingerprint())
+				.secondFingerprint(replay.second().fingerprint())
+				.seed(replay.seed())
+				.outcome(replay.outcome())
+				.turns(replay.turns())
+				.replay(replay.encode())
+				.build();
+	}
+
+	public BattleReplay getBattleReplay() {
+		return BattleReplay.decode(replay);
+	}
+
+}
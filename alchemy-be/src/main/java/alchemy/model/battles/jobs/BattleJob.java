@@ -0,0 +1,79 @@
+package alchemy.model.battles.jobs;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.replays.BattleReplay;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Battle submitted to the job queue. Its state is written by a single worker and read by any request thread.
+ */
+@Getter
+public class BattleJob {
+
+	private final UUID id = UUID.randomUUID();
+	private final ChampionSnapshot first;
+	private final ChampionSnapshot second;
+	private final long seed;
+	private final Instant submittedAt = Instant.now();
+
+	private volatile BattleJobStatus status = BattleJobStatus.QUEUED;
+	private volatile BattleReplay replay;
+	private volatile String error;
+	private volatile Instant finishedAt;
+
+	@Getter(AccessLevel.NONE)
+	private final CompletableFuture<BattleJob> completion = new CompletableFuture<>();
+
+	public BattleJob(ChampionSnapshot first, ChampionSnapshot second, long seed) {
+		this.first = first;
+		this.second = second;
+		this.seed = seed;
+	}
+
+	public boolean isFinished() {
+		return status == BattleJobStatus.COMPLETED || status == BattleJobStatus.FAILED;
+	}
+
+	public String getWinner() {
+		if (replay == null || !replay.outcome().hasWinner()) {
+			return null;
+		}
+
+		return replay.outcome() == BattleOutcome.FIRST_CHAMPION_WON ? first.name() : second.name();
+	}
+
+	/**
+	 * Completes once the job is finished, successfully or not.
+	 */
+	public CompletionStage<BattleJob> whenFinished() {
+		return completion.minimalCompletionStage();
+	}
+
+	public void start() {
+		status = BattleJobStatus.RUNNING;
+	}
+
+	public void complete(BattleReplay replay) {
+		this.replay = replay;
+		finish(BattleJobStatus.COMPLETED);
+	}
+
+	public void fail(String error) {
+		this.error = error;
+		finish(BattleJobStatus.FAILED);
+	}
+
+	private void finish(BattleJobStatus status) {
+		this.finishedAt = Instant.now();
+		this.status = status;
+		completion.complete(this);
+	}
+
+}
@@ -0,0 +1,10 @@
+package alchemy.model.battles.jobs;
+
+public enum BattleJobStatus {
+
+	QUEUED,
+	RUNNING,
+	COMPLETED,
+	FAILED;
+
+}
@@ -0,0 +1,27 @@
+package alchemy.model.battles.matchmaking;
+
+import alchemy.model.battles.BattleOutcome;
+
+/**
+ * Elo rating system : a 400 points gap means the stronger pet is expected to win ten times out of eleven.
+ */
+public record EloRating(int kFactor) {
+
+	public double expectedScore(int rating, int opponentRating) {
+		return 1.0 / (1.0 + Math.pow(10.0, (opponentRating - rating) / 400.0));
+	}
+
+	/**
+	 * Returns the rating change of the first champion. The second champion changes by the opposite amount.
+	 */
+	public int getDelta(int firstRating, int secondRating, BattleOutcome outcome) {
+		double score = switch (outcome) {
+			case FIRST_CHAMPION_WON -> 1.0;
+			case SECOND_CHAMPION_WON -> 0.0;
+			case DRAW, STALEMATE -> 0.5;
+		};
+
+		return (int) Math.round(kFactor * (score - expectedScore(firstRating, secondRating)));
+	}
+
+}
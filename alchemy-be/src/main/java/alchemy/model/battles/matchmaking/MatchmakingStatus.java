@@ -0,0 +1,9 @@
+package alchemy.model.battles.matchmaking;
+
+public enum MatchmakingStatus {
+
+	WAITING,
+	MATCHED,
+	COMPLETED
+
+}
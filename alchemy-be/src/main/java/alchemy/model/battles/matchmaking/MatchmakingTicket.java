@@ -0,0 +1,94 @@
+package alchemy.model.battles.matchmaking;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.jobs.BattleJob;
+import lombok.Getter;
+
+/**
+ * Pet waiting in the matchmaking queue. The acceptable rating gap starts at initialWindow, widens by windowGrowth
+ * each second spent waiting, and stops at maxWindow.
+ *
+ * Its state is written under the lock of the matchmaking service and read by any request thread. The battle job is
+ * only held until the battle is settled : completed tickets keep its identifier, the job itself being retained by the
+ * battle job service.
+ *
+ * The fingerprint and the last missed lookup are only used by the matchmaking service, under its lock.
+ */
+@Getter
+public class MatchmakingTicket {
+
+	private final UUID petId;
+	private final ChampionSnapshot snapshot;
+	private final int rating;
+	private final Instant enqueuedAt;
+
+	private volatile MatchmakingStatus status = MatchmakingStatus.WAITING;
+	private volatile UUID opponentPetId;
+	private volatile UUID jobId;
+	private volatile BattleJob job;
+
+	private Long fingerprint;
+	private int missedWindow = -1;
+	private long missedGeneration = -1;
+
+	public MatchmakingTicket(UUID petId, ChampionSnapshot snapshot, int rating, Instant enqueuedAt) {
+		this.petId = petId;
+		this.snapshot = snapshot;
+		this.rating = rating;
+		this.enqueuedAt = enqueuedAt;
+	}
+
+	public int getWindow(Instant now, int initialWindow, int windowGrowth, int maxWindow) {
+		long waited = Math.max(0, Duration.between(enqueuedAt, now).toSeconds());
+
+		return (int) Math.min(maxWindow, initialWindow + waited * windowGrowth);
+	}
+
+	/**
+	 * Fingerprint of the snapshot, computed on first use.
+	 */
+	public long getFingerprint() {
+		if (fingerprint == null) {
+			fingerprint = snapshot.fingerprint();
+		}
+
+		return fingerprint;
+	}
+
+	/**
+	 * Records a lookup which found no opponent with the given window, in the given generation of the index. The index
+	 * changes generation whenever a ticket enters or leaves it.
+	 */
+	public void missed(int window, long generation) {
+		missedWindow = window;
+		missedGeneration = generation;
+	}
+
+	/**
+	 * Whether a lookup with the given window, in the given generation of the index, is known to find no opponent.
+	 */
+	public boolean hasMissed(int window, long generation) {
+		return missedWindow == window && missedGeneration == generation;
+	}
+
+	public boolean isActive() {
+		return status != MatchmakingStatus.COMPLETED;
+	}
+
+	public void match(MatchmakingTicket opponent, BattleJob job) {
+		this.opponentPetId = opponent.getPetId();
+		this.jobId = job.getId();
+		this.job = job;
+		this.status = MatchmakingStatus.MATCHED;
+	}
+
+	public void complete() {
+		status = MatchmakingStatus.COMPLETED;
+		job = null;
+	}
+
+}
@@ -0,0 +1,42 @@
+package alchemy.model.battles.matchmaking;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Matchmaking rating of a pet. Pets that never battled in matchmaking have no row and start at the initial rating.
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "PetRating")
+public class PetRating {
+
+	@Id
+	@Column(name = "pet_id", columnDefinition = "uuid")
+	private UUID petId;
+
+	@Column(name = "rating")
+	private int rating;
+
+	@Column(name = "battles")
+	private int battles;
+
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
+	public PetRating(UUID petId, int rating) {
+		this(petId, rating, 0, LocalDateTime.now());
+	}
+
+}
@@ -0,0 +1,148 @@
+package alchemy.model.battles.matchmaking;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Waiting tickets ordered by rating, grouped in buckets of bucketWidth points. Only non-empty buckets are kept, and
+ * tickets of a bucket are kept in arrival order, so finding an opponent costs O(log b) for b buckets whatever the
+ * number of waiting tickets : the closest bucket is a floor or ceiling lookup, and its oldest ticket is the opponent.
+ *
+ * Ratings are compared at bucket granularity : two tickets of the same bucket are equally close, and a window is
+ * rounded down to a whole number of buckets.
+ *
+ * Not thread-safe.
+ */
+public class RatingIndex {
+
+	private final int bucketWidth;
+	private final TreeMap<Integer, LinkedHashSet<MatchmakingTicket>> buckets = new TreeMap<>();
+	private int size;
+
+	public RatingIndex(int bucketWidth) {
+		if (bucketWidth <= 0) {
+			throw new IllegalArgumentException("Bucket width must be positive : " + bucketWidth);
+		}
+
+		this.bucketWidth = bucketWidth;
+	}
+
+	public void add(MatchmakingTicket ticket) {
+		if (buckets.computeIfAbsent(getBucket(ticket), bucket -> new LinkedHashSet<>()).add(ticket)) {
+			size++;
+		}
+	}
+
+	public boolean remove(MatchmakingTicket ticket) {
+		int bucket = getBucket(ticket);
+		LinkedHashSet<MatchmakingTicket> tickets = buckets.get(bucket);
+
+		if (tickets == null || !tickets.remove(ticket)) {
+			return false;
+		}
+
+		if (tickets.isEmpty()) {
+			buckets.remove(bucket);
+		}
+
+		size--;
+		return true;
+	}
+
+	/**
+	 * Returns the longest waiting ticket of the closest bucket within window points of the given ticket, other than
+	 * the ticket itself, or null. The ticket doesn't need to be in the index.
+	 */
+	public MatchmakingTicket findOpponent(MatchmakingTicket ticket, int window) {
+		return findOpponent(ticket, window, candidate -> true);
+	}
+
+	/**
+	 * Same as {@link #findOpponent(MatchmakingTicket, int)}, for the accepted tickets only : buckets are visited from
+	 * the closest one outwards, each from its oldest ticket, so every rejected ticket adds to the cost of the lookup.
+	 */
+	public MatchmakingTicket findOpponent(MatchmakingTicket ticket, int window, Predicate<MatchmakingTicket> accepted) {
+		return findOpponent(ticket, window, accepted, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Same as {@link #findOpponent(MatchmakingTicket, int, Predicate)}, giving up after maxCandidates tickets : only
+	 * the nearest ones are tested, which bounds the cost of an expensive predicate.
+	 */
+	public MatchmakingTicket findOpponent(MatchmakingTicket ticket, int window, Predicate<MatchmakingTicket> accepted,
+			int maxCandidates) {
+		int[] candidates = { maxCandidates };
+		int bucket = getBucket(ticket);
+		MatchmakingTicket sameBucket = getOldest(buckets.get(bucket), ticket, accepted, candidates);
+
+		if (sameBucket != null) {
+			return sameBucket;
+		}
+
+		Map.Entry<Integer, LinkedHashSet<MatchmakingTicket>> below = buckets.lowerEntry(bucket);
+		Map.Entry<Integer, LinkedHashSet<MatchmakingTicket>> above = buckets.higherEntry(bucket);
+
+		while (candidates[0] > 0) {
+			long belowGap = below == null ? Long.MAX_VALUE : (long) bucket - below.getKey();
+			long aboveGap = above == null ? Long.MAX_VALUE : (long) above.getKey() - bucket;
+
+			if (Math.min(belowGap, aboveGap) > window / bucketWidth) {
+				return null;
+			}
+
+			MatchmakingTicket candidate;
+
+			if (belowGap <= aboveGap) {
+				candidate = getOldest(below.getValue(), ticket, accepted, candidates);
+				below = buckets.lowerEntry(below.getKey());
+			} else {
+				candidate = getOldest(above.getValue(), ticket, accepted, candidates);
+				above = buckets.higherEntry(above.getKey());
+			}
+
+			if (candidate != null) {
+				return candidate;
+			}
+		}
+
+		return null;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Oldest accepted ticket of the bucket, each tested ticket being taken from the candidates left.
+	 */
+	private MatchmakingTicket getOldest(LinkedHashSet<MatchmakingTicket> tickets, MatchmakingTicket excluded,
+			Predicate<MatchmakingTicket> accepted, int[] candidates) {
+		if (tickets == null) {
+			return null;
+		}
+
+		Iterator<MatchmakingTicket> iterator = tickets.iterator();
+
+		while (iterator.hasNext() && candidates[0] > 0) {
+			MatchmakingTicket candidate = iterator.next();
+
+			if (candidate != excluded) {
+				candidates[0]--;
+
+				if (accepted.test(candidate)) {
+					return candidate;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private int getBucket(MatchmakingTicket ticket) {
+		return Math.floorDiv(ticket.getRating(), bucketWidth);
+	}
+
+}
@@ -0,0 +1,18 @@
+package alchemy.model.battles.simulations;
+
+import alchemy.model.pets.attributes.BaseAttribute;
+
+/**
+ * Points added to each base attribute, indexed by {@link BaseAttribute} ordinal, and the results of the pet with
+ * them against the reference opponents.
+ */
+public record AttributeBuild (
+		int[] points,
+		MatchupStats stats
+		){
+
+	public int getPoints(BaseAttribute attribute) {
+		return points[attribute.ordinal()];
+	}
+
+}
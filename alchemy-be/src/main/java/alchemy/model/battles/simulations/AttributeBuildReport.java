@@ -0,0 +1,20 @@
+package alchemy.model.battles.simulations;
+
+import java.util.List;
+
+/**
+ * Best allocations of the undistributed points of a pet, by decreasing wins.
+ *
+ * Allocations that cannot do better than another one, or that play exactly like another one, are never simulated :
+ * only the candidates are. Pruned candidates were dropped before the end of their battles, as they could no longer
+ * rank among the best.
+ */
+public record AttributeBuildReport (
+		int points,
+		List<AttributeBuild> best,
+		long allocations,
+		int candidates,
+		int pruned
+		){
+
+}
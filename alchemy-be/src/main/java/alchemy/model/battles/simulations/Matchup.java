@@ -0,0 +1,9 @@
+package alchemy.model.battles.simulations;
+
+/**
+ * Pairing of two pets, referenced by their index in the simulated pet list.
+ */
+public record Matchup (
+		int first,
+		int second
+		){ }
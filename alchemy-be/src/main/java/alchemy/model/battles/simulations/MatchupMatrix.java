@@ -0,0 +1,38 @@
+package alchemy.model.battles.simulations;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Pairwise results of a set of champions : the cell (i, j) holds the battles of i against j from the point of view of i.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchupMatrix {
+
+	private final List<String> names;
+	private final int battlesPerPair;
+	private final long seed;
+	private final long catalogVersion;
+	private final int cachedPairs;
+	private final MatchupStats[][] stats;
+
+	public int size() {
+		return names.size();
+	}
+
+	public MatchupStats getStats(int row, int column) {
+		return stats[row][column];
+	}
+
+	public double getWinRate(int row, int column) {
+		return stats[row][column].getWinRate();
+	}
+
+	public double getDrawRate(int row, int column) {
+		return stats[row][column].getDrawRate();
+	}
+
+}
@@ -0,0 +1,31 @@
+package alchemy.model.battles.simulations;
+
+/**
+ * Results of the battles of one pair of champions, from the point of view of the first one.
+ */
+public record MatchupStats (
+		long wins,
+		long losses,
+		long draws,
+		long turns
+		){
+
+	public long getBattles() {
+		return wins + losses + draws;
+	}
+
+	public double getWinRate() {
+		long battles = getBattles();
+		return battles == 0 ? 0 : (double) wins / battles;
+	}
+
+	public double getDrawRate() {
+		long battles = getBattles();
+		return battles == 0 ? 0 : (double) draws / battles;
+	}
+
+	public MatchupStats reversed() {
+		return new MatchupStats(losses, wins, draws, turns);
+	}
+
+}
@@ -0,0 +1,15 @@
+package alchemy.model.battles.simulations;
+
+import java.util.List;
+
+/**
+ * A priority order of the moves of a loadout, as the slots of the current loadout, and its results against the
+ * reference opponents. Moves after the reachable ones are never played, whatever their order.
+ */
+public record MoveOrder (
+		List<Integer> slots,
+		int reachableMoves,
+		MatchupStats stats
+		){
+
+}
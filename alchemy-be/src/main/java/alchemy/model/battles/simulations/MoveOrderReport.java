@@ -0,0 +1,19 @@
+package alchemy.model.battles.simulations;
+
+import java.util.List;
+
+/**
+ * Best move orders of a search, by decreasing wins, along with the current order of the loadout.
+ *
+ * Permutations only differing by unreachable moves are a single candidate. Pruned candidates were dropped before the
+ * end of their battles, as they could no longer rank among the best.
+ */
+public record MoveOrderReport (
+		MoveOrder current,
+		List<MoveOrder> best,
+		long permutations,
+		int candidates,
+		int pruned
+		){
+
+}
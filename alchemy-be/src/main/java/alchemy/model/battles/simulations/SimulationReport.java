@@ -0,0 +1,81 @@
+package alchemy.model.battles.simulations;
+
+import alchemy.model.battles.BattleResult;
+import lombok.Getter;
+
+/**
+ * Aggregated results of a bulk simulation. Per pet counters are indexed like the simulated pet list.
+ * Reports are filled independently by each simulation task, then merged together.
+ */
+@Getter
+public class SimulationReport {
+
+	private final long[] wins;
+	private final long[] losses;
+	private final long[] draws;
+
+	private long battles;
+	private long totalTurns;
+	private int minTurns = Integer.MAX_VALUE;
+	private int maxTurns;
+
+	public SimulationReport(int pets) {
+		this.wins = new long[pets];
+		this.losses = new long[pets];
+		this.draws = new long[pets];
+	}
+
+	public void record(Matchup matchup, BattleResult result) {
+		switch (result.outcome()) {
+			case FIRST_CHAMPION_WON:
+				wins[matchup.first()]++;
+				losses[matchup.second()]++;
+				break;
+			case SECOND_CHAMPION_WON:
+				wins[matchup.second()]++;
+				losses[matchup.first()]++;
+				break;
+			case DRAW:
+			case STALEMATE:
+				draws[matchup.first()]++;
+				draws[matchup.second()]++;
+				break;
+		}
+
+		battles++;
+		totalTurns += result.turns();
+		minTurns = Math.min(minTurns, result.turns());
+		maxTurns = Math.max(maxTurns, result.turns());
+	}
+
+	public void merge(SimulationReport other) {
+		for (int i = 0; i < wins.length; i++) {
+			wins[i] += other.wins[i];
+			losses[i] += other.losses[i];
+			draws[i] += other.draws[i];
+		}
+
+		battles += other.battles;
+		totalTurns += other.totalTurns;
+		minTurns = Math.min(minTurns, other.minTurns);
+		maxTurns = Math.max(maxTurns, other.maxTurns);
+	}
+
+	public long getBattles(int pet) {
+		return wins[pet] + losses[pet] + draws[pet];
+	}
+
+	public double getWinRate(int pet) {
+		long battles = getBattles(pet);
+		return battles == 0 ? 0 : (double) wins[pet] / battles;
+	}
+
+	public double getAverageTurns() {
+		return battles == 0 ? 0 : (double) totalTurns / battles;
+	}
+
+	public int getMinTurns() {
+		return battles == 0 ? 0 : minTurns;
+	}
+
+}
@@ -0,0 +1,10 @@
+package alchemy.model.battles.tournaments;
+
+import alchemy.model.battles.BattleResult;
+
+@FunctionalInterface
+public interface MatchPlayer {
+
+	BattleResult play(TournamentEntrant first, TournamentEntrant second, long seed);
+
+}
@@ -0,0 +1,66 @@
+package alchemy.model.battles.tournaments;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tournament and its progress. The identifier is given upon creation, so that the tournament can be polled before
+ * its first write.
+ */
+@Data
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "Tournament")
+public class Tournament {
+
+	@Id
+	@Column(name = "id", columnDefinition = "uuid")
+	private UUID id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "format")
+	private TournamentFormat format;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status")
+	private TournamentStatus status;
+
+	@Column(name = "entrants")
+	private int entrants;
+
+	@Column(name = "rounds")
+	private int rounds;
+
+	@Column(name = "seed")
+	private long seed;
+
+	@Column(name = "matches_played")
+	private int matchesPlayed;
+
+	@Column(name = "winner_pet_id", columnDefinition = "uuid")
+	private UUID winnerPetId;
+
+	@Column(name = "winner")
+	private String winner;
+
+	@Column(name = "created_at")
+	private LocalDateTime createdAt;
+
+	@Column(name = "finished_at")
+	private LocalDateTime finishedAt;
+
+}
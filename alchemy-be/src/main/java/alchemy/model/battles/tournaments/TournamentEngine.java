@@ -0,0 +1,416 @@
+package alchemy.model.battles.tournaments;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.BattleResult;
+
+/**
+ * Plays tournaments on an executor.
+ *
+ * Elimination brackets are built upfront as a graph of futures : each match starts as soon as both of its entrants
+ * are decided, so that a fast branch of the bracket never waits for a slow one. Swiss rounds are paired from the
+ * standings of every previous round, so they run one after the other, with the matches of a round in parallel.
+ *
+ * Match numbers are given in building order and each match is seeded from its number, so that results only depend
+ * on the entrants and the tournament seed, whatever the order matches complete in. Elimination matches ending
+ * without a winner go to the entrant their seed gives the initiative to. Every played match is reported to the
+ * listener, from the thread that played it.
+ */
+public class TournamentEngine {
+
+	private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+	private final Executor executor;
+	private final MatchPlayer player;
+	private final Consumer<TournamentMatchResult> listener;
+
+	public TournamentEngine(Executor executor, MatchPlayer player, Consumer<TournamentMatchResult> listener) {
+		this.executor = executor;
+		this.player = player;
+		this.listener = listener;
+	}
+
+	/**
+	 * Default number of Swiss rounds, enough to single out a winner : ceil(log2(entrants)).
+	 */
+	public static int getSwissRounds(int entrants) {
+		return Integer.numberOfTrailingZeros(getBracketSize(entrants));
+	}
+
+	/**
+	 * Smallest power of two holding every entrant. Missing entrants are byes, given to the best seeds.
+	 */
+	public static int getBracketSize(int entrants) {
+		return entrants <= 1 ? 1 : Integer.highestOneBit(entrants - 1) << 1;
+	}
+
+	public CompletableFuture<TournamentResult> start(TournamentFormat format, List<TournamentEntrant> entrants, long seed,
+			int swissRounds) {
+		if (entrants.size() < 2) {
+			throw new IllegalArgumentException("A tournament needs at least 2 entrants : " + entrants.size());
+		}
+
+		Run run = new Run(entrants, seed);
+
+		return switch (format) {
+			case SINGLE_ELIMINATION -> run.singleElimination();
+			case DOUBLE_ELIMINATION -> run.doubleElimination();
+			case SWISS -> run.swiss(swissRounds);
+		};
+	}
+
+	private record MatchOutcome(int first, int second, int winner, int loser) {
+
+	}
+
+	private class Run {
+
+		private final List<TournamentEntrant> entrants;
+		private final long seed;
+		private final AtomicInteger matches = new AtomicInteger();
+
+		/**
+		 * Elimination depth of each entrant, the deeper the better. Each slot is written once, by the match that
+		 * eliminated the entrant, and read once the tournament is over.
+		 */
+		private final int[] eliminatedAt;
+
+		private int nextNumber;
+		private int rounds;
+
+		private Run(List<TournamentEntrant> entrants, long seed) {
+			this.entrants = entrants;
+			this.seed = seed;
+			this.eliminatedAt = new int[entrants.size()];
+		}
+
+		private CompletableFuture<TournamentResult> singleElimination() {
+			List<CompletableFuture<Integer>> slots = seedBracket();
+			rounds = Integer.numberOfTrailingZeros(slots.size());
+
+			for (int round = 1; round <= rounds; round++) {
+				slots = winners(playRound(slots, TournamentStage.WINNERS, round, round));
+			}
+
+			return slots.get(0).thenApply(this::finishElimination);
+		}
+
+		/**
+		 * Losers of the winners bracket drop into the losers bracket, where a second loss eliminates. Each losers
+		 * round facing newly dropped entrants pairs them in reverse order, to delay rematches, and is followed by a
+		 * round among the survivors. The grand final is replayed when the losers bracket champion wins it.
+		 */
+		private CompletableFuture<TournamentResult> doubleElimination() {
+			List<CompletableFuture<Integer>> slots = seedBracket();
+			int winnersRounds = Integer.numberOfTrailingZeros(slots.size());
+			List<List<CompletableFuture<Integer>>> dropped = new ArrayList<>(winnersRounds);
+
+			for (int round = 1; round <= winnersRounds; round++) {
+				List<CompletableFuture<MatchOutcome>> outcomes = playRound(slots, TournamentStage.WINNERS, round, 0);
+				slots = winners(outcomes);
+				dropped.add(losers(outcomes));
+			}
+
+			List<CompletableFuture<Integer>> losers = dropped.get(0);
+			int losersRound = 0;
+
+			if (losers.size() > 1) {
+				losersRound++;
+				losers = winners(playRound(losers, TournamentStage.LOSERS, losersRound, losersRound));
+			}
+
+			for (int round = 2; round <= winnersRounds; round++) {
+				List<CompletableFuture<Integer>> incoming = dropped.get(round - 1);
+				List<CompletableFuture<MatchOutcome>> outcomes = new ArrayList<>(losers.size());
+				losersRound++;
+
+				for (int i = 0; i < losers.size(); i++) {
+					outcomes.add(match(losers.get(i), incoming.get(incoming.size() - 1 - i), TournamentStage.LOSERS,
+							losersRound, losersRound));
+				}
+
+				losers = winners(outcomes);
+
+				if (losers.size() > 1) {
+					losersRound++;
+					losers = winners(playRound(losers, TournamentStage.LOSERS, losersRound, losersRound));
+				}
+			}
+
+			int finalDepth = losersRound + 1;
+			CompletableFuture<MatchOutcome> grandFinal = match(slots.get(0), losers.get(0), TournamentStage.GRAND_FINAL, 1, 0);
+			int resetNumber = nextNumber++;
+			rounds = winnersRounds + losersRound + 1;
+
+			CompletableFuture<Integer> champion = grandFinal.thenCompose(outcome -> {
+				if (outcome.winner() == outcome.first()) {
+					if (outcome.loser() >= 0) {
+						eliminatedAt[outcome.loser()] = finalDepth;
+					}
+
+					return CompletableFuture.completedFuture(outcome.winner());
+				}
+
+				return CompletableFuture.<MatchOutcome>supplyAsync(() -> play(resetNumber, TournamentStage.GRAND_FINAL, 2,
+						outcome.first(), outcome.second(), finalDepth), executor).thenApply(MatchOutcome::winner);
+			});
+
+			return champion.thenApply(this::finishElimination);
+		}
+
+		private CompletableFuture<TournamentResult> swiss(int roundCount) {
+			rounds = roundCount;
+			Standings standings = new Standings(entrants.size(), roundCount);
+			CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+
+			for (int round = 1; round <= roundCount; round++) {
+				int current = round;
+				chain = chain.thenComposeAsync(ignored -> playSwissRound(standings, current), executor);
+			}
+
+			return chain.thenApply(ignored -> finishSwiss(standings));
+		}
+
+		/**
+		 * Pairs entrants by points, each with the best ranked entrant it didn't meet yet, falling back to a rematch.
+		 * With an odd number of entrants, the lowest ranked one without a bye yet gets one, worth a win.
+		 */
+		private CompletableFuture<Void> playSwissRound(Standings standings, int round) {
+			int size = entrants.size();
+			int[] order = IntStream.range(0, size).boxed()
+					.sorted(Comparator.comparingInt((Integer entrant) -> -standings.points[entrant]).thenComparingInt(entrant -> entrant))
+					.mapToInt(Integer::intValue)
+					.toArray();
+			boolean[] paired = new boolean[size];
+
+			if (size % 2 == 1) {
+				int bye = order[size - 1];
+
+				for (int i = size - 1; i >= 0; i--) {
+					if (!standings.hadBye[order[i]]) {
+						bye = order[i];
+						break;
+					}
+				}
+
+				paired[bye] = true;
+				standings.hadBye[bye] = true;
+				standings.points[bye] += 2;
+			}
+
+			List<CompletableFuture<Void>> futures = new ArrayList<>(size / 2);
+
+			for (int i = 0; i < size; i++) {
+				int first = order[i];
+
+				if (paired[first]) {
+					continue;
+				}
+
+				int second = -1;
+				int fallback = -1;
+
+				for (int j = i + 1; j < size; j++) {
+					int candidate = order[j];
+
+					if (paired[candidate]) {
+						continue;
+					}
+
+					if (fallback < 0) {
+						fallback = candidate;
+					}
+
+					if (!standings.met.contains(Standings.pairKey(first, candidate))) {
+						second = candidate;
+						break;
+					}
+				}
+
+				int opponent = second >= 0 ? second : fallback;
+				int number = nextNumber++;
+				paired[first] = true;
+				paired[opponent] = true;
+				standings.meet(first, opponent);
+
+				futures.add(CompletableFuture.runAsync(
+						() -> standings.record(battle(number, TournamentStage.SWISS, round, first, opponent, true)), executor));
+			}
+
+			return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+		}
+
+		private List<CompletableFuture<Integer>> seedBracket() {
+			int size = getBracketSize(entrants.size());
+			int[] order = { 0 };
+
+			// Standard seeding : seed s meets seed (2k - 1 - s) in the round of 2k, so the best seeds meet last.
+			while (order.length < size) {
+				int[] next = new int[order.length * 2];
+
+				for (int i = 0; i < order.length; i++) {
+					next[2 * i] = order[i];
+					next[2 * i + 1] = next.length - 1 - order[i];
+				}
+
+				order = next;
+			}
+
+			List<CompletableFuture<Integer>> slots = new ArrayList<>(size);
+
+			for (int entrant : order) {
+				slots.add(CompletableFuture.completedFuture(entrant < entrants.size() ? entrant : -1));
+			}
+
+			return slots;
+		}
+
+		private List<CompletableFuture<MatchOutcome>> playRound(List<CompletableFuture<Integer>> slots, TournamentStage stage,
+				int round, int eliminates) {
+			List<CompletableFuture<MatchOutcome>> outcomes = new ArrayList<>(slots.size() / 2);
+
+			for (int i = 0; i + 1 < slots.size(); i += 2) {
+				outcomes.add(match(slots.get(i), slots.get(i + 1), stage, round, eliminates));
+			}
+
+			return outcomes;
+		}
+
+		private CompletableFuture<MatchOutcome> match(CompletableFuture<Integer> first, CompletableFuture<Integer> second,
+				TournamentStage stage, int round, int eliminates) {
+			int number = nextNumber++;
+
+			return first.thenCombineAsync(second, (a, b) -> play(number, stage, round, a, b, eliminates), executor);
+		}
+
+		/**
+		 * Plays an elimination match, where -1 stands for a bye. The loser is eliminated at the given depth, or stays
+		 * in the tournament for a depth of 0.
+		 */
+		private MatchOutcome play(int number, TournamentStage stage, int round, int first, int second, int eliminates) {
+			if (first < 0 || second < 0) {
+				return new MatchOutcome(first, second, Math.max(first, second), -1);
+			}
+
+			TournamentMatchResult result = battle(number, stage, round, first, second, false);
+
+			if (eliminates > 0) {
+				eliminatedAt[result.getLoser()] = eliminates;
+			}
+
+			return new MatchOutcome(first, second, result.winner(), result.getLoser());
+		}
+
+		private TournamentMatchResult battle(int number, TournamentStage stage, int round, int first, int second,
+				boolean allowDraw) {
+			long matchSeed = seed + number * SEED_INCREMENT;
+			BattleResult battle = player.play(entrants.get(first), entrants.get(second), matchSeed);
+
+			int winner = switch (battle.outcome()) {
+				case FIRST_CHAMPION_WON -> first;
+				case SECOND_CHAMPION_WON -> second;
+				// Elimination needs a winner : the one the match seed gives the initiative to, not always the best seed.
+				default -> allowDraw ? -1 : BattleEngine.hasInitiative(matchSeed) ? first : second;
+			};
+
+			TournamentMatchResult result = new TournamentMatchResult(number, stage, round, first, second, winner,
+					battle.outcome(), battle.turns(), matchSeed);
+			matches.incrementAndGet();
+			listener.accept(result);
+
+			return result;
+		}
+
+		private TournamentResult finishElimination(int champion) {
+			eliminatedAt[champion] = Integer.MAX_VALUE;
+
+			return new TournamentResult(rank(Comparator.comparingInt((Integer entrant) -> -eliminatedAt[entrant])), matches.get(), rounds);
+		}
+
+		private TournamentResult finishSwiss(Standings standings) {
+			long[] buchholz = standings.getBuchholz();
+
+			return new TournamentResult(rank(Comparator.comparingInt((Integer entrant) -> -standings.points[entrant])
+					.thenComparingLong(entrant -> -buchholz[entrant])), matches.get(), rounds);
+		}
+
+		private int[] rank(Comparator<Integer> order) {
+			return IntStream.range(0, entrants.size()).boxed()
+					.sorted(order.thenComparingInt(entrant -> entrant))
+					.mapToInt(Integer::intValue)
+					.toArray();
+		}
+
+		private List<CompletableFuture<Integer>> winners(List<CompletableFuture<MatchOutcome>> outcomes) {
+			return outcomes.stream().map(outcome -> outcome.thenApply(MatchOutcome::winner)).toList();
+		}
+
+		private List<CompletableFuture<Integer>> losers(List<CompletableFuture<MatchOutcome>> outcomes) {
+			return outcomes.stream().map(outcome -> outcome.thenApply(MatchOutcome::loser)).toList();
+		}
+
+	}
+
+	/**
+	 * Swiss standings, in half points : a win is worth 2, a draw 1. Pairings are written by the pairing thread,
+	 * and points by the matches of a round, which never share an entrant.
+	 */
+	private static class Standings {
+
+		private final int[] points;
+		private final boolean[] hadBye;
+		private final int[][] opponents;
+		private final int[] opponentCounts;
+		private final Set<Long> met = new HashSet<>();
+
+		private Standings(int entrants, int rounds) {
+			this.points = new int[entrants];
+			this.hadBye = new boolean[entrants];
+			this.opponents = new int[entrants][rounds];
+			this.opponentCounts = new int[entrants];
+		}
+
+		private static long pairKey(int first, int second) {
+			return ((long) Math.min(first, second) << 32) | Math.max(first, second);
+		}
+
+		private void meet(int first, int second) {
+			met.add(pairKey(first, second));
+			opponents[first][opponentCounts[first]++] = second;
+			opponents[second][opponentCounts[second]++] = first;
+		}
+
+		private void record(TournamentMatchResult result) {
+			if (result.winner() < 0) {
+				points[result.first()]++;
+				points[result.second()]++;
+			} else {
+				points[result.winner()] += 2;
+			}
+		}
+
+		private long[] getBuchholz() {
+			long[] buchholz = new long[points.length];
+
+			for (int entrant = 0; entrant < points.length; entrant++) {
+				for (int i = 0; i < opponentCounts[entrant]; i++) {
+					buchholz[entrant] += points[opponents[entrant][i]];
+				}
+			}
+
+			return buchholz;
+		}
+
+	}
+
+}
@@ -0,0 +1,20 @@
+package alchemy.model.battles.tournaments;
+
+import java.util.UUID;
+
+import alchemy.model.battles.ChampionSnapshot;
+
+/**
+ * Pet taking part in a tournament. Entrants are seeded by their position in the entrant list, first being the best.
+ */
+public record TournamentEntrant (
+		UUID petId,
+		ChampionSnapshot snapshot,
+		long fingerprint
+		){
+
+	public static TournamentEntrant of(UUID petId, ChampionSnapshot snapshot) {
+		return new TournamentEntrant(petId, snapshot, snapshot.fingerprint());
+	}
+
+}
@@ -0,0 +1,9 @@
+package alchemy.model.battles.tournaments;
+
+public enum TournamentFormat {
+
+	SINGLE_ELIMINATION,
+	DOUBLE_ELIMINATION,
+	SWISS
+
+}
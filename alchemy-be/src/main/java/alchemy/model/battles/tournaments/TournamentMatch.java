@@ -0,0 +1,71 @@
+package alchemy.model.battles.tournaments;
+
+import java.util.UUID;
+
+import alchemy.model.battles.BattleOutcome;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Match played in a tournament. Written in batches, with pooled sequence identifiers like {@code BattleRecord}.
+ */
+@Data
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "TournamentMatch", indexes = @Index(name = "tournament_match_tournament_index", columnList = "tournament_id"))
+public class TournamentMatch {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournament_match_sequence")
+	@SequenceGenerator(name = "tournament_match_sequence", sequenceName = "tournament_match_sequence", allocationSize = 50)
+	@Column(name = "id")
+	private Long id;
+
+	@Column(name = "tournament_id", columnDefinition = "uuid")
+	private UUID tournamentId;
+
+	@Column(name = "number")
+	private int number;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "stage")
+	private TournamentStage stage;
+
+	@Column(name = "round")
+	private int round;
+
+	@Column(name = "first_pet_id", columnDefinition = "uuid")
+	private UUID firstPetId;
+
+	@Column(name = "second_pet_id", columnDefinition = "uuid")
+	private UUID secondPetId;
+
+	@Column(name = "winner_pet_id", columnDefinition = "uuid")
+	private UUID winnerPetId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "outcome")
+	private BattleOutcome outcome;
+
+	@Column(name = "turns")
+	private int turns;
+
+	@Column(name = "seed")
+	private long seed;
+
+}
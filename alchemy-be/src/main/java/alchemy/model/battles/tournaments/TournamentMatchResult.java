@@ -0,0 +1,26 @@
+package alchemy.model.battles.tournaments;
+
+import alchemy.model.battles.BattleOutcome;
+
+/**
+ * Match played in a tournament. Entrants are given by their seed, and winner is -1 for a Swiss draw.
+ *
+ * Elimination matches always have a winner : when the battle has none, the better seeded entrant advances.
+ */
+public record TournamentMatchResult (
+		int number,
+		TournamentStage stage,
+		int round,
+		int first,
+		int second,
+		int winner,
+		BattleOutcome outcome,
+		int turns,
+		long seed
+		){
+
+	public int getLoser() {
+		return winner < 0 ? -1 : winner == first ? second : first;
+	}
+
+}
@@ -0,0 +1,19 @@
+package alchemy.model.battles.tournaments;
+
+/**
+ * Final ranking of a tournament, as entrant seeds from first to last place.
+ *
+ * Elimination entrants are ranked by how far they went, Swiss entrants by points then Buchholz score (the points
+ * of their opponents). Remaining ties are broken by seed.
+ */
+public record TournamentResult (
+		int[] ranking,
+		int matches,
+		int rounds
+		){
+
+	public int getWinner() {
+		return ranking[0];
+	}
+
+}
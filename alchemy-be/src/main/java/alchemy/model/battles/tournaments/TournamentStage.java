@@ -0,0 +1,10 @@
+package alchemy.model.battles.tournaments;
+
+public enum TournamentStage {
+
+	WINNERS,
+	LOSERS,
+	GRAND_FINAL,
+	SWISS
+
+}
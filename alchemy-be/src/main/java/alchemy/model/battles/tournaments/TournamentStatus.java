@@ -0,0 +1,9 @@
+package alchemy.model.battles.tournaments;
+
+public enum TournamentStatus {
+
+	RUNNING,
+	COMPLETED,
+	FAILED
+
+}
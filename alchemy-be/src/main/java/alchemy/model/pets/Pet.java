@@ -1,8 +1,12 @@
 package alchemy.model.pets;
 
+import java.util.List;
 import java.util.UUID;
 
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.plans.MovePlan;
 import alchemy.model.pets.attributes.AttributeLoadout;
+import alchemy.model.pets.attributes.BaseAttribute;
 import alchemy.model.pets.genes.GeneLoadout;
 import alchemy.model.pets.moves.MoveLoadout;
 import jakarta.persistence.Column;
@@ -12,6 +16,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -42,4 +47,15 @@ public class Pet {
 	@OneToOne
     private MoveLoadout moveLoadout = new MoveLoadout();
 
+	@Transient
+	public ChampionSnapshot snapshot(List<MovePlan> moves) {
+		int[] attributes = new int[BaseAttribute.values().length];
+
+		for (BaseAttribute attribute : BaseAttribute.values()) {
+			attributes[attribute.ordinal()] = attributeLoadout.getBaseAttribute(attribute);
+		}
+
+		return new ChampionSnapshot(name, level, attributes, List.copyOf(moves));
+	}
+
 }
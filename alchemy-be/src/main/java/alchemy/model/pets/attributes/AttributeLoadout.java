@@ -62,6 +62,15 @@ public class AttributeLoadout {
 		return getBaseAttribute(attribute.getBaseAttribute1()) + getBaseAttribute(attribute.getBaseAttribute2());
 	}
 
+	@Transient
+	public int getAttribute(Attribute attribute) {
+		if (attribute instanceof BaseAttribute baseAttribute) {
+			return getBaseAttribute(baseAttribute);
+		}
+
+		return getDerivedAttribute((DerivedAttribute) attribute);
+	}
+
 	@Transient
 	public void increaseBaseAttribute(BaseAttribute attribute) {
 		if (undistributed <= 0) {
@@ -28,7 +28,7 @@ public class AttributeRestriction extends Restriction {
 
 	@Override
 	public boolean apply(Pet pet) {
-		return attribute.getAttributeFromPet(pet) < threshold;
+		return pet.getAttributeLoadout().getAttribute(attribute) < threshold;
 	}
 
 	@Override
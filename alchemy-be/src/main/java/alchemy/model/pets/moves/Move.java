@@ -1,13 +1,11 @@
 package alchemy.model.pets.moves;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import alchemy.model.battles.Champion;
-import alchemy.model.battles.events.BattleEvent;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.MovePlan;
 import alchemy.model.pets.constraints.Constraint;
 import alchemy.model.pets.moves.components.MoveComponent;
-import alchemy.model.pets.moves.components.MoveComponentType;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
@@ -18,6 +16,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -51,26 +50,13 @@ public class Move {
 	@OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<MoveComponent> components;
 
-	public List<BattleEvent> execute(Champion source, Champion target) {
-		final boolean atLeastOneDamageMoveComponent = components.stream()
-				.anyMatch(component -> component.getType() == MoveComponentType.DAMAGE_COMPONENT);
-		final boolean isAboveCriticalThreshold = source.isAboveCriticalThreshold();
-		final boolean isCriticalHit = isAboveCriticalThreshold && atLeastOneDamageMoveComponent;
+	@Transient
+	public MovePlan compile() {
+		List<ComponentPlan> plans = components == null ? List.of() : components.stream()
+				.map(MoveComponent::compile)
+				.toList();
 
-		if (isCriticalHit) {
-			source.useCriticalStacks();
-		}
-
-		List<BattleEvent> events = components.stream()
-				.map(component -> component.execute(isCriticalHit, source, target))
-				.collect(Collectors.toList());
-
-		if (atLeastOneDamageMoveComponent) {
-			source.gainMomentumStacks();
-			source.gainMasteryStacks();
-		}
-
-		return events;
+		return MovePlan.of(name, cooldown, plans);
 	}
 
 }
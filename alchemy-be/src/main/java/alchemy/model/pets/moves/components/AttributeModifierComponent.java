@@ -0,0 +1,35 @@
+package alchemy.model.pets.moves.components;
+
+import alchemy.model.battles.plans.AttributeModifierPlan;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Buff (positive amount) or debuff (negative amount) of a derived attribute.
+ */
+@Entity
+@Data
+@EqualsAndHashCode(callSuper = true)
+@DiscriminatorValue("ATTRIBUTE_MODIFIER_COMPONENT")
+public class AttributeModifierComponent extends MoveComponent {
+
+	private DerivedAttribute attribute;
+	private int amount;
+	private EffectTarget target;
+	private int duration;
+
+	@Override
+	public MoveComponentType getType() {
+		return MoveComponentType.ATTRIBUTE_MODIFIER_COMPONENT;
+	}
+
+	@Override
+	public ComponentPlan compile() {
+		return new AttributeModifierPlan(attribute, amount, target, duration);
+	}
+
+}
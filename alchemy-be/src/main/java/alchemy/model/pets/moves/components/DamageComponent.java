@@ -0,0 +1,30 @@
+package alchemy.model.pets.moves.components;
+
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamagePlan;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Entity
+@Data
+@EqualsAndHashCode(callSuper = true)
+@DiscriminatorValue("DAMAGE_COMPONENT")
+public class DamageComponent extends MoveComponent {
+
+	private int baseDamage;
+	private int baseBypass;
+	private DamageType damageType;
+
+	@Override
+	public MoveComponentType getType() {
+		return MoveComponentType.DAMAGE_COMPONENT;
+	}
+
+	@Override
+	public ComponentPlan compile() {
+		return new DamagePlan(baseDamage, baseBypass, damageType);
+	}
+
+}
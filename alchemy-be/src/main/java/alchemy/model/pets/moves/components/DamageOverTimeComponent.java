@@ -0,0 +1,30 @@
+package alchemy.model.pets.moves.components;
+
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Entity
+@Data
+@EqualsAndHashCode(callSuper = true)
+@DiscriminatorValue("DAMAGE_OVER_TIME_COMPONENT")
+public class DamageOverTimeComponent extends MoveComponent {
+
+	private int damage;
+	private DamageType damageType;
+	private int duration;
+
+	@Override
+	public MoveComponentType getType() {
+		return MoveComponentType.DAMAGE_OVER_TIME_COMPONENT;
+	}
+
+	@Override
+	public ComponentPlan compile() {
+		return new DamageOverTimePlan(damage, damageType, duration);
+	}
+
+}
@@ -2,8 +2,7 @@ package alchemy.model.pets.moves.components;
 
 import java.util.UUID;
 
-import alchemy.model.battles.Champion;
-import alchemy.model.battles.events.BattleEvent;
+import alchemy.model.battles.plans.ComponentPlan;
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorColumn;
 import jakarta.persistence.Entity;
@@ -28,6 +27,6 @@ public abstract class MoveComponent {
 	private UUID id;
 
 	public abstract MoveComponentType getType();
-	public abstract BattleEvent execute(boolean criticalHit, Champion source, Champion target);
+	public abstract ComponentPlan compile();
 
 }
@@ -0,0 +1,30 @@
+package alchemy.model.pets.moves.components;
+
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.ShieldPlan;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Entity
+@Data
+@EqualsAndHashCode(callSuper = true)
+@DiscriminatorValue("SHIELD_COMPONENT")
+public class ShieldComponent extends MoveComponent {
+
+	private int amount;
+	private DamageType damageType;
+	private int duration;
+
+	@Override
+	public MoveComponentType getType() {
+		return MoveComponentType.SHIELD_COMPONENT;
+	}
+
+	@Override
+	public ComponentPlan compile() {
+		return new ShieldPlan(amount, damageType, duration);
+	}
+
+}
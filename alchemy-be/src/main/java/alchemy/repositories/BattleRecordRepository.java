@@ -0,0 +1,9 @@
+package alchemy.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import alchemy.model.battles.BattleRecord;
+
+public interface BattleRecordRepository extends JpaRepository<BattleRecord, Long> {
+
+}
@@ -0,0 +1,11 @@
+package alchemy.repositories;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import alchemy.model.battles.matchmaking.PetRating;
+
+public interface PetRatingRepository extends JpaRepository<PetRating, UUID> {
+
+}
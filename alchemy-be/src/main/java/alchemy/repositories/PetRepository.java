@@ -0,0 +1,11 @@
+package alchemy.repositories;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import alchemy.model.pets.Pet;
+
+public interface PetRepository extends JpaRepository<Pet, UUID> {
+
+}
@@ -0,0 +1,16 @@
+package alchemy.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import alchemy.model.battles.tournaments.TournamentMatch;
+
+public interface TournamentMatchRepository extends JpaRepository<TournamentMatch, Long> {
+
+	long countByTournamentId(UUID tournamentId);
+
+	List<TournamentMatch> findByTournamentIdOrderByNumber(UUID tournamentId);
+
+}
@@ -0,0 +1,15 @@
+package alchemy.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import alchemy.model.battles.tournaments.Tournament;
+import alchemy.model.battles.tournaments.TournamentStatus;
+
+public interface TournamentRepository extends JpaRepository<Tournament, UUID> {
+
+	List<Tournament> findByStatus(TournamentStatus status);
+
+}
@@ -0,0 +1,247 @@
+package alchemy.services.admin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import alchemy.annotations.Logged;
+import alchemy.config.BattleProperties;
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.simulations.MatchupMatrix;
+import alchemy.model.battles.simulations.MatchupStats;
+import alchemy.services.player.BattleOutcomeCache;
+import alchemy.services.player.MovePlanService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Win-rate matrix of a set of champions, over a given number of seeded battles per pair.
+ *
+ * Pairs are cached by the fingerprints of both loadouts. Fingerprints hash the compiled moves, that is the part of
+ * the catalog a loadout depends on : tweaking a move only recomputes the pairs where one side uses it.
+ * The k-th battle of a pair is seeded from the pair fingerprints, the request seed and k, so cached and computed
+ * pairs are consistent whatever the matrix they were computed for.
+ *
+ * A pair only plays out in two different ways, one per initiative order (see {@link BattleEngine#hasInitiative(long)}) :
+ * its seeds are only counted by the initiative order they give, and each order is played once, weighted by its count.
+ * Results are the ones of every battle played, for two battles per pair.
+ */
+@Slf4j
+@Service
+public class MatchupMatrixService {
+
+	private static final int PAIRS_PER_TASK = 16;
+	private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+	private final BattleOutcomeCache battleOutcomeCache;
+	private final MovePlanService movePlanService;
+
+	private final Cache<PairKey, MatchupStats> cache;
+	private final ForkJoinPool simulationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+	public MatchupMatrixService(BattleOutcomeCache battleOutcomeCache, MovePlanService movePlanService,
+			BattleProperties battleProperties) {
+		this.battleOutcomeCache = battleOutcomeCache;
+		this.movePlanService = movePlanService;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(battleProperties.getMatrices().getCacheSize())
+				.build();
+	}
+
+	@Logged("Matchup Matrix")
+	public MatchupMatrix computeMatrix(List<ChampionSnapshot> champions, int battlesPerPair, long seed) {
+		long catalogVersion = movePlanService.getCatalogVersion();
+		int size = champions.size();
+		long[] fingerprints = new long[size];
+
+		for (int i = 0; i < size; i++) {
+			fingerprints[i] = champions.get(i).fingerprint();
+		}
+
+		Map<PairKey, MatchupStats> resolved = new HashMap<>();
+		Map<PairKey, ChampionSnapshot[]> missing = new LinkedHashMap<>();
+		int cachedPairs = 0;
+
+		for (int i = 0; i < size; i++) {
+			for (int j = i; j < size; j++) {
+				PairKey key = PairKey.of(fingerprints[i], fingerprints[j], battlesPerPair, seed);
+				MatchupStats cached = cache.getIfPresent(key);
+
+				if (cached != null) {
+					resolved.put(key, cached);
+					cachedPairs++;
+				} else if (!missing.containsKey(key)) {
+					boolean ordered = key.first() == fingerprints[i];
+					missing.put(key, ordered ? new ChampionSnapshot[] { champions.get(i), champions.get(j) }
+							: new ChampionSnapshot[] { champions.get(j), champions.get(i) });
+				}
+			}
+		}
+
+		log.debug("Matchup matrix of {} champions : {} pairs cached, {} pairs to simulate.", size, cachedPairs, missing.size());
+
+		if (!missing.isEmpty()) {
+			resolved.putAll(simulate(missing, battlesPerPair));
+		}
+
+		MatchupStats[][] stats = new MatchupStats[size][size];
+
+		for (int i = 0; i < size; i++) {
+			for (int j = i; j < size; j++) {
+				PairKey key = PairKey.of(fingerprints[i], fingerprints[j], battlesPerPair, seed);
+				MatchupStats pair = resolved.get(key);
+
+				if (key.first() != fingerprints[i]) {
+					pair = pair.reversed();
+				}
+
+				stats[i][j] = pair;
+				stats[j][i] = i == j ? pair : pair.reversed();
+			}
+		}
+
+		List<String> names = champions.stream().map(ChampionSnapshot::name).toList();
+
+		return new MatchupMatrix(names, battlesPerPair, seed, catalogVersion, cachedPairs, stats);
+	}
+
+	public void clearCache() {
+		cache.invalidateAll();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		simulationPool.shutdownNow();
+	}
+
+	private Map<PairKey, MatchupStats> simulate(Map<PairKey, ChampionSnapshot[]> missing, int battlesPerPair) {
+		List<PairKey> keys = new ArrayList<>(missing.keySet());
+		List<ChampionSnapshot[]> pairs = new ArrayList<>(missing.values());
+		MatchupStats[] results = new MatchupStats[keys.size()];
+
+		simulationPool.invoke(new MatrixTask(keys, pairs, battlesPerPair, results, 0, keys.size()));
+
+		Map<PairKey, MatchupStats> computed = new HashMap<>();
+
+		for (int pair = 0; pair < keys.size(); pair++) {
+			computed.put(keys.get(pair), results[pair]);
+		}
+
+		cache.putAll(computed);
+
+		return computed;
+	}
+
+	/**
+	 * Counts the battles of the pair by initiative order, and plays the first battle of each order for all of them.
+	 */
+	private MatchupStats play(PairKey key, ChampionSnapshot[] champions, int battlesPerPair) {
+		long pairSeed = key.pairSeed();
+		long[] battles = new long[2];
+		long[] seeds = new long[2];
+
+		for (int battle = 0; battle < battlesPerPair; battle++) {
+			long seed = pairSeed + battle * SEED_INCREMENT;
+			int order = BattleEngine.hasInitiative(seed) ? 0 : 1;
+
+			if (battles[order]++ == 0) {
+				seeds[order] = seed;
+			}
+		}
+
+		long wins = 0;
+		long losses = 0;
+		long draws = 0;
+		long turns = 0;
+
+		for (int order = 0; order < 2; order++) {
+			if (battles[order] == 0) {
+				continue;
+			}
+
+			BattleResult result = battleOutcomeCache.executeBattle(champions[0], key.first(), champions[1], key.second(),
+					seeds[order]);
+
+			switch (result.outcome()) {
+			case FIRST_CHAMPION_WON -> wins += battles[order];
+			case SECOND_CHAMPION_WON -> losses += battles[order];
+			default -> draws += battles[order];
+			}
+
+			turns += battles[order] * result.turns();
+		}
+
+		return new MatchupStats(wins, losses, draws, turns);
+	}
+
+	private static long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+		return value ^ (value >>> 31);
+	}
+
+	private record PairKey (
+			long first,
+			long second,
+			int battles,
+			long seed
+			){
+
+		private static PairKey of(long first, long second, int battles, long seed) {
+			return first <= second ? new PairKey(first, second, battles, seed) : new PairKey(second, first, battles, seed);
+		}
+
+		private long pairSeed() {
+			return mix(seed ^ mix(first ^ mix(second)));
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private class MatrixTask extends RecursiveAction {
+
+		private final List<PairKey> keys;
+		private final List<ChampionSnapshot[]> pairs;
+		private final int battlesPerPair;
+		private final MatchupStats[] results;
+		private final int from;
+		private final int to;
+
+		private MatrixTask(List<PairKey> keys, List<ChampionSnapshot[]> pairs, int battlesPerPair, MatchupStats[] results,
+				int from, int to) {
+			this.keys = keys;
+			this.pairs = pairs;
+			this.battlesPerPair = battlesPerPair;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > PAIRS_PER_TASK) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new MatrixTask(keys, pairs, battlesPerPair, results, from, middle),
+						new MatrixTask(keys, pairs, battlesPerPair, results, middle, to));
+				return;
+			}
+
+			for (int pair = from; pair < to; pair++) {
+				results[pair] = play(keys.get(pair), pairs.get(pair), battlesPerPair);
+			}
+		}
+
+	}
+
+}
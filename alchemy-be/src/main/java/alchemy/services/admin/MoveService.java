@@ -20,6 +20,7 @@ import alchemy.model.pets.constraints.Constraint;
 import alchemy.model.pets.moves.Move;
 import alchemy.model.pets.moves.components.MoveComponent;
 import alchemy.repositories.MoveRepository;
+import alchemy.services.player.MovePlanService;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -29,6 +30,7 @@ public class MoveService {
 	private final MoveMapper moveMapper;
 	private final ConstraintMapper constraintMapper;
 	private final MoveRepository moveRepository;
+	private final MovePlanService movePlanService;
 
 	@Logged("Get All Moves")
 	public List<Move> getAllMoves() {
@@ -48,6 +50,7 @@ public class MoveService {
 			.build();
 
 		moveRepository.save(move);
+		movePlanService.invalidate();
 
 		return getAllMoves();
 	}
@@ -60,6 +63,7 @@ public class MoveService {
 		});
 
 		moveRepository.delete(move);
+		movePlanService.invalidate();
 
 		return getAllMoves();
 	}
@@ -71,17 +75,26 @@ public class MoveService {
 			throw new ProcessException(AdminProcessError.MOVE_UPDATE_DOES_NOT_EXIST, HttpStatus.BAD_REQUEST);
 		});
 
+		List<MoveComponent> components = dto.getComponents().stream()
+				.map(component -> moveMapper.toMoveComponentEntity(component))
+				.collect(Collectors.toCollection(() -> new ArrayList<MoveComponent>()));
+
+		try {
+			components.forEach(MoveComponent::compile);
+		} catch (IllegalArgumentException e) {
+			throw new ProcessException(AdminProcessError.MOVE_UPDATE_INVALID_COMPONENT, HttpStatus.BAD_REQUEST, e.getMessage());
+		}
+
 		move.setTags(dto.getIdentification().getTags() != null ?
 				new ArrayList<>(dto.getIdentification().getTags()) : Collections.emptyList());
 		move.setCooldown(dto.getCooldown() != null ? dto.getCooldown() : 0);
 		move.setConstraints(dto.getConstraints().stream()
 				.map(constraint -> constraintMapper.toConstraintDTO(constraint))
 				.collect(Collectors.toCollection(() -> new ArrayList<Constraint>())));
-		move.setComponents(dto.getComponents().stream()
-				.map(component -> moveMapper.toMoveComponentEntity(component))
-				.collect(Collectors.toCollection(() -> new ArrayList<MoveComponent>())));
+		move.setComponents(components);
 
 		moveRepository.save(move);
+		movePlanService.invalidate();
 
 		return getAllMoves();
 	}
@@ -0,0 +1,158 @@
+package alchemy.services.admin;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import alchemy.annotations.Logged;
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.ProcessException;
+import alchemy.exceptions.process.admin.AdminProcessError;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.simulations.Matchup;
+import alchemy.model.battles.simulations.SimulationReport;
+import alchemy.model.pets.Pet;
+import alchemy.services.player.BattleOutcomeCache;
+import alchemy.services.player.BattleService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SimulationService {
+
+	private static final int BATTLES_PER_TASK = 256;
+	private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+	private final BattleService battleService;
+	private final BattleOutcomeCache battleOutcomeCache;
+	private final BattleProperties battleProperties;
+
+	private final ForkJoinPool simulationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+	@Logged("Matchups Simulation")
+	public SimulationReport simulate(List<Pet> pets, List<Matchup> matchups) {
+		return simulate(pets, matchups, ThreadLocalRandom.current().nextLong());
+	}
+
+	/**
+	 * The i-th matchup is played with the seed {@code seed + i * SEED_INCREMENT}, so that a report only depends on
+	 * the seed and not on how battles were split between workers.
+	 */
+	@Logged("Matchups Simulation")
+	public SimulationReport simulate(List<Pet> pets, List<Matchup> matchups, long seed) {
+		validate(pets);
+		log.debug("Simulating {} matchups between {} pets on {} workers.", matchups.size(), pets.size(), simulationPool.getParallelism());
+
+		if (matchups.isEmpty()) {
+			return new SimulationReport(pets.size());
+		}
+
+		// Workers only ever see immutable snapshots, taken once per pet before the fan-out.
+		List<ChampionSnapshot> snapshots = pets.stream().map(battleService::snapshot).toList();
+		long[] fingerprints = snapshots.stream().mapToLong(ChampionSnapshot::fingerprint).toArray();
+
+		return simulationPool.invoke(new SimulationTask(snapshots, fingerprints, matchups, seed, 0, matchups.size()));
+	}
+
+	@Logged("Round Robin Simulation")
+	public SimulationReport simulateRoundRobin(List<Pet> pets) {
+		return simulate(pets, roundRobin(pets.size()));
+	}
+
+	@Logged("Round Robin Simulation")
+	public SimulationReport simulateRoundRobin(List<Pet> pets, long seed) {
+		return simulate(pets, roundRobin(pets.size()), seed);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		simulationPool.shutdownNow();
+	}
+
+	private void validate(List<Pet> pets) {
+		int maxPets = battleProperties.getSimulations().getMaxPets();
+
+		if (pets.size() > maxPets) {
+			throw new ProcessException(AdminProcessError.SIMULATION_TOO_MANY_PETS, HttpStatus.BAD_REQUEST, String.valueOf(maxPets));
+		}
+	}
+
+	/**
+	 * Every ordered pairing of distinct pets, computed on access so that large round robins are never materialized.
+	 */
+	private List<Matchup> roundRobin(int pets) {
+		return new AbstractList<Matchup>() {
+
+			@Override
+			public Matchup get(int index) {
+				int first = index / (pets - 1);
+				int second = index % (pets - 1);
+				return new Matchup(first, second >= first ? second + 1 : second);
+			}
+
+			@Override
+			public int size() {
+				return pets < 2 ? 0 : Math.toIntExact((long) pets * (pets - 1));
+			}
+
+		};
+	}
+
+	@SuppressWarnings("serial")
+	private class SimulationTask extends RecursiveTask<SimulationReport> {
+
+		private final List<ChampionSnapshot> snapshots;
+		private final long[] fingerprints;
+		private final List<Matchup> matchups;
+		private final long seed;
+		private final int from;
+		private final int to;
+
+		private SimulationTask(List<ChampionSnapshot> snapshots, long[] fingerprints, List<Matchup> matchups, long seed,
+				int from, int to) {
+			this.snapshots = snapshots;
+			this.fingerprints = fingerprints;
+			this.matchups = matchups;
+			this.seed = seed;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected SimulationReport compute() {
+			if (to - from <= BATTLES_PER_TASK) {
+				SimulationReport report = new SimulationReport(snapshots.size());
+
+				for (int i = from; i < to; i++) {
+					Matchup matchup = matchups.get(i);
+					int first = matchup.first();
+					int second = matchup.second();
+					report.record(matchup, battleOutcomeCache.executeBattle(snapshots.get(first), fingerprints[first],
+							snapshots.get(second), fingerprints[second], seed + i * SEED_INCREMENT));
+				}
+
+				return report;
+			}
+
+			int middle = (from + to) >>> 1;
+
+			SimulationTask right = new SimulationTask(snapshots, fingerprints, matchups, seed, middle, to);
+			right.fork();
+
+			SimulationReport report = new SimulationTask(snapshots, fingerprints, matchups, seed, from, middle).compute();
+			report.merge(right.join());
+
+			return report;
+		}
+
+	}
+
+}
@@ -0,0 +1,258 @@
+package alchemy.services.admin;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import alchemy.annotations.Logged;
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.ProcessException;
+import alchemy.exceptions.process.admin.AdminProcessError;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.tournaments.Tournament;
+import alchemy.model.battles.tournaments.TournamentEngine;
+import alchemy.model.battles.tournaments.TournamentEntrant;
+import alchemy.model.battles.tournaments.TournamentFormat;
+import alchemy.model.battles.tournaments.TournamentMatch;
+import alchemy.model.battles.tournaments.TournamentMatchResult;
+import alchemy.model.battles.tournaments.TournamentResult;
+import alchemy.model.battles.tournaments.TournamentStatus;
+import alchemy.repositories.TournamentMatchRepository;
+import alchemy.repositories.TournamentRepository;
+import alchemy.services.player.BattleOutcomeCache;
+import alchemy.services.player.ChampionService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs tournaments in the background. Battles are played on a dedicated pool through the outcome cache, as brackets
+ * repeat pairings across tournaments.
+ *
+ * Each tournament has a coordinator thread which writes the matches as they are played, in batches of at most
+ * batchSize matches, each batch along with the progress of the tournament in one transaction.
+ */
+@Slf4j
+@Service
+public class TournamentService {
+
+	private static final int FINAL_SAVE_ATTEMPTS = 3;
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+	private final ChampionService championService;
+	private final BattleOutcomeCache battleOutcomeCache;
+	private final TournamentRepository tournamentRepository;
+	private final TournamentMatchRepository tournamentMatchRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final BattleProperties.Tournaments properties;
+
+	private final ForkJoinPool battlePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+	private final ExecutorService coordinators;
+
+	public TournamentService(ChampionService championService, BattleOutcomeCache battleOutcomeCache,
+			TournamentRepository tournamentRepository, TournamentMatchRepository tournamentMatchRepository,
+			PlatformTransactionManager transactionManager, BattleProperties battleProperties) {
+		this.championService = championService;
+		this.battleOutcomeCache = battleOutcomeCache;
+		this.tournamentRepository = tournamentRepository;
+		this.tournamentMatchRepository = tournamentMatchRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.properties = battleProperties.getTournaments();
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("tournament-");
+		threadFactory.setDaemon(true);
+		this.coordinators = Executors.newFixedThreadPool(properties.getConcurrentTournaments(), threadFactory);
+	}
+
+	/**
+	 * Starts a tournament between the given pets, seeded in the given order. Swiss rounds default to
+	 * ceil(log2(entrants)) and are ignored by other formats.
+	 */
+	@Logged("Tournament Creation")
+	public Tournament start(TournamentFormat format, List<UUID> petIds, Long seed, Integer rounds) {
+		validate(petIds);
+
+		return start(format, petIds, championService.getSnapshots(petIds),
+				seed == null ? ThreadLocalRandom.current().nextLong() : seed,
+				rounds == null ? TournamentEngine.getSwissRounds(petIds.size()) : rounds);
+	}
+
+	public Tournament start(TournamentFormat format, List<UUID> petIds, List<ChampionSnapshot> snapshots, long seed, int rounds) {
+		validate(petIds);
+
+		List<TournamentEntrant> entrants = new ArrayList<>(petIds.size());
+
+		for (int i = 0; i < petIds.size(); i++) {
+			entrants.add(TournamentEntrant.of(petIds.get(i), snapshots.get(i)));
+		}
+
+		Tournament tournament = tournamentRepository.save(Tournament.builder()
+				.id(UUID.randomUUID())
+				.format(format)
+				.status(TournamentStatus.RUNNING)
+				.entrants(entrants.size())
+				.rounds(format == TournamentFormat.SWISS ? rounds : 0)
+				.seed(seed)
+				.createdAt(LocalDateTime.now())
+				.build());
+
+		coordinators.execute(() -> run(tournament, entrants, rounds));
+
+		return tournament;
+	}
+
+	public Tournament getTournament(UUID tournamentId) {
+		return tournamentRepository.findById(tournamentId).orElseThrow(() -> new ProcessException(
+				AdminProcessError.TOURNAMENT_DOES_NOT_EXIST, HttpStatus.NOT_FOUND, String.valueOf(tournamentId)));
+	}
+
+	/**
+	 * Tournaments don't survive a restart : those still RUNNING were cut short by a crash and are failed.
+	 */
+	@PostConstruct
+	public void failInterrupted() {
+		List<Tournament> interrupted = tournamentRepository.findByStatus(TournamentStatus.RUNNING);
+
+		if (!interrupted.isEmpty()) {
+			log.warn("Failing {} tournaments interrupted by a restart.", interrupted.size());
+			interrupted.forEach(tournament -> {
+				tournament.setStatus(TournamentStatus.FAILED);
+				tournament.setFinishedAt(LocalDateTime.now());
+			});
+			tournamentRepository.saveAll(interrupted);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		coordinators.shutdownNow();
+		battlePool.shutdownNow();
+
+		// Lets coordinators save their tournament as FAILED while the repositories are still up.
+		try {
+			coordinators.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void validate(List<UUID> petIds) {
+		if (petIds.size() < 2 || petIds.size() > properties.getMaxEntrants() || new HashSet<>(petIds).size() != petIds.size()) {
+			throw new ProcessException(AdminProcessError.TOURNAMENT_INVALID_ENTRANTS, HttpStatus.BAD_REQUEST,
+					String.valueOf(properties.getMaxEntrants()));
+		}
+	}
+
+	private void run(Tournament tournament, List<TournamentEntrant> entrants, int rounds) {
+		BlockingQueue<TournamentMatchResult> played = new LinkedBlockingQueue<>();
+		TournamentEngine engine = new TournamentEngine(battlePool, this::play, played::add);
+		long flushInterval = properties.getFlushInterval().toNanos();
+		List<TournamentMatchResult> batch = new ArrayList<>(properties.getBatchSize());
+
+		try {
+			CompletableFuture<TournamentResult> result = engine.start(tournament.getFormat(), entrants, tournament.getSeed(), rounds);
+
+			// Matches are reported before the match completes, so none is left behind once the result is known.
+			while (!result.isDone() || !played.isEmpty()) {
+				TournamentMatchResult first = played.poll(flushInterval, TimeUnit.NANOSECONDS);
+
+				if (first != null) {
+					batch.add(first);
+					played.drainTo(batch, properties.getBatchSize() - 1);
+					flush(tournament, entrants, batch);
+					batch.clear();
+				}
+			}
+
+			TournamentEntrant winner = entrants.get(result.join().getWinner());
+			tournament.setRounds(result.join().rounds());
+			tournament.setWinnerPetId(winner.petId());
+			tournament.setWinner(winner.snapshot().name());
+			tournament.setStatus(TournamentStatus.COMPLETED);
+		} catch (InterruptedException e) {
+			log.warn("Tournament {} interrupted after {} matches.", tournament.getId(), tournament.getMatchesPlayed());
+			Thread.currentThread().interrupt();
+			tournament.setStatus(TournamentStatus.FAILED);
+		} catch (RuntimeException e) {
+			log.error("Tournament {} failed.", tournament.getId(), e);
+			tournament.setStatus(TournamentStatus.FAILED);
+		}
+
+		tournament.setFinishedAt(LocalDateTime.now());
+		finish(tournament);
+	}
+
+	/**
+	 * Saves the final status of the tournament, retrying a few times : a tournament left RUNNING never ends. The
+	 * interrupt flag is cleared meanwhile, as the connection pool and drivers may refuse to work on an interrupted thread.
+	 */
+	private void finish(Tournament tournament) {
+		boolean interrupted = Thread.interrupted();
+
+		try {
+			for (int attempt = 1; ; attempt++) {
+				try {
+					tournamentRepository.save(tournament);
+					return;
+				} catch (RuntimeException e) {
+					if (attempt == FINAL_SAVE_ATTEMPTS) {
+						log.error("Tournament {} could not be saved as {}.", tournament.getId(), tournament.getStatus(), e);
+						return;
+					}
+
+					log.warn("Tournament {} could not be saved as {}, retrying.", tournament.getId(), tournament.getStatus(), e);
+				}
+			}
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private BattleResult play(TournamentEntrant first, TournamentEntrant second, long seed) {
+		return battleOutcomeCache.executeBattle(first.snapshot(), first.fingerprint(), second.snapshot(), second.fingerprint(), seed);
+	}
+
+	private void flush(Tournament tournament, List<TournamentEntrant> entrants, List<TournamentMatchResult> batch) {
+		List<TournamentMatch> matches = batch.stream()
+				.map(result -> TournamentMatch.builder()
+						.tournamentId(tournament.getId())
+						.number(result.number())
+						.stage(result.stage())
+						.round(result.round())
+						.firstPetId(entrants.get(result.first()).petId())
+						.secondPetId(entrants.get(result.second()).petId())
+						.winnerPetId(result.winner() < 0 ? null : entrants.get(result.winner()).petId())
+						.outcome(result.outcome())
+						.turns(result.turns())
+						.seed(result.seed())
+						.build())
+				.toList();
+
+		tournament.setMatchesPlayed(tournament.getMatchesPlayed() + matches.size());
+
+		transactionTemplate.executeWithoutResult(status -> {
+			tournamentMatchRepository.saveAll(matches);
+			tournamentRepository.save(tournament);
+		});
+	}
+
+}
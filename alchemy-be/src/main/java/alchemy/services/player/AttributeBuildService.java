@@ -0,0 +1,424 @@
+package alchemy.services.player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import alchemy.annotations.Logged;
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.ProcessException;
+import alchemy.exceptions.process.pets.PetProcessError;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.plans.AttributeModifierPlan;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.plans.ShieldPlan;
+import alchemy.model.battles.simulations.AttributeBuild;
+import alchemy.model.battles.simulations.AttributeBuildReport;
+import alchemy.model.battles.simulations.MatchupStats;
+import alchemy.model.pets.attributes.BaseAttribute;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Searches the allocations of the undistributed points of a pet that win the most against a set of reference opponents.
+ *
+ * Battles only read the base attributes through the derived ones, and only read the derived attributes the moves of
+ * both sides make use of : TOUGHNESS and INSTINCT always, MOMENTUM for physical damages, MASTERY and CLARITY for
+ * magical damages, and DEFENCE, ADAPTATION and RESOLVE against the damages of the opponents. MOMENTUM and MASTERY only
+ * count by thirds, through the stacks they give, unless a move modifies them. Allocations giving the same values to
+ * the read attributes play exactly the same battles and are simulated once. A base attribute is never
+ * given a point when moving that point to another base attribute raises a read attribute without lowering any, as
+ * more of most derived attributes never hurts their holder. Four of them may, and are never traded : INSTINCT, as
+ * acting sooner also runs out its own effects sooner, and RESOLVE, ADAPTATION and MASTERY through magic shields, which
+ * double the clarity of the opponent. More RESOLVE or ADAPTATION keeps a shield up and takes more doubled bypass, more
+ * MASTERY breaks the shield of the opponent sooner and loses the doubling.
+ *
+ * The remaining candidates play the same battles against the opponents (see {@link OpponentPool}). They are evaluated
+ * in parallel, those putting the most points in read attributes first, and dropped as soon as winning all their
+ * remaining battles could not rank them among the results (see {@link CutoffRanking}) : ties go to the candidates
+ * evaluated first, so that once enough builds win everything the others are dropped before any battle. Searches are cached by the fingerprints of the pet and of
+ * the opponents, as players repeat them until they spend their points.
+ */
+@Slf4j
+@Service
+public class AttributeBuildService {
+
+	private static final int CANDIDATES_PER_TASK = 16;
+	private static final Set<DerivedAttribute> NON_MONOTONE_ATTRIBUTES = EnumSet.of(DerivedAttribute.INSTINCT,
+			DerivedAttribute.RESOLVE, DerivedAttribute.ADAPTATION, DerivedAttribute.MASTERY);
+	private static final Comparator<Evaluation> RANKING = Comparator.comparingLong((Evaluation evaluation) -> evaluation.build().stats().wins())
+			.thenComparingLong(evaluation -> evaluation.build().stats().draws())
+			.reversed()
+			.thenComparingInt(Evaluation::candidate);
+
+	private final BattleOutcomeCache battleOutcomeCache;
+	private final int maxPoints;
+	private final Cache<SearchKey, AttributeBuildReport> cache;
+
+	private final ForkJoinPool optimizationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+	public AttributeBuildService(BattleOutcomeCache battleOutcomeCache, BattleProperties battleProperties) {
+		this.battleOutcomeCache = battleOutcomeCache;
+		this.maxPoints = battleProperties.getAttributeBuilds().getMaxPoints();
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(battleProperties.getAttributeBuilds().getCacheSize())
+				.build();
+	}
+
+	@Logged("Attribute Build Optimization")
+	public AttributeBuildReport optimize(ChampionSnapshot champion, int points, List<ChampionSnapshot> opponents,
+			int battlesPerOpponent, int results, long seed) {
+		if (points > maxPoints) {
+			throw new ProcessException(PetProcessError.ATTRIBUTE_BUILD_TOO_MANY_POINTS, HttpStatus.BAD_REQUEST, String.valueOf(maxPoints));
+		}
+
+		SearchKey key = new SearchKey(champion.fingerprint(), Math.max(0, points),
+				opponents.stream().map(ChampionSnapshot::fingerprint).toList(), battlesPerOpponent, results, seed);
+		AttributeBuildReport cached = cache.getIfPresent(key);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		AttributeBuildReport report = search(champion, key.points(), opponents, battlesPerOpponent, results, seed);
+		cache.put(key, report);
+
+		return report;
+	}
+
+	public void clearCache() {
+		cache.invalidateAll();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		optimizationPool.shutdownNow();
+	}
+
+	private AttributeBuildReport search(ChampionSnapshot champion, int points, List<ChampionSnapshot> opponents,
+			int battlesPerOpponent, int results, long seed) {
+		Set<DerivedAttribute> read = readAttributes(champion, opponents);
+		List<BaseAttribute> open = new ArrayList<>();
+
+		for (BaseAttribute attribute : BaseAttribute.values()) {
+			if (!isDominated(attribute, read)) {
+				open.add(attribute);
+			}
+		}
+
+		Set<DerivedAttribute> stacked = stackedAttributes(champion, opponents, read);
+		Profiler profiler = new Profiler(champion.baseAttributes(), read, stacked);
+		List<int[]> candidates = new ArrayList<>();
+		allocate(open, 0, points, new int[BaseAttribute.values().length], profiler, new HashSet<>(), candidates);
+
+		long allocations = binomial(points + BaseAttribute.values().length - 1, BaseAttribute.values().length - 1);
+		OpponentPool pool = new OpponentPool(battleOutcomeCache, opponents, battlesPerOpponent, seed);
+
+		log.debug("Searching {} allocations of {} points for {} against {} opponents : {} read attributes, {} candidates.",
+				allocations, points, champion.name(), pool.size(), read.size(), candidates.size());
+
+		int[] weights = new int[BaseAttribute.values().length];
+
+		for (DerivedAttribute attribute : read) {
+			if (!NON_MONOTONE_ATTRIBUTES.contains(attribute)) {
+				weights[attribute.getBaseAttribute1().ordinal()]++;
+				weights[attribute.getBaseAttribute2().ordinal()]++;
+			}
+		}
+
+		// Candidates putting the most points in read attributes first : they are evaluated first and win the ties.
+		candidates.sort(Comparator.comparingLong((int[] allocation) -> weight(allocation, weights)).reversed());
+
+		CutoffRanking ranking = new CutoffRanking(results);
+		Evaluation[] evaluations = new Evaluation[candidates.size()];
+
+		optimizationPool.invoke(new OptimizationTask(champion, candidates, pool, ranking, evaluations, 0, candidates.size()));
+
+		List<AttributeBuild> best = Arrays.stream(evaluations)
+				.filter(evaluation -> evaluation.build() != null)
+				.sorted(RANKING)
+				.limit(results)
+				.map(Evaluation::build)
+				.toList();
+
+		return new AttributeBuildReport(points, best, allocations, candidates.size(), ranking.getPruned());
+	}
+
+	/**
+	 * Derived attributes the battles of the champion against the opponents ever read, all of them when a move has a
+	 * component the search doesn't know about.
+	 */
+	private static Set<DerivedAttribute> readAttributes(ChampionSnapshot champion, List<ChampionSnapshot> opponents) {
+		Set<DerivedAttribute> read = EnumSet.of(DerivedAttribute.TOUGHNESS, DerivedAttribute.INSTINCT);
+
+		for (MovePlan move : champion.moves()) {
+			for (ComponentPlan component : move.components()) {
+				if (component instanceof DamagePlan damage) {
+					if (damage.damageType() == DamageType.PHYSICAL) {
+						read.add(DerivedAttribute.MOMENTUM);
+					} else if (damage.damageType() == DamageType.MAGICAL) {
+						read.add(DerivedAttribute.MASTERY);
+						read.add(DerivedAttribute.CLARITY);
+					}
+				} else if (!isStatusEffect(component)) {
+					return EnumSet.allOf(DerivedAttribute.class);
+				}
+			}
+		}
+
+		for (ChampionSnapshot opponent : opponents) {
+			for (MovePlan move : opponent.moves()) {
+				for (ComponentPlan component : move.components()) {
+					if (component instanceof DamagePlan damage) {
+						if (damage.damageType() == DamageType.PHYSICAL) {
+							read.add(DerivedAttribute.DEFENCE);
+						} else if (damage.damageType() == DamageType.MAGICAL) {
+							read.add(DerivedAttribute.ADAPTATION);
+							read.add(DerivedAttribute.RESOLVE);
+						}
+					} else if (component instanceof DamageOverTimePlan damage) {
+						if (damage.damageType() == DamageType.MAGICAL) {
+							read.add(DerivedAttribute.RESOLVE);
+						}
+					} else if (!isStatusEffect(component)) {
+						return EnumSet.allOf(DerivedAttribute.class);
+					}
+				}
+			}
+		}
+
+		return read;
+	}
+
+	/**
+	 * Read attributes among MOMENTUM and MASTERY that no move of either side modifies : the battles only read the
+	 * stacks they give at each damaging move, a third of their value rounded up.
+	 */
+	private static Set<DerivedAttribute> stackedAttributes(ChampionSnapshot champion, List<ChampionSnapshot> opponents,
+			Set<DerivedAttribute> read) {
+		Set<DerivedAttribute> stacked = EnumSet.of(DerivedAttribute.MOMENTUM, DerivedAttribute.MASTERY);
+		stacked.retainAll(read);
+
+		List<ChampionSnapshot> champions = new ArrayList<>(opponents);
+		champions.add(champion);
+
+		for (ChampionSnapshot side : champions) {
+			for (MovePlan move : side.moves()) {
+				for (ComponentPlan component : move.components()) {
+					if (component instanceof AttributeModifierPlan modifier) {
+						stacked.remove(modifier.attribute());
+					}
+				}
+			}
+		}
+
+		return stacked;
+	}
+
+	private static boolean isStatusEffect(ComponentPlan component) {
+		return component instanceof DamageOverTimePlan || component instanceof ShieldPlan || component instanceof AttributeModifierPlan;
+	}
+
+	/**
+	 * Whether a point of the attribute is always better spent in another base attribute.
+	 */
+	private static boolean isDominated(BaseAttribute attribute, Set<DerivedAttribute> read) {
+		for (BaseAttribute other : BaseAttribute.values()) {
+			if (other == attribute) {
+				continue;
+			}
+
+			boolean raised = false;
+			boolean traded = false;
+
+			for (DerivedAttribute derived : read) {
+				boolean lowered = uses(derived, attribute) && !uses(derived, other);
+				boolean gained = uses(derived, other) && !uses(derived, attribute);
+
+				if (lowered || (gained && NON_MONOTONE_ATTRIBUTES.contains(derived))) {
+					traded = true;
+					break;
+				}
+
+				raised |= gained;
+			}
+
+			if (raised && !traded) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean uses(DerivedAttribute derived, BaseAttribute attribute) {
+		return derived.getBaseAttribute1() == attribute || derived.getBaseAttribute2() == attribute;
+	}
+
+	/**
+	 * Spreads the points over the open attributes, keeping the first allocation of every distinct profile.
+	 */
+	private static void allocate(List<BaseAttribute> open, int index, int points, int[] allocation, Profiler profiler,
+			Set<List<Integer>> profiles, List<int[]> candidates) {
+		int attribute = open.get(index).ordinal();
+
+		if (index == open.size() - 1) {
+			allocation[attribute] = points;
+
+			if (profiles.add(profiler.profile(allocation))) {
+				candidates.add(allocation.clone());
+			}
+
+			allocation[attribute] = 0;
+			return;
+		}
+
+		for (int spent = points; spent >= 0; spent--) {
+			allocation[attribute] = spent;
+			allocate(open, index + 1, points - spent, allocation, profiler, profiles, candidates);
+		}
+
+		allocation[attribute] = 0;
+	}
+
+	private static long weight(int[] allocation, int[] weights) {
+		long weight = 0;
+
+		for (int attribute = 0; attribute < allocation.length; attribute++) {
+			weight += (long) allocation[attribute] * weights[attribute];
+		}
+
+		return weight;
+	}
+
+	private static long binomial(int n, int k) {
+		long binomial = 1;
+
+		for (int i = 1; i <= k; i++) {
+			binomial = binomial * (n - k + i) / i;
+		}
+
+		return binomial;
+	}
+
+	/**
+	 * Returns null when the ranking tells the allocation can no longer be among the results.
+	 */
+	private static AttributeBuild evaluate(ChampionSnapshot champion, int[] allocation, int index, OpponentPool opponents,
+			CutoffRanking ranking) {
+		int[] baseAttributes = champion.baseAttributes().clone();
+
+		for (int attribute = 0; attribute < allocation.length; attribute++) {
+			baseAttributes[attribute] += allocation[attribute];
+		}
+
+		ChampionSnapshot built = new ChampionSnapshot(champion.name(), champion.level(), baseAttributes, champion.moves());
+		MatchupStats stats = opponents.play(built, ranking, index);
+
+		return stats == null ? null : new AttributeBuild(allocation, stats);
+	}
+
+	/**
+	 * What the battles read of an allocation : the values of the read attributes, by thirds for the stacked ones.
+	 */
+	private record Profiler (
+			int[] baseAttributes,
+			Set<DerivedAttribute> read,
+			Set<DerivedAttribute> stacked
+			){
+
+		private List<Integer> profile(int[] allocation) {
+			List<Integer> profile = new ArrayList<>(read.size());
+
+			for (DerivedAttribute derived : read) {
+				int first = derived.getBaseAttribute1().ordinal();
+				int second = derived.getBaseAttribute2().ordinal();
+				int value = baseAttributes[first] + allocation[first] + baseAttributes[second] + allocation[second];
+
+				profile.add(stacked.contains(derived) ? Math.max(0, (value + 2) / 3) : value);
+			}
+
+			return profile;
+		}
+
+	}
+
+	private record SearchKey (
+			long champion,
+			int points,
+			List<Long> opponents,
+			int battlesPerOpponent,
+			int results,
+			long seed
+			){
+
+	}
+
+	private record Evaluation (
+			int candidate,
+			AttributeBuild build
+			){
+
+	}
+
+	@SuppressWarnings("serial")
+	private class OptimizationTask extends RecursiveAction {
+
+		private final ChampionSnapshot champion;
+		private final List<int[]> candidates;
+		private final OpponentPool opponents;
+		private final CutoffRanking ranking;
+		private final Evaluation[] evaluations;
+		private final int from;
+		private final int to;
+
+		private OptimizationTask(ChampionSnapshot champion, List<int[]> candidates, OpponentPool opponents,
+				CutoffRanking ranking, Evaluation[] evaluations, int from, int to) {
+			this.champion = champion;
+			this.candidates = candidates;
+			this.opponents = opponents;
+			this.ranking = ranking;
+			this.evaluations = evaluations;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > CANDIDATES_PER_TASK) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new OptimizationTask(champion, candidates, opponents, ranking, evaluations, from, middle),
+						new OptimizationTask(champion, candidates, opponents, ranking, evaluations, middle, to));
+				return;
+			}
+
+			for (int candidate = from; candidate < to; candidate++) {
+				AttributeBuild build = evaluate(champion, candidates.get(candidate), candidate, opponents, ranking);
+				evaluations[candidate] = new Evaluation(candidate, build);
+
+				if (build != null) {
+					ranking.record(build.stats().wins(), build.stats().draws(), candidate);
+				}
+			}
+		}
+
+	}
+
+}
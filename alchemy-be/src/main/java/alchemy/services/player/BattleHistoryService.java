@@ -0,0 +1,173 @@
+package alchemy.services.player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import alchemy.config.BattleProperties;
+import alchemy.model.battles.BattleRecord;
+import alchemy.model.battles.replays.BattleReplay;
+import alchemy.repositories.BattleRecordRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind store of the battle history.
+ *
+ * Battle threads only offer records to a bounded buffer and never wait on the database : when the buffer is full,
+ * records are dropped and counted. A single flusher thread writes them in batches of at most batchSize records,
+ * and no record waits more than flushInterval once the flusher picked it up. Each batch is one transaction, sent as
+ * JDBC batches (hibernate.jdbc.batch_size). On shutdown, the buffer is drained before the flusher stops.
+ */
+@Slf4j
+@Service
+public class BattleHistoryService {
+
+	private final BattleRecordRepository battleRecordRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final BattleProperties.History properties;
+
+	private final BlockingQueue<BattleRecord> buffer;
+
+	@Getter
+	private final AtomicLong written = new AtomicLong();
+	@Getter
+	private final AtomicLong dropped = new AtomicLong();
+	@Getter
+	private final AtomicLong failed = new AtomicLong();
+
+	private volatile boolean running;
+	private Thread flusher;
+
+	public BattleHistoryService(BattleRecordRepository battleRecordRepository, PlatformTransactionManager transactionManager,
+			BattleProperties battleProperties) {
+		this.battleRecordRepository = battleRecordRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.properties = battleProperties.getHistory();
+		this.buffer = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+	}
+
+	@PostConstruct
+	public synchronized void start() {
+		if (flusher != null) {
+			return;
+		}
+
+		running = true;
+		flusher = new Thread(this::flushLoop, "battle-history-flusher");
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+
+	/**
+	 * Queues the battle for writing, without blocking. Returns false when the battle was dropped.
+	 */
+	public boolean record(BattleReplay replay) {
+		if (buffer.offer(BattleRecord.of(replay))) {
+			return true;
+		}
+
+		if (dropped.incrementAndGet() % 1000 == 1) {
+			log.warn("Battle history buffer full, {} battles dropped so far.", dropped.get());
+		}
+
+		return false;
+	}
+
+	public int getPending() {
+		return buffer.size();
+	}
+
+	@PreDestroy
+	public synchronized void shutdown() {
+		running = false;
+
+		if (flusher == null) {
+			return;
+		}
+
+		try {
+			flusher.join(properties.getDrainTimeout().toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (flusher.isAlive() || !buffer.isEmpty()) {
+			log.warn("Battle history drain timed out, {} battles were not written.", buffer.size());
+		}
+
+		flusher = null;
+	}
+
+	private void flushLoop() {
+		int batchSize = properties.getBatchSize();
+		long flushInterval = properties.getFlushInterval().toNanos();
+		List<BattleRecord> batch = new ArrayList<>(batchSize);
+		boolean interrupted = false;
+
+		while (running || !buffer.isEmpty()) {
+			try {
+				BattleRecord first = buffer.poll(flushInterval, TimeUnit.NANOSECONDS);
+
+				if (first == null) {
+					continue;
+				}
+
+				batch.add(first);
+				long deadline = System.nanoTime() + flushInterval;
+
+				while (batch.size() < batchSize) {
+					buffer.drainTo(batch, batchSize - batch.size());
+					long remaining = deadline - System.nanoTime();
+
+					if (batch.size() >= batchSize || remaining <= 0 || !running) {
+						break;
+					}
+
+					BattleRecord next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+
+					if (next == null) {
+						break;
+					}
+
+					batch.add(next);
+				}
+
+			} catch (InterruptedException e) {
+				interrupted = true;
+				running = false;
+			}
+
+			flush(batch);
+			batch.clear();
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void flush(List<BattleRecord> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> battleRecordRepository.saveAll(batch));
+			written.addAndGet(batch.size());
+		} catch (RuntimeException e) {
+			failed.addAndGet(batch.size());
+			log.error("Failed to write a batch of {} battles to the history.", batch.size(), e);
+		}
+	}
+
+}
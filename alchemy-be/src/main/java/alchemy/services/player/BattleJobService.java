@@ -0,0 +1,214 @@
+package alchemy.services.player;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import alchemy.annotations.Logged;
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.ProcessException;
+import alchemy.exceptions.RetryLaterException;
+import alchemy.exceptions.process.battles.BattleProcessError;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.jobs.BattleJob;
+import alchemy.model.battles.replays.BattleReplay;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Asynchronous battles : submissions go into a bounded queue consumed by a fixed set of workers, and are rejected
+ * with a Retry-After once the queue is full, so that request threads never wait on battles.
+ *
+ * Workers are virtual threads when the JVM supports them, platform threads otherwise. Finished jobs can be polled
+ * for the configured retention, then are forgotten.
+ *
+ * Subscribers to a job are notified on their own thread, so that a slow client never holds a battle worker.
+ *
+ * Jobs have no time budget : a battle slowed down by busy workers would otherwise end in a stalemate, and be recorded
+ * as one. They are bound by the turn cap and stall detection.
+ */
+@Slf4j
+@Service
+public class BattleJobService {
+
+	private final ChampionService championService;
+	private final BattleService battleService;
+	private final BattleHistoryService battleHistoryService;
+	private final BattleProperties.Jobs properties;
+
+	private final BlockingQueue<BattleJob> queue;
+	private final Map<UUID, BattleJob> jobs = new ConcurrentHashMap<>();
+	private final Queue<BattleJob> finishedJobs = new ConcurrentLinkedQueue<>();
+	private final List<Thread> workers = new ArrayList<>();
+	private final ExecutorService notifier;
+
+	private volatile boolean running;
+
+	public BattleJobService(ChampionService championService, BattleService battleService,
+			BattleHistoryService battleHistoryService, BattleProperties battleProperties) {
+		this.championService = championService;
+		this.battleService = battleService;
+		this.battleHistoryService = battleHistoryService;
+		this.properties = battleProperties.getJobs();
+		this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("battle-notifier-");
+		threadFactory.setDaemon(true);
+		this.notifier = Executors.newSingleThreadExecutor(threadFactory);
+	}
+
+	@PostConstruct
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+
+		int count = properties.getWorkers() > 0 ? properties.getWorkers() : Runtime.getRuntime().availableProcessors();
+		ThreadFactory threadFactory = createThreadFactory();
+		running = true;
+
+		for (int i = 0; i < count; i++) {
+			Thread worker = threadFactory.newThread(this::work);
+			workers.add(worker);
+			worker.start();
+		}
+	}
+
+	@Logged("Battle Submission")
+	public BattleJob submit(UUID firstPetId, UUID secondPetId, Long seed) {
+		ChampionSnapshot first = championService.getSnapshot(firstPetId);
+		ChampionSnapshot second = championService.getSnapshot(secondPetId);
+
+		return submit(first, second, seed == null ? ThreadLocalRandom.current().nextLong() : seed);
+	}
+
+	public BattleJob submit(ChampionSnapshot first, ChampionSnapshot second, long seed) {
+		evictExpiredJobs();
+
+		BattleJob job = new BattleJob(first, second, seed);
+		jobs.put(job.getId(), job);
+
+		if (!queue.offer(job)) {
+			jobs.remove(job.getId());
+			throw new RetryLaterException(BattleProcessError.BATTLE_JOB_QUEUE_FULL, properties.getRetryAfter(),
+					String.valueOf(properties.getQueueCapacity()));
+		}
+
+		return job;
+	}
+
+	public BattleJob getJob(UUID jobId) {
+		evictExpiredJobs();
+
+		BattleJob job = jobs.get(jobId);
+
+		if (job == null) {
+			throw new ProcessException(BattleProcessError.BATTLE_JOB_DOES_NOT_EXIST, HttpStatus.NOT_FOUND, String.valueOf(jobId));
+		}
+
+		return job;
+	}
+
+	/**
+	 * Completes once the job is finished, on the notifier thread rather than on the worker that played it.
+	 */
+	public CompletionStage<BattleJob> whenFinished(BattleJob job) {
+		return job.whenFinished().thenApplyAsync(Function.identity(), notifier);
+	}
+
+	public int getQueuedJobs() {
+		return queue.size();
+	}
+
+	@PreDestroy
+	public synchronized void shutdown() {
+		running = false;
+		workers.forEach(Thread::interrupt);
+		workers.clear();
+
+		BattleJob job;
+
+		while ((job = queue.poll()) != null) {
+			job.fail("Shutdown before the battle started.");
+		}
+
+		notifier.shutdown();
+	}
+
+	private void work() {
+		while (running) {
+			BattleJob job;
+
+			try {
+				job = queue.poll(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				break;
+			}
+
+			if (job != null) {
+				play(job);
+			}
+		}
+	}
+
+	private void play(BattleJob job) {
+		job.start();
+
+		try {
+			BattleReplay replay = battleService.recordBattle(job.getFirst(), job.getSecond(), job.getSeed(),
+					battleService.getLimits().withoutTimeBudget(), BattleEventListener.NONE);
+			battleHistoryService.record(replay);
+			job.complete(replay);
+		} catch (RuntimeException e) {
+			log.warn("Battle job {} failed.", job.getId(), e);
+			job.fail(e.getMessage());
+		}
+
+		finishedJobs.add(job);
+	}
+
+	private void evictExpiredJobs() {
+		Instant expiration = Instant.now().minus(properties.getRetention());
+		BattleJob oldest;
+
+		while ((oldest = finishedJobs.peek()) != null && oldest.getFinishedAt().isBefore(expiration)) {
+			if (finishedJobs.remove(oldest)) {
+				jobs.remove(oldest.getId());
+			}
+		}
+	}
+
+	private ThreadFactory createThreadFactory() {
+		try {
+			return new VirtualThreadTaskExecutor("battle-worker-").getVirtualThreadFactory();
+		} catch (UnsupportedOperationException e) {
+			log.info("Virtual threads are not supported by this JVM, battle workers use platform threads.");
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("battle-worker-");
+			threadFactory.setDaemon(true);
+			return threadFactory;
+		}
+	}
+
+}
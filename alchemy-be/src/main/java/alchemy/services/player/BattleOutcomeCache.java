@@ -0,0 +1,90 @@
+package alchemy.services.player;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import alchemy.config.BattleProperties;
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEventListener;
+
+/**
+ * Memoized battles without events, for workloads that repeat the same pairings.
+ *
+ * Battles are deterministic, and the seed only decides which champion acts first on energy ties : outcomes are
+ * keyed by the fingerprints of both champions and that initiative order, so that a pair has at most two entries
+ * whatever the seeds. Fingerprints hash the compiled moves rather than the catalog version, so that editing the
+ * catalog only misses the pairs using the edited moves.
+ *
+ * Eviction is W-TinyLFU : popular pairings stay cached while one-off pairings don't evict them. Stalemates reached
+ * on the time budget are not cached, as they depend on the machine rather than on the champions.
+ */
+@Service
+public class BattleOutcomeCache {
+
+	private final BattleService battleService;
+	private final Duration timeBudget;
+	private final Cache<OutcomeKey, BattleResult> cache;
+
+	public BattleOutcomeCache(BattleService battleService, BattleProperties battleProperties) {
+		this.battleService = battleService;
+		this.timeBudget = battleService.getLimits().timeBudget();
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(battleProperties.getOutcomeCache().getMaximumSize())
+				.recordStats()
+				.build();
+	}
+
+	public BattleResult executeBattle(ChampionSnapshot first, ChampionSnapshot second, long seed) {
+		return executeBattle(first, first.fingerprint(), second, second.fingerprint(), seed);
+	}
+
+	/**
+	 * Same as {@link #executeBattle(ChampionSnapshot, ChampionSnapshot, long)}, with fingerprints computed once by
+	 * callers playing the same champions many times.
+	 */
+	public BattleResult executeBattle(ChampionSnapshot first, long firstFingerprint, ChampionSnapshot second,
+			long secondFingerprint, long seed) {
+		OutcomeKey key = new OutcomeKey(firstFingerprint, secondFingerprint, BattleEngine.hasInitiative(seed));
+		BattleResult cached = cache.getIfPresent(key);
+
+		if (cached != null) {
+			return new BattleResult(seed, cached.outcome(), cached.turns(), Collections.emptyList());
+		}
+
+		long start = System.nanoTime();
+		BattleResult result = battleService.executeBattle(first, second, seed, BattleEventListener.NONE);
+
+		if (result.outcome() != BattleOutcome.STALEMATE || timeBudget == null
+				|| System.nanoTime() - start < timeBudget.toNanos()) {
+			cache.put(key, result);
+		}
+
+		return result;
+	}
+
+	public CacheStats getStats() {
+		return cache.stats();
+	}
+
+	public long getSize() {
+		return cache.estimatedSize();
+	}
+
+	public void clear() {
+		cache.invalidateAll();
+	}
+
+	private record OutcomeKey(long firstFingerprint, long secondFingerprint, boolean firstHasInitiative) {
+
+	}
+
+}
@@ -0,0 +1,107 @@
+package alchemy.services.player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import alchemy.config.BattleProperties;
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEvent;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.replays.BattleReplay;
+import alchemy.model.pets.Pet;
+
+/**
+ * Snapshots pets for the {@link BattleEngine}, which plays the battles.
+ */
+@Service
+public class BattleService {
+
+	private final MovePlanService movePlanService;
+	private final BattleEngine engine;
+
+	public BattleService(MovePlanService movePlanService) {
+		this(movePlanService, BattleLimits.DEFAULT);
+	}
+
+	@Autowired
+	public BattleService(MovePlanService movePlanService, BattleProperties battleProperties) {
+		this(movePlanService, battleProperties.getLimits().toBattleLimits());
+	}
+
+	public BattleService(MovePlanService movePlanService, BattleLimits limits) {
+		this.movePlanService = movePlanService;
+		this.engine = new BattleEngine(limits);
+	}
+
+	public BattleLimits getLimits() {
+		return engine.getLimits();
+	}
+
+	public BattleResult executeBattle(Pet pet1, Pet pet2) {
+		List<BattleEvent> events = new ArrayList<>();
+		BattleResult result = executeBattle(pet1, pet2, events::add);
+
+		return new BattleResult(result.seed(), result.outcome(), result.turns(), events);
+	}
+
+	public BattleResult executeBattle(Pet pet1, Pet pet2, BattleEventListener listener) {
+		return executeBattle(pet1, pet2, ThreadLocalRandom.current().nextLong(), listener);
+	}
+
+	public BattleResult executeBattle(Pet pet1, Pet pet2, long seed, BattleEventListener listener) {
+		return executeBattle(snapshot(pet1), snapshot(pet2), seed, listener);
+	}
+
+	public ChampionSnapshot snapshot(Pet pet) {
+		return pet.snapshot(movePlanService.compile(pet.getMoveLoadout()));
+	}
+
+	/**
+	 * Snapshots a pet loaded after the given catalog was read, see {@link MovePlanService#getCatalog()}.
+	 */
+	public ChampionSnapshot snapshot(Pet pet, MovePlanService.Catalog catalog) {
+		return pet.snapshot(movePlanService.compile(pet.getMoveLoadout(), catalog));
+	}
+
+	public BattleReplay recordBattle(Pet pet1, Pet pet2) {
+		return recordBattle(snapshot(pet1), snapshot(pet2), ThreadLocalRandom.current().nextLong());
+	}
+
+	public BattleReplay recordBattle(ChampionSnapshot first, ChampionSnapshot second, long seed) {
+		return engine.recordBattle(first, second, seed);
+	}
+
+	public BattleReplay recordBattle(ChampionSnapshot first, ChampionSnapshot second, long seed, BattleEventListener listener) {
+		return engine.recordBattle(first, second, seed, listener);
+	}
+
+	public BattleReplay recordBattle(ChampionSnapshot first, ChampionSnapshot second, long seed, BattleLimits limits,
+			BattleEventListener listener) {
+		return engine.recordBattle(first, second, seed, limits, listener);
+	}
+
+	public BattleResult replay(BattleReplay replay, BattleEventListener listener) {
+		return engine.replay(replay, listener);
+	}
+
+	public boolean verify(BattleReplay replay) {
+		return engine.verify(replay);
+	}
+
+	public BattleResult executeBattle(ChampionSnapshot first, ChampionSnapshot second, long seed, BattleEventListener listener) {
+		return engine.executeBattle(first, second, seed, listener);
+	}
+
+	public BattleResult executeBattle(ChampionSnapshot first, ChampionSnapshot second, long seed, BattleLimits limits,
+			BattleEventListener listener) {
+		return engine.executeBattle(first, second, seed, limits, listener);
+	}
+
+}
@@ -0,0 +1,147 @@
+package alchemy.services.player;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import alchemy.annotations.Logged;
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.RetryLaterException;
+import alchemy.exceptions.process.battles.BattleProcessError;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEvent;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.replays.BattleReplay;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plays battles on a bounded pool and streams their events as Server-Sent Events while turns resolve.
+ *
+ * Events are written synchronously from the battle thread, so a slow client slows its own battle down instead of
+ * piling events up in memory. A disconnection, a timeout or a failed write cancels the battle at the next event.
+ * Battles played to the end are recorded in the battle history.
+ *
+ * Streamed battles have no time budget, as their thread mostly waits on the client : they are bound by the turn cap and
+ * stall detection, and the stream by its own timeout.
+ */
+@Slf4j
+@Service
+public class BattleStreamService {
+
+	private final ChampionService championService;
+	private final BattleService battleService;
+	private final BattleHistoryService battleHistoryService;
+	private final BattleProperties.Streams properties;
+
+	private final AtomicInteger threadCount = new AtomicInteger();
+	private final ThreadPoolExecutor streamPool;
+
+	public BattleStreamService(ChampionService championService, BattleService battleService,
+			BattleHistoryService battleHistoryService, BattleProperties battleProperties) {
+		this.championService = championService;
+		this.battleService = battleService;
+		this.battleHistoryService = battleHistoryService;
+		this.properties = battleProperties.getStreams();
+		this.streamPool = new ThreadPoolExecutor(properties.getMaxStreams(), properties.getMaxStreams(), 0,
+				TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getMaxPendingStreams()),
+				runnable -> {
+					Thread thread = new Thread(runnable, "battle-stream-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	@Logged("Battle Stream")
+	public SseEmitter stream(UUID firstPetId, UUID secondPetId) {
+		ChampionSnapshot first = championService.getSnapshot(firstPetId);
+		ChampionSnapshot second = championService.getSnapshot(secondPetId);
+
+		return stream(first, second, ThreadLocalRandom.current().nextLong(), new SseEmitter(properties.getTimeout().toMillis()));
+	}
+
+	public SseEmitter stream(ChampionSnapshot first, ChampionSnapshot second, long seed, SseEmitter emitter) {
+		StreamingListener listener = new StreamingListener(emitter);
+
+		emitter.onCompletion(listener::cancel);
+		emitter.onTimeout(listener::cancel);
+		emitter.onError(error -> listener.cancel());
+
+		try {
+			streamPool.execute(() -> play(first, second, seed, emitter, listener));
+		} catch (RejectedExecutionException e) {
+			throw new RetryLaterException(BattleProcessError.BATTLE_STREAM_CAPACITY_REACHED, properties.getRetryAfter(),
+					String.valueOf(properties.getMaxStreams()));
+		}
+
+		return emitter;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		streamPool.shutdownNow();
+	}
+
+	private void play(ChampionSnapshot first, ChampionSnapshot second, long seed, SseEmitter emitter, StreamingListener listener) {
+		if (listener.cancelled) {
+			return;
+		}
+
+		try {
+			BattleReplay replay = battleService.recordBattle(first, second, seed, battleService.getLimits().withoutTimeBudget(),
+					listener);
+			emitter.complete();
+			battleHistoryService.record(replay);
+		} catch (CancellationException e) {
+			log.debug("Battle stream between {} and {} cancelled after {} events.", first.name(), second.name(), listener.sequence);
+		} catch (RuntimeException e) {
+			log.warn("Battle stream between {} and {} failed.", first.name(), second.name(), e);
+			emitter.completeWithError(e);
+		}
+	}
+
+	private static class StreamingListener implements BattleEventListener {
+
+		private final SseEmitter emitter;
+
+		private volatile boolean cancelled;
+		private long sequence;
+
+		private StreamingListener(SseEmitter emitter) {
+			this.emitter = emitter;
+		}
+
+		@Override
+		public void onEvent(BattleEvent event) {
+			if (cancelled) {
+				throw new CancellationException();
+			}
+
+			try {
+				emitter.send(SseEmitter.event()
+						.id(String.valueOf(sequence++))
+						.name(event.type().name())
+						.data(event, MediaType.APPLICATION_JSON));
+			} catch (IOException | IllegalStateException e) {
+				cancel();
+				throw new CancellationException();
+			}
+		}
+
+		private void cancel() {
+			cancelled = true;
+		}
+
+	}
+
+}
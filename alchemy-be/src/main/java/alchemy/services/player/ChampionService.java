@@ -0,0 +1,73 @@
+package alchemy.services.player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import alchemy.exceptions.ProcessException;
+import alchemy.exceptions.process.battles.BattleProcessError;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.pets.Pet;
+import alchemy.repositories.PetRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Loads pets and detaches them as champion snapshots, so that battles never run inside a transaction. The move catalog
+ * is read before loading the pets, so that moves loaded before a catalog change never get cached as current.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChampionService {
+
+	private final PetRepository petRepository;
+	private final BattleService battleService;
+	private final MovePlanService movePlanService;
+
+	@Transactional(readOnly = true)
+	public ChampionSnapshot getSnapshot(UUID petId) {
+		MovePlanService.Catalog catalog = movePlanService.getCatalog();
+		Pet pet = petRepository.findById(petId).orElseThrow(
+				() -> new ProcessException(BattleProcessError.BATTLE_PET_DOES_NOT_EXIST, HttpStatus.NOT_FOUND, String.valueOf(petId)));
+
+		return battleService.snapshot(pet, catalog);
+	}
+
+	@Transactional(readOnly = true)
+	public int getUndistributedPoints(UUID petId) {
+		Pet pet = petRepository.findById(petId).orElseThrow(
+				() -> new ProcessException(BattleProcessError.BATTLE_PET_DOES_NOT_EXIST, HttpStatus.NOT_FOUND, String.valueOf(petId)));
+
+		return pet.getAttributeLoadout().getUndistributed();
+	}
+
+	/**
+	 * Returns the snapshots in the order of the given identifiers.
+	 */
+	@Transactional(readOnly = true)
+	public List<ChampionSnapshot> getSnapshots(List<UUID> petIds) {
+		MovePlanService.Catalog catalog = movePlanService.getCatalog();
+		Map<UUID, Pet> pets = petRepository.findAllById(petIds).stream()
+				.collect(Collectors.toMap(Pet::getId, Function.identity()));
+		List<ChampionSnapshot> snapshots = new ArrayList<>(petIds.size());
+
+		for (UUID petId : petIds) {
+			Pet pet = pets.get(petId);
+
+			if (pet == null) {
+				throw new ProcessException(BattleProcessError.BATTLE_PET_DOES_NOT_EXIST, HttpStatus.NOT_FOUND, String.valueOf(petId));
+			}
+
+			snapshots.add(battleService.snapshot(pet, catalog));
+		}
+
+		return snapshots;
+	}
+
+}
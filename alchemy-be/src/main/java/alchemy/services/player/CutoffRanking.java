@@ -0,0 +1,68 @@
+package alchemy.services.player;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Best candidates of a search evaluated in full, shared by the workers evaluating the others.
+ *
+ * Candidates rank by wins, then by draws, then by index. A candidate is cut off when, even winning all its remaining
+ * battles, it would still rank after the worst of the best ones : the results are the same whatever the order in
+ * which candidates are evaluated.
+ */
+class CutoffRanking {
+
+	private static final Comparator<Entry> WORST_FIRST = Comparator.comparingLong(Entry::wins)
+			.thenComparingLong(Entry::draws)
+			.thenComparing(Comparator.comparingInt(Entry::index).reversed());
+
+	private final int size;
+	private final PriorityQueue<Entry> best = new PriorityQueue<>(WORST_FIRST);
+	private final AtomicInteger pruned = new AtomicInteger();
+
+	private volatile Entry worst;
+
+	CutoffRanking(int size) {
+		this.size = size;
+	}
+
+	synchronized void record(long wins, long draws, int index) {
+		best.add(new Entry(wins, draws, index));
+
+		if (best.size() > size) {
+			best.poll();
+		}
+
+		if (best.size() == size) {
+			worst = best.peek();
+		}
+	}
+
+	/**
+	 * Whether the candidate is out of the results even with the given wins, counting it as pruned if so.
+	 */
+	boolean prune(long maxWins, long draws, int index) {
+		Entry threshold = worst;
+
+		if (threshold == null || WORST_FIRST.compare(new Entry(maxWins, draws, index), threshold) >= 0) {
+			return false;
+		}
+
+		pruned.incrementAndGet();
+		return true;
+	}
+
+	int getPruned() {
+		return pruned.get();
+	}
+
+	private record Entry (
+			long wins,
+			long draws,
+			int index
+			){
+
+	}
+
+}
@@ -0,0 +1,329 @@
+package alchemy.services.player;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import alchemy.annotations.Logged;
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.ProcessException;
+import alchemy.exceptions.RetryLaterException;
+import alchemy.exceptions.process.battles.BattleProcessError;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.estimates.TimeToKillEstimator;
+import alchemy.model.battles.jobs.BattleJob;
+import alchemy.model.battles.jobs.BattleJobStatus;
+import alchemy.model.battles.matchmaking.EloRating;
+import alchemy.model.battles.matchmaking.MatchmakingStatus;
+import alchemy.model.battles.matchmaking.MatchmakingTicket;
+import alchemy.model.battles.matchmaking.PetRating;
+import alchemy.model.battles.matchmaking.RatingIndex;
+import alchemy.repositories.PetRatingRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rating-based matchmaking : waiting pets are indexed by rating, and each new pet is matched right away with the
+ * closest one within its window. Windows widen while pets wait, so a sweeper periodically retries the waiting pets,
+ * longest waiting first.
+ *
+ * Matched pairs are submitted to the battle job queue, and ratings are updated with the Elo system once the battle
+ * is played. A pet stays in matchmaking until then, so that it can't be queued twice nor have its rating updated
+ * by two battles at once. Settled tickets can still be polled as long as battle jobs are retained, then are forgotten.
+ *
+ * With a minimum balance, pairings whose estimated times to kill are too far apart (see {@link TimeToKillEstimator})
+ * are skipped before any battle is played, and the pet waits for a closer match. Balances are kept per pair of
+ * fingerprints, only the maxCandidates closest pets are estimated per lookup, and the sweeper skips pets whose window
+ * hasn't changed since their last lookup unless pets entered or left the index since : a sweep costs at most one lookup
+ * of bounded cost per waiting pet, and a pet whose closest candidates are all unbalanced reaches farther ones as soon
+ * as one of them is matched or cancelled.
+ */
+@Slf4j
+@Service
+public class MatchmakingService {
+
+	private final ChampionService championService;
+	private final BattleJobService battleJobService;
+	private final PetRatingRepository petRatingRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final BattleProperties.Matchmaking properties;
+	private final EloRating eloRating;
+	private final TimeToKillEstimator estimator = new TimeToKillEstimator();
+
+	private final RatingIndex index;
+	private final LinkedHashSet<MatchmakingTicket> waiting = new LinkedHashSet<>();
+	private final Map<UUID, MatchmakingTicket> tickets = new HashMap<>();
+	private final Cache<UUID, MatchmakingTicket> settledTickets;
+	private final Cache<BalanceKey, Double> balances;
+
+	/**
+	 * Incremented whenever a ticket enters or leaves the index, the only changes which can give a pet an opponent it
+	 * had not : a new ticket may be accepted, and a leaving one makes room for a farther candidate when a lookup gives
+	 * up after maxCandidates tickets.
+	 */
+	private long generation;
+
+	private ScheduledExecutorService sweeper;
+
+	public MatchmakingService(ChampionService championService, BattleJobService battleJobService,
+			PetRatingRepository petRatingRepository, PlatformTransactionManager transactionManager,
+			BattleProperties battleProperties) {
+		this.championService = championService;
+		this.battleJobService = battleJobService;
+		this.petRatingRepository = petRatingRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.properties = battleProperties.getMatchmaking();
+		this.eloRating = new EloRating(properties.getEloFactor());
+		this.index = new RatingIndex(properties.getBucketWidth());
+		this.settledTickets = Caffeine.newBuilder()
+				.expireAfterWrite(battleProperties.getJobs().getRetention())
+				.build();
+		this.balances = Caffeine.newBuilder()
+				.maximumSize(properties.getBalanceCacheSize())
+				.build();
+	}
+
+	@PostConstruct
+	public synchronized void start() {
+		if (sweeper != null) {
+			return;
+		}
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("matchmaking-sweeper-");
+		threadFactory.setDaemon(true);
+		long interval = properties.getSweepInterval().toMillis();
+
+		sweeper = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		sweeper.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public synchronized void shutdown() {
+		if (sweeper != null) {
+			sweeper.shutdownNow();
+			sweeper = null;
+		}
+	}
+
+	@Logged("Matchmaking")
+	public MatchmakingTicket enqueue(UUID petId) {
+		ChampionSnapshot snapshot = championService.getSnapshot(petId);
+		int rating = petRatingRepository.findById(petId).map(PetRating::getRating).orElse(properties.getInitialRating());
+
+		return enqueue(petId, snapshot, rating);
+	}
+
+	public synchronized MatchmakingTicket enqueue(UUID petId, ChampionSnapshot snapshot, int rating) {
+		MatchmakingTicket previous = tickets.get(petId);
+
+		if (previous != null && previous.isActive()) {
+			throw new ProcessException(BattleProcessError.MATCHMAKING_ALREADY_QUEUED, HttpStatus.CONFLICT, String.valueOf(petId));
+		}
+
+		if (waiting.size() >= properties.getCapacity()) {
+			throw new RetryLaterException(BattleProcessError.MATCHMAKING_QUEUE_FULL, properties.getSweepInterval(),
+					String.valueOf(properties.getCapacity()));
+		}
+
+		Instant now = Instant.now();
+		MatchmakingTicket ticket = new MatchmakingTicket(petId, snapshot, rating, now);
+		tickets.put(petId, ticket);
+		settledTickets.invalidate(petId);
+		int window = getWindow(ticket, now);
+		MatchmakingTicket opponent = findOpponent(ticket, window);
+
+		if (opponent == null || !startBattle(opponent, ticket)) {
+			index.add(ticket);
+			waiting.add(ticket);
+			generation++;
+
+			if (opponent == null) {
+				ticket.missed(window, generation);
+			}
+		}
+
+		return ticket;
+	}
+
+	public MatchmakingTicket getTicket(UUID petId) {
+		MatchmakingTicket ticket;
+
+		synchronized (this) {
+			ticket = tickets.get(petId);
+		}
+
+		if (ticket == null) {
+			ticket = settledTickets.getIfPresent(petId);
+		}
+
+		if (ticket == null) {
+			throw new ProcessException(BattleProcessError.MATCHMAKING_TICKET_DOES_NOT_EXIST, HttpStatus.NOT_FOUND, String.valueOf(petId));
+		}
+
+		return ticket;
+	}
+
+	public synchronized void cancel(UUID petId) {
+		MatchmakingTicket ticket = getTicket(petId);
+
+		if (ticket.getStatus() == MatchmakingStatus.MATCHED) {
+			throw new ProcessException(BattleProcessError.MATCHMAKING_ALREADY_MATCHED, HttpStatus.CONFLICT, String.valueOf(petId));
+		}
+
+		tickets.remove(petId);
+		settledTickets.invalidate(petId);
+
+		if (index.remove(ticket)) {
+			waiting.remove(ticket);
+			generation++;
+		}
+	}
+
+	public synchronized int getWaitingPets() {
+		return waiting.size();
+	}
+
+	public int getWindow(MatchmakingTicket ticket, Instant now) {
+		return ticket.getWindow(now, properties.getInitialWindow(), properties.getWindowGrowth(), properties.getMaxWindow());
+	}
+
+	/**
+	 * Retries every waiting pet with its current window, longest waiting first as its window is the widest.
+	 * Pets whose last lookup missed with the same window and index are skipped. Stops early when the battle job
+	 * queue is full.
+	 */
+	public synchronized void sweep() {
+		Instant now = Instant.now();
+
+		for (MatchmakingTicket ticket : new ArrayList<>(waiting)) {
+			int window = getWindow(ticket, now);
+
+			if (!waiting.contains(ticket) || ticket.hasMissed(window, generation)) {
+				continue;
+			}
+
+			MatchmakingTicket opponent = findOpponent(ticket, window);
+
+			if (opponent == null) {
+				ticket.missed(window, generation);
+			} else if (!startBattle(opponent, ticket)) {
+				return;
+			}
+		}
+	}
+
+	private MatchmakingTicket findOpponent(MatchmakingTicket ticket, int window) {
+		if (properties.getMinBalance() <= 0) {
+			return index.findOpponent(ticket, window);
+		}
+
+		return index.findOpponent(ticket, window, candidate -> isBalanced(candidate, ticket), properties.getMaxCandidates());
+	}
+
+	private boolean isBalanced(MatchmakingTicket opponent, MatchmakingTicket ticket) {
+		long first = opponent.getFingerprint();
+		long second = ticket.getFingerprint();
+		// Balances are symmetric, the key of a pair doesn't depend on its order.
+		BalanceKey key = new BalanceKey(Math.min(first, second), Math.max(first, second));
+		double balance = balances.get(key, pair -> estimator.estimateMatchup(opponent.getSnapshot(), ticket.getSnapshot()).getBalance());
+
+		return balance >= properties.getMinBalance();
+	}
+
+	/**
+	 * Submits the battle and takes both pets out of the index. Returns false when the job queue is full, in which
+	 * case nothing changes.
+	 */
+	private boolean startBattle(MatchmakingTicket opponent, MatchmakingTicket ticket) {
+		BattleJob job;
+
+		try {
+			job = battleJobService.submit(opponent.getSnapshot(), ticket.getSnapshot(), ThreadLocalRandom.current().nextLong());
+		} catch (RetryLaterException e) {
+			log.debug("Battle job queue full, matchmaking of {} and {} postponed.", opponent.getPetId(), ticket.getPetId());
+			return false;
+		}
+
+		for (MatchmakingTicket matched : List.of(opponent, ticket)) {
+			if (index.remove(matched)) {
+				waiting.remove(matched);
+				generation++;
+			}
+		}
+
+		opponent.match(ticket, job);
+		ticket.match(opponent, job);
+		job.whenFinished().thenAccept(finished -> settle(opponent, ticket, finished));
+
+		return true;
+	}
+
+	private void settle(MatchmakingTicket first, MatchmakingTicket second, BattleJob job) {
+		try {
+			if (job.getStatus() == BattleJobStatus.COMPLETED) {
+				updateRatings(first.getPetId(), second.getPetId(), job);
+			}
+		} catch (RuntimeException e) {
+			log.error("Failed to update the ratings of {} and {}.", first.getPetId(), second.getPetId(), e);
+		} finally {
+			first.complete();
+			second.complete();
+			retire(first);
+			retire(second);
+		}
+	}
+
+	/**
+	 * Moves a settled ticket out of the live ones, unless its pet was queued again in the meantime.
+	 */
+	private synchronized void retire(MatchmakingTicket ticket) {
+		if (tickets.remove(ticket.getPetId(), ticket)) {
+			settledTickets.put(ticket.getPetId(), ticket);
+		}
+	}
+
+	private void updateRatings(UUID firstPetId, UUID secondPetId, BattleJob job) {
+		transactionTemplate.executeWithoutResult(status -> {
+			PetRating first = getRating(firstPetId);
+			PetRating second = getRating(secondPetId);
+			int delta = eloRating.getDelta(first.getRating(), second.getRating(), job.getReplay().outcome());
+			LocalDateTime now = LocalDateTime.now();
+
+			first.setRating(first.getRating() + delta);
+			first.setBattles(first.getBattles() + 1);
+			first.setUpdatedAt(now);
+			second.setRating(second.getRating() - delta);
+			second.setBattles(second.getBattles() + 1);
+			second.setUpdatedAt(now);
+
+			petRatingRepository.saveAll(List.of(first, second));
+		});
+	}
+
+	private PetRating getRating(UUID petId) {
+		return petRatingRepository.findById(petId).orElseGet(() -> new PetRating(petId, properties.getInitialRating()));
+	}
+
+	private record BalanceKey(long low, long high) {
+	}
+
+}
@@ -0,0 +1,267 @@
+package alchemy.services.player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import alchemy.annotations.Logged;
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.ProcessException;
+import alchemy.exceptions.process.pets.PetProcessError;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.simulations.MatchupStats;
+import alchemy.model.battles.simulations.MoveOrder;
+import alchemy.model.battles.simulations.MoveOrderReport;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Searches the priority orders of a loadout that win the most against a set of reference opponents.
+ *
+ * A champion always plays its ready move of best priority, so the moves it plays only depend on the order and on the
+ * cooldowns, never on the battle. Once a prefix of the order always leaves a move ready, the moves after it are never
+ * played : every permutation sharing that prefix is the same candidate, simulated once. With a move without
+ * cooldown, that happens as soon as it is placed.
+ *
+ * Every candidate plays the same battles against the opponents (see {@link OpponentPool}). Candidates are evaluated in
+ * parallel, opponent after opponent, and dropped as soon as winning all their remaining battles could not rank them
+ * among the results (see {@link CutoffRanking}). Ties are ranked by slot order.
+ */
+@Slf4j
+@Service
+public class MoveOrderService {
+
+	private static final int CANDIDATES_PER_TASK = 8;
+	private static final Comparator<Evaluation> RANKING = Comparator.comparingLong((Evaluation evaluation) -> evaluation.order().stats().wins())
+			.thenComparingLong(evaluation -> evaluation.order().stats().draws())
+			.reversed()
+			.thenComparingInt(Evaluation::candidate);
+
+	private final BattleOutcomeCache battleOutcomeCache;
+	private final int maxMoves;
+
+	private final ForkJoinPool optimizationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+	public MoveOrderService(BattleOutcomeCache battleOutcomeCache, BattleProperties battleProperties) {
+		this.battleOutcomeCache = battleOutcomeCache;
+		this.maxMoves = battleProperties.getMoveOrders().getMaxMoves();
+	}
+
+	@Logged("Move Order Optimization")
+	public MoveOrderReport optimize(ChampionSnapshot champion, List<ChampionSnapshot> opponents, int battlesPerOpponent,
+			int results, long seed) {
+		List<MovePlan> moves = champion.moves();
+
+		if (moves.size() > maxMoves) {
+			throw new ProcessException(PetProcessError.MOVE_ORDER_TOO_MANY_MOVES, HttpStatus.BAD_REQUEST, String.valueOf(maxMoves));
+		}
+
+		List<Candidate> candidates = new ArrayList<>();
+		search(moves, new int[moves.size()], 0, 0L, candidates);
+
+		OpponentPool pool = new OpponentPool(battleOutcomeCache, opponents, battlesPerOpponent, seed);
+
+		log.debug("Searching {} move orders of {} against {} opponents as {} candidates.", factorial(moves.size()),
+				champion.name(), pool.size(), candidates.size());
+
+		// Permutations are searched in slot order, the first candidate is the current order : evaluated in full and
+		// first, it gives the cutoff of the other candidates a head start.
+		CutoffRanking ranking = new CutoffRanking(results);
+		Evaluation[] evaluations = new Evaluation[candidates.size()];
+		evaluations[0] = new Evaluation(0, evaluate(champion, candidates.get(0), 0, pool, null));
+		ranking.record(evaluations[0].order().stats().wins(), evaluations[0].order().stats().draws(), 0);
+
+		optimizationPool.invoke(new OptimizationTask(champion, candidates, pool, ranking, evaluations, 1, candidates.size()));
+
+		List<MoveOrder> best = Arrays.stream(evaluations)
+				.filter(evaluation -> evaluation.order() != null)
+				.sorted(RANKING)
+				.limit(results)
+				.map(Evaluation::order)
+				.toList();
+
+		return new MoveOrderReport(evaluations[0].order(), best, factorial(moves.size()), candidates.size(), ranking.getPruned());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		optimizationPool.shutdownNow();
+	}
+
+	/**
+	 * Places the unused moves one after the other, by slot, and stops as soon as the placed ones are never all cooling
+	 * down. The moves left are then appended in slot order, as they are never played.
+	 */
+	private static void search(List<MovePlan> moves, int[] order, int placed, long used, List<Candidate> candidates) {
+		if (placed == order.length || (placed > 0 && isAlwaysReady(moves, order, placed))) {
+			int[] slots = Arrays.copyOf(order, order.length);
+			int position = placed;
+
+			for (int slot = 0; slot < order.length; slot++) {
+				if ((used & (1L << slot)) == 0) {
+					slots[position++] = slot;
+				}
+			}
+
+			candidates.add(new Candidate(slots, placed));
+			return;
+		}
+
+		for (int slot = 0; slot < order.length; slot++) {
+			if ((used & (1L << slot)) == 0) {
+				order[placed] = slot;
+				search(moves, order, placed + 1, used | (1L << slot), candidates);
+			}
+		}
+	}
+
+	/**
+	 * Plays the priority rule of {@link alchemy.model.battles.Champion#getNextMoveSlot()} with the first moves of the
+	 * order only, until the cooldowns repeat a previous state, and tells whether a move was ready at every turn.
+	 */
+	private static boolean isAlwaysReady(List<MovePlan> moves, int[] order, int placed) {
+		int[] cooldowns = new int[placed];
+		long[] weights = new long[placed];
+		long states = 1;
+
+		for (int i = 0; i < placed; i++) {
+			weights[i] = states;
+
+			try {
+				states = Math.multiplyExact(states, Math.max(0, moves.get(order[i]).cooldown()) + 1);
+			} catch (ArithmeticException e) {
+				// Cooldowns too long to track, the later moves are simply kept.
+				return false;
+			}
+		}
+
+		Set<Long> visited = new HashSet<>();
+		long state = 0;
+
+		while (visited.add(state)) {
+			int played = 0;
+
+			while (played < placed && cooldowns[played] > 0) {
+				played++;
+			}
+
+			if (played == placed) {
+				return false;
+			}
+
+			state = 0;
+
+			for (int i = 0; i < placed; i++) {
+				if (cooldowns[i] > 0) {
+					cooldowns[i]--;
+				}
+			}
+
+			cooldowns[played] = Math.max(0, moves.get(order[played]).cooldown());
+
+			for (int i = 0; i < placed; i++) {
+				state += cooldowns[i] * weights[i];
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns null when the ranking tells the candidate can no longer be among the results, never without ranking.
+	 */
+	private static MoveOrder evaluate(ChampionSnapshot champion, Candidate candidate, int index, OpponentPool opponents,
+			CutoffRanking ranking) {
+		List<MovePlan> moves = new ArrayList<>(candidate.slots().length);
+
+		for (int slot : candidate.slots()) {
+			moves.add(champion.moves().get(slot));
+		}
+
+		ChampionSnapshot ordered = new ChampionSnapshot(champion.name(), champion.level(), champion.baseAttributes(), moves);
+		MatchupStats stats = opponents.play(ordered, ranking, index);
+
+		if (stats == null) {
+			return null;
+		}
+
+		return new MoveOrder(Arrays.stream(candidate.slots()).boxed().toList(), candidate.reachableMoves(), stats);
+	}
+
+	private static long factorial(int value) {
+		long factorial = 1;
+
+		for (int i = 2; i <= value; i++) {
+			factorial *= i;
+		}
+
+		return factorial;
+	}
+
+	private record Candidate (
+			int[] slots,
+			int reachableMoves
+			){
+
+	}
+
+	private record Evaluation (
+			int candidate,
+			MoveOrder order
+			){
+
+	}
+
+	@SuppressWarnings("serial")
+	private class OptimizationTask extends RecursiveAction {
+
+		private final ChampionSnapshot champion;
+		private final List<Candidate> candidates;
+		private final OpponentPool opponents;
+		private final CutoffRanking ranking;
+		private final Evaluation[] evaluations;
+		private final int from;
+		private final int to;
+
+		private OptimizationTask(ChampionSnapshot champion, List<Candidate> candidates, OpponentPool opponents,
+				CutoffRanking ranking, Evaluation[] evaluations, int from, int to) {
+			this.champion = champion;
+			this.candidates = candidates;
+			this.opponents = opponents;
+			this.ranking = ranking;
+			this.evaluations = evaluations;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > CANDIDATES_PER_TASK) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new OptimizationTask(champion, candidates, opponents, ranking, evaluations, from, middle),
+						new OptimizationTask(champion, candidates, opponents, ranking, evaluations, middle, to));
+				return;
+			}
+
+			for (int candidate = from; candidate < to; candidate++) {
+				MoveOrder order = evaluate(champion, candidates.get(candidate), candidate, opponents, ranking);
+				evaluations[candidate] = new Evaluation(candidate, order);
+
+				if (order != null) {
+					ranking.record(order.stats().wins(), order.stats().draws(), candidate);
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,114 @@
+package alchemy.services.player;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.pets.moves.Move;
+import alchemy.model.pets.moves.MoveLoadout;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compiles moves into immutable plans, cached by move name and catalog version.
+ * Any change to the move catalog must call {@link #invalidate()}.
+ *
+ * Each catalog version has a cache of its own, swapped for an empty one on invalidation. Moves loaded before an
+ * invalidation may be stale, so the catalog must be read before loading them (see {@link #getCatalog()}) : their plans
+ * then land in the cache of that version, which is dropped with it.
+ */
+@Slf4j
+@Service
+public class MovePlanService {
+
+	private final AtomicReference<Catalog> catalog = new AtomicReference<>(new Catalog(0));
+
+	public long getCatalogVersion() {
+		return catalog.get().getVersion();
+	}
+
+	/**
+	 * Catalog to compile moves loaded from now on against.
+	 */
+	public Catalog getCatalog() {
+		return catalog.get();
+	}
+
+	/**
+	 * Compiles against the current catalog, for moves which can't be stale. Loaded moves go through
+	 * {@link #compile(Move, Catalog)}.
+	 */
+	public MovePlan compile(Move move) {
+		return compile(move, catalog.get());
+	}
+
+	public List<MovePlan> compile(MoveLoadout loadout) {
+		return compile(loadout, catalog.get());
+	}
+
+	/**
+	 * Compiles a move loaded after the given catalog was read.
+	 */
+	public MovePlan compile(Move move, Catalog catalog) {
+		return catalog.plans.computeIfAbsent(move.getName(), name -> move.compile());
+	}
+
+	/**
+	 * Compiles a loadout loaded after the given catalog was read.
+	 */
+	public List<MovePlan> compile(MoveLoadout loadout, Catalog catalog) {
+		List<Move> moves = loadout.getMoves();
+		MovePlan[] compiled = new MovePlan[moves.size()];
+
+		for (int i = 0; i < compiled.length; i++) {
+			compiled[i] = compile(moves.get(i), catalog);
+		}
+
+		return List.of(compiled);
+	}
+
+	public void invalidate() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCommit() {
+					bumpCatalogVersion();
+				}
+
+			});
+		} else {
+			bumpCatalogVersion();
+		}
+	}
+
+	private void bumpCatalogVersion() {
+		long version = catalog.updateAndGet(current -> new Catalog(current.getVersion() + 1)).getVersion();
+
+		log.debug("Move catalog updated to version {}, compiled plans invalidated.", version);
+	}
+
+	/**
+	 * A version of the move catalog and the plans compiled against it.
+	 */
+	public static final class Catalog {
+
+		private final long version;
+		private final Map<String, MovePlan> plans = new ConcurrentHashMap<>();
+
+		private Catalog(long version) {
+			this.version = version;
+		}
+
+		public long getVersion() {
+			return version;
+		}
+
+	}
+
+}
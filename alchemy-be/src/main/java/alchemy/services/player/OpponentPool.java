@@ -0,0 +1,110 @@
+package alchemy.services.player;
+
+import java.util.List;
+
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.simulations.MatchupStats;
+
+/**
+ * Reference opponents of a search, against which every candidate plays the same seeded battles.
+ *
+ * The k-th battle against the i-th opponent is played with the seed {@code seed + (i * battlesPerOpponent + k) * SEED_INCREMENT}.
+ * As the seed only decides the initiative order (see {@link BattleOutcomeCache}), the battles against an opponent are
+ * played once per initiative order and weighted by the number of seeds giving it.
+ */
+class OpponentPool {
+
+	private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+	private final BattleOutcomeCache battleOutcomeCache;
+	private final Opponent[] opponents;
+	private final long battles;
+
+	OpponentPool(BattleOutcomeCache battleOutcomeCache, List<ChampionSnapshot> opponents, int battlesPerOpponent, long seed) {
+		this.battleOutcomeCache = battleOutcomeCache;
+		this.opponents = new Opponent[opponents.size()];
+
+		for (int i = 0; i < this.opponents.length; i++) {
+			this.opponents[i] = Opponent.of(opponents.get(i), seed + (long) i * battlesPerOpponent * SEED_INCREMENT, battlesPerOpponent);
+		}
+
+		this.battles = (long) this.opponents.length * battlesPerOpponent;
+	}
+
+	int size() {
+		return opponents.length;
+	}
+
+	/**
+	 * Plays the champion against the opponents one after the other. Returns null as soon as the ranking cuts the
+	 * candidate of the given index off, never without ranking.
+	 */
+	MatchupStats play(ChampionSnapshot champion, CutoffRanking ranking, int index) {
+		long fingerprint = champion.fingerprint();
+		long remaining = battles;
+		long wins = 0;
+		long losses = 0;
+		long draws = 0;
+		long turns = 0;
+
+		for (Opponent opponent : opponents) {
+			for (int initiative = 0; initiative < 2; initiative++) {
+				long count = opponent.counts()[initiative];
+
+				if (count == 0) {
+					continue;
+				}
+
+				if (ranking != null && ranking.prune(wins + remaining, draws, index)) {
+					return null;
+				}
+
+				BattleResult result = battleOutcomeCache.executeBattle(champion, fingerprint, opponent.snapshot(),
+						opponent.fingerprint(), opponent.seeds()[initiative]);
+
+				switch (result.outcome()) {
+				case FIRST_CHAMPION_WON -> wins += count;
+				case SECOND_CHAMPION_WON -> losses += count;
+				default -> draws += count;
+				}
+
+				turns += result.turns() * count;
+				remaining -= count;
+			}
+		}
+
+		return new MatchupStats(wins, losses, draws, turns);
+	}
+
+	/**
+	 * An opponent and its battles, split by initiative order : the first seed giving each order and how many of the
+	 * battles have it.
+	 */
+	private record Opponent (
+			ChampionSnapshot snapshot,
+			long fingerprint,
+			long[] seeds,
+			long[] counts
+			){
+
+		private static Opponent of(ChampionSnapshot snapshot, long firstSeed, int battles) {
+			long[] seeds = new long[2];
+			long[] counts = new long[2];
+
+			for (int battle = 0; battle < battles; battle++) {
+				long seed = firstSeed + battle * SEED_INCREMENT;
+				int initiative = BattleEngine.hasInitiative(seed) ? 0 : 1;
+
+				if (counts[initiative]++ == 0) {
+					seeds[initiative] = seed;
+				}
+			}
+
+			return new Opponent(snapshot, snapshot.fingerprint(), seeds, counts);
+		}
+
+	}
+
+}
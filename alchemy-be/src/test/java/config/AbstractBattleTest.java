@@ -0,0 +1,84 @@
+package config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import alchemy.model.pets.Pet;
+import alchemy.model.pets.attributes.AttributeLoadout;
+import alchemy.model.pets.genes.GeneLoadout;
+import alchemy.model.pets.moves.Move;
+import alchemy.model.pets.moves.MoveLoadout;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.AttributeModifierComponent;
+import alchemy.model.pets.moves.components.DamageComponent;
+import alchemy.model.pets.moves.components.DamageOverTimeComponent;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.EffectTarget;
+import alchemy.model.pets.moves.components.MoveComponent;
+import alchemy.model.pets.moves.components.ShieldComponent;
+
+public abstract class AbstractBattleTest extends AbstractTest {
+
+    protected Pet createPet(String name, int level, int strength, int constitution, int agility, int intellect, int willpower, Move... moves) {
+    	AttributeLoadout attributes = AttributeLoadout.builder()
+    			.strength(strength)
+    			.constitution(constitution)
+    			.agility(agility)
+    			.intellect(intellect)
+    			.willpower(willpower)
+    			.build();
+
+    	MoveLoadout moveLoadout = new MoveLoadout(null, new ArrayList<>(List.of(moves)));
+
+    	return new Pet(null, name, level, attributes, new GeneLoadout(), moveLoadout);
+    }
+
+    protected Move createDamageMove(String name, int cooldown, DamageType damageType, int baseDamage, int baseBypass) {
+    	DamageComponent component = new DamageComponent();
+    	component.setDamageType(damageType);
+    	component.setBaseDamage(baseDamage);
+    	component.setBaseBypass(baseBypass);
+
+    	return createMove(name, cooldown, component);
+    }
+
+    protected Move createMove(String name, int cooldown, MoveComponent... components) {
+    	return Move.builder()
+    			.name(name)
+    			.tags(Collections.emptyList())
+    			.constraints(Collections.emptyList())
+    			.cooldown(cooldown)
+    			.components(new ArrayList<MoveComponent>(List.of(components)))
+    			.build();
+    }
+
+    protected DamageOverTimeComponent createDamageOverTime(DamageType damageType, int damage, int duration) {
+    	DamageOverTimeComponent component = new DamageOverTimeComponent();
+    	component.setDamageType(damageType);
+    	component.setDamage(damage);
+    	component.setDuration(duration);
+
+    	return component;
+    }
+
+    protected ShieldComponent createShield(DamageType damageType, int amount, int duration) {
+    	ShieldComponent component = new ShieldComponent();
+    	component.setDamageType(damageType);
+    	component.setAmount(amount);
+    	component.setDuration(duration);
+
+    	return component;
+    }
+
+    protected AttributeModifierComponent createModifier(DerivedAttribute attribute, int amount, EffectTarget target, int duration) {
+    	AttributeModifierComponent component = new AttributeModifierComponent();
+    	component.setAttribute(attribute);
+    	component.setAmount(amount);
+    	component.setTarget(target);
+    	component.setDuration(duration);
+
+    	return component;
+    }
+
+}
@@ -0,0 +1,48 @@
+package differential;
+
+import java.util.Arrays;
+
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.plans.MovePlan;
+
+public record BattleCase (
+		ChampionSnapshot first,
+		ChampionSnapshot second,
+		long seed
+		){
+
+	public int size() {
+		return size(first) + size(second);
+	}
+
+	private static int size(ChampionSnapshot snapshot) {
+		int size = snapshot.level() + Arrays.stream(snapshot.baseAttributes()).map(Math::abs).sum();
+
+		for (MovePlan move : snapshot.moves()) {
+			size += 1 + move.cooldown() + move.components().size() * 10;
+		}
+
+		return size;
+	}
+
+	/**
+	 * Java-like description, to paste in a test when reproducing a mismatch.
+	 */
+	public String describe() {
+		StringBuilder result = new StringBuilder("seed ").append(seed).append('\n');
+		describe(result, first);
+		describe(result, second);
+		return result.toString();
+	}
+
+	private static void describe(StringBuilder result, ChampionSnapshot snapshot) {
+		result.append(snapshot.name()).append(" level ").append(snapshot.level())
+				.append(" attributes ").append(Arrays.toString(snapshot.baseAttributes())).append('\n');
+
+		for (MovePlan move : snapshot.moves()) {
+			result.append("  ").append(move.name()).append(" cooldown ").append(move.cooldown()).append(' ')
+					.append(move.components()).append('\n');
+		}
+	}
+
+}
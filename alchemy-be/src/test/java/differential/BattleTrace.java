@@ -0,0 +1,15 @@
+package differential;
+
+import java.util.List;
+
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.events.BattleEvent;
+
+/**
+ * What two engines must agree on. Events are null when the engine ran without listener.
+ */
+public record BattleTrace (
+		BattleOutcome outcome,
+		int turns,
+		List<BattleEvent> events
+		){ }
@@ -0,0 +1,104 @@
+package differential;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import alchemy.config.BattleProperties;
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEvent;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.search.BattleState;
+import alchemy.services.player.BattleOutcomeCache;
+import alchemy.services.player.BattleService;
+import alchemy.services.player.MovePlanService;
+
+/**
+ * Runs the battle engine against {@link ReferenceBattleEngine}. The default run is sized for the build, longer
+ * campaigns are run with -Ddifferential.cases=1000000 and a new -Ddifferential.seed.
+ */
+public class DifferentialBattleTest {
+
+    private static final int CASES = Integer.getInteger("differential.cases", 5_000);
+    private static final long SEED = Long.getLong("differential.seed", 20_251_017L);
+    private static final BattleLimits LIMITS = new BattleLimits(2_000, null, true);
+
+    private final BattleService battleService = new BattleService(new MovePlanService(), LIMITS);
+    private final ReferenceBattleEngine reference = new ReferenceBattleEngine(LIMITS);
+
+    private BattleTrace play(ChampionSnapshot first, ChampionSnapshot second, long seed) {
+    	List<BattleEvent> events = new ArrayList<>();
+    	BattleResult result = battleService.executeBattle(first, second, seed, events::add);
+
+    	return new BattleTrace(result.outcome(), result.turns(), events);
+    }
+
+    private void assertNoMismatch(TracedEngine candidate) {
+    	Optional<DifferentialHarness.Mismatch> mismatch = new DifferentialHarness(reference, candidate).run(SEED, CASES);
+
+    	assertTrue(mismatch.isEmpty(), () -> mismatch.orElseThrow().toString());
+    }
+
+    @Test
+    void engineMatchesReferenceTest() {
+    	assertNoMismatch(this::play);
+    }
+
+    @Test
+    void engineWithoutEventsMatchesReferenceTest() {
+    	assertNoMismatch((first, second, seed) -> {
+    		BattleResult result = battleService.executeBattle(first, second, seed, BattleEventListener.NONE);
+    		return new BattleTrace(result.outcome(), result.turns(), null);
+    	});
+    }
+
+    @Test
+    void outcomeCacheMatchesReferenceTest() {
+    	BattleOutcomeCache cache = new BattleOutcomeCache(battleService, new BattleProperties());
+
+    	assertNoMismatch((first, second, seed) -> {
+    		BattleResult result = cache.executeBattle(first, second, seed);
+    		return new BattleTrace(result.outcome(), result.turns(), null);
+    	});
+    }
+
+    @Test
+    void battleStateMatchesReferenceTest() {
+    	assertNoMismatch((first, second, seed) -> {
+    		BattleState state = new BattleState(first, second, seed, LIMITS);
+    		int actor;
+
+    		while ((actor = state.nextActor()) >= 0) {
+    			state.play(state.getPrioritySlot(actor));
+    		}
+
+    		return new BattleTrace(state.getOutcome(), state.getTurns(), null);
+    	});
+    }
+
+    @Test
+    void mismatchShrunkTest() {
+    	// Engine forgetting the cooldowns of the first champion.
+    	TracedEngine broken = (first, second, seed) -> play(new ChampionSnapshot(first.name(), first.level(), first.baseAttributes(),
+    			first.moves().stream().map(move -> MovePlan.of(move.name(), 0, move.components())).toList()), second, seed);
+
+    	DifferentialHarness.Mismatch mismatch = new DifferentialHarness(reference, broken).run(SEED, CASES).orElseThrow();
+    	ChampionSnapshot first = mismatch.shrunk().first();
+
+    	assertTrue(mismatch.shrunk().size() < mismatch.original().size());
+    	assertEquals(0, mismatch.shrunk().seed());
+    	assertEquals(1, first.moves().size());
+    	assertEquals(1, first.moves().get(0).cooldown());
+    	assertTrue(first.moves().get(0).components().isEmpty());
+    	assertTrue(mismatch.shrunk().second().moves().isEmpty());
+    }
+
+}
@@ -0,0 +1,258 @@
+package differential;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.MovePlan;
+
+/**
+ * Plays random battles on a reference engine and on a candidate engine, and reports the first case where their traces
+ * differ, shrunk to a minimal reproducer.
+ *
+ * Shrinking is greedy : every smaller variant of the case is tried (seed 0, fewer moves, fewer components, then
+ * every number towards 0 and every constant towards the first one) and the first one still failing is kept, until none fails anymore. Components are shrunk through their
+ * record components, so that new plan types are covered without changes here.
+ */
+public class DifferentialHarness {
+
+	private final TracedEngine reference;
+	private final TracedEngine candidate;
+
+	public DifferentialHarness(TracedEngine reference, TracedEngine candidate) {
+		this.reference = reference;
+		this.candidate = candidate;
+	}
+
+	public record Mismatch(BattleCase original, BattleCase shrunk, String difference) {
+
+		@Override
+		public String toString() {
+			return difference + "\nMinimal case :\n" + shrunk.describe();
+		}
+
+	}
+
+	public Optional<Mismatch> run(long seed, int cases) {
+		LoadoutGenerator generator = new LoadoutGenerator(seed);
+
+		for (int i = 0; i < cases; i++) {
+			BattleCase battleCase = generator.next();
+
+			if (compare(battleCase).isPresent()) {
+				BattleCase shrunk = shrink(battleCase);
+				return Optional.of(new Mismatch(battleCase, shrunk, compare(shrunk).orElseThrow()));
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Describes the first difference between both engines on the case, if any. An engine throwing is a difference too.
+	 */
+	public Optional<String> compare(BattleCase battleCase) {
+		BattleTrace expected;
+		BattleTrace actual;
+
+		try {
+			expected = reference.play(battleCase.first(), battleCase.second(), battleCase.seed());
+		} catch (RuntimeException e) {
+			return Optional.of("Reference engine failed : " + e);
+		}
+
+		try {
+			actual = candidate.play(battleCase.first(), battleCase.second(), battleCase.seed());
+		} catch (RuntimeException e) {
+			return Optional.of("Candidate engine failed : " + e);
+		}
+
+		if (expected.events() != null && actual.events() != null) {
+			int size = Math.min(expected.events().size(), actual.events().size());
+
+			for (int i = 0; i < size; i++) {
+				if (!Objects.equals(expected.events().get(i), actual.events().get(i))) {
+					return Optional.of("Event " + i + " differs : expected " + expected.events().get(i)
+							+ " but was " + actual.events().get(i));
+				}
+			}
+
+			if (expected.events().size() != actual.events().size()) {
+				return Optional.of("Expected " + expected.events().size() + " events but was " + actual.events().size());
+			}
+		}
+
+		if (expected.outcome() != actual.outcome() || expected.turns() != actual.turns()) {
+			return Optional.of("Expected " + expected.outcome() + " in " + expected.turns() + " turns but was "
+					+ actual.outcome() + " in " + actual.turns() + " turns");
+		}
+
+		return Optional.empty();
+	}
+
+	public BattleCase shrink(BattleCase battleCase) {
+		BattleCase current = battleCase;
+		boolean shrunk = true;
+
+		while (shrunk) {
+			shrunk = false;
+
+			for (BattleCase smaller : smaller(current)) {
+				if (smaller.size() <= current.size() && !smaller.equals(current) && compare(smaller).isPresent()) {
+					current = smaller;
+					shrunk = true;
+					break;
+				}
+			}
+		}
+
+		return current;
+	}
+
+	private List<BattleCase> smaller(BattleCase battleCase) {
+		List<BattleCase> candidates = new ArrayList<>();
+
+		if (battleCase.seed() != 0) {
+			candidates.add(new BattleCase(battleCase.first(), battleCase.second(), 0));
+		}
+
+		for (ChampionSnapshot snapshot : smaller(battleCase.first())) {
+			candidates.add(new BattleCase(snapshot, battleCase.second(), battleCase.seed()));
+		}
+
+		for (ChampionSnapshot snapshot : smaller(battleCase.second())) {
+			candidates.add(new BattleCase(battleCase.first(), snapshot, battleCase.seed()));
+		}
+
+		return candidates;
+	}
+
+	private List<ChampionSnapshot> smaller(ChampionSnapshot snapshot) {
+		List<ChampionSnapshot> candidates = new ArrayList<>();
+		List<MovePlan> moves = snapshot.moves();
+
+		for (int i = 0; i < moves.size(); i++) {
+			List<MovePlan> fewer = new ArrayList<>(moves);
+			fewer.remove(i);
+			candidates.add(withMoves(snapshot, fewer));
+		}
+
+		for (int i = 0; i < moves.size(); i++) {
+			MovePlan move = moves.get(i);
+
+			for (int j = 0; j < move.components().size(); j++) {
+				List<ComponentPlan> fewer = new ArrayList<>(move.components());
+				fewer.remove(j);
+				candidates.add(withMove(snapshot, i, MovePlan.of(move.name(), move.cooldown(), fewer)));
+			}
+		}
+
+		for (int level : towardsZero(snapshot.level() - 1)) {
+			candidates.add(new ChampionSnapshot(snapshot.name(), level + 1, snapshot.baseAttributes(), moves));
+		}
+
+		for (int i = 0; i < snapshot.baseAttributes().length; i++) {
+			for (int value : towardsZero(snapshot.baseAttributes()[i])) {
+				int[] attributes = snapshot.baseAttributes().clone();
+				attributes[i] = value;
+				candidates.add(new ChampionSnapshot(snapshot.name(), snapshot.level(), attributes, moves));
+			}
+		}
+
+		for (int i = 0; i < moves.size(); i++) {
+			MovePlan move = moves.get(i);
+
+			for (int cooldown : towardsZero(move.cooldown())) {
+				candidates.add(withMove(snapshot, i, MovePlan.of(move.name(), cooldown, move.components())));
+			}
+
+			for (int j = 0; j < move.components().size(); j++) {
+				for (ComponentPlan component : smaller(move.components().get(j))) {
+					List<ComponentPlan> components = new ArrayList<>(move.components());
+					components.set(j, component);
+					candidates.add(withMove(snapshot, i, MovePlan.of(move.name(), move.cooldown(), components)));
+				}
+			}
+		}
+
+		return candidates;
+	}
+
+	private List<ComponentPlan> smaller(ComponentPlan component) {
+		if (!(component instanceof Record record)) {
+			return List.of();
+		}
+
+		List<ComponentPlan> candidates = new ArrayList<>();
+		RecordComponent[] fields = record.getClass().getRecordComponents();
+
+		for (int i = 0; i < fields.length; i++) {
+			Object value = get(fields[i], record);
+			int index = i;
+
+			if (value instanceof Integer number) {
+				for (int smaller : towardsZero(number)) {
+					candidates.add(copy(record, fields, values -> values[index] = smaller));
+				}
+			} else if (value instanceof Enum<?> constant && constant.ordinal() > 0) {
+				Object first = constant.getDeclaringClass().getEnumConstants()[0];
+				candidates.add(copy(record, fields, values -> values[index] = first));
+			}
+		}
+
+		return candidates;
+	}
+
+	private static List<Integer> towardsZero(int value) {
+		if (value == 0) {
+			return List.of();
+		}
+
+		return value / 2 == value - Integer.signum(value) ? List.of(0, value / 2)
+				: List.of(0, value / 2, value - Integer.signum(value));
+	}
+
+	private static ChampionSnapshot withMoves(ChampionSnapshot snapshot, List<MovePlan> moves) {
+		return new ChampionSnapshot(snapshot.name(), snapshot.level(), snapshot.baseAttributes(), List.copyOf(moves));
+	}
+
+	private static ChampionSnapshot withMove(ChampionSnapshot snapshot, int slot, MovePlan move) {
+		List<MovePlan> moves = new ArrayList<>(snapshot.moves());
+		moves.set(slot, move);
+		return withMoves(snapshot, moves);
+	}
+
+	private static Object get(RecordComponent field, Record record) {
+		try {
+			return field.getAccessor().invoke(record);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static ComponentPlan copy(Record record, RecordComponent[] fields, Consumer<Object[]> change) {
+		Object[] values = new Object[fields.length];
+		Class<?>[] types = new Class<?>[fields.length];
+
+		for (int i = 0; i < fields.length; i++) {
+			values[i] = get(fields[i], record);
+			types[i] = fields[i].getType();
+		}
+
+		change.accept(values);
+
+		try {
+			Constructor<?> constructor = record.getClass().getDeclaredConstructor(types);
+			return (ComponentPlan) constructor.newInstance(values);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
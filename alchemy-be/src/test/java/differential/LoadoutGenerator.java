@@ -0,0 +1,70 @@
+package differential;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.plans.AttributeModifierPlan;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.plans.ShieldPlan;
+import alchemy.model.pets.attributes.BaseAttribute;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.EffectTarget;
+
+/**
+ * Random loadouts, kept small enough for most battles to end on a knock out rather than on a limit.
+ */
+public class LoadoutGenerator {
+
+	private final SplittableRandom random;
+
+	public LoadoutGenerator(long seed) {
+		this.random = new SplittableRandom(seed);
+	}
+
+	public BattleCase next() {
+		return new BattleCase(snapshot("First"), snapshot("Second"), random.nextLong());
+	}
+
+	private ChampionSnapshot snapshot(String name) {
+		int[] attributes = new int[BaseAttribute.values().length];
+
+		for (int i = 0; i < attributes.length; i++) {
+			attributes[i] = random.nextInt(7);
+		}
+
+		List<MovePlan> moves = new ArrayList<>();
+		int moveCount = random.nextInt(5);
+
+		for (int i = 0; i < moveCount; i++) {
+			List<ComponentPlan> components = new ArrayList<>();
+			int componentCount = random.nextInt(4);
+
+			for (int j = 0; j < componentCount; j++) {
+				components.add(component());
+			}
+
+			moves.add(MovePlan.of("Move " + i, random.nextInt(4), components));
+		}
+
+		return new ChampionSnapshot(name, 1 + random.nextInt(10), attributes, List.copyOf(moves));
+	}
+
+	private ComponentPlan component() {
+		DamageType damageType = DamageType.values()[random.nextInt(DamageType.values().length)];
+
+		return switch (random.nextInt(5)) {
+			case 0 -> new DamageOverTimePlan(random.nextInt(6), damageType, random.nextInt(5));
+			case 1 -> new ShieldPlan(random.nextInt(12), damageType, random.nextInt(5));
+			case 2 -> new AttributeModifierPlan(DerivedAttribute.values()[random.nextInt(DerivedAttribute.values().length)],
+					random.nextInt(-6, 7), EffectTarget.values()[random.nextInt(EffectTarget.values().length)], random.nextInt(5));
+			default -> new DamagePlan(random.nextInt(15), random.nextInt(5), damageType);
+		};
+	}
+
+}
@@ -0,0 +1,412 @@
+package differential;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEnded;
+import alchemy.model.battles.events.BattleEvent;
+import alchemy.model.battles.events.BattleStarted;
+import alchemy.model.battles.events.ChampionFainted;
+import alchemy.model.battles.events.DamageBreakdown;
+import alchemy.model.battles.events.DamageOverTime;
+import alchemy.model.battles.events.MoveUsed;
+import alchemy.model.battles.events.StatusEffectApplied;
+import alchemy.model.battles.plans.AttributeModifierPlan;
+import alchemy.model.battles.plans.ComponentPlan;
+import alchemy.model.battles.plans.DamageOverTimePlan;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.plans.ShieldPlan;
+import alchemy.model.battles.plans.StatusEffectPlan;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.EffectTarget;
+import alchemy.model.pets.moves.components.MoveComponentType;
+
+/**
+ * Straightforward model of the battle rules, only reading the compiled plans as data : energy is stepped tick by tick
+ * and the next actor found by scanning, cooldowns are scanned, status effects are a list counted down every turn and
+ * damages over time are summed from it. Meant to be obviously right rather than fast.
+ */
+public class ReferenceBattleEngine implements TracedEngine {
+
+	private final BattleLimits limits;
+
+	public ReferenceBattleEngine(BattleLimits limits) {
+		if (limits.timeBudget() != null) {
+			throw new IllegalArgumentException("The reference engine only supports deterministic limits.");
+		}
+
+		this.limits = limits;
+	}
+
+	@Override
+	public BattleTrace play(ChampionSnapshot first, ChampionSnapshot second, long seed) {
+		List<BattleEvent> events = new ArrayList<>();
+		SplittableRandom random = new SplittableRandom(seed);
+		Fighter fighter1 = new Fighter(first, random.nextInt(), 0);
+		Fighter fighter2 = new Fighter(second, random.nextInt(), 1);
+		Fighter[] fighters = { fighter1, fighter2 };
+
+		int turns = 0;
+		boolean stalemate = false;
+		long durability1 = fighter1.getDurability();
+		long durability2 = fighter2.getDurability();
+		int idleTurns1 = 0;
+		int idleTurns2 = 0;
+
+		events.add(new BattleStarted(fighter1.name, fighter2.name, seed));
+
+		while (fighter1.isAlive() && fighter2.isAlive()) {
+			Fighter active = nextActor(fighters);
+
+			if (active == null) {
+				break;
+			}
+
+			Fighter opponent = active == fighter1 ? fighter2 : fighter1;
+			playTurn(active, opponent, events);
+
+			if (active == fighter1) {
+				idleTurns1++;
+			} else {
+				idleTurns2++;
+			}
+
+			turns++;
+
+			if (fighter1.getDurability() != durability1 || fighter2.getDurability() != durability2) {
+				durability1 = fighter1.getDurability();
+				durability2 = fighter2.getDurability();
+				idleTurns1 = 0;
+				idleTurns2 = 0;
+			} else if (limits.stallDetection() && idleTurns1 >= fighter1.moveCycle && idleTurns2 >= fighter2.moveCycle
+					&& fighter1.effects.isEmpty() && fighter2.effects.isEmpty()) {
+				stalemate = true;
+				break;
+			}
+
+			if (turns >= limits.maxTurns()) {
+				stalemate = fighter1.isAlive() && fighter2.isAlive();
+				break;
+			}
+		}
+
+		BattleOutcome outcome;
+
+		if (stalemate) {
+			outcome = BattleOutcome.STALEMATE;
+		} else if (fighter1.isAlive() == fighter2.isAlive()) {
+			outcome = BattleOutcome.DRAW;
+		} else if (!fighter2.isAlive()) {
+			outcome = BattleOutcome.FIRST_CHAMPION_WON;
+		} else {
+			outcome = BattleOutcome.SECOND_CHAMPION_WON;
+		}
+
+		for (Fighter fighter : fighters) {
+			if (!fighter.isAlive()) {
+				events.add(new ChampionFainted(fighter.name));
+			}
+		}
+
+		events.add(new BattleEnded(outcome, outcome == BattleOutcome.FIRST_CHAMPION_WON ? fighter1.name
+				: outcome == BattleOutcome.SECOND_CHAMPION_WON ? fighter2.name : null));
+
+		return new BattleTrace(outcome, turns, events);
+	}
+
+	/**
+	 * Living fighters holding at least their level in energy act by decreasing energy, then initiative, then position.
+	 * When nobody can act, every living fighter gains its energy for one tick.
+	 */
+	private Fighter nextActor(Fighter[] fighters) {
+		while (true) {
+			Fighter actor = null;
+
+			for (Fighter fighter : fighters) {
+				if (fighter.isAlive() && fighter.energy >= fighter.level && (actor == null
+						|| fighter.energy > actor.energy
+						|| (fighter.energy == actor.energy && fighter.initiative < actor.initiative))) {
+					actor = fighter;
+				}
+			}
+
+			if (actor != null) {
+				actor.energy -= actor.level;
+				return actor;
+			}
+
+			boolean gaining = false;
+
+			for (Fighter fighter : fighters) {
+				gaining |= fighter.isAlive() && fighter.energyGain > 0;
+			}
+
+			if (!gaining) {
+				return null;
+			}
+
+			for (Fighter fighter : fighters) {
+				if (fighter.isAlive()) {
+					fighter.energy += fighter.energyGain;
+				}
+			}
+		}
+	}
+
+	private void playTurn(Fighter player, Fighter opponent, List<BattleEvent> events) {
+		if (!player.effects.isEmpty()) {
+			for (Iterator<ActiveEffect> iterator = player.effects.iterator(); iterator.hasNext();) {
+				ActiveEffect effect = iterator.next();
+
+				if (--effect.remaining == 0) {
+					revert(player, effect.plan);
+					iterator.remove();
+				}
+			}
+
+			for (DamageType type : DamageType.values()) {
+				int damage = 0;
+
+				for (ActiveEffect effect : player.effects) {
+					if (effect.plan instanceof DamageOverTimePlan damageOverTime && damageOverTime.damageType() == type) {
+						damage += damageOverTime.damage();
+					}
+				}
+
+				if (damage > 0) {
+					player.takeDamages(type, damage);
+					events.add(new DamageOverTime(player.position, player.name, type, damage));
+				}
+			}
+
+			if (!player.isAlive()) {
+				return;
+			}
+		}
+
+		int slot = -1;
+
+		for (int i = 0; i < player.moves.size() && slot < 0; i++) {
+			if (player.cooldowns[i] == 0) {
+				slot = i;
+			}
+		}
+
+		for (int i = 0; i < player.cooldowns.length; i++) {
+			if (player.cooldowns[i] > 0) {
+				player.cooldowns[i]--;
+			}
+		}
+
+		MovePlan move = slot < 0 ? MovePlan.DEFAULT : player.moves.get(slot);
+
+		if (slot >= 0) {
+			player.cooldowns[slot] = move.cooldown();
+		}
+
+		events.add(new MoveUsed(player.position, player.name, slot, move.name()));
+
+		boolean damaging = move.components().stream().anyMatch(component -> component.type() == MoveComponentType.DAMAGE_COMPONENT);
+		boolean criticalHit = damaging && player.criticalStacks >= player.criticalThreshold;
+
+		if (criticalHit) {
+			player.criticalStacks -= player.criticalThreshold;
+		}
+
+		for (ComponentPlan component : move.components()) {
+			if (component instanceof DamagePlan damage) {
+				dealDamages(damage, criticalHit, player, opponent, events);
+			} else if (component instanceof StatusEffectPlan effect) {
+				Fighter holder = effect instanceof DamageOverTimePlan
+						|| (effect instanceof AttributeModifierPlan modifier && modifier.target() == EffectTarget.OPPONENT)
+						? opponent : player;
+
+				if (effect.duration() > 0) {
+					apply(holder, effect);
+					holder.effects.add(new ActiveEffect(effect, effect.duration() + 1));
+					events.add(new StatusEffectApplied(player.name, holder.name, effect.describe(), effect.duration()));
+				}
+			} else {
+				throw new IllegalStateException("No reference for component " + component.type());
+			}
+		}
+
+		if (damaging) {
+			player.momentumStacks += player.momentumGain;
+			player.masteryStacks += player.masteryGain;
+		}
+	}
+
+	private void dealDamages(DamagePlan plan, boolean criticalHit, Fighter source, Fighter target, List<BattleEvent> events) {
+		int critical = criticalHit ? (plan.baseDamage() + 1) / 2 : 0;
+		int criticalPiercing = criticalHit ? (plan.baseBypass() + 1) / 2 : 0;
+		boolean physical = plan.damageType() == DamageType.PHYSICAL;
+		boolean magical = plan.damageType() == DamageType.MAGICAL;
+
+		int momentum = physical ? source.momentumStacks : 0;
+		int mastery = magical ? source.masteryStacks : 0;
+		int clarity = magical ? source.derived(DerivedAttribute.CLARITY) : 0;
+		int clarityBonus = magical && target.magicShield > 0 ? clarity : 0;
+		int defence = physical ? target.derived(DerivedAttribute.DEFENCE) : 0;
+		int adaptation = magical ? target.derived(DerivedAttribute.ADAPTATION) : 0;
+
+		int damage = plan.baseDamage() + critical + momentum + mastery;
+		int piercing = plan.baseBypass() + criticalPiercing + clarity + clarityBonus;
+		int reduction = defence + adaptation;
+
+		if (reduction <= damage) {
+			damage -= reduction;
+		} else {
+			piercing = Math.max(0, piercing - (reduction - damage));
+			damage = 0;
+		}
+
+		target.takePiercingDamages(piercing);
+		target.takeDamages(plan.damageType(), damage);
+
+		events.add(new DamageBreakdown(source.name, target.name, plan.damageType(), plan.baseDamage(), critical, momentum,
+				mastery, plan.baseBypass(), criticalPiercing, clarity, clarityBonus, defence, adaptation, damage, piercing));
+	}
+
+	private void apply(Fighter holder, StatusEffectPlan effect) {
+		if (effect instanceof ShieldPlan shield) {
+			holder.grantShield(shield.damageType(), shield.amount());
+		} else if (effect instanceof AttributeModifierPlan modifier) {
+			holder.modify(modifier.attribute(), modifier.amount());
+		}
+	}
+
+	private void revert(Fighter holder, StatusEffectPlan effect) {
+		if (effect instanceof ShieldPlan shield) {
+			holder.grantShield(shield.damageType(), -Math.min(holder.granted[shield.damageType().ordinal()], shield.amount()));
+		} else if (effect instanceof AttributeModifierPlan modifier) {
+			holder.modify(modifier.attribute(), -modifier.amount());
+		}
+	}
+
+	private static class ActiveEffect {
+
+		private final StatusEffectPlan plan;
+		private int remaining;
+
+		private ActiveEffect(StatusEffectPlan plan, int remaining) {
+			this.plan = plan;
+			this.remaining = remaining;
+		}
+
+	}
+
+	private static class Fighter {
+
+		private final String name;
+		private final int level;
+		private final int initiative;
+		private final int position;
+		private final int[] base;
+		private final int[] derived = new int[DerivedAttribute.values().length];
+		private final List<MovePlan> moves;
+		private final int[] cooldowns;
+		private final int moveCycle;
+		private final List<ActiveEffect> effects = new ArrayList<>();
+
+		private int energyGain;
+		private int momentumGain;
+		private int masteryGain;
+
+		private int health;
+		private int energy;
+		private int physicalShield;
+		private int magicShield;
+		private final int[] granted = new int[DamageType.values().length];
+		private int criticalThreshold;
+		private int criticalStacks;
+		private int momentumStacks;
+		private int masteryStacks;
+
+		private Fighter(ChampionSnapshot snapshot, int initiative, int position) {
+			this.name = snapshot.name();
+			this.level = snapshot.level();
+			this.initiative = initiative;
+			this.position = position;
+			this.base = snapshot.baseAttributes().clone();
+
+			for (DerivedAttribute attribute : DerivedAttribute.values()) {
+				derived[attribute.ordinal()] = initial(attribute);
+			}
+
+			this.moves = snapshot.moves();
+			this.cooldowns = new int[moves.size()];
+			this.moveCycle = 1 + moves.stream().mapToInt(move -> move.cooldown() + 1).sum();
+
+			this.energyGain = derived(DerivedAttribute.INSTINCT);
+			this.momentumGain = Math.max(0, (derived(DerivedAttribute.MOMENTUM) + 2) / 3);
+			this.masteryGain = Math.max(0, (derived(DerivedAttribute.MASTERY) + 2) / 3);
+
+			this.health = level * 10 + derived(DerivedAttribute.TOUGHNESS) * 2;
+			this.energy = level + energyGain;
+			this.magicShield = derived(DerivedAttribute.RESOLVE) * 2;
+		}
+
+		private int initial(DerivedAttribute attribute) {
+			return base[attribute.getBaseAttribute1().ordinal()] + base[attribute.getBaseAttribute2().ordinal()];
+		}
+
+		private int derived(DerivedAttribute attribute) {
+			return derived[attribute.ordinal()];
+		}
+
+		private boolean isAlive() {
+			return health > 0;
+		}
+
+		private long getDurability() {
+			return (long) health + physicalShield + magicShield;
+		}
+
+		private int getShield(DamageType type) {
+			return type == DamageType.MAGICAL ? magicShield : physicalShield;
+		}
+
+		private void addShield(DamageType type, int amount) {
+			if (type == DamageType.MAGICAL) {
+				magicShield += amount;
+			} else {
+				physicalShield += amount;
+			}
+		}
+
+		private void grantShield(DamageType type, int amount) {
+			addShield(type, amount);
+			granted[type.ordinal()] += amount;
+		}
+
+		private void modify(DerivedAttribute attribute, int amount) {
+			derived[attribute.ordinal()] += amount;
+
+			int instinct = derived(DerivedAttribute.INSTINCT);
+			energyGain = initial(DerivedAttribute.INSTINCT) > 0 ? Math.max(1, instinct) : Math.max(0, instinct);
+			momentumGain = Math.max(0, (derived(DerivedAttribute.MOMENTUM) + 2) / 3);
+			masteryGain = Math.max(0, (derived(DerivedAttribute.MASTERY) + 2) / 3);
+		}
+
+		private void takeDamages(DamageType type, int amount) {
+			int absorbed = Math.min(getShield(type), amount);
+			addShield(type, -absorbed);
+			granted[type.ordinal()] = Math.max(0, granted[type.ordinal()] - absorbed);
+			takePiercingDamages(amount - absorbed);
+		}
+
+		private void takePiercingDamages(int amount) {
+			health -= Math.min(health, amount);
+		}
+
+	}
+
+}
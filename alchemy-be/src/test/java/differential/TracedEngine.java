@@ -0,0 +1,10 @@
+package differential;
+
+import alchemy.model.battles.ChampionSnapshot;
+
+@FunctionalInterface
+public interface TracedEngine {
+
+	BattleTrace play(ChampionSnapshot first, ChampionSnapshot second, long seed);
+
+}
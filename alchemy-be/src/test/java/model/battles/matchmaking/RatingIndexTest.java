@@ -0,0 +1,99 @@
+package model.battles.matchmaking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import alchemy.model.battles.matchmaking.MatchmakingTicket;
+import alchemy.model.battles.matchmaking.RatingIndex;
+
+public class RatingIndexTest {
+
+    private final RatingIndex index = new RatingIndex(10);
+
+    private MatchmakingTicket createTicket(int rating) {
+    	return new MatchmakingTicket(UUID.randomUUID(), null, rating, Instant.now());
+    }
+
+    @Test
+    void findClosestBucketTest() {
+    	MatchmakingTicket low = createTicket(1450);
+    	MatchmakingTicket high = createTicket(1530);
+    	index.add(low);
+    	index.add(high);
+
+    	assertSame(high, index.findOpponent(createTicket(1510), 100));
+    	assertSame(low, index.findOpponent(createTicket(1470), 100));
+    	assertNull(index.findOpponent(createTicket(1490), 20));
+    }
+
+    @Test
+    void findOldestInBucketTest() {
+    	MatchmakingTicket oldest = createTicket(1503);
+    	MatchmakingTicket newest = createTicket(1501);
+    	index.add(oldest);
+    	index.add(newest);
+
+    	assertSame(newest, index.findOpponent(oldest, 0));
+    	assertSame(oldest, index.findOpponent(newest, 0));
+    	assertSame(oldest, index.findOpponent(createTicket(1500), 0));
+    }
+
+    @Test
+    void findAcceptedTest() {
+    	MatchmakingTicket oldest = createTicket(1503);
+    	MatchmakingTicket newest = createTicket(1501);
+    	MatchmakingTicket low = createTicket(1470);
+    	MatchmakingTicket high = createTicket(1540);
+    	index.add(oldest);
+    	index.add(newest);
+    	index.add(low);
+    	index.add(high);
+
+    	MatchmakingTicket ticket = createTicket(1500);
+
+    	assertSame(newest, index.findOpponent(ticket, 100, candidate -> candidate != oldest));
+    	assertSame(low, index.findOpponent(ticket, 100, candidate -> candidate.getRating() < 1500));
+    	assertSame(high, index.findOpponent(ticket, 100, candidate -> candidate.getRating() > 1510));
+    	assertNull(index.findOpponent(ticket, 30, candidate -> candidate.getRating() > 1510));
+    	assertNull(index.findOpponent(ticket, 100, candidate -> false));
+    }
+
+    @Test
+    void findWithinMaxCandidatesTest() {
+    	MatchmakingTicket near = createTicket(1501);
+    	MatchmakingTicket middle = createTicket(1520);
+    	MatchmakingTicket far = createTicket(1550);
+    	index.add(far);
+    	index.add(middle);
+    	index.add(near);
+
+    	MatchmakingTicket ticket = createTicket(1500);
+    	List<MatchmakingTicket> tested = new ArrayList<>();
+
+    	assertNull(index.findOpponent(ticket, 100, candidate -> tested.add(candidate) && candidate == far, 2));
+    	assertEquals(List.of(near, middle), tested);
+    	assertSame(far, index.findOpponent(ticket, 100, candidate -> candidate == far, 3));
+    }
+
+    @Test
+    void removeTest() {
+    	MatchmakingTicket ticket = createTicket(1500);
+    	index.add(ticket);
+
+    	assertTrue(index.remove(ticket));
+    	assertFalse(index.remove(ticket));
+    	assertEquals(0, index.size());
+    	assertNull(index.findOpponent(createTicket(1500), 1000));
+    }
+
+}
@@ -0,0 +1,159 @@
+package model.battles.tournaments;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.tournaments.MatchPlayer;
+import alchemy.model.battles.tournaments.TournamentEngine;
+import alchemy.model.battles.tournaments.TournamentEntrant;
+import alchemy.model.battles.tournaments.TournamentFormat;
+import alchemy.model.battles.tournaments.TournamentMatchResult;
+import alchemy.model.battles.tournaments.TournamentResult;
+import alchemy.model.battles.tournaments.TournamentStage;
+
+public class TournamentEngineTest {
+
+    /**
+     * Entrants whose fingerprint is their strength rank : the best seed always wins.
+     */
+    private static final MatchPlayer STRONGER_WINS = (first, second, seed) -> new BattleResult(seed,
+    		first.fingerprint() < second.fingerprint() ? BattleOutcome.FIRST_CHAMPION_WON : BattleOutcome.SECOND_CHAMPION_WON, 10, List.of());
+
+    private static final MatchPlayer SEED_DECIDES = (first, second, seed) -> new BattleResult(seed,
+    		switch ((int) Math.floorMod(seed ^ (seed >>> 29), 5)) {
+    			case 0 -> BattleOutcome.DRAW;
+    			case 1, 2 -> BattleOutcome.FIRST_CHAMPION_WON;
+    			default -> BattleOutcome.SECOND_CHAMPION_WON;
+    		}, 10, List.of());
+
+    private static final MatchPlayer ALWAYS_DRAW = (first, second, seed) -> new BattleResult(seed, BattleOutcome.DRAW, 10, List.of());
+
+    private final Queue<TournamentMatchResult> played = new ConcurrentLinkedQueue<>();
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    @AfterEach
+    void shutdown() {
+    	pool.shutdownNow();
+    }
+
+    private List<TournamentEntrant> createEntrants(int count) {
+    	return IntStream.range(0, count).mapToObj(i -> new TournamentEntrant(UUID.randomUUID(), null, i)).toList();
+    }
+
+    private TournamentResult play(TournamentFormat format, int entrants, MatchPlayer player, long seed, int rounds) {
+    	TournamentEngine engine = new TournamentEngine(pool, player, played::add);
+
+    	return engine.start(format, createEntrants(entrants), seed, rounds).join();
+    }
+
+    private int[] countLosses(int entrants) {
+    	int[] losses = new int[entrants];
+    	played.stream().filter(match -> match.winner() >= 0).forEach(match -> losses[match.getLoser()]++);
+    	return losses;
+    }
+
+    @Test
+    void singleEliminationWithByesTest() {
+    	TournamentResult result = play(TournamentFormat.SINGLE_ELIMINATION, 10, STRONGER_WINS, 1L, 0);
+
+    	assertEquals(0, result.getWinner());
+    	assertEquals(1, result.ranking()[1]);
+    	assertEquals(9, result.matches());
+    	assertEquals(9, played.size());
+    	assertEquals(4, result.rounds());
+    }
+
+    @Test
+    void doubleEliminationLossesTest() {
+    	for (long seed = 0; seed < 20; seed++) {
+    		played.clear();
+    		TournamentResult result = play(TournamentFormat.DOUBLE_ELIMINATION, 13, SEED_DECIDES, seed, 0);
+    		int[] losses = countLosses(13);
+
+    		assertTrue(result.matches() == 24 || result.matches() == 25);
+    		assertEquals(result.matches(), played.size());
+    		assertTrue(losses[result.getWinner()] <= 1);
+
+    		for (int entrant = 0; entrant < 13; entrant++) {
+    			if (entrant != result.getWinner()) {
+    				assertEquals(2, losses[entrant]);
+    			}
+    		}
+
+    		assertEquals(13, Arrays.stream(result.ranking()).distinct().count());
+    	}
+    }
+
+    @Test
+    void eliminationDrawDecidedBySeedTest() {
+    	TournamentResult result = play(TournamentFormat.SINGLE_ELIMINATION, 16, ALWAYS_DRAW, 5L, 0);
+
+    	for (TournamentMatchResult match : played) {
+    		assertEquals(BattleEngine.hasInitiative(match.seed()) ? match.first() : match.second(), match.winner());
+    	}
+
+    	// The best seed doesn't win every draw.
+    	assertTrue(played.stream().anyMatch(match -> match.winner() != Math.min(match.first(), match.second())));
+    	assertEquals(15, result.matches());
+    }
+
+    @Test
+    void doubleEliminationLargeBracketTest() {
+    	TournamentResult result = play(TournamentFormat.DOUBLE_ELIMINATION, 10_000, STRONGER_WINS, 7L, 0);
+
+    	assertEquals(0, result.getWinner());
+    	assertEquals(1, result.ranking()[1]);
+    	assertEquals(19_998, result.matches());
+    	assertEquals(1, played.stream().filter(match -> match.stage() == TournamentStage.GRAND_FINAL).count());
+    }
+
+    @Test
+    void swissWithoutRematchTest() {
+    	TournamentResult result = play(TournamentFormat.SWISS, 9, STRONGER_WINS, 3L, 4);
+    	Set<Long> pairs = new HashSet<>();
+
+    	for (TournamentMatchResult match : played) {
+    		assertTrue(pairs.add(((long) Math.min(match.first(), match.second()) << 32) | Math.max(match.first(), match.second())));
+    	}
+
+    	assertEquals(0, result.getWinner());
+    	assertEquals(16, result.matches());
+    	assertEquals(4, result.rounds());
+    	assertEquals(4, TournamentEngine.getSwissRounds(9));
+    }
+
+    @Test
+    void resultsIndependentOfSchedulingTest() {
+    	for (TournamentFormat format : TournamentFormat.values()) {
+    		played.clear();
+    		TournamentResult result = play(format, 37, SEED_DECIDES, 11L, 6);
+    		List<TournamentMatchResult> matches = played.stream().sorted(Comparator.comparingInt(TournamentMatchResult::number)).toList();
+
+    		played.clear();
+    		TournamentResult other = play(format, 37, SEED_DECIDES, 11L, 6);
+
+    		assertArrayEquals(result.ranking(), other.ranking());
+    		assertEquals(matches, played.stream().sorted(Comparator.comparingInt(TournamentMatchResult::number)).toList());
+    	}
+    }
+
+}
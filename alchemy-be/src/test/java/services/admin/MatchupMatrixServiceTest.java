@@ -0,0 +1,100 @@
+package services.admin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import alchemy.config.BattleProperties;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.simulations.MatchupMatrix;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.services.admin.MatchupMatrixService;
+import alchemy.services.player.BattleOutcomeCache;
+import alchemy.services.player.BattleService;
+import alchemy.services.player.MovePlanService;
+import config.AbstractBattleTest;
+
+public class MatchupMatrixServiceTest extends AbstractBattleTest {
+
+    private final MovePlanService movePlanService = new MovePlanService();
+    private final BattleService battleService = new BattleService(movePlanService);
+    private final BattleProperties properties = new BattleProperties();
+    private final MatchupMatrixService matchupMatrixService = new MatchupMatrixService(
+    		new BattleOutcomeCache(battleService, properties), movePlanService, properties);
+
+    @AfterEach
+    void shutdown() {
+    	matchupMatrixService.shutdown();
+    }
+
+    private ChampionSnapshot createSnapshot(String name, int strength, int baseDamage) {
+    	return battleService.snapshot(createPet(name, 5, strength, 0, 1, 0, 2,
+    			createDamageMove("Strike " + baseDamage, 0, DamageType.PHYSICAL, baseDamage, 1)));
+    }
+
+    private List<ChampionSnapshot> createSnapshots(int count) {
+    	return IntStream.range(0, count)
+    			.mapToObj(i -> createSnapshot("Pet " + i, 1 + i % 4, 3 + i))
+    			.toList();
+    }
+
+    @Test
+    void fingerprintTest() {
+    	assertEquals(createSnapshot("Pet", 3, 5).fingerprint(), createSnapshot("Other", 3, 5).fingerprint());
+    	assertNotEquals(createSnapshot("Pet", 3, 5).fingerprint(), createSnapshot("Pet", 3, 6).fingerprint());
+    	assertNotEquals(createSnapshot("Pet", 3, 5).fingerprint(), createSnapshot("Pet", 4, 5).fingerprint());
+    }
+
+    @Test
+    void computeMatrixTest() {
+    	List<ChampionSnapshot> champions = createSnapshots(5);
+
+    	MatchupMatrix matrix = matchupMatrixService.computeMatrix(champions, 50, 7L);
+
+    	assertEquals(5, matrix.size());
+    	assertEquals(0, matrix.getCachedPairs());
+
+    	for (int i = 0; i < 5; i++) {
+    		assertEquals(50, matrix.getStats(i, i).getBattles());
+
+    		for (int j = i + 1; j < 5; j++) {
+    			assertEquals(50, matrix.getStats(i, j).getBattles());
+    			assertEquals(matrix.getStats(i, j).wins(), matrix.getStats(j, i).losses());
+    			assertEquals(1.0, matrix.getWinRate(i, j) + matrix.getWinRate(j, i) + matrix.getDrawRate(i, j), 1e-9);
+    		}
+    	}
+    }
+
+    @Test
+    void computeMatrixCacheTest() {
+    	List<ChampionSnapshot> champions = new ArrayList<>(createSnapshots(4));
+
+    	MatchupMatrix matrix = matchupMatrixService.computeMatrix(champions, 20, 7L);
+    	MatchupMatrix cached = matchupMatrixService.computeMatrix(champions, 20, 7L);
+
+    	assertEquals(10, cached.getCachedPairs());
+
+    	champions.add(createSnapshot("Newcomer", 2, 20));
+    	MatchupMatrix extended = matchupMatrixService.computeMatrix(champions, 20, 7L);
+
+    	assertEquals(10, extended.getCachedPairs());
+
+    	matchupMatrixService.clearCache();
+    	MatchupMatrix recomputed = matchupMatrixService.computeMatrix(champions, 20, 7L);
+
+    	assertEquals(0, recomputed.getCachedPairs());
+
+    	for (int i = 0; i < 4; i++) {
+    		for (int j = 0; j < 4; j++) {
+    			assertEquals(matrix.getStats(i, j), recomputed.getStats(i, j));
+    		}
+    	}
+    }
+
+}
@@ -23,12 +23,18 @@ import alchemy.exceptions.process.admin.AdminProcessError;
 import alchemy.mappers.ConstraintMapper;
 import alchemy.mappers.MoveMapper;
 import alchemy.model.AttributeDTO;
+import alchemy.model.AttributeModifierComponentDTO;
 import alchemy.model.AttributeRequirementDTO;
 import alchemy.model.AttributeRestrictionDTO;
 import alchemy.model.DamageComponentDTO;
+import alchemy.model.DamageOverTimeComponentDTO;
 import alchemy.model.DamageTypeDTO;
+import alchemy.model.DerivedAttributeDTO;
+import alchemy.model.EffectTargetDTO;
+import alchemy.model.MoveComponentDTO;
 import alchemy.model.MoveDTO;
 import alchemy.model.MoveIdentificationDTO;
+import alchemy.model.ShieldComponentDTO;
 import alchemy.model.pets.constraints.Constraint;
 import alchemy.model.pets.moves.Move;
 import alchemy.model.pets.moves.components.MoveComponent;
@@ -238,6 +244,90 @@ public class MoveServiceTest extends AbstractTest {
     	assertResultList(result, List.of(name));
     }
 
+    @Test
+    void updateMoveStatusEffectsTest() {
+    	String name = "Fireball";
+    	createMove(name, "Magical", "Fire");
+
+    	MoveIdentificationDTO identification = MoveIdentificationDTO.builder()
+    			.name(name)
+    			.tags(List.of("Curse"))
+    			.build();
+
+    	DamageOverTimeComponentDTO damageOverTime = DamageOverTimeComponentDTO.builder()
+    			.type("DAMAGE_OVER_TIME_COMPONENT")
+    			.damage(4)
+    			.damageType(DamageTypeDTO.MAGICAL)
+    			.duration(3)
+    			.build();
+
+    	ShieldComponentDTO shield = ShieldComponentDTO.builder()
+    			.type("SHIELD_COMPONENT")
+    			.amount(10)
+    			.damageType(DamageTypeDTO.PHYSICAL)
+    			.duration(2)
+    			.build();
+
+    	AttributeModifierComponentDTO modifier = AttributeModifierComponentDTO.builder()
+    			.type("ATTRIBUTE_MODIFIER_COMPONENT")
+    			.attribute(DerivedAttributeDTO.DEFENCE)
+    			.amount(-2)
+    			.target(EffectTargetDTO.OPPONENT)
+    			.duration(2)
+    			.build();
+
+    	MoveDTO dto = MoveDTO.builder()
+    			.identification(identification)
+    			.constraints(List.of())
+    			.cooldown(2)
+    			.components(List.of(damageOverTime, shield, modifier))
+    			.build();
+
+    	moveService.updateMove(dto);
+    	Move updatedMove = moveRepository.getReferenceById(name);
+
+    	assertResult(updatedMove, dto);
+    	assertThat(moveMapper.toDTO(updatedMove).getComponents()).containsExactlyInAnyOrder(damageOverTime, shield, modifier);
+    }
+
+    @Test
+    void updateMoveOutOfBoundsTest() {
+    	String name = "Fireball";
+    	createMove(name, "Magical", "Fire");
+
+    	MoveIdentificationDTO identification = MoveIdentificationDTO.builder()
+    			.name(name)
+    			.tags(List.of("Ward"))
+    			.build();
+
+    	ShieldComponentDTO negativeShield = ShieldComponentDTO.builder()
+    			.type("SHIELD_COMPONENT")
+    			.amount(-10)
+    			.damageType(DamageTypeDTO.PHYSICAL)
+    			.duration(2)
+    			.build();
+
+    	DamageOverTimeComponentDTO endlessDamageOverTime = DamageOverTimeComponentDTO.builder()
+    			.type("DAMAGE_OVER_TIME_COMPONENT")
+    			.damage(4)
+    			.damageType(DamageTypeDTO.MAGICAL)
+    			.duration(Integer.MAX_VALUE)
+    			.build();
+
+    	for (MoveComponentDTO component : List.of(negativeShield, endlessDamageOverTime)) {
+    		MoveDTO dto = MoveDTO.builder()
+    				.identification(identification)
+    				.constraints(List.of())
+    				.components(List.of(component))
+    				.build();
+
+    		ProcessException exception = assertThrows(ProcessException.class, () -> moveService.updateMove(dto));
+    		assertTrue(AdminProcessError.MOVE_UPDATE_INVALID_COMPONENT.code.equals(exception.getError().getCode()));
+    	}
+
+    	assertTrue(moveRepository.getReferenceById(name).getComponents() == null);
+    }
+
     @Test
     void updateMoveFailureTest() {
     	String name = "Fireball";
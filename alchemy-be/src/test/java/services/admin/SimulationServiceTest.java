@@ -0,0 +1,109 @@
+package services.admin;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.ProcessException;
+import alchemy.model.battles.simulations.Matchup;
+import alchemy.model.battles.simulations.SimulationReport;
+import alchemy.model.pets.Pet;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.services.admin.SimulationService;
+import alchemy.services.player.BattleOutcomeCache;
+import alchemy.services.player.BattleService;
+import alchemy.services.player.MovePlanService;
+import config.AbstractBattleTest;
+
+public class SimulationServiceTest extends AbstractBattleTest {
+
+    private final BattleService battleService = new BattleService(new MovePlanService());
+    private final BattleProperties properties = new BattleProperties();
+    private final SimulationService simulationService = new SimulationService(battleService,
+    		new BattleOutcomeCache(battleService, properties), properties);
+
+    @AfterEach
+    void shutdown() {
+    	simulationService.shutdown();
+    }
+
+    private List<Pet> createPets(int count) {
+    	return IntStream.range(0, count)
+    			.mapToObj(i -> createPet("Pet " + i, 5, 1 + i % 7, 0, 0, 0, 1 + i % 3,
+    					createDamageMove("Strike " + i, 0, DamageType.PHYSICAL, 4 + i % 5, i % 2)))
+    			.toList();
+    }
+
+    @Test
+    void simulateMatchupsTest() {
+    	List<Pet> pets = createPets(3);
+
+    	SimulationReport report = simulationService.simulate(pets, List.of(new Matchup(0, 1), new Matchup(1, 2), new Matchup(0, 2)));
+
+    	assertEquals(3, report.getBattles());
+    	assertEquals(2, report.getBattles(0));
+    	assertEquals(2, report.getBattles(1));
+    	assertEquals(2, report.getBattles(2));
+    	assertTrue(report.getMinTurns() > 0);
+    	assertTrue(report.getMaxTurns() >= report.getMinTurns());
+    }
+
+    @Test
+    void simulateRoundRobinTest() {
+    	int count = 40;
+    	List<Pet> pets = createPets(count);
+
+    	SimulationReport report = simulationService.simulateRoundRobin(pets);
+
+    	assertEquals(count * (count - 1), report.getBattles());
+
+    	long wins = 0;
+    	long losses = 0;
+
+    	for (int i = 0; i < count; i++) {
+    		assertEquals(2 * (count - 1), report.getBattles(i));
+    		wins += report.getWins()[i];
+    		losses += report.getLosses()[i];
+    	}
+
+    	assertEquals(wins, losses);
+    	assertTrue(report.getAverageTurns() >= report.getMinTurns());
+    }
+
+    @Test
+    void simulateRoundRobinSeededTest() {
+    	List<Pet> pets = createPets(12);
+
+    	SimulationReport report = simulationService.simulateRoundRobin(pets, 42L);
+    	SimulationReport replayed = simulationService.simulateRoundRobin(pets, 42L);
+
+    	assertArrayEquals(report.getWins(), replayed.getWins());
+    	assertArrayEquals(report.getDraws(), replayed.getDraws());
+    	assertEquals(report.getTotalTurns(), replayed.getTotalTurns());
+    }
+
+    @Test
+    void simulateTooManyPetsTest() {
+    	properties.getSimulations().setMaxPets(3);
+
+    	ProcessException exception = assertThrows(ProcessException.class, () -> simulationService.simulateRoundRobin(createPets(4)));
+    	assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+
+    @Test
+    void simulateRoundRobinTooFewPetsTest() {
+    	SimulationReport report = simulationService.simulateRoundRobin(createPets(1));
+
+    	assertEquals(0, report.getBattles());
+    }
+
+}
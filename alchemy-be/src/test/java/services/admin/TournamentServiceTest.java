@@ -0,0 +1,156 @@
+package services.admin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import alchemy.config.Autoconfiguration;
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.ProcessException;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.tournaments.Tournament;
+import alchemy.model.battles.tournaments.TournamentFormat;
+import alchemy.model.battles.tournaments.TournamentStatus;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.repositories.TournamentMatchRepository;
+import alchemy.repositories.TournamentRepository;
+import alchemy.services.admin.TournamentService;
+import alchemy.services.player.BattleOutcomeCache;
+import alchemy.services.player.BattleService;
+import alchemy.services.player.ChampionService;
+import alchemy.services.player.MovePlanService;
+import config.AbstractBattleTest;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@ContextConfiguration(classes = Autoconfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TournamentServiceTest extends AbstractBattleTest {
+
+    @Autowired private TournamentRepository tournamentRepository;
+    @Autowired private TournamentMatchRepository tournamentMatchRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private final BattleService battleService = new BattleService(new MovePlanService());
+    private TournamentService tournamentService;
+
+    @BeforeEach
+    void start() {
+    	BattleProperties properties = new BattleProperties();
+    	properties.getTournaments().setMaxEntrants(64);
+    	properties.getTournaments().setBatchSize(10);
+
+    	tournamentService = new TournamentService(mock(ChampionService.class), new BattleOutcomeCache(battleService, properties),
+    			tournamentRepository, tournamentMatchRepository, transactionManager, properties);
+    }
+
+    @AfterEach
+    void shutdown() {
+    	tournamentService.shutdown();
+    }
+
+    private List<ChampionSnapshot> createSnapshots(int count) {
+    	return IntStream.range(0, count)
+    			.mapToObj(i -> battleService.snapshot(createPet("Pet " + i, 5, 1 + i % 6, 0, 1, 0, 2,
+    					createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 4 + i % 5, 1))))
+    			.toList();
+    }
+
+    private Tournament awaitTournament(UUID tournamentId) throws InterruptedException {
+    	for (int i = 0; i < 200; i++) {
+    		Tournament tournament = tournamentService.getTournament(tournamentId);
+
+    		if (tournament.getStatus() != TournamentStatus.RUNNING) {
+    			return tournament;
+    		}
+
+    		Thread.sleep(50);
+    	}
+
+    	throw new AssertionError("Tournament did not finish.");
+    }
+
+    @Test
+    void tournamentPersistedInBatchesTest() throws InterruptedException {
+    	List<UUID> petIds = IntStream.range(0, 40).mapToObj(i -> UUID.randomUUID()).toList();
+
+    	Tournament started = tournamentService.start(TournamentFormat.DOUBLE_ELIMINATION, petIds, createSnapshots(40), 7L, 0);
+    	Tournament tournament = awaitTournament(started.getId());
+
+    	assertEquals(TournamentStatus.COMPLETED, tournament.getStatus());
+    	assertTrue(petIds.contains(tournament.getWinnerPetId()));
+    	assertTrue(tournament.getMatchesPlayed() >= 2 * 40 - 2);
+    	assertEquals(tournament.getMatchesPlayed(), tournamentMatchRepository.countByTournamentId(tournament.getId()));
+    }
+
+    @Test
+    void swissTournamentRoundsTest() throws InterruptedException {
+    	List<UUID> petIds = IntStream.range(0, 9).mapToObj(i -> UUID.randomUUID()).toList();
+
+    	Tournament tournament = awaitTournament(tournamentService.start(TournamentFormat.SWISS, petIds, createSnapshots(9), 3L, 4).getId());
+
+    	assertEquals(TournamentStatus.COMPLETED, tournament.getStatus());
+    	assertEquals(4, tournament.getRounds());
+    	assertEquals(4 * 4, tournament.getMatchesPlayed());
+    	assertEquals(16, tournamentMatchRepository.findByTournamentIdOrderByNumber(tournament.getId()).size());
+    }
+
+    @Test
+    void shutdownLeavesNoRunningTournamentTest() {
+    	List<UUID> petIds = IntStream.range(0, 64).mapToObj(i -> UUID.randomUUID()).toList();
+
+    	Tournament started = tournamentService.start(TournamentFormat.DOUBLE_ELIMINATION, petIds, createSnapshots(64), 5L, 0);
+    	tournamentService.shutdown();
+
+    	assertNotEquals(TournamentStatus.RUNNING, tournamentRepository.findById(started.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void failInterruptedTest() {
+    	Tournament orphan = tournamentRepository.save(Tournament.builder()
+    			.id(UUID.randomUUID())
+    			.format(TournamentFormat.SINGLE_ELIMINATION)
+    			.status(TournamentStatus.RUNNING)
+    			.entrants(2)
+    			.seed(1L)
+    			.createdAt(LocalDateTime.now())
+    			.build());
+
+    	tournamentService.failInterrupted();
+
+    	Tournament tournament = tournamentRepository.findById(orphan.getId()).orElseThrow();
+    	assertEquals(TournamentStatus.FAILED, tournament.getStatus());
+    	assertNotNull(tournament.getFinishedAt());
+    }
+
+    @Test
+    void invalidEntrantsTest() {
+    	UUID petId = UUID.randomUUID();
+
+    	ProcessException exception = assertThrows(ProcessException.class,
+    			() -> tournamentService.start(TournamentFormat.SINGLE_ELIMINATION, List.of(petId, petId), createSnapshots(2), 1L, 0));
+
+    	assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+
+}
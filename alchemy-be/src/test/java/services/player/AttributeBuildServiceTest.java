@@ -0,0 +1,188 @@
+package services.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.ProcessException;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.simulations.AttributeBuild;
+import alchemy.model.battles.simulations.AttributeBuildReport;
+import alchemy.model.pets.attributes.BaseAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.services.player.AttributeBuildService;
+import alchemy.services.player.BattleOutcomeCache;
+import alchemy.services.player.BattleService;
+import alchemy.services.player.MovePlanService;
+import config.AbstractBattleTest;
+
+public class AttributeBuildServiceTest extends AbstractBattleTest {
+
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+    private final BattleService battleService = new BattleService(new MovePlanService());
+    private final AttributeBuildService attributeBuildService = new AttributeBuildService(
+    		new BattleOutcomeCache(battleService, new BattleProperties()), new BattleProperties());
+
+    @AfterEach
+    void shutdown() {
+    	attributeBuildService.shutdown();
+    }
+
+    private ChampionSnapshot createChampion() {
+    	return battleService.snapshot(createPet("Pwiky", 5, 1, 1, 1, 0, 1,
+    			createDamageMove("Horn Strike", 2, DamageType.PHYSICAL, 9, 2),
+    			createMove("Guard", 3, createShield(DamageType.PHYSICAL, 6, 2)),
+    			createDamageMove("Scratch", 0, DamageType.PHYSICAL, 3, 1)));
+    }
+
+    private List<ChampionSnapshot> createOpponents() {
+    	return List.of(
+    			battleService.snapshot(createPet("Brute", 5, 4, 2, 2, 0, 2,
+    					createDamageMove("Bite", 1, DamageType.PHYSICAL, 7, 1),
+    					createDamageMove("Scratch", 0, DamageType.PHYSICAL, 3, 1))),
+    			battleService.snapshot(createPet("Wall", 6, 2, 5, 1, 1, 3,
+    					createMove("Bulwark", 2, createShield(DamageType.PHYSICAL, 6, 2)),
+    					createDamageMove("Bash", 0, DamageType.PHYSICAL, 4, 1))));
+    }
+
+    /**
+     * Wins and draws of every allocation, battle by battle, with the seeds of the service.
+     */
+    private List<long[]> bruteForce(ChampionSnapshot champion, int points, List<ChampionSnapshot> opponents, int battles, long seed) {
+    	List<long[]> results = new ArrayList<>();
+    	int attributes = BaseAttribute.values().length;
+
+    	for (int strength = 0; strength <= points; strength++) {
+    		for (int constitution = 0; strength + constitution <= points; constitution++) {
+    			for (int agility = 0; strength + constitution + agility <= points; agility++) {
+    				for (int intellect = 0; strength + constitution + agility + intellect <= points; intellect++) {
+    					int[] allocation = { strength, constitution, agility, intellect, points - strength - constitution - agility - intellect };
+    					int[] baseAttributes = champion.baseAttributes().clone();
+
+    					for (int attribute = 0; attribute < attributes; attribute++) {
+    						baseAttributes[attribute] += allocation[attribute];
+    					}
+
+    					ChampionSnapshot built = new ChampionSnapshot(champion.name(), champion.level(), baseAttributes, champion.moves());
+    					long wins = 0;
+    					long draws = 0;
+
+    					for (int opponent = 0; opponent < opponents.size(); opponent++) {
+    						for (int battle = 0; battle < battles; battle++) {
+    							BattleOutcome outcome = battleService.executeBattle(built, opponents.get(opponent),
+    									seed + ((long) opponent * battles + battle) * SEED_INCREMENT, BattleEventListener.NONE).outcome();
+
+    							if (outcome == BattleOutcome.FIRST_CHAMPION_WON) {
+    								wins++;
+    							} else if (outcome != BattleOutcome.SECOND_CHAMPION_WON) {
+    								draws++;
+    							}
+    						}
+    					}
+
+    					results.add(new long[] { wins, draws });
+    				}
+    			}
+    		}
+    	}
+
+    	return results;
+    }
+
+    @Test
+    void optimizeMatchesBruteForceTest() {
+    	ChampionSnapshot champion = createChampion();
+    	List<ChampionSnapshot> opponents = createOpponents();
+
+    	AttributeBuildReport report = attributeBuildService.optimize(champion, 8, opponents, 10, 5, 5L);
+    	List<long[]> expected = bruteForce(champion, 8, opponents, 10, 5L);
+    	expected.sort(Comparator.<long[]>comparingLong(result -> result[0]).thenComparingLong(result -> result[1]).reversed());
+
+    	assertEquals(495, report.allocations());
+    	assertEquals(495, expected.size());
+    	assertTrue(report.candidates() < report.allocations());
+    	assertEquals(5, report.best().size());
+
+    	for (int rank = 0; rank < 5; rank++) {
+    		AttributeBuild build = report.best().get(rank);
+
+    		assertEquals(8, build.getPoints(BaseAttribute.STRENGTH) + build.getPoints(BaseAttribute.CONSTITUTION)
+    				+ build.getPoints(BaseAttribute.AGILITY) + build.getPoints(BaseAttribute.WIILPOWER));
+    		// Nothing of either side reads the derived attributes of intellect.
+    		assertEquals(0, build.getPoints(BaseAttribute.INTELLECT));
+    		assertEquals(20, build.stats().getBattles());
+    		assertEquals(expected.get(rank)[0], build.stats().wins());
+    		assertEquals(expected.get(rank)[1], build.stats().draws());
+    	}
+    }
+
+    @Test
+    void optimizeMagicShieldsMatchesBruteForceTest() {
+    	// A magic shield doubles the clarity of the opponent : more ADAPTATION keeps it up longer and takes more doubled
+    	// bypass, more MASTERY breaks the shield of the opponent sooner and loses the doubling.
+    	ChampionSnapshot champion = battleService.snapshot(createPet("Mage", 5, 0, 1, 2, 1, 1,
+    			createMove("Ward", 3, createShield(DamageType.MAGICAL, 10, 2)),
+    			createDamageMove("Spark", 0, DamageType.MAGICAL, 4, 3)));
+    	List<ChampionSnapshot> opponents = List.of(
+    			battleService.snapshot(createPet("Witch", 5, 0, 1, 4, 5, 2,
+    					createDamageMove("Hex", 1, DamageType.MAGICAL, 5, 4),
+    					createDamageMove("Spark", 0, DamageType.MAGICAL, 3, 2))),
+    			battleService.snapshot(createPet("Warden", 5, 1, 2, 1, 2, 4,
+    					createMove("Aegis", 2, createShield(DamageType.MAGICAL, 12, 2)),
+    					createDamageMove("Zap", 0, DamageType.MAGICAL, 4, 2))));
+
+    	AttributeBuildReport report = attributeBuildService.optimize(champion, 8, opponents, 10, 5, 7L);
+    	List<long[]> expected = bruteForce(champion, 8, opponents, 10, 7L);
+    	expected.sort(Comparator.<long[]>comparingLong(result -> result[0]).thenComparingLong(result -> result[1]).reversed());
+
+    	assertEquals(5, report.best().size());
+
+    	for (int rank = 0; rank < 5; rank++) {
+    		assertEquals(expected.get(rank)[0], report.best().get(rank).stats().wins());
+    		assertEquals(expected.get(rank)[1], report.best().get(rank).stats().draws());
+    	}
+    }
+
+    @Test
+    void optimizeCacheTest() {
+    	ChampionSnapshot champion = createChampion();
+    	List<ChampionSnapshot> opponents = createOpponents();
+
+    	AttributeBuildReport report = attributeBuildService.optimize(champion, 4, opponents, 10, 3, 5L);
+
+    	assertSame(report, attributeBuildService.optimize(createChampion(), 4, createOpponents(), 10, 3, 5L));
+    	assertNotSame(report, attributeBuildService.optimize(champion, 4, opponents, 10, 3, 6L));
+
+    	attributeBuildService.clearCache();
+
+    	assertNotSame(report, attributeBuildService.optimize(champion, 4, opponents, 10, 3, 5L));
+    }
+
+    @Test
+    void optimizeWithoutPointsTest() {
+    	AttributeBuildReport report = attributeBuildService.optimize(createChampion(), 0, createOpponents(), 10, 3, 5L);
+
+    	assertEquals(1, report.allocations());
+    	assertEquals(1, report.candidates());
+    	assertEquals(1, report.best().size());
+    }
+
+    @Test
+    void optimizeTooManyPointsTest() {
+    	assertThrows(ProcessException.class, () -> attributeBuildService.optimize(createChampion(), 31, createOpponents(), 10, 3, 5L));
+    }
+
+}
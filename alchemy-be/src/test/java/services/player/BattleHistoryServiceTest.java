@@ -0,0 +1,109 @@
+package services.player;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import alchemy.config.Autoconfiguration;
+import alchemy.config.BattleProperties;
+import alchemy.model.battles.BattleRecord;
+import alchemy.model.battles.replays.BattleReplay;
+import alchemy.model.pets.Pet;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.repositories.BattleRecordRepository;
+import alchemy.services.player.BattleHistoryService;
+import alchemy.services.player.BattleService;
+import config.AbstractBattleTest;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@ContextConfiguration(classes = Autoconfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class BattleHistoryServiceTest extends AbstractBattleTest {
+
+    @Autowired private BattleRecordRepository battleRecordRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private BattleService battleService;
+
+    private BattleHistoryService createHistory(int capacity, int batchSize, Duration flushInterval) {
+    	BattleProperties properties = new BattleProperties();
+    	properties.getHistory().setBufferCapacity(capacity);
+    	properties.getHistory().setBatchSize(batchSize);
+    	properties.getHistory().setFlushInterval(flushInterval);
+
+    	return new BattleHistoryService(battleRecordRepository, transactionManager, properties);
+    }
+
+    private BattleReplay recordBattle(long seed) {
+    	Pet strong = createPet("Strong", 5, 6, 0, 1, 0, 2, createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 12, 2));
+    	Pet weak = createPet("Weak", 5, 1, 0, 1, 0, 1, createDamageMove("Scratch", 0, DamageType.PHYSICAL, 2, 0));
+
+    	return battleService.recordBattle(battleService.snapshot(strong), battleService.snapshot(weak), seed);
+    }
+
+    @Test
+    void recordDrainedOnShutdownTest() {
+    	long before = battleRecordRepository.count();
+    	BattleHistoryService history = createHistory(1000, 50, Duration.ofMinutes(1));
+    	history.start();
+
+    	for (int i = 0; i < 120; i++) {
+    		assertTrue(history.record(recordBattle(i)));
+    	}
+
+    	history.shutdown();
+
+    	assertEquals(0, history.getPending());
+    	assertEquals(120, history.getWritten().get());
+    	assertEquals(before + 120, battleRecordRepository.count());
+    }
+
+    @Test
+    void recordFlushedOnIntervalTest() throws InterruptedException {
+    	BattleHistoryService history = createHistory(1000, 50, Duration.ofMillis(50));
+    	history.start();
+
+    	BattleReplay replay = recordBattle(42L);
+    	history.record(replay);
+
+    	for (int i = 0; i < 100 && history.getWritten().get() == 0; i++) {
+    		Thread.sleep(20);
+    	}
+
+    	assertEquals(1, history.getWritten().get());
+
+    	List<BattleRecord> records = battleRecordRepository.findAll();
+    	BattleRecord record = records.stream().filter(candidate -> candidate.getSeed() == 42L).findFirst().orElseThrow();
+
+    	assertEquals(replay.outcome(), record.getOutcome());
+    	assertEquals(replay.first().fingerprint(), record.getFirstFingerprint());
+    	assertArrayEquals(replay.turnLog(), record.getBattleReplay().turnLog());
+    	assertTrue(battleService.verify(record.getBattleReplay()));
+
+    	history.shutdown();
+    }
+
+    @Test
+    void recordDroppedWhenFullTest() {
+    	BattleHistoryService history = createHistory(2, 50, Duration.ofSeconds(1));
+
+    	assertTrue(history.record(recordBattle(1L)));
+    	assertTrue(history.record(recordBattle(2L)));
+    	assertFalse(history.record(recordBattle(3L)));
+    	assertEquals(1, history.getDropped().get());
+    }
+
+}
@@ -0,0 +1,149 @@
+package services.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.ProcessException;
+import alchemy.exceptions.RetryLaterException;
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.jobs.BattleJob;
+import alchemy.model.battles.jobs.BattleJobStatus;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.services.player.BattleHistoryService;
+import alchemy.services.player.BattleJobService;
+import alchemy.services.player.BattleService;
+import alchemy.services.player.MovePlanService;
+import config.AbstractBattleTest;
+
+public class BattleJobServiceTest extends AbstractBattleTest {
+
+    private final BattleService battleService = new BattleService(new MovePlanService());
+    private final BattleHistoryService battleHistoryService = mock(BattleHistoryService.class);
+    private final BattleJobService battleJobService = createJobService(2);
+
+    @AfterEach
+    void shutdown() {
+    	battleJobService.shutdown();
+    }
+
+    private BattleJobService createJobService(int queueCapacity) {
+    	BattleProperties properties = new BattleProperties();
+    	properties.getJobs().setQueueCapacity(queueCapacity);
+    	properties.getJobs().setWorkers(1);
+    	properties.getJobs().setRetryAfter(Duration.ofSeconds(3));
+
+    	return new BattleJobService(null, battleService, battleHistoryService, properties);
+    }
+
+    private ChampionSnapshot createSnapshot(String name, int strength) {
+    	return battleService.snapshot(createPet(name, 5, strength, 0, 0, 0, 2,
+    			createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 4, 0)));
+    }
+
+    @Test
+    void submitCompletedByWorkerTest() throws Exception {
+    	battleJobService.start();
+
+    	BattleJob job = battleJobService.submit(createSnapshot("Strong", 6), createSnapshot("Weak", 1), 42L);
+    	BattleJob finished = job.whenFinished().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+    	assertSame(job, finished);
+    	assertEquals(BattleJobStatus.COMPLETED, job.getStatus());
+    	assertNotNull(job.getReplay());
+    	assertEquals("Strong", job.getWinner());
+    	assertTrue(battleService.verify(job.getReplay()));
+    	assertSame(job, battleJobService.getJob(job.getId()));
+    	verify(battleHistoryService, timeout(1000)).record(job.getReplay());
+    }
+
+    @Test
+    void whenFinishedNotifiesOffWorkerTest() throws Exception {
+    	battleJobService.start();
+
+    	BattleJob job = battleJobService.submit(createSnapshot("Strong", 6), createSnapshot("Weak", 1), 42L);
+    	String thread = battleJobService.whenFinished(job).thenApply(finished -> Thread.currentThread().getName())
+    			.toCompletableFuture().get(5, TimeUnit.SECONDS);
+    	String threadOnceFinished = battleJobService.whenFinished(job).thenApply(finished -> Thread.currentThread().getName())
+    			.toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+    	assertFalse(thread.startsWith("battle-worker-"));
+    	assertFalse(threadOnceFinished.startsWith("battle-worker-"));
+    }
+
+    @Test
+    void submitIgnoresTimeBudgetTest() throws Exception {
+    	// A budget spent before the first check : only the turn cap and stall detection may end the battle.
+    	BattleService timedService = new BattleService(new MovePlanService(), new BattleLimits(10_000, Duration.ofNanos(1), true));
+    	BattleProperties properties = new BattleProperties();
+    	properties.getJobs().setWorkers(1);
+    	BattleJobService timedJobService = new BattleJobService(null, timedService, battleHistoryService, properties);
+    	ChampionSnapshot tank = timedService.snapshot(createPet("Tank", 20, 0, 3, 1, 0, 0,
+    			createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 4, 0)));
+
+    	assertEquals(BattleOutcome.STALEMATE, timedService.executeBattle(tank, tank, 42L, BattleEventListener.NONE).outcome());
+
+    	try {
+    		timedJobService.start();
+    		BattleJob job = timedJobService.submit(tank, tank, 42L);
+    		job.whenFinished().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+    		assertEquals(BattleJobStatus.COMPLETED, job.getStatus());
+    		assertNotEquals(BattleOutcome.STALEMATE, job.getReplay().outcome());
+    	} finally {
+    		timedJobService.shutdown();
+    	}
+    }
+
+    @Test
+    void submitRejectedWhenQueueFullTest() {
+    	ChampionSnapshot first = createSnapshot("Strong", 6);
+    	ChampionSnapshot second = createSnapshot("Weak", 1);
+
+    	battleJobService.submit(first, second, 1L);
+    	battleJobService.submit(first, second, 2L);
+
+    	RetryLaterException exception = assertThrows(RetryLaterException.class, () -> battleJobService.submit(first, second, 3L));
+
+    	assertEquals(Duration.ofSeconds(3), exception.getRetryAfter());
+    	assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+    	assertEquals(2, battleJobService.getQueuedJobs());
+    }
+
+    @Test
+    void shutdownFailsQueuedJobsTest() {
+    	BattleJob job = battleJobService.submit(createSnapshot("Strong", 6), createSnapshot("Weak", 1), 1L);
+
+    	battleJobService.shutdown();
+
+    	assertEquals(BattleJobStatus.FAILED, job.getStatus());
+    	assertNotNull(job.getError());
+    }
+
+    @Test
+    void getUnknownJobTest() {
+    	ProcessException exception = assertThrows(ProcessException.class, () -> battleJobService.getJob(UUID.randomUUID()));
+
+    	assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+    }
+
+}
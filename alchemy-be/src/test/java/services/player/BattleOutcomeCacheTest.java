@@ -0,0 +1,61 @@
+package services.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import alchemy.config.BattleProperties;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.services.player.BattleOutcomeCache;
+import alchemy.services.player.BattleService;
+import alchemy.services.player.MovePlanService;
+import config.AbstractBattleTest;
+
+public class BattleOutcomeCacheTest extends AbstractBattleTest {
+
+    private final BattleService battleService = new BattleService(new MovePlanService());
+    private final BattleOutcomeCache battleOutcomeCache = new BattleOutcomeCache(battleService, new BattleProperties());
+
+    private ChampionSnapshot createSnapshot(String name) {
+    	return battleService.snapshot(createPet(name, 5, 3, 0, 1, 0, 2,
+    			createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 6, 1)));
+    }
+
+    @Test
+    void cachedOutcomeMatchesSimulationTest() {
+    	ChampionSnapshot first = createSnapshot("First");
+    	ChampionSnapshot second = createSnapshot("Second");
+    	boolean firstWon = false;
+    	boolean secondWon = false;
+
+    	for (long seed = 0; seed < 100; seed++) {
+    		BattleResult expected = battleService.executeBattle(first, second, seed, BattleEventListener.NONE);
+    		BattleResult cached = battleOutcomeCache.executeBattle(first, second, seed);
+
+    		assertEquals(seed, cached.seed());
+    		assertEquals(expected.outcome(), cached.outcome());
+    		assertEquals(expected.turns(), cached.turns());
+    		firstWon |= expected.outcome() == BattleOutcome.FIRST_CHAMPION_WON;
+    		secondWon |= expected.outcome() == BattleOutcome.SECOND_CHAMPION_WON;
+    	}
+
+    	assertTrue(firstWon && secondWon);
+    	assertEquals(2, battleOutcomeCache.getSize());
+    	assertEquals(98, battleOutcomeCache.getStats().hitCount());
+    }
+
+    @Test
+    void identicalLoadoutsShareOutcomesTest() {
+    	battleOutcomeCache.executeBattle(createSnapshot("First"), createSnapshot("Second"), 1L);
+    	battleOutcomeCache.executeBattle(createSnapshot("Other"), createSnapshot("Another"), 1L);
+
+    	assertEquals(1, battleOutcomeCache.getSize());
+    	assertEquals(1, battleOutcomeCache.getStats().hitCount());
+    }
+
+}
@@ -0,0 +1,197 @@
+package services.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.events.BattleEvent;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.events.BattleEventType;
+import alchemy.model.battles.events.DamageBreakdown;
+import alchemy.model.battles.events.StatusEffectApplied;
+import alchemy.model.battles.replays.BattleReplay;
+import alchemy.model.pets.Pet;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.EffectTarget;
+import alchemy.services.player.BattleService;
+import alchemy.services.player.MovePlanService;
+import config.AbstractBattleTest;
+
+public class BattleServiceTest extends AbstractBattleTest {
+
+    private final BattleService battleService = new BattleService(new MovePlanService());
+
+    @Test
+    void executeBattleStrongerChampionWinsTest() {
+    	Pet strong = createPet("Strong", 5, 6, 0, 0, 0, 2, createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 12, 2));
+    	Pet weak = createPet("Weak", 5, 1, 0, 0, 0, 1, createDamageMove("Scratch", 0, DamageType.PHYSICAL, 2, 0));
+
+    	BattleResult result = battleService.executeBattle(strong, weak);
+
+    	assertEquals(BattleOutcome.FIRST_CHAMPION_WON, result.outcome());
+    	assertTrue(result.turns() > 0);
+
+    	BattleResult reversed = battleService.executeBattle(weak, strong);
+
+    	assertEquals(BattleOutcome.SECOND_CHAMPION_WON, reversed.outcome());
+    }
+
+    @Test
+    void executeBattleEventsTest() {
+    	Pet strong = createPet("Strong", 5, 6, 0, 0, 0, 2, createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 12, 2));
+    	Pet weak = createPet("Weak", 5, 1, 0, 0, 0, 1, createDamageMove("Scratch", 0, DamageType.PHYSICAL, 2, 0));
+
+    	BattleResult result = battleService.executeBattle(strong, weak);
+
+    	assertEquals(result.turns(), result.events().stream().filter(event -> event.type() == BattleEventType.MOVE_USED).count());
+    	assertEquals(result.turns(), result.events().stream().filter(event -> event.type() == BattleEventType.DAMAGE_MOVE).count());
+    	assertEquals(BattleEventType.BATTLE_ENDED, result.events().get(result.events().size() - 1).type());
+    }
+
+    @Test
+    void executeBattleWithoutEventsTest() {
+    	Pet strong = createPet("Strong", 5, 6, 0, 0, 0, 2, createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 12, 2));
+    	Pet weak = createPet("Weak", 5, 1, 0, 0, 0, 1, createDamageMove("Scratch", 0, DamageType.PHYSICAL, 2, 0));
+
+    	BattleResult result = battleService.executeBattle(strong, weak, BattleEventListener.NONE);
+
+    	assertEquals(BattleOutcome.FIRST_CHAMPION_WON, result.outcome());
+    	assertTrue(result.events().isEmpty());
+    }
+
+    @Test
+    void executeBattleSeededTest() {
+    	Pet first = createPet("First", 5, 3, 0, 1, 0, 2, createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 6, 1));
+    	Pet second = createPet("Second", 5, 3, 0, 1, 0, 2, createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 6, 1));
+
+    	for (long seed = 0; seed < 20; seed++) {
+    		List<BattleEvent> events = new ArrayList<>();
+    		List<BattleEvent> replayed = new ArrayList<>();
+
+    		BattleResult result = battleService.executeBattle(first, second, seed, events::add);
+    		BattleResult other = battleService.executeBattle(first, second, seed, replayed::add);
+
+    		assertEquals(seed, result.seed());
+    		assertEquals(result.outcome(), other.outcome());
+    		assertEquals(events.stream().map(BattleEvent::message).toList(), replayed.stream().map(BattleEvent::message).toList());
+    	}
+    }
+
+    @Test
+    void executeBattleDamageBreakdownTest() {
+    	Pet mage = createPet("Mage", 5, 0, 0, 2, 4, 2, createDamageMove("Fireball", 0, DamageType.MAGICAL, 10, 2));
+    	Pet target = createPet("Target", 5, 0, 0, 0, 2, 1, createDamageMove("Scratch", 0, DamageType.PHYSICAL, 1, 0));
+
+    	BattleResult result = battleService.executeBattle(mage, target);
+
+    	DamageBreakdown breakdown = result.events().stream()
+    			.filter(DamageBreakdown.class::isInstance)
+    			.map(DamageBreakdown.class::cast)
+    			.filter(event -> event.source().equals("Mage"))
+    			.findFirst()
+    			.orElseThrow();
+
+    	assertEquals("Mage", breakdown.source());
+    	assertEquals("Target", breakdown.target());
+    	assertEquals(DamageType.MAGICAL, breakdown.damageType());
+    	assertEquals(10, breakdown.base());
+    	assertEquals(5, breakdown.critical());
+    	assertEquals(6, breakdown.clarity());
+    	assertEquals(6, breakdown.clarityBonus());
+    	assertEquals(2, breakdown.adaptationReduction());
+    	assertEquals(breakdown.getDamage() - 2, breakdown.damageDealt());
+    	assertEquals(breakdown.getPiercing(), breakdown.piercingDealt());
+    	assertTrue(breakdown.message().startsWith("Mage dealt 15 magical damages to Target"));
+    	assertTrue(breakdown.message().contains("(Adaptation)"));
+    }
+
+    @Test
+    void executeBattleWithoutDamagingMoveStalemateTest() {
+    	Pet first = createPet("First", 5, 3, 0, 1, 0, 2);
+    	Pet second = createPet("Second", 5, 3, 0, 1, 0, 2);
+
+    	BattleResult result = battleService.executeBattle(first, second);
+
+    	assertEquals(BattleOutcome.STALEMATE, result.outcome());
+    	assertTrue(result.turns() <= 4);
+    	assertEquals("Stalemate, nobody won !", result.events().get(result.events().size() - 1).message());
+    }
+
+    @Test
+    void executeBattleSlowDamageNotStalledTest() {
+    	Pet slow = createPet("Slow", 5, 3, 0, 1, 0, 2, createDamageMove("Slow Strike", 4, DamageType.PHYSICAL, 6, 1));
+    	Pet idle = createPet("Idle", 5, 3, 0, 1, 0, 2);
+
+    	BattleResult result = battleService.executeBattle(slow, idle);
+
+    	assertEquals(BattleOutcome.FIRST_CHAMPION_WON, result.outcome());
+    }
+
+    @Test
+    void executeBattleTurnLimitTest() {
+    	BattleService limited = new BattleService(new MovePlanService(), new BattleLimits(5, null, true));
+    	Pet first = createPet("First", 5, 3, 0, 1, 0, 2, createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 6, 1));
+    	Pet second = createPet("Second", 5, 3, 0, 1, 0, 2, createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 6, 1));
+
+    	BattleReplay replay = limited.recordBattle(first, second);
+
+    	assertEquals(BattleOutcome.STALEMATE, replay.outcome());
+    	assertEquals(5, replay.turns());
+    	assertTrue(limited.verify(replay));
+    	assertTrue(battleService.verify(replay));
+    }
+
+    @Test
+    void executeBattleDamageOverTimeTest() {
+    	Pet poisoner = createPet("Poisoner", 5, 3, 0, 1, 0, 2,
+    			createMove("Poison", 0, createDamageOverTime(DamageType.PHYSICAL, 3, 3)));
+    	Pet idle = createPet("Idle", 5, 3, 0, 1, 0, 2);
+
+    	BattleResult result = battleService.executeBattle(poisoner, idle);
+
+    	assertEquals(BattleOutcome.FIRST_CHAMPION_WON, result.outcome());
+    	assertTrue(result.events().stream().anyMatch(event -> event.type() == BattleEventType.DAMAGE_OVER_TIME));
+    	assertEquals("Poisoner applied 3 physical damages per turn to Idle for 3 turns.", result.events().stream()
+    			.filter(StatusEffectApplied.class::isInstance).findFirst().orElseThrow().message());
+    	assertTrue(battleService.verify(battleService.recordBattle(poisoner, idle)));
+    }
+
+    @Test
+    void executeBattleDebuffTest() {
+    	Pet brute = createPet("Brute", 5, 3, 3, 1, 0, 2, createDamageMove("Scratch", 0, DamageType.PHYSICAL, 4, 0));
+    	Pet sunderer = createPet("Sunderer", 5, 3, 3, 1, 0, 2,
+    			createMove("Sunder", 3, createModifier(DerivedAttribute.DEFENCE, -4, EffectTarget.OPPONENT, 2)),
+    			createDamageMove("Scratch", 0, DamageType.PHYSICAL, 4, 0));
+
+    	BattleResult result = battleService.executeBattle(sunderer, brute);
+
+    	List<DamageBreakdown> breakdowns = result.events().stream()
+    			.filter(DamageBreakdown.class::isInstance)
+    			.map(DamageBreakdown.class::cast)
+    			.toList();
+
+    	assertEquals(0, breakdowns.stream().filter(event -> event.target().equals("Brute")).findFirst().orElseThrow().defenceReduction());
+    	assertEquals(4, breakdowns.stream().filter(event -> event.target().equals("Sunderer")).findFirst().orElseThrow().defenceReduction());
+    }
+
+    @Test
+    void executeBattleRunningEffectsNotStalledTest() {
+    	BattleService limited = new BattleService(new MovePlanService(), new BattleLimits(200, null, true));
+    	Pet first = createPet("First", 5, 3, 0, 1, 0, 2, createMove("Guard", 0, createShield(DamageType.PHYSICAL, 5, 2)));
+    	Pet second = createPet("Second", 5, 3, 0, 1, 0, 2);
+
+    	BattleResult result = limited.executeBattle(first, second, 1L, BattleEventListener.NONE);
+
+    	assertEquals(BattleOutcome.STALEMATE, result.outcome());
+    	assertEquals(200, result.turns());
+    }
+
+}
@@ -0,0 +1,136 @@
+package services.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import alchemy.config.BattleProperties;
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.replays.BattleReplay;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.services.player.BattleHistoryService;
+import alchemy.services.player.BattleService;
+import alchemy.services.player.BattleStreamService;
+import alchemy.services.player.MovePlanService;
+import config.AbstractBattleTest;
+
+public class BattleStreamServiceTest extends AbstractBattleTest {
+
+    private final BattleService battleService = new BattleService(new MovePlanService());
+    private final BattleHistoryService battleHistoryService = mock(BattleHistoryService.class);
+    private final BattleStreamService battleStreamService = new BattleStreamService(null, battleService, battleHistoryService,
+    		new BattleProperties());
+
+    @AfterEach
+    void shutdown() {
+    	battleStreamService.shutdown();
+    }
+
+    private ChampionSnapshot createSnapshot(String name, int strength) {
+    	return battleService.snapshot(createPet(name, 5, strength, 0, 0, 0, 2,
+    			createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 4, 0)));
+    }
+
+    /**
+     * Emitter standing for a client : it records the name of each event, and disconnects after a number of them.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+    	private final List<String> events = new CopyOnWriteArrayList<>();
+    	private final CountDownLatch finished = new CountDownLatch(1);
+    	private final int disconnectAfter;
+    	private volatile boolean completed;
+
+    	private RecordingEmitter(int disconnectAfter) {
+    		this.disconnectAfter = disconnectAfter;
+    	}
+
+    	@Override
+    	public void send(SseEventBuilder builder) throws IOException {
+    		if (events.size() == disconnectAfter) {
+    			finished.countDown();
+    			throw new IOException("Broken pipe");
+    		}
+
+    		String frame = builder.build().iterator().next().getData().toString();
+    		events.add(frame.substring(frame.indexOf("event:") + 6, frame.indexOf('\n', frame.indexOf("event:"))));
+    	}
+
+    	@Override
+    	public void complete() {
+    		completed = true;
+    		finished.countDown();
+    	}
+
+    }
+
+    @Test
+    void streamBattleTest() throws InterruptedException {
+    	RecordingEmitter emitter = new RecordingEmitter(Integer.MAX_VALUE);
+
+    	battleStreamService.stream(createSnapshot("Strong", 6), createSnapshot("Weak", 1), 1L, emitter);
+
+    	assertTrue(emitter.finished.await(5, TimeUnit.SECONDS));
+    	assertTrue(emitter.completed);
+    	assertEquals("BATTLE_STARTED", emitter.events.get(0));
+    	assertEquals("MOVE_USED", emitter.events.get(1));
+    	assertEquals("BATTLE_ENDED", emitter.events.get(emitter.events.size() - 1));
+    	verify(battleHistoryService, timeout(1000)).record(any());
+    }
+
+    @Test
+    void streamBattleIgnoresTimeBudgetTest() throws InterruptedException {
+    	// A budget spent before the first check : only the turn cap and stall detection may end the battle.
+    	BattleService timedService = new BattleService(new MovePlanService(), new BattleLimits(10_000, Duration.ofNanos(1), true));
+    	BattleStreamService timedStreamService = new BattleStreamService(null, timedService, battleHistoryService,
+    			new BattleProperties());
+    	ChampionSnapshot tank = timedService.snapshot(createPet("Tank", 20, 0, 3, 1, 0, 0,
+    			createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 4, 0)));
+    	RecordingEmitter emitter = new RecordingEmitter(Integer.MAX_VALUE);
+
+    	try {
+    		timedStreamService.stream(tank, tank, 1L, emitter);
+
+    		assertTrue(emitter.finished.await(5, TimeUnit.SECONDS));
+    		ArgumentCaptor<BattleReplay> replay = ArgumentCaptor.forClass(BattleReplay.class);
+    		verify(battleHistoryService, timeout(1000)).record(replay.capture());
+    		assertNotEquals(BattleOutcome.STALEMATE, replay.getValue().outcome());
+    	} finally {
+    		timedStreamService.shutdown();
+    	}
+    }
+
+    @Test
+    void streamBattleCancelledOnDisconnectTest() throws InterruptedException {
+    	RecordingEmitter emitter = new RecordingEmitter(3);
+
+    	battleStreamService.stream(createSnapshot("Tank", 3), createSnapshot("Other Tank", 3), 1L, emitter);
+
+    	assertTrue(emitter.finished.await(5, TimeUnit.SECONDS));
+    	Thread.sleep(50);
+    	assertEquals(3, emitter.events.size());
+    	assertFalse(emitter.completed);
+    	verify(battleHistoryService, never()).record(any());
+    }
+
+}
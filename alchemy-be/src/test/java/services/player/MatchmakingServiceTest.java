@@ -0,0 +1,199 @@
+package services.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.ProcessException;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.matchmaking.MatchmakingStatus;
+import alchemy.model.battles.matchmaking.MatchmakingTicket;
+import alchemy.model.battles.matchmaking.PetRating;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.repositories.PetRatingRepository;
+import alchemy.services.player.BattleHistoryService;
+import alchemy.services.player.BattleJobService;
+import alchemy.services.player.BattleService;
+import alchemy.services.player.MatchmakingService;
+import alchemy.services.player.MovePlanService;
+import config.AbstractBattleTest;
+
+public class MatchmakingServiceTest extends AbstractBattleTest {
+
+    private final BattleService battleService = new BattleService(new MovePlanService());
+    private final PetRatingRepository petRatingRepository = mock(PetRatingRepository.class);
+    private final BattleProperties properties = new BattleProperties();
+    private final BattleJobService battleJobService;
+    private final MatchmakingService matchmakingService;
+
+    MatchmakingServiceTest() {
+    	properties.getJobs().setWorkers(1);
+    	properties.getMatchmaking().setInitialWindow(50);
+    	properties.getMatchmaking().setWindowGrowth(1000);
+
+    	battleJobService = new BattleJobService(null, battleService, mock(BattleHistoryService.class), properties);
+    	matchmakingService = new MatchmakingService(null, battleJobService, petRatingRepository,
+    			mock(PlatformTransactionManager.class), properties);
+    }
+
+    @BeforeEach
+    void start() {
+    	when(petRatingRepository.findById(any())).thenReturn(Optional.empty());
+    	battleJobService.start();
+    }
+
+    @AfterEach
+    void shutdown() {
+    	matchmakingService.shutdown();
+    	battleJobService.shutdown();
+    }
+
+    private ChampionSnapshot createSnapshot(String name, int strength) {
+    	return battleService.snapshot(createPet(name, 5, strength, 0, 0, 0, 2,
+    			createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 4, 0)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueueMatchedAndRatedTest() throws Exception {
+    	UUID strongId = UUID.randomUUID();
+    	UUID weakId = UUID.randomUUID();
+
+    	MatchmakingTicket strong = matchmakingService.enqueue(strongId, createSnapshot("Strong", 6), 1500);
+    	assertEquals(MatchmakingStatus.WAITING, strong.getStatus());
+
+    	MatchmakingTicket weak = matchmakingService.enqueue(weakId, createSnapshot("Weak", 1), 1520);
+    	assertNotEquals(MatchmakingStatus.WAITING, weak.getStatus());
+    	assertEquals(strongId, weak.getOpponentPetId());
+    	assertNotNull(weak.getJobId());
+    	assertEquals(strong.getJobId(), weak.getJobId());
+    	assertEquals(0, matchmakingService.getWaitingPets());
+
+    	battleJobService.getJob(weak.getJobId()).whenFinished().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    	ArgumentCaptor<List<PetRating>> ratings = ArgumentCaptor.forClass(List.class);
+    	verify(petRatingRepository, timeout(1000)).saveAll(ratings.capture());
+
+    	PetRating strongRating = ratings.getValue().get(0);
+    	PetRating weakRating = ratings.getValue().get(1);
+    	assertEquals(strongId, strongRating.getPetId());
+    	assertEquals(1516, strongRating.getRating());
+    	assertEquals(1484, weakRating.getRating());
+    	assertEquals(1, strongRating.getBattles());
+
+    	// Settled tickets no longer hold their job, but can still be polled.
+    	for (int attempt = 0; attempt < 100 && weak.getStatus() != MatchmakingStatus.COMPLETED; attempt++) {
+    		Thread.sleep(10);
+    	}
+
+    	assertEquals(MatchmakingStatus.COMPLETED, weak.getStatus());
+    	assertNull(weak.getJob());
+    	assertSame(weak, matchmakingService.getTicket(weakId));
+    	assertNotNull(matchmakingService.enqueue(weakId, createSnapshot("Weak", 1), 1484));
+    }
+
+    @Test
+    void windowWidensWhileWaitingTest() throws Exception {
+    	MatchmakingTicket first = matchmakingService.enqueue(UUID.randomUUID(), createSnapshot("Strong", 6), 1000);
+    	MatchmakingTicket second = matchmakingService.enqueue(UUID.randomUUID(), createSnapshot("Weak", 1), 1300);
+    	assertEquals(MatchmakingStatus.WAITING, second.getStatus());
+
+    	matchmakingService.sweep();
+    	assertEquals(2, matchmakingService.getWaitingPets());
+
+    	Thread.sleep(1100);
+    	matchmakingService.sweep();
+
+    	assertNotEquals(MatchmakingStatus.WAITING, first.getStatus());
+    	assertEquals(second.getPetId(), first.getOpponentPetId());
+    	assertEquals(0, matchmakingService.getWaitingPets());
+    }
+
+    @Test
+    void unbalancedPairingSkippedTest() {
+    	// Strong kills Weak in 5 turns, Weak kills Strong in 7 : a balance of 0.71.
+    	properties.getMatchmaking().setMinBalance(0.8);
+
+    	MatchmakingTicket strong = matchmakingService.enqueue(UUID.randomUUID(), createSnapshot("Strong", 6), 1500);
+    	MatchmakingTicket weak = matchmakingService.enqueue(UUID.randomUUID(), createSnapshot("Weak", 1), 1520);
+    	assertEquals(MatchmakingStatus.WAITING, weak.getStatus());
+
+    	MatchmakingTicket twin = matchmakingService.enqueue(UUID.randomUUID(), createSnapshot("Twin", 6), 1530);
+    	assertNotEquals(MatchmakingStatus.WAITING, twin.getStatus());
+    	assertEquals(strong.getPetId(), twin.getOpponentPetId());
+    	assertEquals(MatchmakingStatus.WAITING, weak.getStatus());
+
+    	matchmakingService.sweep();
+    	assertEquals(MatchmakingStatus.WAITING, weak.getStatus());
+
+    	MatchmakingTicket rival = matchmakingService.enqueue(UUID.randomUUID(), createSnapshot("Rival", 1), 1510);
+    	assertEquals(weak.getPetId(), rival.getOpponentPetId());
+    }
+
+    @Test
+    void cappedLookupRetriedOnceCandidateLeavesTest() {
+    	properties.getMatchmaking().setMinBalance(0.8);
+    	properties.getMatchmaking().setMaxCandidates(1);
+    	properties.getMatchmaking().setInitialWindow(400);
+    	properties.getMatchmaking().setMaxWindow(400);
+
+    	MatchmakingTicket weak = matchmakingService.enqueue(UUID.randomUUID(), createSnapshot("Weak", 1), 1500);
+    	MatchmakingTicket strong = matchmakingService.enqueue(UUID.randomUUID(), createSnapshot("Strong", 6), 1510);
+    	MatchmakingTicket rival = matchmakingService.enqueue(UUID.randomUUID(), createSnapshot("Rival", 1), 1530);
+    	assertEquals(MatchmakingStatus.WAITING, rival.getStatus());
+
+    	// Strong is the only candidate tested by both weak pets, and is unbalanced with each.
+    	matchmakingService.sweep();
+    	assertEquals(3, matchmakingService.getWaitingPets());
+
+    	matchmakingService.cancel(strong.getPetId());
+    	matchmakingService.sweep();
+
+    	assertNotEquals(MatchmakingStatus.WAITING, weak.getStatus());
+    	assertEquals(rival.getPetId(), weak.getOpponentPetId());
+    	assertEquals(0, matchmakingService.getWaitingPets());
+    }
+
+    @Test
+    void enqueueTwiceTest() {
+    	UUID petId = UUID.randomUUID();
+    	matchmakingService.enqueue(petId, createSnapshot("Strong", 6), 1500);
+
+    	ProcessException exception = assertThrows(ProcessException.class,
+    			() -> matchmakingService.enqueue(petId, createSnapshot("Strong", 6), 1500));
+    	assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+    }
+
+    @Test
+    void cancelTest() {
+    	UUID petId = UUID.randomUUID();
+    	matchmakingService.enqueue(petId, createSnapshot("Strong", 6), 1500);
+
+    	matchmakingService.cancel(petId);
+
+    	assertEquals(0, matchmakingService.getWaitingPets());
+    	assertThrows(ProcessException.class, () -> matchmakingService.getTicket(petId));
+    	assertNull(matchmakingService.enqueue(petId, createSnapshot("Strong", 6), 1500).getJobId());
+    }
+
+}
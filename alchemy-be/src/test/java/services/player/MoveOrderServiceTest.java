@@ -0,0 +1,161 @@
+package services.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import alchemy.config.BattleProperties;
+import alchemy.exceptions.ProcessException;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.battles.simulations.MoveOrder;
+import alchemy.model.battles.simulations.MoveOrderReport;
+import alchemy.model.pets.attributes.DerivedAttribute;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.model.pets.moves.components.EffectTarget;
+import alchemy.services.player.BattleOutcomeCache;
+import alchemy.services.player.BattleService;
+import alchemy.services.player.MoveOrderService;
+import alchemy.services.player.MovePlanService;
+import config.AbstractBattleTest;
+
+public class MoveOrderServiceTest extends AbstractBattleTest {
+
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+    private final BattleService battleService = new BattleService(new MovePlanService());
+    private final MoveOrderService moveOrderService = new MoveOrderService(
+    		new BattleOutcomeCache(battleService, new BattleProperties()), new BattleProperties());
+
+    @AfterEach
+    void shutdown() {
+    	moveOrderService.shutdown();
+    }
+
+    private ChampionSnapshot createChampion() {
+    	return battleService.snapshot(createPet("Pwiky", 5, 3, 2, 2, 3, 2,
+    			createDamageMove("Jab", 0, DamageType.PHYSICAL, 3, 0),
+    			createDamageMove("Horn Strike", 2, DamageType.PHYSICAL, 8, 2),
+    			createMove("Fireball", 3, createDamageOverTime(DamageType.MAGICAL, 3, 3)),
+    			createMove("Guard", 4, createShield(DamageType.PHYSICAL, 8, 2)),
+    			createMove("Sunder", 2, createModifier(DerivedAttribute.DEFENCE, -2, EffectTarget.OPPONENT, 2)),
+    			createDamageMove("Crush", 5, DamageType.PHYSICAL, 14, 4)));
+    }
+
+    private List<ChampionSnapshot> createOpponents() {
+    	return List.of(
+    			battleService.snapshot(createPet("Brute", 5, 5, 3, 2, 0, 2,
+    					createDamageMove("Bite", 1, DamageType.PHYSICAL, 7, 1),
+    					createDamageMove("Scratch", 0, DamageType.PHYSICAL, 3, 1))),
+    			battleService.snapshot(createPet("Mage", 5, 0, 2, 3, 5, 2,
+    					createDamageMove("Spark", 0, DamageType.MAGICAL, 5, 1))),
+    			battleService.snapshot(createPet("Wall", 6, 2, 6, 1, 1, 3,
+    					createMove("Bulwark", 2, createShield(DamageType.PHYSICAL, 6, 2)),
+    					createDamageMove("Bash", 0, DamageType.PHYSICAL, 4, 1))));
+    }
+
+    /**
+     * Wins and draws of every permutation, battle by battle, with the seeds of the service.
+     */
+    private List<long[]> bruteForce(ChampionSnapshot champion, List<ChampionSnapshot> opponents, int battles, long seed) {
+    	List<long[]> results = new ArrayList<>();
+    	permute(champion, opponents, battles, seed, new ArrayList<>(), results);
+    	return results;
+    }
+
+    private void permute(ChampionSnapshot champion, List<ChampionSnapshot> opponents, int battles, long seed,
+    		List<MovePlan> order, List<long[]> results) {
+    	if (order.size() == champion.moves().size()) {
+    		ChampionSnapshot ordered = new ChampionSnapshot(champion.name(), champion.level(), champion.baseAttributes(), order);
+    		long wins = 0;
+    		long draws = 0;
+
+    		for (int opponent = 0; opponent < opponents.size(); opponent++) {
+    			for (int battle = 0; battle < battles; battle++) {
+    				BattleOutcome outcome = battleService.executeBattle(ordered, opponents.get(opponent),
+    						seed + ((long) opponent * battles + battle) * SEED_INCREMENT, BattleEventListener.NONE).outcome();
+
+    				if (outcome == BattleOutcome.FIRST_CHAMPION_WON) {
+    					wins++;
+    				} else if (outcome != BattleOutcome.SECOND_CHAMPION_WON) {
+    					draws++;
+    				}
+    			}
+    		}
+
+    		results.add(new long[] { wins, draws });
+    		return;
+    	}
+
+    	for (MovePlan move : champion.moves()) {
+    		if (!order.contains(move)) {
+    			order.add(move);
+    			permute(champion, opponents, battles, seed, order, results);
+    			order.remove(order.size() - 1);
+    		}
+    	}
+    }
+
+    @Test
+    void optimizeMatchesBruteForceTest() {
+    	ChampionSnapshot champion = createChampion();
+    	List<ChampionSnapshot> opponents = createOpponents();
+
+    	MoveOrderReport report = moveOrderService.optimize(champion, opponents, 30, 5, 11L);
+    	List<long[]> expected = bruteForce(champion, opponents, 30, 11L);
+    	expected.sort(Comparator.<long[]>comparingLong(result -> result[0]).thenComparingLong(result -> result[1]).reversed());
+
+    	assertEquals(720, report.permutations());
+    	assertTrue(report.candidates() < report.permutations());
+    	assertEquals(List.of(0, 1, 2, 3, 4, 5), report.current().slots());
+    	assertEquals(1, report.current().reachableMoves());
+    	assertEquals(5, report.best().size());
+
+    	for (int rank = 0; rank < 5; rank++) {
+    		MoveOrder order = report.best().get(rank);
+
+    		assertEquals(90, order.stats().getBattles());
+    		assertEquals(expected.get(rank)[0], order.stats().wins());
+    		assertEquals(expected.get(rank)[1], order.stats().draws());
+    	}
+    }
+
+    @Test
+    void optimizeSharedPrefixTest() {
+    	ChampionSnapshot champion = battleService.snapshot(createPet("Pwiky", 5, 3, 0, 1, 0, 2,
+    			createDamageMove("Strike", 1, DamageType.PHYSICAL, 6, 1),
+    			createDamageMove("Slash", 1, DamageType.PHYSICAL, 5, 1),
+    			createDamageMove("Jab", 0, DamageType.PHYSICAL, 3, 0)));
+
+    	MoveOrderReport report = moveOrderService.optimize(champion, createOpponents(), 10, 10, 3L);
+
+    	// Strike and Slash alternate and leave no turn to the third move, and Jab shadows every move after it.
+    	assertEquals(6, report.permutations());
+    	assertEquals(5, report.candidates());
+    	assertEquals(2, report.current().reachableMoves());
+    	assertEquals(report.candidates(), report.best().size() + report.pruned());
+    }
+
+    @Test
+    void optimizeTooManyMovesTest() {
+    	BattleProperties properties = new BattleProperties();
+    	properties.getMoveOrders().setMaxMoves(5);
+    	MoveOrderService limitedService = new MoveOrderService(new BattleOutcomeCache(battleService, properties), properties);
+
+    	try {
+    		assertThrows(ProcessException.class, () -> limitedService.optimize(createChampion(), createOpponents(), 10, 5, 0L));
+    	} finally {
+    		limitedService.shutdown();
+    	}
+    }
+
+}
@@ -0,0 +1,114 @@
+package services.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import alchemy.model.battles.Champion;
+import alchemy.model.battles.events.BattleEvent;
+import alchemy.model.battles.events.DamageBreakdown;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.pets.Pet;
+import alchemy.model.pets.moves.Move;
+import alchemy.model.pets.moves.components.DamageComponent;
+import alchemy.model.pets.moves.components.DamageType;
+import alchemy.services.player.MovePlanService;
+import config.AbstractBattleTest;
+
+public class MovePlanServiceTest extends AbstractBattleTest {
+
+    private final MovePlanService movePlanService = new MovePlanService();
+
+    @Test
+    void compileCachedPlanTest() {
+    	Move move = createDamageMove("Horn Strike", 2, DamageType.PHYSICAL, 10, 3);
+
+    	MovePlan plan = movePlanService.compile(move);
+
+    	assertSame(plan, movePlanService.compile(move));
+    	assertEquals("Horn Strike", plan.name());
+    	assertEquals(2, plan.cooldown());
+    	assertTrue(plan.damaging());
+    	assertEquals(List.of(new DamagePlan(10, 3, DamageType.PHYSICAL)), plan.components());
+    }
+
+    @Test
+    void compileAfterInvalidationTest() {
+    	Move move = createDamageMove("Horn Strike", 2, DamageType.PHYSICAL, 10, 3);
+    	MovePlan plan = movePlanService.compile(move);
+    	long version = movePlanService.getCatalogVersion();
+
+    	((DamageComponent) move.getComponents().get(0)).setBaseDamage(20);
+    	assertSame(plan, movePlanService.compile(move));
+
+    	movePlanService.invalidate();
+    	MovePlan updated = movePlanService.compile(move);
+
+    	assertEquals(version + 1, movePlanService.getCatalogVersion());
+    	assertNotSame(plan, updated);
+    	assertEquals(List.of(new DamagePlan(20, 3, DamageType.PHYSICAL)), updated.components());
+    }
+
+    @Test
+    void compileStaleMoveTest() {
+    	Move move = createDamageMove("Horn Strike", 2, DamageType.PHYSICAL, 10, 3);
+    	MovePlanService.Catalog catalog = movePlanService.getCatalog();
+
+    	// Loaded before the catalog change, compiled after it.
+    	movePlanService.invalidate();
+    	MovePlan stale = movePlanService.compile(move, catalog);
+    	((DamageComponent) move.getComponents().get(0)).setBaseDamage(20);
+    	MovePlan updated = movePlanService.compile(move);
+
+    	assertNotSame(stale, updated);
+    	assertEquals(List.of(new DamagePlan(20, 3, DamageType.PHYSICAL)), updated.components());
+    	assertSame(updated, movePlanService.compile(move, movePlanService.getCatalog()));
+    }
+
+    @Test
+    void executePlanIsStatelessTest() throws Exception {
+    	MovePlan plan = movePlanService.compile(createDamageMove("Horn Strike", 0, DamageType.PHYSICAL, 10, 3));
+    	Pet pet = createPet("Attacker", 5, 3, 0, 0, 0, 3);
+
+    	ExecutorService executor = Executors.newFixedThreadPool(4);
+    	List<Future<List<BattleEvent>>> futures = new ArrayList<>();
+
+    	for (int i = 0; i < 16; i++) {
+    		futures.add(executor.submit(() -> {
+    			List<BattleEvent> events = new ArrayList<>();
+    			Champion source = new Champion(pet.snapshot(List.of(plan)));
+    			Champion target = new Champion(pet.snapshot(List.of(plan)));
+
+    			for (int hit = 0; hit < 100; hit++) {
+    				plan.execute(source, target, events::add);
+    			}
+
+    			return events;
+    		}));
+    	}
+
+    	for (Future<List<BattleEvent>> future : futures) {
+    		List<BattleEvent> events = future.get();
+
+    		for (int hit = 0; hit < events.size(); hit++) {
+    			DamageBreakdown breakdown = (DamageBreakdown) events.get(hit);
+    			assertEquals(10, breakdown.base());
+    			assertEquals(3, breakdown.basePiercing());
+    			assertEquals(2 * hit, breakdown.momentum());
+    		}
+    	}
+
+    	executor.shutdown();
+    }
+
+}
@@ -0,0 +1,67 @@
+package alchemy.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import alchemy.benchmarks.BenchmarkFixtures.Build;
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEvent;
+import alchemy.model.battles.events.BattleEventListener;
+
+/**
+ * Full battles, in battles per second. With the GC profiler, gc.alloc.rate.norm is the number of bytes allocated per battle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleBenchmark {
+
+	@Param({ "BALANCED", "BRUISER", "MAGE", "TANK", "SPEEDSTER" })
+	private Build first;
+
+	@Param({ "BALANCED", "TANK" })
+	private Build second;
+
+	private final BattleEngine engine = new BattleEngine();
+
+	private ChampionSnapshot champion1;
+	private ChampionSnapshot champion2;
+	private long seed;
+
+	@Setup
+	public void setup() {
+		champion1 = BenchmarkFixtures.champion(first);
+		champion2 = BenchmarkFixtures.champion(second);
+	}
+
+	@Benchmark
+	public BattleResult battle() {
+		return engine.executeBattle(champion1, champion2, seed++, BattleEventListener.NONE);
+	}
+
+	@Benchmark
+	public List<BattleEvent> battleWithEvents() {
+		List<BattleEvent> events = new ArrayList<>();
+		engine.executeBattle(champion1, champion2, seed++, events::add);
+		return events;
+	}
+
+}
@@ -0,0 +1,57 @@
+package alchemy.benchmarks;
+
+import java.util.List;
+
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.pets.moves.components.DamageType;
+
+/**
+ * Synthetic champions, built without the persistence layer. Attribute spreads are given in BaseAttribute order :
+ * strength, constitution, agility, intellect, willpower.
+ */
+public final class BenchmarkFixtures {
+
+	public static final int LEVEL = 10;
+
+	public enum Build {
+
+		BALANCED(4, 4, 4, 4, 4),
+		BRUISER(8, 6, 2, 0, 4),
+		MAGE(0, 2, 4, 8, 6),
+		TANK(2, 10, 2, 2, 4),
+		SPEEDSTER(4, 2, 10, 2, 2);
+
+		private final int[] attributes;
+
+		Build(int... attributes) {
+			this.attributes = attributes;
+		}
+
+	}
+
+	private static final List<MovePlan> PHYSICAL_MOVES = List.of(
+			move("Horn Strike", 3, DamageType.PHYSICAL, 18, 4),
+			move("Charge", 2, DamageType.PHYSICAL, 12, 2),
+			move("Bite", 1, DamageType.PHYSICAL, 8, 1),
+			move("Scratch", 0, DamageType.PHYSICAL, 5, 0));
+
+	private static final List<MovePlan> MAGICAL_MOVES = List.of(
+			move("Meteor", 3, DamageType.MAGICAL, 16, 6),
+			move("Fireball", 2, DamageType.MAGICAL, 10, 3),
+			move("Frost Bolt", 1, DamageType.MAGICAL, 7, 2),
+			move("Spark", 0, DamageType.MAGICAL, 4, 1));
+
+	private BenchmarkFixtures() { }
+
+	public static ChampionSnapshot champion(Build build) {
+		List<MovePlan> moves = build == Build.MAGE ? MAGICAL_MOVES : PHYSICAL_MOVES;
+		return new ChampionSnapshot(build.name(), LEVEL, build.attributes.clone(), moves);
+	}
+
+	public static MovePlan move(String name, int cooldown, DamageType damageType, int baseDamage, int baseBypass) {
+		return new MovePlan(name, cooldown, true, List.of(new DamagePlan(baseDamage, baseBypass, damageType)));
+	}
+
+}
@@ -0,0 +1,42 @@
+package alchemy.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the usual JMH options, and by default runs every benchmark of this package
+ * with the GC profiler, writing the results as JSON into jmh-result.json so that they can be tracked over time.
+ *
+ * java -jar alchemy-benchmarks/target/benchmarks.jar [BattleBenchmark] [-p first=MAGE] [-rff other.json]
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+
+		ChainedOptionsBuilder options = new OptionsBuilder()
+				.parent(commandLine)
+				.addProfiler(GCProfiler.class);
+
+		if (commandLine.getIncludes().isEmpty()) {
+			options.include(BenchmarkRunner.class.getPackageName() + "\\..*");
+		}
+
+		if (!commandLine.getResult().hasValue()) {
+			options.result("jmh-result.json");
+		}
+
+		if (!commandLine.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+		}
+
+		new Runner(options.build()).run();
+	}
+
+}
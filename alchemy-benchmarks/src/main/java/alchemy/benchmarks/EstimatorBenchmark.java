@@ -0,0 +1,130 @@
+package alchemy.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import alchemy.benchmarks.BenchmarkFixtures.Build;
+import alchemy.model.battles.BattleEngine;
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.BattleOutcome;
+import alchemy.model.battles.BattleResult;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.estimates.MatchupEstimate;
+import alchemy.model.battles.estimates.TimeToKill;
+import alchemy.model.battles.estimates.TimeToKillEstimator;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.search.BattleState;
+
+/**
+ * Closed-form estimate of a pairing against the battle it stands for, the build against a bruiser.
+ *
+ * The setup also prints the error of the estimator over every pairing of the builds : its turns to kill against the
+ * turns the engine takes to defeat a defender which doesn't fight back, and its predicted winners against the outcomes
+ * of real battles.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EstimatorBenchmark {
+
+	private static final BattleLimits LIMITS = new BattleLimits(BattleLimits.DEFAULT.maxTurns(), null, true);
+	private static final int SEEDS = 20;
+
+	@Param({ "BALANCED", "MAGE", "TANK" })
+	private Build build;
+
+	private final TimeToKillEstimator estimator = new TimeToKillEstimator();
+	private final BattleEngine engine = new BattleEngine(LIMITS);
+
+	private ChampionSnapshot first;
+	private ChampionSnapshot second;
+	private long seed;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		first = BenchmarkFixtures.champion(Build.BRUISER);
+		second = BenchmarkFixtures.champion(build);
+
+		printError();
+	}
+
+	@Benchmark
+	public MatchupEstimate estimate() {
+		return estimator.estimateMatchup(first, second);
+	}
+
+	@Benchmark
+	public BattleResult battle() {
+		return engine.executeBattle(first, second, seed++, BattleEventListener.NONE);
+	}
+
+	private void printError() {
+		double totalError = 0;
+		double maxError = 0;
+		int kills = 0;
+		int agreements = 0;
+		int battles = 0;
+
+		for (Build attacker : Build.values()) {
+			for (Build defender : Build.values()) {
+				ChampionSnapshot champion1 = BenchmarkFixtures.champion(attacker);
+				ChampionSnapshot champion2 = BenchmarkFixtures.champion(defender);
+				TimeToKill estimated = estimator.estimate(champion1, champion2);
+				int turns = getTurnsToKill(champion1, champion2);
+
+				if (turns > 0 && !estimated.isNever()) {
+					double error = Math.abs(estimated.turns() - turns) / turns;
+					totalError += error;
+					maxError = Math.max(maxError, error);
+					kills++;
+				}
+
+				BattleOutcome predicted = estimator.estimateMatchup(champion1, champion2).getPredictedOutcome();
+
+				for (long battleSeed = 0; attacker != defender && battleSeed < SEEDS; battleSeed++) {
+					BattleOutcome outcome = engine.executeBattle(champion1, champion2, battleSeed, BattleEventListener.NONE).outcome();
+					agreements += outcome == predicted ? 1 : 0;
+					battles++;
+				}
+			}
+		}
+
+		System.out.printf("%nTurns to kill : mean error %.1f%%, max error %.1f%% over %d pairings."
+				+ " Predicted winners : %d of %d battles.%n",
+				100 * totalError / kills, 100 * maxError, kills, agreements, battles);
+	}
+
+	/**
+	 * Turns the attacker takes to defeat the defender when the defender plays no move, or -1 when it doesn't.
+	 */
+	private static int getTurnsToKill(ChampionSnapshot attacker, ChampionSnapshot defender) {
+		ChampionSnapshot passive = new ChampionSnapshot(defender.name(), defender.level(), defender.baseAttributes(), List.of());
+		BattleState state = new BattleState(attacker, passive, 0L, LIMITS);
+		int turns = 0;
+		int actor;
+
+		while ((actor = state.nextActor()) >= 0) {
+			turns += actor == 0 ? 1 : 0;
+			state.play(state.getPrioritySlot(actor));
+		}
+
+		return state.getOutcome() == BattleOutcome.FIRST_CHAMPION_WON ? turns : -1;
+	}
+
+}
@@ -0,0 +1,93 @@
+package alchemy.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import alchemy.benchmarks.BenchmarkFixtures.Build;
+import alchemy.model.battles.BattleLimits;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.search.BattleState;
+import alchemy.model.battles.search.MonteCarloTreeSearch;
+
+/**
+ * Lookahead of the battle AI, a few turns into a battle of the build against a bruiser : restoring the state against
+ * building a new one, a rollout by priority, and a whole decision of 1000 rollouts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+
+	private static final BattleLimits LIMITS = new BattleLimits(BattleLimits.DEFAULT.maxTurns(), null, true);
+	private static final int ROLLOUTS = 1_000;
+
+	@Param({ "BALANCED", "MAGE", "TANK" })
+	private Build build;
+
+	private final MonteCarloTreeSearch search = new MonteCarloTreeSearch(null, ROLLOUTS);
+
+	private ChampionSnapshot first;
+	private ChampionSnapshot second;
+	private BattleState decision;
+	private BattleState scratch;
+	private SplittableRandom random;
+
+	@Setup
+	public void setup() {
+		first = BenchmarkFixtures.champion(Build.BRUISER);
+		second = BenchmarkFixtures.champion(build);
+		decision = new BattleState(first, second, 1L, LIMITS);
+
+		for (int turn = 0; turn < 4 || decision.nextActor() != 1; turn++) {
+			decision.play(decision.getPrioritySlot(decision.nextActor()));
+		}
+
+		scratch = decision.copy();
+		random = new SplittableRandom(1L);
+	}
+
+	@Benchmark
+	public BattleState restoreState() {
+		scratch.copyFrom(decision);
+		return scratch;
+	}
+
+	@Benchmark
+	public BattleState newState() {
+		return new BattleState(first, second, 1L, LIMITS);
+	}
+
+	@Benchmark
+	public BattleState rollout() {
+		scratch.copyFrom(decision);
+		int actor;
+
+		while ((actor = scratch.nextActor()) >= 0) {
+			scratch.play(scratch.getPrioritySlot(actor));
+		}
+
+		return scratch;
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public MonteCarloTreeSearch.Decision decision() {
+		return search.search(decision, random);
+	}
+
+}
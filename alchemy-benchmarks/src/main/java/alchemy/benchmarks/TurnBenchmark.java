@@ -0,0 +1,95 @@
+package alchemy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import alchemy.benchmarks.BenchmarkFixtures.Build;
+import alchemy.model.battles.Champion;
+import alchemy.model.battles.ChampionSnapshot;
+import alchemy.model.battles.events.BattleEventListener;
+import alchemy.model.battles.plans.DamagePlan;
+import alchemy.model.battles.plans.MovePlan;
+import alchemy.model.pets.moves.components.DamageType;
+
+/**
+ * Single turns and their parts : move selection, move execution and damage resolution.
+ * Champions are rebuilt once one of them faints, which is rare enough not to weigh on the numbers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnBenchmark {
+
+	@Param({ "BALANCED", "BRUISER", "MAGE", "TANK", "SPEEDSTER" })
+	private Build build;
+
+	private final DamagePlan physicalDamage = new DamagePlan(12, 2, DamageType.PHYSICAL);
+	private final DamagePlan magicalDamage = new DamagePlan(10, 3, DamageType.MAGICAL);
+
+	private ChampionSnapshot snapshot;
+	private ChampionSnapshot opponentSnapshot;
+	private Champion source;
+	private Champion target;
+	private boolean criticalHit;
+
+	@Setup
+	public void setup() {
+		snapshot = BenchmarkFixtures.champion(build);
+		opponentSnapshot = BenchmarkFixtures.champion(Build.BALANCED);
+		reset();
+	}
+
+	private void reset() {
+		source = new Champion(snapshot);
+		target = new Champion(opponentSnapshot);
+	}
+
+	private void resetIfFainted() {
+		if (!target.isAlive()) {
+			reset();
+		}
+	}
+
+	@Benchmark
+	public MovePlan nextMove() {
+		return source.getNextMove();
+	}
+
+	@Benchmark
+	public Champion turn() {
+		resetIfFainted();
+		source.getNextMove().execute(source, target, BattleEventListener.NONE);
+		return target;
+	}
+
+	@Benchmark
+	public Champion physicalDamage() {
+		resetIfFainted();
+		criticalHit = !criticalHit;
+		physicalDamage.execute(criticalHit, source, target, BattleEventListener.NONE);
+		return target;
+	}
+
+	@Benchmark
+	public Champion magicalDamage() {
+		resetIfFainted();
+		criticalHit = !criticalHit;
+		magicalDamage.execute(criticalHit, source, target, BattleEventListener.NONE);
+		return target;
+	}
+
+}
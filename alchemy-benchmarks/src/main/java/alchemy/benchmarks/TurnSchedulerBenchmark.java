@@ -0,0 +1,61 @@
+package alchemy.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import alchemy.benchmarks.BenchmarkFixtures.Build;
+import alchemy.model.battles.Champion;
+import alchemy.model.battles.scheduling.SchedulingMode;
+import alchemy.model.battles.scheduling.TurnScheduler;
+
+/**
+ * Cost of picking the next actor on a timeline of 2..N champions. Nobody takes damage, so the timeline never ends.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnSchedulerBenchmark {
+
+	@Param({ "2", "8", "64" })
+	private int champions;
+
+	@Param({ "TICK", "FAST_FORWARD" })
+	private SchedulingMode mode;
+
+	private TurnScheduler scheduler;
+
+	@Setup
+	public void setup() {
+		Build[] builds = Build.values();
+		List<Champion> timeline = new ArrayList<>(champions);
+
+		for (int i = 0; i < champions; i++) {
+			timeline.add(new Champion(BenchmarkFixtures.champion(builds[i % builds.length])));
+		}
+
+		scheduler = new TurnScheduler(timeline, mode, new SplittableRandom(42));
+	}
+
+	@Benchmark
+	public Champion next() {
+		return scheduler.next();
+	}
+
+}
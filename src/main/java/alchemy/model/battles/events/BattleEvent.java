@@ -1,6 +0,0 @@
-package alchemy.model.battles.events;
-
-public record BattleEvent (
-		BattleEventType type,
-		String message
-		){ }
@@ -1,7 +0,0 @@
-package alchemy.model.pets.moves.components;
-
-public enum MoveComponentType {
-
-	DAMAGE_COMPONENT;
-
-}